@@ -0,0 +1,77 @@
+package com.auth0.json.mgmt;
+
+import com.auth0.json.mgmt.users.User;
+import com.auth0.json.mgmt.users.UsersPage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass streaming {@link PageDeserializer} against the previous approach of reading the page
+ * into a {@link JsonNode} tree and binding the items array a second time. Run with {@code ./gradlew jmh}.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageDeserializerBenchmark {
+
+    private static final String USER_JSON = "{\"user_id\":\"auth0|%d\",\"email\":\"user%d@example.com\","
+            + "\"email_verified\":true,\"username\":\"user%d\",\"name\":\"User %d\",\"nickname\":\"user%d\","
+            + "\"created_at\":\"2021-01-01T10:00:00.000Z\",\"updated_at\":\"2021-01-02T10:00:00.000Z\","
+            + "\"identities\":[{\"connection\":\"Username-Password-Authentication\",\"user_id\":\"%d\",\"provider\":\"auth0\",\"isSocial\":false}],"
+            + "\"logins_count\":12,\"blocked\":false,\"app_metadata\":{\"plan\":\"gold\",\"roles\":[\"admin\",\"user\"],\"tags\":[\"a\",\"b\",\"c\"]},"
+            + "\"user_metadata\":{\"theme\":\"dark\",\"locale\":\"en\"}}";
+
+    @Param({"50", "100"})
+    public int pageSize;
+
+    private String payload;
+    private ObjectMapper mapper;
+    private ObjectReader pageReader;
+    private ObjectReader itemsReader;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("{\"start\":0,\"limit\":").append(pageSize)
+                .append(",\"length\":").append(pageSize)
+                .append(",\"total\":").append(pageSize * 10)
+                .append(",\"users\":[");
+        for (int i = 0; i < pageSize; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(String.format(USER_JSON, i, i, i, i, i, i));
+        }
+        payload = sb.append("]}").toString();
+
+        mapper = new ObjectMapper();
+        pageReader = mapper.readerFor(UsersPage.class);
+        CollectionType listType = mapper.getTypeFactory().constructCollectionType(List.class, User.class);
+        itemsReader = mapper.readerFor(listType);
+    }
+
+    @Benchmark
+    public UsersPage streaming() throws IOException {
+        return pageReader.readValue(payload);
+    }
+
+    @Benchmark
+    public UsersPage treeThenRebind() throws IOException {
+        JsonNode node = mapper.readTree(payload);
+        List<User> items = itemsReader.readValue(node.get("users"));
+        return new UsersPage(node.get("start").intValue(), node.get("length").intValue(),
+                node.get("total").intValue(), node.get("limit").intValue(), items);
+    }
+}
@@ -0,0 +1,62 @@
+package com.auth0.net;
+
+import com.auth0.json.mgmt.users.User;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of building a new {@link ObjectMapper} (the behavior before {@link JsonCodec})
+ * against reusing a client-scoped {@link JsonCodec}. Run with {@code ./gradlew jmh}; the GC profiler reports
+ * the allocation rate per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonCodecBenchmark {
+
+    private static final String USER_JSON = "{\"user_id\":\"auth0|5a6b7c8d\",\"email\":\"john.doe@example.com\","
+            + "\"email_verified\":true,\"username\":\"johndoe\",\"name\":\"John Doe\",\"nickname\":\"john\","
+            + "\"created_at\":\"2021-01-01T10:00:00.000Z\",\"updated_at\":\"2021-01-02T10:00:00.000Z\","
+            + "\"logins_count\":12,\"blocked\":false,\"app_metadata\":{\"plan\":\"gold\",\"roles\":[\"admin\",\"user\"]},"
+            + "\"user_metadata\":{\"theme\":\"dark\",\"locale\":\"en\"}}";
+
+    private JsonCodec codec;
+    private Map<String, Object> body;
+
+    @Setup
+    public void setUp() {
+        codec = new JsonCodec();
+        body = new HashMap<>();
+        body.put("email", "john.doe@example.com");
+        body.put("connection", "Username-Password-Authentication");
+        body.put("verify_email", true);
+    }
+
+    @Benchmark
+    public User readWithNewMapperPerRequest() throws IOException {
+        return new ObjectMapper().readValue(USER_JSON, new TypeReference<User>() {
+        });
+    }
+
+    @Benchmark
+    public User readWithSharedCodec() throws IOException {
+        return codec.readValue(USER_JSON, new TypeReference<User>() {
+        });
+    }
+
+    @Benchmark
+    public byte[] writeWithNewMapperPerRequest() throws IOException {
+        return new ObjectMapper().writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] writeWithSharedCodec() throws IOException {
+        return codec.writeValueAsBytes(body);
+    }
+}
@@ -1,5 +1,15 @@
 package com.auth0.client;
 
+import com.auth0.net.MetricsRecorder;
+import com.auth0.net.ResponseCache;
+import com.auth0.net.RetryPolicy;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
 /**
  * Used to configure additional configuration options when customizing the API client instance.
  */
@@ -8,6 +18,27 @@ public class HttpOptions {
     private ProxyOptions proxyOptions;
     private int connectTimeout = 10;
     private int readTimeout = 10;
+    private int writeTimeout = 10;
+    private int callTimeout = 0;
+    private boolean connectTimeoutSet;
+    private boolean readTimeoutSet;
+    private boolean writeTimeoutSet;
+    private boolean callTimeoutSet;
+    private int maxRequests = 64;
+    private int maxRequestsPerHost = 5;
+    private int maxIdleConnections = 5;
+    private int keepAliveDuration = 300;
+    private ExecutorService executorService;
+    private RetryPolicy retryPolicy;
+    private boolean throttlingEnabled;
+    private boolean requestCoalescingEnabled;
+    private ResponseCache responseCache;
+    private MetricsRecorder metricsRecorder;
+    private boolean callTracingEnabled;
+    private Executor completionExecutor;
+    private OkHttpClient httpClient;
+    private ConnectionPool connectionPool;
+    private Dispatcher dispatcher;
 
     /**
      * Getter for the Proxy configuration options
@@ -45,6 +76,14 @@ public class HttpOptions {
             connectTimeout = 0;
         }
         this.connectTimeout = connectTimeout;
+        this.connectTimeoutSet = true;
+    }
+
+    /**
+     * @return whether the connect timeout was set with {@link #setConnectTimeout(int)}, rather than left to its default.
+     */
+    public boolean isConnectTimeoutSet() {
+        return connectTimeoutSet;
     }
 
     /**
@@ -65,5 +104,357 @@ public class HttpOptions {
             readTimeout = 0;
         }
         this.readTimeout = readTimeout;
+        this.readTimeoutSet = true;
+    }
+
+    /**
+     * @return whether the read timeout was set with {@link #setReadTimeout(int)}, rather than left to its default.
+     */
+    public boolean isReadTimeoutSet() {
+        return readTimeoutSet;
+    }
+
+    /**
+     * @return the write timeout, in seconds
+     */
+    public int getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * Sets the value of the write timeout, in seconds. Defaults to ten seconds. A value of zero results in no write timeout.
+     * Negative numbers will be treated as zero.
+     *
+     * @param writeTimeout the value of the write timeout to use.
+     */
+    public void setWriteTimeout(int writeTimeout) {
+        if (writeTimeout < 0) {
+            writeTimeout = 0;
+        }
+        this.writeTimeout = writeTimeout;
+        this.writeTimeoutSet = true;
+    }
+
+    /**
+     * @return whether the write timeout was set with {@link #setWriteTimeout(int)}, rather than left to its default.
+     */
+    public boolean isWriteTimeoutSet() {
+        return writeTimeoutSet;
+    }
+
+    /**
+     * @return the call timeout, in seconds
+     */
+    public int getCallTimeout() {
+        return callTimeout;
+    }
+
+    /**
+     * Sets the value of the call timeout, in seconds. It bounds the complete call: resolving DNS, connecting, writing
+     * the request body, server processing and reading the response body. Defaults to zero, which results in no call timeout.
+     * Negative numbers will be treated as zero.
+     *
+     * @param callTimeout the value of the call timeout to use.
+     */
+    public void setCallTimeout(int callTimeout) {
+        if (callTimeout < 0) {
+            callTimeout = 0;
+        }
+        this.callTimeout = callTimeout;
+        this.callTimeoutSet = true;
+    }
+
+    /**
+     * @return whether the call timeout was set with {@link #setCallTimeout(int)}, rather than left to its default.
+     */
+    public boolean isCallTimeoutSet() {
+        return callTimeoutSet;
+    }
+
+    /**
+     * @return the maximum number of requests to execute concurrently
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests to execute concurrently. Above this, requests are queued in memory
+     * until running requests complete. Defaults to 64. Values lower than one will be treated as one.
+     * Ignored when a dispatcher or a networking client to share is set.
+     *
+     * @param maxRequests the maximum number of concurrent requests.
+     */
+    public void setMaxRequests(int maxRequests) {
+        if (maxRequests < 1) {
+            maxRequests = 1;
+        }
+        this.maxRequests = maxRequests;
+    }
+
+    /**
+     * @return the maximum number of requests to execute concurrently for each host
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests to execute concurrently against the same host. As every request
+     * of an API client goes to the tenant's domain, this is usually the effective concurrency limit.
+     * Defaults to 5. Values lower than one will be treated as one.
+     * Ignored when a dispatcher or a networking client to share is set.
+     *
+     * @param maxRequestsPerHost the maximum number of concurrent requests per host.
+     */
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        if (maxRequestsPerHost < 1) {
+            maxRequestsPerHost = 1;
+        }
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    /**
+     * @return the maximum number of idle connections to keep in the connection pool
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Sets the maximum number of idle connections to keep in the connection pool. Defaults to 5.
+     * Negative numbers will be treated as zero.
+     * Ignored when a connection pool or a networking client to share is set.
+     *
+     * @param maxIdleConnections the maximum number of idle connections.
+     */
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        if (maxIdleConnections < 0) {
+            maxIdleConnections = 0;
+        }
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    /**
+     * @return the time to keep an idle connection alive in the pool, in seconds
+     */
+    public int getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
+    /**
+     * Sets the time to keep an idle connection alive in the connection pool, in seconds. Defaults to five minutes.
+     * Values lower than one will be treated as one.
+     * Ignored when a connection pool or a networking client to share is set.
+     *
+     * @param keepAliveDuration the keep alive duration of idle connections.
+     */
+    public void setKeepAliveDuration(int keepAliveDuration) {
+        if (keepAliveDuration < 1) {
+            keepAliveDuration = 1;
+        }
+        this.keepAliveDuration = keepAliveDuration;
+    }
+
+    /**
+     * @return the executor service to run asynchronous requests on, or null if unset.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service to run asynchronous requests on. It is not shut down when the API client is closed.
+     * By default, a cached thread pool owned by the API client is used.
+     * Ignored when a dispatcher or a networking client to share is set.
+     *
+     * @param executorService the executor service to use.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * @return the policy to retry rate limited requests with, or null if unset.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Sets the policy to retry the requests that are rejected because the rate limit was reached.
+     * By default, requests are not retried and a {@link com.auth0.exception.RateLimitException} is raised instead.
+     *
+     * @param retryPolicy the retry policy to use.
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * @return whether the requests are paced to stay within the rate limit
+     */
+    public boolean isThrottlingEnabled() {
+        return throttlingEnabled;
+    }
+
+    /**
+     * Sets whether to pace the requests to stay within the rate limit, instead of sending them and having them
+     * rejected. The rate limit is learned from the headers of the responses. Disabled by default.
+     * Only used by the {@link com.auth0.client.mgmt.ManagementAPI}.
+     *
+     * @param throttlingEnabled whether to pace the requests.
+     * @see com.auth0.net.RateLimitThrottle
+     */
+    public void setThrottlingEnabled(boolean throttlingEnabled) {
+        this.throttlingEnabled = throttlingEnabled;
+    }
+
+    /**
+     * @return whether identical GET requests in flight at the same time share a single network call
+     */
+    public boolean isRequestCoalescingEnabled() {
+        return requestCoalescingEnabled;
+    }
+
+    /**
+     * Sets whether identical GET requests in flight at the same time share a single network call and its parsed
+     * result. Requests are identical when they have the same URL, authorization header and response type. Requests
+     * using any other method are always sent on their own. Callers sharing a result must not modify it.
+     * Disabled by default.
+     *
+     * @param requestCoalescingEnabled whether to coalesce identical GET requests.
+     */
+    public void setRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+        this.requestCoalescingEnabled = requestCoalescingEnabled;
+    }
+
+    /**
+     * @return the cache to keep the responses in, or null if unset.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Sets the cache to keep the responses of the paths that rarely change in. The same cache can be shared by
+     * multiple API clients. By default, responses are not cached.
+     *
+     * @param responseCache the response cache to use.
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * @return the recorder to measure the requests with, or null if unset.
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * Sets the recorder to measure every request with: its status, network and parsing time, size and retries,
+     * grouped by endpoint. The same recorder can be shared by multiple API clients. By default, requests are not
+     * measured.
+     *
+     * @param metricsRecorder the metrics recorder to use.
+     * @see com.auth0.net.HistogramMetricsRecorder
+     */
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * @return whether the phases of the network calls are timed
+     */
+    public boolean isCallTracingEnabled() {
+        return callTracingEnabled;
+    }
+
+    /**
+     * Sets whether to time the phases of every network call: DNS lookup, connection, TLS handshake, request write,
+     * time to first byte and response body read, along with whether a pooled connection was reused. The timings
+     * can be read from {@link com.auth0.net.Request#getCallTimings()} once the request completes. When enabled,
+     * the event listener of a shared networking client is replaced. Disabled by default.
+     *
+     * @param callTracingEnabled whether to trace the calls.
+     */
+    public void setCallTracingEnabled(boolean callTracingEnabled) {
+        this.callTracingEnabled = callTracingEnabled;
+    }
+
+    /**
+     * @return the executor to complete asynchronous requests on, or null if unset.
+     */
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+
+    /**
+     * Sets the executor that parses the responses of asynchronous requests and completes their futures, along with
+     * the dependent stages that are not async. By default, it's done on the threads of the dispatcher, where parsing
+     * large responses delays sending other requests. The executor is not shut down when the API client is closed.
+     *
+     * @param completionExecutor the executor to use.
+     * @see com.auth0.net.Request#executeAsync(Executor)
+     */
+    public void setCompletionExecutor(Executor completionExecutor) {
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * @return the networking client to derive the API client's networking client from, or null if unset.
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Sets a networking client to derive the API client's networking client from, using {@link OkHttpClient#newBuilder()}.
+     * The derived client shares the connection pool, dispatcher and thread pool of the given client, so that several
+     * API client instances can reuse the same connections. The remaining options set on this instance are applied on top.
+     * Resources of a shared client are not released when the API client is closed.
+     *
+     * @param httpClient the networking client to share.
+     */
+    public void setHttpClient(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * @return the connection pool to share, or null if unset.
+     */
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * Sets the connection pool to use. Share the same instance across API client instances to reuse the open
+     * connections. Takes precedence over the connection pool of the client set with {@link #setHttpClient(OkHttpClient)}.
+     * A shared connection pool is not evicted when the API client is closed.
+     *
+     * @param connectionPool the connection pool to share.
+     */
+    public void setConnectionPool(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * @return the dispatcher to share, or null if unset.
+     */
+    public Dispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Sets the dispatcher used to run asynchronous requests. Share the same instance across API client instances to
+     * reuse its thread pool. Takes precedence over the dispatcher of the client set with {@link #setHttpClient(OkHttpClient)}.
+     * A shared dispatcher is not shut down when the API client is closed.
+     *
+     * @param dispatcher the dispatcher to share.
+     */
+    public void setDispatcher(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
     }
 }
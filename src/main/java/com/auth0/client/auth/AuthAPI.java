@@ -21,11 +21,13 @@ import java.util.concurrent.TimeUnit;
  * To begin create a new instance of {@link #AuthAPI(String, String, String)} using the tenant domain, and the Application's client id and client secret.
  * <p>
  * This class is not entirely thread-safe:
- * A new immutable {@link OkHttpClient} instance is being created with each instantiation, not sharing the thread pool
- * with any prior existing client instance.
+ * A new immutable {@link OkHttpClient} instance is being created with each instantiation. Unless a connection pool,
+ * dispatcher or networking client to share is set in the {@link HttpOptions}, it doesn't share its connection pool
+ * nor its thread pool with any prior existing client instance. Call {@link #close()} once the instance is no longer
+ * needed to release the resources it owns.
  */
 @SuppressWarnings("WeakerAccess")
-public class AuthAPI {
+public class AuthAPI implements AutoCloseable {
 
     private static final String KEY_CLIENT_ID = "client_id";
     private static final String KEY_CLIENT_SECRET = "client_secret";
@@ -49,11 +51,14 @@ public class AuthAPI {
     private static final String PATH_START = "start";
 
     private final OkHttpClient client;
+    private final ClientContext context;
     private final String clientId;
     private final String clientSecret;
     private final HttpUrl baseUrl;
     private final TelemetryInterceptor telemetry;
     private final HttpLoggingInterceptor logging;
+    private final boolean ownsConnectionPool;
+    private final boolean ownsExecutorService;
 
     /**
      * Create a new instance with the given tenant's domain, application's client id and client secret.
@@ -82,7 +87,16 @@ public class AuthAPI {
         telemetry = new TelemetryInterceptor();
         logging = new HttpLoggingInterceptor();
         logging.setLevel(Level.NONE);
+        ownsConnectionPool = options.getConnectionPool() == null && options.getHttpClient() == null;
+        ownsExecutorService = options.getDispatcher() == null && options.getHttpClient() == null && options.getExecutorService() == null;
         client = buildNetworkingClient(options);
+        context = ClientContext.newBuilder(new JsonCodec())
+                .withRetryPolicy(options.getRetryPolicy())
+                .withRequestCoalescing(options.isRequestCoalescingEnabled())
+                .withMetricsRecorder(options.getMetricsRecorder())
+                .withCallTracing(options.isCallTracingEnabled())
+                .withCompletionExecutor(options.getCompletionExecutor())
+                .build();
     }
 
     /**
@@ -105,7 +119,24 @@ public class AuthAPI {
      * @return a new networking client instance configured as requested.
      */
     private OkHttpClient buildNetworkingClient(HttpOptions options) {
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+        OkHttpClient.Builder clientBuilder = options.getHttpClient() != null
+                ? options.getHttpClient().newBuilder()
+                : new OkHttpClient.Builder();
+        if (options.getConnectionPool() != null) {
+            clientBuilder.connectionPool(options.getConnectionPool());
+        } else if (options.getHttpClient() == null) {
+            clientBuilder.connectionPool(new ConnectionPool(options.getMaxIdleConnections(), options.getKeepAliveDuration(), TimeUnit.SECONDS));
+        }
+        if (options.getDispatcher() != null) {
+            clientBuilder.dispatcher(options.getDispatcher());
+        } else if (options.getHttpClient() == null) {
+            Dispatcher dispatcher = options.getExecutorService() != null
+                    ? new Dispatcher(options.getExecutorService())
+                    : new Dispatcher();
+            dispatcher.setMaxRequests(options.getMaxRequests());
+            dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
+            clientBuilder.dispatcher(dispatcher);
+        }
         final ProxyOptions proxyOptions = options.getProxyOptions();
         if (proxyOptions != null) {
             //Set proxy
@@ -129,12 +160,30 @@ public class AuthAPI {
                 });
             }
         }
-        return clientBuilder
+        clientBuilder
                 .addInterceptor(logging)
-                .addInterceptor(telemetry)
-                .connectTimeout(options.getConnectTimeout(), TimeUnit.SECONDS)
-                .readTimeout(options.getReadTimeout(), TimeUnit.SECONDS)
-                .build();
+                .addInterceptor(telemetry);
+        if (options.getResponseCache() != null) {
+            clientBuilder.addInterceptor(options.getResponseCache());
+        }
+        if (options.isCallTracingEnabled()) {
+            clientBuilder.eventListenerFactory(CallTimingsEventListener.FACTORY);
+        }
+        // A shared client keeps its own timeouts, unless they were explicitly set on the options
+        boolean shared = options.getHttpClient() != null;
+        if (!shared || options.isConnectTimeoutSet()) {
+            clientBuilder.connectTimeout(options.getConnectTimeout(), TimeUnit.SECONDS);
+        }
+        if (!shared || options.isReadTimeoutSet()) {
+            clientBuilder.readTimeout(options.getReadTimeout(), TimeUnit.SECONDS);
+        }
+        if (!shared || options.isWriteTimeoutSet()) {
+            clientBuilder.writeTimeout(options.getWriteTimeout(), TimeUnit.SECONDS);
+        }
+        if (!shared || options.isCallTimeoutSet()) {
+            clientBuilder.callTimeout(options.getCallTimeout(), TimeUnit.SECONDS);
+        }
+        return clientBuilder.build();
     }
 
     /**
@@ -162,11 +211,34 @@ public class AuthAPI {
         logging.setLevel(enabled ? Level.BODY : Level.NONE);
     }
 
+    /**
+     * Releases the networking resources owned by this instance: the idle connections of its connection pool are
+     * evicted, the thread pool of its dispatcher is shut down and the timer used to retry asynchronous requests is
+     * stopped. Resources shared through the {@link HttpOptions}
+     * are left untouched. Requests that are already running are allowed to complete, but this instance must not be
+     * used to create new requests afterwards.
+     */
+    @Override
+    public void close() {
+        context.close();
+        if (ownsExecutorService) {
+            client.dispatcher().executorService().shutdown();
+        }
+        if (ownsConnectionPool) {
+            client.connectionPool().evictAll();
+        }
+    }
+
     //Visible for Testing
     OkHttpClient getClient() {
         return client;
     }
 
+    //Visible for Testing
+    ClientContext getContext() {
+        return context;
+    }
+
     //Visible for Testing
     HttpUrl getBaseUrl() {
         return baseUrl;
@@ -252,7 +324,7 @@ public class AuthAPI {
                 .addPathSegment("userinfo")
                 .build()
                 .toString();
-        CustomRequest<UserInfo> request = new CustomRequest<>(client, url, "GET", new TypeReference<UserInfo>() {
+        CustomRequest<UserInfo> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<UserInfo>() {
         });
         request.addHeader("Authorization", "Bearer " + accessToken);
         return request;
@@ -287,7 +359,7 @@ public class AuthAPI {
                 .addPathSegment("change_password")
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "POST");
+        VoidRequest request = new VoidRequest(client, url, "POST", context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_EMAIL, email);
         request.addParameter(KEY_CONNECTION, connection);
@@ -425,7 +497,7 @@ public class AuthAPI {
                 .addPathSegment("signup")
                 .build()
                 .toString();
-        CreateUserRequest request = new CreateUserRequest(client, url);
+        CreateUserRequest request = new CreateUserRequest(client, url, context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_EMAIL, email);
         request.addParameter(KEY_PASSWORD, password);
@@ -489,7 +561,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "password");
@@ -557,7 +629,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "http://auth0.com/oauth/grant-type/password-realm");
@@ -603,7 +675,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "http://auth0.com/oauth/grant-type/passwordless/otp");
@@ -641,7 +713,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "client_credentials");
@@ -675,7 +747,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_REVOKE)
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "POST");
+        VoidRequest request = new VoidRequest(client, url, "POST", context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_TOKEN, refreshToken);
@@ -709,7 +781,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "refresh_token");
@@ -746,7 +818,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "authorization_code");
@@ -789,7 +861,7 @@ public class AuthAPI {
                 .build()
                 .toString();
 
-        CustomRequest<PasswordlessEmailResponse> request = new CustomRequest<>(client, url, "POST", new TypeReference<PasswordlessEmailResponse>() {
+        CustomRequest<PasswordlessEmailResponse> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<PasswordlessEmailResponse>() {
         });
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
@@ -831,7 +903,7 @@ public class AuthAPI {
                 .build()
                 .toString();
 
-        CustomRequest<PasswordlessSmsResponse> request = new CustomRequest<>(client, url, "POST", new TypeReference<PasswordlessSmsResponse>() {
+        CustomRequest<PasswordlessSmsResponse> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<PasswordlessSmsResponse>() {
         });
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
@@ -872,7 +944,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, context);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "http://auth0.com/oauth/grant-type/mfa-otp");
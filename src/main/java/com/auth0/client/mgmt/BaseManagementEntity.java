@@ -1,16 +1,34 @@
 package com.auth0.client.mgmt;
 
+import com.auth0.client.mgmt.filter.BaseFilter;
+import com.auth0.net.ClientContext;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 
+import java.util.HashMap;
+import java.util.Map;
+
 abstract class BaseManagementEntity {
     protected final OkHttpClient client;
     protected final HttpUrl baseUrl;
     protected final String apiToken;
+    protected final ClientContext context;
 
-    BaseManagementEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
+    BaseManagementEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
         this.client = client;
         this.baseUrl = baseUrl;
         this.apiToken = apiToken;
+        this.context = context;
+    }
+
+    /**
+     * Copies the parameters of a filter, so that the requests created from them later are not affected by changes
+     * made to the filter in the meantime.
+     *
+     * @param filter the filter to copy. Can be null.
+     * @return a copy of the filter parameters.
+     */
+    static Map<String, Object> copyParameters(BaseFilter filter) {
+        return filter == null ? new HashMap<>() : new HashMap<>(filter.getAsMap());
     }
 }
@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.Token;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -21,8 +22,8 @@ import java.util.List;
 @SuppressWarnings("WeakerAccess")
 public class BlacklistsEntity extends BaseManagementEntity {
 
-    BlacklistsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    BlacklistsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -41,7 +42,7 @@ public class BlacklistsEntity extends BaseManagementEntity {
                 .addQueryParameter("aud", audience)
                 .build()
                 .toString();
-        CustomRequest<List<Token>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Token>>() {
+        CustomRequest<List<Token>> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<List<Token>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -62,7 +63,7 @@ public class BlacklistsEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/blacklists/tokens")
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "POST");
+        VoidRequest request = new VoidRequest(client, url, "POST", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(token);
         return request;
@@ -1,10 +1,12 @@
 package com.auth0.client.mgmt;
 
 import com.auth0.client.mgmt.filter.ClientFilter;
+import com.auth0.client.mgmt.pagination.FetchAllRequest;
 import com.auth0.json.mgmt.client.Client;
 import com.auth0.json.mgmt.client.ClientsPage;
 import com.auth0.net.CustomRequest;
 import com.auth0.net.EmptyBodyRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -25,8 +27,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class ClientsEntity extends BaseManagementEntity {
 
-    ClientsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    ClientsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -44,7 +46,7 @@ public class ClientsEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/clients")
                 .build()
                 .toString();
-        CustomRequest<List<Client>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Client>>() {
+        CustomRequest<List<Client>> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<List<Client>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -67,12 +69,29 @@ public class ClientsEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<ClientsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<ClientsPage>() {
+        CustomRequest<ClientsPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<ClientsPage>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
 
+    /**
+     * Request all the Applications, across every page. Once the first page reports the total amount of applications,
+     * the remaining pages are requested concurrently. A token with scope read:clients is needed. If you also need the client_secret and encryption_key attributes the token must have read:client_keys scope.
+     * See https://auth0.com/docs/api/management/v2#!/Clients/get_clients
+     *
+     * @param filter the filter to use. Can be null. Its page and totals parameters are replaced on each page.
+     * @return a Request to execute.
+     */
+    public FetchAllRequest<Client> fetchAll(ClientFilter filter) {
+        Map<String, Object> parameters = copyParameters(filter);
+        return new FetchAllRequest<>((page, perPage) -> {
+            ClientFilter pageFilter = new ClientFilter();
+            pageFilter.getAsMap().putAll(parameters);
+            return list(pageFilter.withPage(page, perPage).withTotals(true));
+        }, context.getThrottle());
+    }
+
     /**
      * Request an Application. A token with scope read:clients is needed. If you also need the client_secret and encryption_key attributes the token must have read:client_keys scope.
      * See https://auth0.com/docs/api/management/v2#!/Clients/get_clients_by_id
@@ -89,7 +108,7 @@ public class ClientsEntity extends BaseManagementEntity {
                 .addPathSegment(clientId)
                 .build()
                 .toString();
-        CustomRequest<Client> request = new CustomRequest<>(client, url, "GET", new TypeReference<Client>() {
+        CustomRequest<Client> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<Client>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -110,7 +129,7 @@ public class ClientsEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/clients")
                 .build()
                 .toString();
-        CustomRequest<Client> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<Client>() {
+        CustomRequest<Client> request = new CustomRequest<>(this.client, url, "POST", context, new TypeReference<Client>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(client);
@@ -133,7 +152,7 @@ public class ClientsEntity extends BaseManagementEntity {
                 .addPathSegment(clientId)
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
@@ -156,7 +175,7 @@ public class ClientsEntity extends BaseManagementEntity {
                 .addPathSegment(clientId)
                 .build()
                 .toString();
-        CustomRequest<Client> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<Client>() {
+        CustomRequest<Client> request = new CustomRequest<>(this.client, url, "PATCH", context, new TypeReference<Client>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(client);
@@ -181,7 +200,7 @@ public class ClientsEntity extends BaseManagementEntity {
                 .addPathSegment("rotate-secret")
                 .build()
                 .toString();
-        CustomRequest<Client> request = new EmptyBodyRequest<>(this.client, url, "POST", new TypeReference<Client>() {
+        CustomRequest<Client> request = new EmptyBodyRequest<>(this.client, url, "POST", context, new TypeReference<Client>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
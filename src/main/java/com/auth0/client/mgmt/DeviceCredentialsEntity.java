@@ -3,6 +3,7 @@ package com.auth0.client.mgmt;
 import com.auth0.client.mgmt.filter.DeviceCredentialsFilter;
 import com.auth0.json.mgmt.DeviceCredentials;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -23,8 +24,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class DeviceCredentialsEntity extends BaseManagementEntity {
 
-    DeviceCredentialsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    DeviceCredentialsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -44,7 +45,7 @@ public class DeviceCredentialsEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<List<DeviceCredentials>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<DeviceCredentials>>() {
+        CustomRequest<List<DeviceCredentials>> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<List<DeviceCredentials>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -65,7 +66,7 @@ public class DeviceCredentialsEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/device-credentials")
                 .build()
                 .toString();
-        CustomRequest<DeviceCredentials> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<DeviceCredentials>() {
+        CustomRequest<DeviceCredentials> request = new CustomRequest<>(this.client, url, "POST", context, new TypeReference<DeviceCredentials>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(deviceCredentials);
@@ -88,7 +89,7 @@ public class DeviceCredentialsEntity extends BaseManagementEntity {
                 .addPathSegment(deviceCredentialsId)
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
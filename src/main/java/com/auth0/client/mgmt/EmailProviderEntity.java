@@ -3,6 +3,7 @@ package com.auth0.client.mgmt;
 import com.auth0.client.mgmt.filter.FieldsFilter;
 import com.auth0.json.mgmt.emailproviders.EmailProvider;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -21,8 +22,8 @@ import java.util.Map;
  */
 @SuppressWarnings("WeakerAccess")
 public class EmailProviderEntity extends BaseManagementEntity {
-    EmailProviderEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    EmailProviderEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -42,7 +43,7 @@ public class EmailProviderEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<EmailProvider> request = new CustomRequest<>(client, url, "GET", new TypeReference<EmailProvider>() {
+        CustomRequest<EmailProvider> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<EmailProvider>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -63,7 +64,7 @@ public class EmailProviderEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/emails/provider")
                 .build()
                 .toString();
-        CustomRequest<EmailProvider> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<EmailProvider>() {
+        CustomRequest<EmailProvider> request = new CustomRequest<>(this.client, url, "POST", context, new TypeReference<EmailProvider>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(emailProvider);
@@ -82,7 +83,7 @@ public class EmailProviderEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/emails/provider")
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
@@ -102,7 +103,7 @@ public class EmailProviderEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/emails/provider")
                 .build()
                 .toString();
-        CustomRequest<EmailProvider> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<EmailProvider>() {
+        CustomRequest<EmailProvider> request = new CustomRequest<>(this.client, url, "PATCH", context, new TypeReference<EmailProvider>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(emailProvider);
@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.guardian.*;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -21,8 +22,8 @@ import java.util.List;
 @SuppressWarnings("WeakerAccess")
 public class GuardianEntity extends BaseManagementEntity {
 
-    GuardianEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    GuardianEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -41,7 +42,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<EnrollmentTicket> request = new CustomRequest<>(client, url, "POST", new TypeReference<EnrollmentTicket>() {
+        CustomRequest<EnrollmentTicket> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<EnrollmentTicket>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(enrollmentTicket);
@@ -64,7 +65,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegment(enrollmentId)
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
@@ -82,7 +83,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/guardian/factors/sms/templates")
                 .build()
                 .toString();
-        CustomRequest<GuardianTemplates> request = new CustomRequest<>(client, url, "GET", new TypeReference<GuardianTemplates>() {
+        CustomRequest<GuardianTemplates> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<GuardianTemplates>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -104,7 +105,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/guardian/factors/sms/templates")
                 .build()
                 .toString();
-        CustomRequest<GuardianTemplates> request = new CustomRequest<>(client, url, "PUT", new TypeReference<GuardianTemplates>() {
+        CustomRequest<GuardianTemplates> request = new CustomRequest<>(client, url, "PUT", context, new TypeReference<GuardianTemplates>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(guardianTemplates);
@@ -123,7 +124,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/guardian/factors")
                 .build()
                 .toString();
-        CustomRequest<List<Factor>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Factor>>() {
+        CustomRequest<List<Factor>> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<List<Factor>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -147,7 +148,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegment(name)
                 .build()
                 .toString();
-        CustomRequest<Factor> request = new CustomRequest<>(client, url, "PUT", new TypeReference<Factor>() {
+        CustomRequest<Factor> request = new CustomRequest<>(client, url, "PUT", context, new TypeReference<Factor>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.addParameter("enabled", enabled);
@@ -167,7 +168,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/guardian/factors/sms/providers/twilio")
                 .build()
                 .toString();
-        CustomRequest<TwilioFactorProvider> request = new CustomRequest<>(client, url, "GET", new TypeReference<TwilioFactorProvider>() {
+        CustomRequest<TwilioFactorProvider> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<TwilioFactorProvider>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -188,7 +189,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/guardian/factors/sms/providers/twilio")
                 .build()
                 .toString();
-        CustomRequest<TwilioFactorProvider> request = new CustomRequest<>(client, url, "PUT", new TypeReference<TwilioFactorProvider>() {
+        CustomRequest<TwilioFactorProvider> request = new CustomRequest<>(client, url, "PUT", context, new TypeReference<TwilioFactorProvider>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(provider);
@@ -219,7 +220,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/guardian/factors/push-notification/providers/sns")
                 .build()
                 .toString();
-        CustomRequest<SNSFactorProvider> request = new CustomRequest<>(client, url, "GET", new TypeReference<SNSFactorProvider>() {
+        CustomRequest<SNSFactorProvider> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<SNSFactorProvider>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -240,7 +241,7 @@ public class GuardianEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/guardian/factors/push-notification/providers/sns")
                 .build()
                 .toString();
-        CustomRequest<SNSFactorProvider> request = new CustomRequest<>(client, url, "PUT", new TypeReference<SNSFactorProvider>() {
+        CustomRequest<SNSFactorProvider> request = new CustomRequest<>(client, url, "PUT", context, new TypeReference<SNSFactorProvider>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(provider);
@@ -2,19 +2,32 @@ package com.auth0.client.mgmt;
 
 import com.auth0.client.mgmt.filter.UsersExportFilter;
 import com.auth0.client.mgmt.filter.UsersImportOptions;
+import com.auth0.client.mgmt.jobs.ChunkedUsersImport;
+import com.auth0.client.mgmt.jobs.JobCompletionWaiter;
+import com.auth0.client.mgmt.jobs.UsersExportReader;
+import com.auth0.exception.Auth0Exception;
 import com.auth0.json.mgmt.EmailVerificationIdentity;
 import com.auth0.json.mgmt.jobs.Job;
+import com.auth0.json.mgmt.users.User;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.MultipartRequest;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.Response;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class that provides an implementation of the Jobs methods of the Management API as defined in https://auth0.com/docs/api/management/v2#!/Jobs
@@ -26,8 +39,10 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class JobsEntity extends BaseManagementEntity {
 
-    JobsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    private static final String USERS_FILE_NAME = "users.json";
+
+    JobsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -47,12 +62,36 @@ public class JobsEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<Job> request = new CustomRequest<>(client, url, "GET", new TypeReference<Job>() {
+        CustomRequest<Job> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<Job>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
 
+    /**
+     * Waits for a job to end without blocking a thread, polling it on the timer shared by the client with waits that
+     * adapt to its progress. A token with scope create:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/get_jobs_by_id.
+     *
+     * @param job the job to wait for, like the one returned when it was requested.
+     * @return a future that completes with the job once its status is completed or failed.
+     * @see JobCompletionWaiter
+     */
+    public CompletableFuture<Job> waitForCompletion(Job job) {
+        return completionWaiter().build().await(job);
+    }
+
+    /**
+     * Prepares the waits for jobs to end without blocking a thread, to configure how often they're polled.
+     * A token with scope create:users is needed.
+     *
+     * @return a builder of the waits, preset to poll the jobs on the timer shared by the client.
+     * @see JobCompletionWaiter
+     */
+    public JobCompletionWaiter.Builder completionWaiter() {
+        return JobCompletionWaiter.newBuilder(this::get, context.getScheduler());
+    }
+
     /**
      * Sends an Email Verification. A token with scope update:users is needed.
      * See https://auth0.com/docs/api/management/v2#!/Jobs/post_verification_email.
@@ -119,7 +158,7 @@ public class JobsEntity extends BaseManagementEntity {
             Asserts.assertNotNull(emailVerificationIdentity.getUserId(), "identity user id");
             requestBody.put("identity", emailVerificationIdentity);
         }
-        CustomRequest<Job> request = new CustomRequest<>(client, url, "POST", new TypeReference<Job>() {
+        CustomRequest<Job> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<Job>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(requestBody);
@@ -150,13 +189,58 @@ public class JobsEntity extends BaseManagementEntity {
             requestBody.putAll(filter.getAsMap());
         }
 
-        CustomRequest<Job> request = new CustomRequest<>(client, url, "POST", new TypeReference<Job>() {
+        CustomRequest<Job> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<Job>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(requestBody);
         return request;
     }
 
+    /**
+     * Starts downloading the file exported by a completed Users Exports job, to be read one user at a time as it
+     * arrives. The returned builder reads the file in the format of the job; limit the fields or decode in parallel
+     * with it, then build the reader and close it when done.
+     *
+     * @param job the completed Users Exports job.
+     * @return a builder of the reader of the download.
+     * @throws Auth0Exception if the download failed.
+     * @see UsersExportReader
+     */
+    public UsersExportReader.Builder downloadUsersExport(Job job) throws Auth0Exception {
+        Asserts.assertNotNull(job, "job");
+        Asserts.assertNotNull(job.getLocation(), "job location");
+        return UsersExportReader.newBuilder(openUsersExport(job.getLocation()))
+                .withCodec(context.getCodec())
+                .withFormat(job.getFormat());
+    }
+
+    /**
+     * Opens the file exported by a completed Users Exports job. The location is already authorized, so the file is
+     * downloaded without the API token.
+     *
+     * @param location the location of the completed job.
+     * @return the content of the file, as downloaded.
+     * @throws Auth0Exception if the download failed.
+     */
+    InputStream openUsersExport(String location) throws Auth0Exception {
+        Asserts.assertNotNull(location, "location");
+        okhttp3.Request request = new okhttp3.Request.Builder()
+                .url(location)
+                .get()
+                .build();
+        Response response;
+        try {
+            response = client.newCall(request).execute();
+        } catch (IOException e) {
+            throw new Auth0Exception("Failed to download the users export", e);
+        }
+        if (!response.isSuccessful() || response.body() == null) {
+            response.close();
+            throw new Auth0Exception("Failed to download the users export: status " + response.code());
+        }
+        return response.body().byteStream();
+    }
+
     /**
      * Requests a Users Imports job. A token with scope write:users is needed.
      * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_imports.
@@ -171,12 +255,142 @@ public class JobsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(connectionId, "connection id");
         Asserts.assertNotNull(users, "users file");
 
+        MultipartRequest<Job> request = createUsersImport(connectionId, options);
+        request.addPart("users", users, "text/json");
+        return request;
+    }
+
+    /**
+     * Requests a Users Imports job, reading the users file from the given path as it's uploaded. A token with scope
+     * write:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_imports.
+     * See https://auth0.com/docs/users/guides/bulk-user-imports.
+     *
+     * @param connectionId The id of the connection to import the users to.
+     * @param users        The path of the users file. Must have an array with the users' information in JSON format.
+     * @param options      Optional parameters to set. Can be null.
+     * @return a Request to execute.
+     */
+    public Request<Job> importUsersFromPath(String connectionId, Path users, UsersImportOptions options) {
+        Asserts.assertNotNull(connectionId, "connection id");
+        Asserts.assertNotNull(users, "users file");
+
+        MultipartRequest<Job> request = createUsersImport(connectionId, options);
+        request.addPart("users", users, "text/json");
+        return request;
+    }
+
+    /**
+     * Requests a Users Imports job with the given users file content. The request can be executed, or retried when
+     * rate limited, any number of times. A token with scope write:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_imports.
+     * See https://auth0.com/docs/users/guides/bulk-user-imports.
+     *
+     * @param connectionId The id of the connection to import the users to.
+     * @param users        The users file content. Must have an array with the users' information in JSON format.
+     * @param options      Optional parameters to set. Can be null.
+     * @return a Request to execute.
+     */
+    public Request<Job> importUsersFromBytes(String connectionId, byte[] users, UsersImportOptions options) {
+        Asserts.assertNotNull(connectionId, "connection id");
+        Asserts.assertNotNull(users, "users");
+
+        MultipartRequest<Job> request = createUsersImport(connectionId, options);
+        request.addPart("users", USERS_FILE_NAME, users, "text/json");
+        return request;
+    }
+
+    /**
+     * Requests a Users Imports job, copying the users from the given stream as they're uploaded. The stream is closed
+     * once uploaded, so the request can only be executed once. A token with scope write:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_imports.
+     * See https://auth0.com/docs/users/guides/bulk-user-imports.
+     *
+     * @param connectionId The id of the connection to import the users to.
+     * @param users        The users content. Must have an array with the users' information in JSON format.
+     * @param options      Optional parameters to set. Can be null.
+     * @return a Request to execute.
+     */
+    public Request<Job> importUsersFromStream(String connectionId, InputStream users, UsersImportOptions options) {
+        Asserts.assertNotNull(connectionId, "connection id");
+        Asserts.assertNotNull(users, "users");
+
+        MultipartRequest<Job> request = createUsersImport(connectionId, options);
+        request.addPart("users", USERS_FILE_NAME, users, "text/json");
+        return request;
+    }
+
+    /**
+     * Requests a Users Imports job, writing the given users as a JSON array while they're uploaded, one at a time, so
+     * they don't need to be held in memory or in a file. The users are consumed as they're written, so the request
+     * can only be executed once. A token with scope write:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_imports.
+     * See https://auth0.com/docs/users/guides/bulk-user-imports.
+     *
+     * @param connectionId The id of the connection to import the users to.
+     * @param users        The users to import.
+     * @param options      Optional parameters to set. Can be null.
+     * @return a Request to execute.
+     */
+    public Request<Job> importUsersFromIterator(String connectionId, Iterator<User> users, UsersImportOptions options) {
+        Asserts.assertNotNull(connectionId, "connection id");
+        Asserts.assertNotNull(users, "users");
+
+        MultipartRequest<Job> request = createUsersImport(connectionId, options);
+        request.addPart("users", USERS_FILE_NAME, "text/json", output -> {
+            try (SequenceWriter writer = context.getCodec().getMapper()
+                    .writerFor(User.class)
+                    .writeValuesAsArray(output)) {
+                while (users.hasNext()) {
+                    writer.write(users.next());
+                }
+            }
+        });
+        return request;
+    }
+
+    /**
+     * Prepares an import of any amount of users, split into Users Imports jobs that fit the size limit of a users
+     * file, run concurrently and merged into one report. A token with scope write:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_imports.
+     * See https://auth0.com/docs/users/guides/bulk-user-imports.
+     *
+     * @param connectionId The id of the connection to import the users to.
+     * @param options      Optional parameters to set on every job. Can be null.
+     * @return a builder of the import, to configure and run.
+     * @see ChunkedUsersImport
+     */
+    public ChunkedUsersImport.Builder importUsersInChunks(String connectionId, UsersImportOptions options) {
+        return importUsersInChunks(connectionId, options, completionWaiter().build());
+    }
+
+    /**
+     * Prepares an import of any amount of users, split into Users Imports jobs that fit the size limit of a users
+     * file, run concurrently and merged into one report. The jobs are waited for with the given waiter, which can be
+     * configured with {@link #completionWaiter()}. A token with scope write:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_imports.
+     * See https://auth0.com/docs/users/guides/bulk-user-imports.
+     *
+     * @param connectionId The id of the connection to import the users to.
+     * @param options      Optional parameters to set on every job. Can be null.
+     * @param waiter       The waiter that polls the jobs until they end.
+     * @return a builder of the import, to configure and run.
+     * @see ChunkedUsersImport
+     */
+    public ChunkedUsersImport.Builder importUsersInChunks(String connectionId, UsersImportOptions options, JobCompletionWaiter waiter) {
+        Asserts.assertNotNull(connectionId, "connection id");
+
+        return ChunkedUsersImport.newBuilder(users -> importUsersFromBytes(connectionId, users, options), waiter)
+                .withCodec(context.getCodec());
+    }
+
+    private MultipartRequest<Job> createUsersImport(String connectionId, UsersImportOptions options) {
         String url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/jobs/users-imports")
                 .build()
                 .toString();
-        MultipartRequest<Job> request = new MultipartRequest<>(client, url, "POST", new TypeReference<Job>() {
+        MultipartRequest<Job> request = new MultipartRequest<>(client, url, "POST", context, new TypeReference<Job>() {
         });
         if (options != null) {
             for (Map.Entry<String, Object> e : options.getAsMap().entrySet()) {
@@ -184,7 +398,6 @@ public class JobsEntity extends BaseManagementEntity {
             }
         }
         request.addPart("connection_id", connectionId);
-        request.addPart("users", users, "text/json");
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
@@ -1,16 +1,22 @@
 package com.auth0.client.mgmt;
 
 import com.auth0.client.mgmt.filter.LogEventFilter;
+import com.auth0.client.mgmt.logevents.LogEventBackfill;
+import com.auth0.client.mgmt.logevents.LogEventTailer;
 import com.auth0.json.mgmt.logevents.LogEvent;
 import com.auth0.json.mgmt.logevents.LogEventsPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static com.auth0.client.mgmt.filter.QueryFilter.KEY_QUERY;
 
@@ -24,8 +30,8 @@ import static com.auth0.client.mgmt.filter.QueryFilter.KEY_QUERY;
 @SuppressWarnings("WeakerAccess")
 public class LogEventsEntity extends BaseManagementEntity {
 
-    LogEventsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    LogEventsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -49,12 +55,41 @@ public class LogEventsEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<LogEventsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<LogEventsPage>() {
+        CustomRequest<LogEventsPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<LogEventsPage>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
 
+    /**
+     * Prepares a tailer that follows the Log Events as they're created, with checkpoint pagination, and hands them in
+     * batches to the given consumer. A token with scope read:logs is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Logs/get_logs
+     *
+     * @param consumer the consumer of each batch of Log Events.
+     * @return a builder of the tailer, to configure and run.
+     * @see LogEventTailer
+     */
+    public LogEventTailer.Builder tailer(Consumer<List<LogEvent>> consumer) {
+        return LogEventTailer.newBuilder(this::list, consumer);
+    }
+
+    /**
+     * Prepares a backfill that reads the Log Events created in a range of dates, split into partitions by date that
+     * are read concurrently, and hands them in batches to the given consumer. The requests in flight are kept within
+     * the rate limit when the client paces its requests. A token with scope read:logs is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Logs/get_logs
+     *
+     * @param from     the date the Log Events must have been created at or after.
+     * @param to       the date the Log Events must have been created before.
+     * @param consumer the consumer of each batch of Log Events.
+     * @return a builder of the backfill, to configure and run.
+     * @see LogEventBackfill
+     */
+    public LogEventBackfill.Builder backfill(Date from, Date to, Consumer<List<LogEvent>> consumer) {
+        return LogEventBackfill.newBuilder(this::list, from, to, consumer).withThrottle(context.getThrottle());
+    }
+
     /**
      * Request a Log Event. A token with scope read:logs is needed.
      * See https://auth0.com/docs/api/management/v2#!/Logs/get_logs_by_id
@@ -71,7 +106,7 @@ public class LogEventsEntity extends BaseManagementEntity {
                 .addPathSegment(logEventId)
                 .build()
                 .toString();
-        CustomRequest<LogEvent> request = new CustomRequest<>(client, url, "GET", new TypeReference<LogEvent>() {
+        CustomRequest<LogEvent> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<LogEvent>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
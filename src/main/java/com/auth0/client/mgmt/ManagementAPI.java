@@ -2,6 +2,10 @@ package com.auth0.client.mgmt;
 
 import com.auth0.client.HttpOptions;
 import com.auth0.client.ProxyOptions;
+import com.auth0.net.CallTimingsEventListener;
+import com.auth0.net.ClientContext;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.RateLimitThrottle;
 import com.auth0.net.Telemetry;
 import com.auth0.net.TelemetryInterceptor;
 import com.auth0.utils.Asserts;
@@ -17,17 +21,22 @@ import java.util.concurrent.TimeUnit;
  * To begin create an instance of {@link #ManagementAPI(String, String)} using the tenant domain and API token.
  * <p>
  * This class is not entirely thread-safe:
- * A new immutable {@link OkHttpClient} instance is being created with each instantiation, not sharing the thread pool
- * with any prior existing client instance.
+ * A new immutable {@link OkHttpClient} instance is being created with each instantiation. Unless a connection pool,
+ * dispatcher or networking client to share is set in the {@link HttpOptions}, it doesn't share its connection pool
+ * nor its thread pool with any prior existing client instance. Call {@link #close()} once the instance is no longer
+ * needed to release the resources it owns.
  */
 @SuppressWarnings("WeakerAccess")
-public class ManagementAPI {
+public class ManagementAPI implements AutoCloseable {
 
     private final HttpUrl baseUrl;
     private String apiToken;
     private final OkHttpClient client;
+    private final ClientContext context;
     private final TelemetryInterceptor telemetry;
     private final HttpLoggingInterceptor logging;
+    private final boolean ownsConnectionPool;
+    private final boolean ownsExecutorService;
 
     /**
      * Create an instance with the given tenant's domain and API token.
@@ -53,7 +62,17 @@ public class ManagementAPI {
         telemetry = new TelemetryInterceptor();
         logging = new HttpLoggingInterceptor();
         logging.setLevel(Level.NONE);
+        ownsConnectionPool = options.getConnectionPool() == null && options.getHttpClient() == null;
+        ownsExecutorService = options.getDispatcher() == null && options.getHttpClient() == null && options.getExecutorService() == null;
         client = buildNetworkingClient(options);
+        context = ClientContext.newBuilder(new JsonCodec())
+                .withRetryPolicy(options.getRetryPolicy())
+                .withRequestCoalescing(options.isRequestCoalescingEnabled())
+                .withMetricsRecorder(options.getMetricsRecorder())
+                .withCallTracing(options.isCallTracingEnabled())
+                .withCompletionExecutor(options.getCompletionExecutor())
+                .withThrottle(options.isThrottlingEnabled() ? new RateLimitThrottle() : null)
+                .build();
     }
 
     /**
@@ -76,7 +95,24 @@ public class ManagementAPI {
      * @return a new networking client instance configured as requested.
      */
     private OkHttpClient buildNetworkingClient(HttpOptions options) {
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+        OkHttpClient.Builder clientBuilder = options.getHttpClient() != null
+                ? options.getHttpClient().newBuilder()
+                : new OkHttpClient.Builder();
+        if (options.getConnectionPool() != null) {
+            clientBuilder.connectionPool(options.getConnectionPool());
+        } else if (options.getHttpClient() == null) {
+            clientBuilder.connectionPool(new ConnectionPool(options.getMaxIdleConnections(), options.getKeepAliveDuration(), TimeUnit.SECONDS));
+        }
+        if (options.getDispatcher() != null) {
+            clientBuilder.dispatcher(options.getDispatcher());
+        } else if (options.getHttpClient() == null) {
+            Dispatcher dispatcher = options.getExecutorService() != null
+                    ? new Dispatcher(options.getExecutorService())
+                    : new Dispatcher();
+            dispatcher.setMaxRequests(options.getMaxRequests());
+            dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
+            clientBuilder.dispatcher(dispatcher);
+        }
         final ProxyOptions proxyOptions = options.getProxyOptions();
         if (proxyOptions != null) {
             //Set proxy
@@ -100,12 +136,30 @@ public class ManagementAPI {
                 });
             }
         }
-        return clientBuilder
+        clientBuilder
                 .addInterceptor(logging)
-                .addInterceptor(telemetry)
-                .connectTimeout(options.getConnectTimeout(), TimeUnit.SECONDS)
-                .readTimeout(options.getReadTimeout(), TimeUnit.SECONDS)
-                .build();
+                .addInterceptor(telemetry);
+        if (options.getResponseCache() != null) {
+            clientBuilder.addInterceptor(options.getResponseCache());
+        }
+        if (options.isCallTracingEnabled()) {
+            clientBuilder.eventListenerFactory(CallTimingsEventListener.FACTORY);
+        }
+        // A shared client keeps its own timeouts, unless they were explicitly set on the options
+        boolean shared = options.getHttpClient() != null;
+        if (!shared || options.isConnectTimeoutSet()) {
+            clientBuilder.connectTimeout(options.getConnectTimeout(), TimeUnit.SECONDS);
+        }
+        if (!shared || options.isReadTimeoutSet()) {
+            clientBuilder.readTimeout(options.getReadTimeout(), TimeUnit.SECONDS);
+        }
+        if (!shared || options.isWriteTimeoutSet()) {
+            clientBuilder.writeTimeout(options.getWriteTimeout(), TimeUnit.SECONDS);
+        }
+        if (!shared || options.isCallTimeoutSet()) {
+            clientBuilder.callTimeout(options.getCallTimeout(), TimeUnit.SECONDS);
+        }
+        return clientBuilder.build();
     }
 
     /**
@@ -136,6 +190,16 @@ public class ManagementAPI {
         this.telemetry.setTelemetry(telemetry);
     }
 
+    /**
+     * Getter for the throttle that paces the requests of this instance, shared by all of its entities. Its limit and
+     * available values can be reported as gauges of the rate limit quota.
+     *
+     * @return the throttle, or null if throttling was not enabled through {@link HttpOptions#setThrottlingEnabled(boolean)}.
+     */
+    public RateLimitThrottle getRateLimitThrottle() {
+        return context.getThrottle();
+    }
+
     /**
      * Whether to enable or not the current HTTP Logger for every Request, Response and other sensitive information.
      *
@@ -145,11 +209,34 @@ public class ManagementAPI {
         logging.setLevel(enabled ? Level.BODY : Level.NONE);
     }
 
+    /**
+     * Releases the networking resources owned by this instance: the idle connections of its connection pool are
+     * evicted, the thread pool of its dispatcher is shut down and the timer used to retry asynchronous requests is
+     * stopped. Resources shared through the {@link HttpOptions}
+     * are left untouched. Requests that are already running are allowed to complete, but this instance must not be
+     * used to create new requests afterwards.
+     */
+    @Override
+    public void close() {
+        context.close();
+        if (ownsExecutorService) {
+            client.dispatcher().executorService().shutdown();
+        }
+        if (ownsConnectionPool) {
+            client.connectionPool().evictAll();
+        }
+    }
+
     //Visible for testing
     OkHttpClient getClient() {
         return client;
     }
 
+    //Visible for testing
+    ClientContext getContext() {
+        return context;
+    }
+
     //Visible for testing
     HttpUrl getBaseUrl() {
         return baseUrl;
@@ -169,7 +256,7 @@ public class ManagementAPI {
      * @return the Client Grants entity.
      */
     public ClientGrantsEntity clientGrants() {
-        return new ClientGrantsEntity(client, baseUrl, apiToken);
+        return new ClientGrantsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -178,7 +265,7 @@ public class ManagementAPI {
      * @return the Applications entity.
      */
     public ClientsEntity clients() {
-        return new ClientsEntity(client, baseUrl, apiToken);
+        return new ClientsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -187,7 +274,7 @@ public class ManagementAPI {
      * @return the Connections entity.
      */
     public ConnectionsEntity connections() {
-        return new ConnectionsEntity(client, baseUrl, apiToken);
+        return new ConnectionsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -196,7 +283,7 @@ public class ManagementAPI {
      * @return the Device Credentials entity.
      */
     public DeviceCredentialsEntity deviceCredentials() {
-        return new DeviceCredentialsEntity(client, baseUrl, apiToken);
+        return new DeviceCredentialsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -205,7 +292,7 @@ public class ManagementAPI {
      * @return the Grants entity.
      */
     public GrantsEntity grants() {
-        return new GrantsEntity(client, baseUrl, apiToken);
+        return new GrantsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -214,7 +301,7 @@ public class ManagementAPI {
      * @return the Log Events entity.
      */
     public LogEventsEntity logEvents() {
-        return new LogEventsEntity(client, baseUrl, apiToken);
+        return new LogEventsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -223,7 +310,7 @@ public class ManagementAPI {
      * @return the Log Streams entity.
      */
     public LogStreamsEntity logStreams() {
-        return new LogStreamsEntity(client, baseUrl, apiToken);
+        return new LogStreamsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -232,7 +319,7 @@ public class ManagementAPI {
      * @return the Rules entity.
      */
     public RulesEntity rules() {
-        return new RulesEntity(client, baseUrl, apiToken);
+        return new RulesEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -241,7 +328,7 @@ public class ManagementAPI {
      * @return the Rules Configs entity.
      */
     public RulesConfigsEntity rulesConfigs() {
-        return new RulesConfigsEntity(client, baseUrl, apiToken);
+        return new RulesConfigsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -250,7 +337,7 @@ public class ManagementAPI {
      * @return the User Blocks entity.
      */
     public UserBlocksEntity userBlocks() {
-        return new UserBlocksEntity(client, baseUrl, apiToken);
+        return new UserBlocksEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -259,7 +346,7 @@ public class ManagementAPI {
      * @return the Users entity.
      */
     public UsersEntity users() {
-        return new UsersEntity(client, baseUrl, apiToken);
+        return new UsersEntity(client, baseUrl, apiToken, context, jobs());
     }
 
     /**
@@ -268,7 +355,7 @@ public class ManagementAPI {
      * @return the Blacklists entity.
      */
     public BlacklistsEntity blacklists() {
-        return new BlacklistsEntity(client, baseUrl, apiToken);
+        return new BlacklistsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -277,7 +364,7 @@ public class ManagementAPI {
      * @return the Email Templates entity.
      */
     public EmailTemplatesEntity emailTemplates() {
-        return new EmailTemplatesEntity(client, baseUrl, apiToken);
+        return new EmailTemplatesEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -286,7 +373,7 @@ public class ManagementAPI {
      * @return the Email Provider entity.
      */
     public EmailProviderEntity emailProvider() {
-        return new EmailProviderEntity(client, baseUrl, apiToken);
+        return new EmailProviderEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -295,7 +382,7 @@ public class ManagementAPI {
      * @return the Guardian entity.
      */
     public GuardianEntity guardian() {
-        return new GuardianEntity(client, baseUrl, apiToken);
+        return new GuardianEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -304,7 +391,7 @@ public class ManagementAPI {
      * @return the Stats entity.
      */
     public StatsEntity stats() {
-        return new StatsEntity(client, baseUrl, apiToken);
+        return new StatsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -313,7 +400,7 @@ public class ManagementAPI {
      * @return the Tenants entity.
      */
     public TenantsEntity tenants() {
-        return new TenantsEntity(client, baseUrl, apiToken);
+        return new TenantsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -322,7 +409,7 @@ public class ManagementAPI {
      * @return the Tickets entity.
      */
     public TicketsEntity tickets() {
-        return new TicketsEntity(client, baseUrl, apiToken);
+        return new TicketsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -331,7 +418,7 @@ public class ManagementAPI {
      * @return the Resource Servers entity.
      */
     public ResourceServerEntity resourceServers() {
-        return new ResourceServerEntity(client, baseUrl, apiToken);
+        return new ResourceServerEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -340,7 +427,7 @@ public class ManagementAPI {
      * @return the Jobs entity.
      */
     public JobsEntity jobs() {
-        return new JobsEntity(client, baseUrl, apiToken);
+        return new JobsEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -349,7 +436,7 @@ public class ManagementAPI {
      * @return the Roles entity.
      */
     public RolesEntity roles() {
-        return new RolesEntity(client, baseUrl, apiToken);
+        return new RolesEntity(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -358,6 +445,6 @@ public class ManagementAPI {
      * @return the Organizations entity.
      */
     public OrganizationsEntity organizations() {
-        return new OrganizationsEntity(client, baseUrl, apiToken);
+        return new OrganizationsEntity(client, baseUrl, apiToken, context);
     }
 }
@@ -4,9 +4,11 @@ import com.auth0.client.mgmt.filter.BaseFilter;
 import com.auth0.client.mgmt.filter.FieldsFilter;
 import com.auth0.client.mgmt.filter.InvitationsFilter;
 import com.auth0.client.mgmt.filter.PageFilter;
+import com.auth0.client.mgmt.pagination.FetchAllRequest;
 import com.auth0.json.mgmt.RolesPage;
 import com.auth0.json.mgmt.organizations.*;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -28,14 +30,16 @@ public class OrganizationsEntity extends BaseManagementEntity {
     private final static String ORGS_PATH = "api/v2/organizations";
     private final static String AUTHORIZATION_HEADER = "Authorization";
 
-    OrganizationsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    OrganizationsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     // Organizations Entity
 
     /**
      * Get all organizations. A token with {@code read:organizations} scope is required.
+     * The organizations can be paginated by page number, or by checkpoint with {@link PageFilter#withFrom(String)}
+     * and {@link PageFilter#withTake(int)}.
      *
      * @param filter an optional pagination filter
      * @return a Request to execute
@@ -50,13 +54,31 @@ public class OrganizationsEntity extends BaseManagementEntity {
         applyFilter(filter, builder);
 
         String url = builder.build().toString();
-        CustomRequest<OrganizationsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<OrganizationsPage>() {
+        CustomRequest<OrganizationsPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<OrganizationsPage>() {
         });
 
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return request;
     }
 
+    /**
+     * Get all organizations, across every page. Once the first page reports the total amount of organizations, the
+     * remaining pages are requested concurrently. A token with {@code read:organizations} scope is required.
+     *
+     * @param filter an optional filter. Its page and totals parameters are replaced on each page.
+     * @return a Request to execute
+     *
+     * @see <a href="https://auth0.com/docs/api/management/v2#!/Organizations/get_organizations">https://auth0.com/docs/api/management/v2#!/Organizations/get_organizations</a>
+     */
+    public FetchAllRequest<Organization> fetchAll(PageFilter filter) {
+        Map<String, Object> parameters = copyParameters(filter);
+        return new FetchAllRequest<>((page, perPage) -> {
+            PageFilter pageFilter = new PageFilter();
+            pageFilter.getAsMap().putAll(parameters);
+            return list(pageFilter.withPage(page, perPage).withTotals(true));
+        }, context.getThrottle());
+    }
+
     /**
      * Get an organization. A token with {@code read:organizations} scope is required.
      *
@@ -75,7 +97,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        CustomRequest<Organization> request = new CustomRequest<>(client, url, "GET", new TypeReference<Organization>() {
+        CustomRequest<Organization> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<Organization>() {
         });
 
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
@@ -101,7 +123,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        CustomRequest<Organization> request = new CustomRequest<>(client, url, "GET", new TypeReference<Organization>() {
+        CustomRequest<Organization> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<Organization>() {
         });
 
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
@@ -125,7 +147,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        CustomRequest<Organization> request = new CustomRequest<>(client, url, "POST", new TypeReference<Organization>() {
+        CustomRequest<Organization> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<Organization>() {
         });
 
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
@@ -153,7 +175,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        CustomRequest<Organization> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<Organization>() {
+        CustomRequest<Organization> request = new CustomRequest<>(client, url, "PATCH", context, new TypeReference<Organization>() {
         });
 
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
@@ -179,7 +201,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE");
+        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE", context);
         voidRequest.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return voidRequest;
     }
@@ -188,6 +210,8 @@ public class OrganizationsEntity extends BaseManagementEntity {
 
     /**
      * Get the members of an organization. A token with {@code read:organization_members} scope is required.
+     * The members can be paginated by page number, or by checkpoint with {@link PageFilter#withFrom(String)}
+     * and {@link PageFilter#withTake(int)}.
      *
      * @param orgId the ID of the organization
      * @param filter an optional pagination filter
@@ -207,7 +231,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
         applyFilter(filter, builder);
 
         String url = builder.build().toString();
-        CustomRequest<MembersPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<MembersPage>() {
+        CustomRequest<MembersPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<MembersPage>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return request;
@@ -234,7 +258,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        VoidRequest request = new VoidRequest(client, url, "POST");
+        VoidRequest request = new VoidRequest(client, url, "POST", context);
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         request.setBody(members);
         return request;
@@ -261,7 +285,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         request.setBody(members);
         return request;
@@ -290,7 +314,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
         applyFilter(filter, builder);
 
         String url = builder.build().toString();
-        CustomRequest<EnabledConnectionsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<EnabledConnectionsPage>() {
+        CustomRequest<EnabledConnectionsPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<EnabledConnectionsPage>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return request;
@@ -318,7 +342,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "GET", new TypeReference<EnabledConnection>() {
+        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<EnabledConnection>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return request;
@@ -345,7 +369,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "POST", new TypeReference<EnabledConnection>() {
+        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<EnabledConnection>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         request.setBody(connection);
@@ -374,7 +398,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE");
+        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE", context);
         voidRequest.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return voidRequest;
     }
@@ -403,7 +427,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<EnabledConnection>() {
+        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "PATCH", context, new TypeReference<EnabledConnection>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         request.setBody(connection);
@@ -437,7 +461,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
         applyFilter(filter, builder);
 
         String url = builder.build().toString();
-        CustomRequest<RolesPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<RolesPage>() {
+        CustomRequest<RolesPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<RolesPage>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return request;
@@ -468,7 +492,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        VoidRequest request = new VoidRequest(client, url, "POST");
+        VoidRequest request = new VoidRequest(client, url, "POST", context);
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         request.setBody(roles);
         return request;
@@ -499,7 +523,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         request.setBody(roles);
         return request;
@@ -528,7 +552,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        CustomRequest<Invitation> request = new CustomRequest<>(client, url, "POST", new TypeReference<Invitation>() {
+        CustomRequest<Invitation> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<Invitation>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         request.setBody(invitation);
@@ -560,7 +584,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
         applyFilter(filter, builder);
 
         String url = builder.build().toString();
-        CustomRequest<Invitation> request = new CustomRequest<>(client, url, "GET", new TypeReference<Invitation>() {
+        CustomRequest<Invitation> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<Invitation>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return request;
@@ -587,7 +611,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
         applyFilter(filter, builder);
 
         String url = builder.build().toString();
-        CustomRequest<InvitationsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<InvitationsPage>() {
+        CustomRequest<InvitationsPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<InvitationsPage>() {
         });
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return request;
@@ -615,7 +639,7 @@ public class OrganizationsEntity extends BaseManagementEntity {
             .build()
             .toString();
 
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
         return request;
     }
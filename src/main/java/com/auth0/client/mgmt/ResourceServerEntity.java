@@ -4,6 +4,7 @@ import com.auth0.client.mgmt.filter.ResourceServersFilter;
 import com.auth0.json.mgmt.ResourceServer;
 import com.auth0.json.mgmt.ResourceServersPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -23,8 +24,8 @@ import java.util.Map;
  */
 public class ResourceServerEntity extends BaseManagementEntity {
 
-    ResourceServerEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    ResourceServerEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -45,7 +46,7 @@ public class ResourceServerEntity extends BaseManagementEntity {
         }
 
         String url = builder.build().toString();
-        CustomRequest<ResourceServersPage> request = new CustomRequest<>(client, url, "GET",
+        CustomRequest<ResourceServersPage> request = new CustomRequest<>(client, url, "GET", context,
                 new TypeReference<ResourceServersPage>() {
                 });
         request.addHeader("Authorization", "Bearer " + apiToken);
@@ -67,7 +68,7 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/resource-servers");
 
         String url = builder.build().toString();
-        CustomRequest<List<ResourceServer>> request = new CustomRequest<>(client, url, "GET",
+        CustomRequest<List<ResourceServer>> request = new CustomRequest<>(client, url, "GET", context,
                 new TypeReference<List<ResourceServer>>() {
                 });
         request.addHeader("Authorization", "Bearer " + apiToken);
@@ -90,7 +91,7 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .addPathSegment(resourceServerIdOrIdentifier);
 
         String url = builder.build().toString();
-        CustomRequest<ResourceServer> request = new CustomRequest<>(client, url, "GET",
+        CustomRequest<ResourceServer> request = new CustomRequest<>(client, url, "GET", context,
                 new TypeReference<ResourceServer>() {
                 });
         request.addHeader("Authorization", "Bearer " + apiToken);
@@ -112,7 +113,7 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/resource-servers");
 
         String url = builder.build().toString();
-        CustomRequest<ResourceServer> request = new CustomRequest<>(client, url, "POST",
+        CustomRequest<ResourceServer> request = new CustomRequest<>(client, url, "POST", context,
                 new TypeReference<ResourceServer>() {
                 });
         request.addHeader("Authorization", "Bearer " + apiToken);
@@ -136,7 +137,7 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .addPathSegment(resourceServerId);
 
         String url = builder.build().toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
@@ -2,12 +2,14 @@ package com.auth0.client.mgmt;
 
 import com.auth0.client.mgmt.filter.PageFilter;
 import com.auth0.client.mgmt.filter.RolesFilter;
+import com.auth0.client.mgmt.pagination.FetchAllRequest;
 import com.auth0.json.mgmt.Permission;
 import com.auth0.json.mgmt.PermissionsPage;
 import com.auth0.json.mgmt.Role;
 import com.auth0.json.mgmt.RolesPage;
 import com.auth0.json.mgmt.users.UsersPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -28,9 +30,8 @@ import java.util.Map;
  */
 public class RolesEntity extends BaseManagementEntity {
 
-  RolesEntity(OkHttpClient client, HttpUrl baseUrl,
-      String apiToken) {
-    super(client, baseUrl, apiToken);
+  RolesEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+    super(client, baseUrl, apiToken, context);
   }
 
   /**
@@ -51,11 +52,29 @@ public class RolesEntity extends BaseManagementEntity {
       }
     }
     String url = builder.build().toString();
-    CustomRequest<RolesPage> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<RolesPage>() {});
+    CustomRequest<RolesPage> request = new CustomRequest<>(this.client, url, "GET", context, new TypeReference<RolesPage>() {});
     request.addHeader("Authorization", "Bearer " + apiToken);
     return request;
   }
 
+  /**
+   * Request all Roles created by this tenant, across every page. Once the first page reports the total amount of
+   * roles, the remaining pages are requested concurrently.
+   * A token with read:roles is needed
+   * See https://auth0.com/docs/api/management/v2#!/Roles/get_roles
+   *
+   * @param filter optional filtering criteria. Its page and totals parameters are replaced on each page.
+   * @return a Request to execute
+   */
+  public FetchAllRequest<Role> fetchAll(RolesFilter filter) {
+    Map<String, Object> parameters = copyParameters(filter);
+    return new FetchAllRequest<>((page, perPage) -> {
+      RolesFilter pageFilter = new RolesFilter();
+      pageFilter.getAsMap().putAll(parameters);
+      return list(pageFilter.withPage(page, perPage).withTotals(true));
+    }, context.getThrottle());
+  }
+
   /**
    * Get a single role created by this tenant that can be assigned to a given user or user group.
    * A token with scope read:roles is needed.
@@ -73,7 +92,7 @@ public class RolesEntity extends BaseManagementEntity {
         .addEncodedPathSegments(roleId);
 
     String url = builder.build().toString();
-    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<Role>() {});
+    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "GET", context, new TypeReference<Role>() {});
     request.addHeader("Authorization", "Bearer " + apiToken);
     return request;
   }
@@ -95,7 +114,7 @@ public class RolesEntity extends BaseManagementEntity {
         .addEncodedPathSegments("api/v2/roles")
         .build()
         .toString();
-    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<Role>() {});
+    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "POST", context, new TypeReference<Role>() {});
     request.addHeader("Authorization", "Bearer " + apiToken);
     request.setBody(role);
     return request;
@@ -118,7 +137,7 @@ public class RolesEntity extends BaseManagementEntity {
         .addEncodedPathSegments(roleId)
         .build()
         .toString();
-    VoidRequest request = new VoidRequest(this.client, url, "DELETE");
+    VoidRequest request = new VoidRequest(this.client, url, "DELETE", context);
     request.addHeader("Authorization", "Bearer " + apiToken);
     return request;
   }
@@ -142,7 +161,7 @@ public class RolesEntity extends BaseManagementEntity {
         .addEncodedPathSegments(roleId)
         .build()
         .toString();
-    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<Role>() {});
+    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "PATCH", context, new TypeReference<Role>() {});
     request.addHeader("Authorization", "Bearer " + apiToken);
     request.setBody(role);
     return request;
@@ -151,6 +170,8 @@ public class RolesEntity extends BaseManagementEntity {
   /**
    * Lists the users that have been associated with a given role.
    * A token with scope read:users and read:roles is needed.
+   * The users can be paginated by page number, or by checkpoint with {@link PageFilter#withFrom(String)}
+   * and {@link PageFilter#withTake(int)}.
    *
    * See https://auth0.com/docs/api/management/v2#!/Roles/get_role_user
    *
@@ -171,7 +192,7 @@ public class RolesEntity extends BaseManagementEntity {
       }
     }
     String url = builder.build().toString();
-    CustomRequest<UsersPage> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<UsersPage>() {});
+    CustomRequest<UsersPage> request = new CustomRequest<>(this.client, url, "GET", context, new TypeReference<UsersPage>() {});
     request.addHeader("Authorization", "Bearer " + apiToken);
     return request;
   }
@@ -199,7 +220,7 @@ public class RolesEntity extends BaseManagementEntity {
         .addEncodedPathSegments("users")
         .build()
         .toString();
-    VoidRequest request = new VoidRequest(this.client, url, "POST");
+    VoidRequest request = new VoidRequest(this.client, url, "POST", context);
     request.addHeader("Authorization", "Bearer " + apiToken);
     request.setBody(body);
     return request;
@@ -228,7 +249,7 @@ public class RolesEntity extends BaseManagementEntity {
       }
     }
     String url = builder.build().toString();
-    CustomRequest<PermissionsPage> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<PermissionsPage>() {});
+    CustomRequest<PermissionsPage> request = new CustomRequest<>(this.client, url, "GET", context, new TypeReference<PermissionsPage>() {});
     request.addHeader("Authorization", "Bearer " + apiToken);
     return request;
   }
@@ -256,7 +277,7 @@ public class RolesEntity extends BaseManagementEntity {
         .addEncodedPathSegments("permissions")
         .build()
         .toString();
-    VoidRequest request = new VoidRequest(this.client, url, "DELETE");
+    VoidRequest request = new VoidRequest(this.client, url, "DELETE", context);
     request.setBody(body);
     request.addHeader("Authorization", "Bearer " + apiToken);
     return request;
@@ -286,7 +307,7 @@ public class RolesEntity extends BaseManagementEntity {
         .addEncodedPathSegments("permissions")
         .build()
         .toString();
-    VoidRequest request = new VoidRequest(this.client, url, "POST");
+    VoidRequest request = new VoidRequest(this.client, url, "POST", context);
     request.setBody(body);
     request.addHeader("Authorization", "Bearer " + apiToken);
     return request;
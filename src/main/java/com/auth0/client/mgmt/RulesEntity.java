@@ -4,6 +4,7 @@ import com.auth0.client.mgmt.filter.RulesFilter;
 import com.auth0.json.mgmt.Rule;
 import com.auth0.json.mgmt.RulesPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -24,8 +25,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class RulesEntity extends BaseManagementEntity {
 
-    RulesEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    RulesEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -45,7 +46,7 @@ public class RulesEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<RulesPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<RulesPage>() {
+        CustomRequest<RulesPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<RulesPage>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -74,7 +75,7 @@ public class RulesEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<List<Rule>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Rule>>() {
+        CustomRequest<List<Rule>> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<List<Rule>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -101,7 +102,7 @@ public class RulesEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<Rule> request = new CustomRequest<>(client, url, "GET", new TypeReference<Rule>() {
+        CustomRequest<Rule> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<Rule>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -122,7 +123,7 @@ public class RulesEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/rules")
                 .build()
                 .toString();
-        CustomRequest<Rule> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<Rule>() {
+        CustomRequest<Rule> request = new CustomRequest<>(this.client, url, "POST", context, new TypeReference<Rule>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(rule);
@@ -145,7 +146,7 @@ public class RulesEntity extends BaseManagementEntity {
                 .addPathSegment(ruleId)
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
@@ -168,7 +169,7 @@ public class RulesEntity extends BaseManagementEntity {
                 .addPathSegment(ruleId)
                 .build()
                 .toString();
-        CustomRequest<Rule> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<Rule>() {
+        CustomRequest<Rule> request = new CustomRequest<>(this.client, url, "PATCH", context, new TypeReference<Rule>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(rule);
@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.DailyStats;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -22,8 +23,8 @@ import java.util.List;
 @SuppressWarnings("WeakerAccess")
 public class StatsEntity extends BaseManagementEntity {
 
-    StatsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    StatsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -39,7 +40,7 @@ public class StatsEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<Integer> request = new CustomRequest<>(client, url, "GET", new TypeReference<Integer>() {
+        CustomRequest<Integer> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<Integer>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -67,7 +68,7 @@ public class StatsEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<List<DailyStats>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<DailyStats>>() {
+        CustomRequest<List<DailyStats>> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<List<DailyStats>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
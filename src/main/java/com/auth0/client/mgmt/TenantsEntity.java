@@ -3,6 +3,7 @@ package com.auth0.client.mgmt;
 import com.auth0.client.mgmt.filter.FieldsFilter;
 import com.auth0.json.mgmt.tenants.Tenant;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -21,8 +22,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class TenantsEntity extends BaseManagementEntity {
 
-    TenantsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    TenantsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context) {
+        super(client, baseUrl, apiToken, context);
     }
 
     /**
@@ -42,7 +43,7 @@ public class TenantsEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<Tenant> request = new CustomRequest<>(client, url, "GET", new TypeReference<Tenant>() {
+        CustomRequest<Tenant> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<Tenant>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -64,7 +65,7 @@ public class TenantsEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<Tenant> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<Tenant>() {
+        CustomRequest<Tenant> request = new CustomRequest<>(client, url, "PATCH", context, new TypeReference<Tenant>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(tenant);
@@ -4,6 +4,10 @@ import com.auth0.client.mgmt.filter.FieldsFilter;
 import com.auth0.client.mgmt.filter.LogEventFilter;
 import com.auth0.client.mgmt.filter.PageFilter;
 import com.auth0.client.mgmt.filter.UserFilter;
+import com.auth0.client.mgmt.filter.UsersExportFilter;
+import com.auth0.client.mgmt.pagination.FetchAllRequest;
+import com.auth0.client.mgmt.pagination.PartitionedUserSearchRequest;
+import com.auth0.client.mgmt.pagination.UserSearchIterable;
 import com.auth0.json.mgmt.Permission;
 import com.auth0.json.mgmt.PermissionsPage;
 import com.auth0.json.mgmt.RolesPage;
@@ -16,6 +20,7 @@ import com.auth0.json.mgmt.users.User;
 import com.auth0.json.mgmt.users.UsersPage;
 import com.auth0.net.CustomRequest;
 import com.auth0.net.EmptyBodyRequest;
+import com.auth0.net.ClientContext;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -23,9 +28,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import static com.auth0.client.mgmt.filter.QueryFilter.KEY_QUERY;
 
@@ -39,8 +46,11 @@ import static com.auth0.client.mgmt.filter.QueryFilter.KEY_QUERY;
 @SuppressWarnings("WeakerAccess")
 public class UsersEntity extends BaseManagementEntity {
 
-    UsersEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    private final JobsEntity jobs;
+
+    UsersEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, ClientContext context, JobsEntity jobs) {
+        super(client, baseUrl, apiToken, context);
+        this.jobs = jobs;
     }
 
     /**
@@ -67,7 +77,7 @@ public class UsersEntity extends BaseManagementEntity {
         }
 
         String url = builder.build().toString();
-        CustomRequest<List<User>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<User>>() {
+        CustomRequest<List<User>> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<List<User>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -96,12 +106,106 @@ public class UsersEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<UsersPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<UsersPage>() {
+        CustomRequest<UsersPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<UsersPage>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
 
+    /**
+     * Request all the Users, across every page. Once the first page reports the total amount of users, the remaining
+     * pages are requested concurrently. Note that this endpoint returns at most the first 1000 users of a search.
+     * A token with scope read:users is needed.
+     * If you want the identities.access_token property to be included, you will also need the scope read:user_idp_tokens.
+     * See https://auth0.com/docs/api/management/v2#!/Users/get_users
+     *
+     * @param filter the filter to use. Can be null. Its page and totals parameters are replaced on each page.
+     * @return a Request to execute.
+     */
+    public FetchAllRequest<User> fetchAll(UserFilter filter) {
+        Map<String, Object> parameters = copyParameters(filter);
+        return new FetchAllRequest<>((page, perPage) -> {
+            UserFilter pageFilter = new UserFilter();
+            pageFilter.getAsMap().putAll(parameters);
+            pageFilter.withPage(page, perPage).withTotals(true);
+            return list(pageFilter);
+        }, context.getThrottle());
+    }
+
+    /**
+     * Search all the Users created in a range of dates, past the 1000 results the search engine gives access to. The
+     * range is split into partitions that match at most 1000 users each, which are searched concurrently, and the
+     * results are merged in order of creation date.
+     * A token with scope read:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Users/get_users
+     *
+     * @param filter      the filter to use. Can be null. Its page, totals and sort parameters are replaced on each page.
+     * @param createdFrom the date the users must have been created at or after.
+     * @param createdTo   the date the users must have been created before.
+     * @return a Request to execute.
+     */
+    public PartitionedUserSearchRequest searchAll(UserFilter filter, Date createdFrom, Date createdTo) {
+        return new PartitionedUserSearchRequest(this::list, filter, createdFrom, createdTo, context.getThrottle());
+    }
+
+    /**
+     * Iterate over all the Users that match a search. If the search matches more than the 1000 users the search
+     * engine gives access to, a Users Exports job is submitted for the given connection instead, and the users are
+     * read from the exported file once the job completes. The export includes every user of the connection, and only
+     * the fields selected by the export filter, so this falls back to it only for a search without a query. A search
+     * with a query that matches more than 1000 users fails; use
+     * {@link #searchOrExport(UserFilter, String, UsersExportFilter, Predicate)} to pick its users out of the export.
+     * A token with scopes read:users and create:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Users/get_users
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_exports
+     *
+     * @param filter       the filter to use. Can be null. Its page and totals parameters are replaced on each page.
+     * @param connectionId the id of the connection to export the users from.
+     * @param exportFilter the filter to export the users with. Can be null. Its format is replaced with JSON.
+     * @return the users, which are requested when iterated.
+     */
+    public UserSearchIterable searchOrExport(UserFilter filter, String connectionId, UsersExportFilter exportFilter) {
+        boolean queried = filter != null && filter.getAsMap().get(KEY_QUERY) != null;
+        return searchOrExport(filter, connectionId, exportFilter, queried ? null : user -> true);
+    }
+
+    /**
+     * Iterate over all the Users that match a search. If the search matches more than the 1000 users the search
+     * engine gives access to, a Users Exports job is submitted for the given connection instead, and the users are
+     * read from the exported file once the job completes. The export includes every user of the connection, and only
+     * the fields selected by the export filter, so only the exported users the matcher accepts are returned.
+     * A token with scopes read:users and create:users is needed.
+     * See https://auth0.com/docs/api/management/v2#!/Users/get_users
+     * See https://auth0.com/docs/api/management/v2#!/Jobs/post_users_exports
+     *
+     * @param filter        the filter to use. Can be null. Its page and totals parameters are replaced on each page.
+     * @param connectionId  the id of the connection to export the users from.
+     * @param exportFilter  the filter to export the users with. Can be null. Its format is replaced with JSON.
+     * @param exportMatcher the condition that tells the exported users that match the search. If null, a search that
+     *                      exceeds the window fails instead.
+     * @return the users, which are requested when iterated.
+     */
+    public UserSearchIterable searchOrExport(UserFilter filter, String connectionId, UsersExportFilter exportFilter, Predicate<User> exportMatcher) {
+        Asserts.assertNotNull(connectionId, "connection id");
+        Map<String, Object> parameters = copyParameters(filter);
+        Map<String, Object> exportParameters = copyParameters(exportFilter);
+        UserSearchIterable.Builder builder = UserSearchIterable.newBuilder((page, perPage) -> {
+            UserFilter pageFilter = new UserFilter();
+            pageFilter.getAsMap().putAll(parameters);
+            pageFilter.withPage(page, perPage).withTotals(true);
+            return list(pageFilter);
+        }, () -> {
+            UsersExportFilter jsonFilter = new UsersExportFilter();
+            jsonFilter.getAsMap().putAll(exportParameters);
+            return jobs.exportUsers(connectionId, jsonFilter.withFormat("json"));
+        }, jobs.completionWaiter().build(), jobs::openUsersExport)
+                .withCodec(context.getCodec());
+        if (exportMatcher != null) {
+            builder.withExportMatcher(exportMatcher);
+        }
+        return builder.build();
+    }
+
     /**
      * Request a User.
      * A token with scope read:users is needed.
@@ -125,7 +229,7 @@ public class UsersEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<User> request = new CustomRequest<>(client, url, "GET", new TypeReference<User>() {
+        CustomRequest<User> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<User>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -147,7 +251,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/users")
                 .build()
                 .toString();
-        CustomRequest<User> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<User>() {
+        CustomRequest<User> request = new CustomRequest<>(this.client, url, "POST", context, new TypeReference<User>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(user);
@@ -171,7 +275,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegment(userId)
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
@@ -196,7 +300,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegment(userId)
                 .build()
                 .toString();
-        CustomRequest<User> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<User>() {
+        CustomRequest<User> request = new CustomRequest<>(this.client, url, "PATCH", context, new TypeReference<User>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.setBody(user);
@@ -222,7 +326,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<List<Enrollment>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Enrollment>>() {
+        CustomRequest<List<Enrollment>> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<List<Enrollment>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -251,7 +355,7 @@ public class UsersEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<LogEventsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<LogEventsPage>() {
+        CustomRequest<LogEventsPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<LogEventsPage>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -278,7 +382,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegment(provider)
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
+        VoidRequest request = new VoidRequest(client, url, "DELETE", context);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
     }
@@ -302,7 +406,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        EmptyBodyRequest<RecoveryCode> request = new EmptyBodyRequest<>(client, url, "POST", new TypeReference<RecoveryCode>() {
+        EmptyBodyRequest<RecoveryCode> request = new EmptyBodyRequest<>(client, url, "POST", context, new TypeReference<RecoveryCode>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -332,7 +436,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "POST", new TypeReference<List<Identity>>() {
+        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<List<Identity>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.addParameter("provider", provider);
@@ -364,7 +468,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "POST", new TypeReference<List<Identity>>() {
+        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "POST", context, new TypeReference<List<Identity>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         request.addParameter("link_with", secondaryIdToken);
@@ -397,7 +501,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .build()
                 .toString();
 
-        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "DELETE", new TypeReference<List<Identity>>() {
+        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "DELETE", context, new TypeReference<List<Identity>>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -425,7 +529,7 @@ public class UsersEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<PermissionsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<PermissionsPage>() {
+        CustomRequest<PermissionsPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<PermissionsPage>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -455,7 +559,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegments("permissions")
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "DELETE");
+        VoidRequest request = new VoidRequest(this.client, url, "DELETE", context);
         request.setBody(body);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -484,7 +588,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegments("permissions")
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "POST");
+        VoidRequest request = new VoidRequest(this.client, url, "POST", context);
         request.setBody(body);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -512,7 +616,7 @@ public class UsersEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<RolesPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<RolesPage>() {
+        CustomRequest<RolesPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<RolesPage>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -542,7 +646,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegments("roles")
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "DELETE");
+        VoidRequest request = new VoidRequest(this.client, url, "DELETE", context);
         request.setBody(body);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -571,7 +675,7 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegments("roles")
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "POST");
+        VoidRequest request = new VoidRequest(this.client, url, "POST", context);
         request.setBody(body);
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -602,7 +706,7 @@ public class UsersEntity extends BaseManagementEntity {
             }
         }
         String url = builder.build().toString();
-        CustomRequest<OrganizationsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<OrganizationsPage>() {
+        CustomRequest<OrganizationsPage> request = new CustomRequest<>(client, url, "GET", context, new TypeReference<OrganizationsPage>() {
         });
         request.addHeader("Authorization", "Bearer " + apiToken);
         return request;
@@ -12,12 +12,16 @@ public class LogEventFilter extends QueryFilter {
     /**
      * Filter by checkpoint
      *
-     * @param from the log event id to start retrieving logs from.
+     * @param from the log event id to start retrieving logs from. Can be null to leave it out.
      * @param take the limit of items to retrieve.
      * @return this filter instance
      */
     public LogEventFilter withCheckpoint(String from, int take) {
-        parameters.put("from", from);
+        if (from != null) {
+            parameters.put("from", from);
+        } else {
+            parameters.remove("from");
+        }
         parameters.put("take", take);
         return this;
     }
@@ -21,6 +21,32 @@ public class PageFilter extends BaseFilter {
         return this;
     }
 
+    /**
+     * Filter by checkpoint, to continue from where the previous page ended instead of by page number. Only supported
+     * by some endpoints, like the list of organizations, the members of an organization and the users of a role.
+     * The token to continue from is the {@code next} value of the previous page.
+     *
+     * @param from the token to start retrieving items from, as returned by the previous page.
+     * @return this filter instance
+     * @see com.auth0.json.mgmt.Page#getNext()
+     */
+    public PageFilter withFrom(String from) {
+        parameters.put("from", from);
+        return this;
+    }
+
+    /**
+     * Limit the amount of items retrieved when paginating by checkpoint.
+     *
+     * @param take the amount of items to retrieve.
+     * @return this filter instance
+     * @see #withFrom(String)
+     */
+    public PageFilter withTake(int take) {
+        parameters.put("take", take);
+        return this;
+    }
+
     /**
      * Include the query summary
      *
@@ -0,0 +1,437 @@
+package com.auth0.client.mgmt.jobs;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.jobs.Job;
+import com.auth0.json.mgmt.jobs.JobSummary;
+import com.auth0.json.mgmt.users.User;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Imports any amount of users with Users Imports jobs, which only accept files of limited size. The users are split
+ * into chunks that fit the size limit, each one is submitted as a job, up to a number of jobs running at the same time,
+ * and the jobs are waited for with a {@link JobCompletionWaiter} until they end. The summaries of every job are merged into one {@link UsersImportReport}.
+ * <p>
+ * Only the chunk being submitted is held in memory. The users are serialized as they're read, and every chunk is
+ * uploaded from memory and dropped once its job is submitted.
+ * <p>
+ * With {@link Builder#withJournal(Path)}, every submitted and ended job is appended to a journal file, so an import
+ * that was interrupted can be resumed by running it again with the same users, in the same order, and the same
+ * journal. The chunks whose jobs ended are skipped and their summaries taken from the journal, the jobs that were
+ * still running are polled again, and only the remaining chunks are submitted. Since the chunks are recognized by
+ * their position and checksum, resuming with different users fails instead of importing them twice or not at all.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * UsersImportReport report = mgmt.jobs().importUsersInChunks("con_123", null)
+ *     .withJournal(Paths.get("import.journal"))
+ *     .build()
+ *     .run(users);
+ * }
+ * </pre>
+ * <p>
+ * This class is immutable and thread-safe, but each run blocks the calling thread until every job ended.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ChunkedUsersImport {
+
+    /**
+     * The default size limit of each chunk, in bytes, which is the maximum size of a users file.
+     */
+    public static final int DEFAULT_MAX_CHUNK_BYTES = 500 * 1000;
+
+    /**
+     * The default amount of jobs running at the same time, which is the limit of concurrent import jobs of a tenant.
+     */
+    public static final int DEFAULT_CONCURRENCY = 2;
+
+    private static final String STATUS_FAILED = "failed";
+    private static final String JOURNAL_VERSION = "v1";
+    private static final String JOURNAL_SUBMITTED = "submitted";
+    private static final String JOURNAL_ENDED = "ended";
+
+    private final Function<byte[], ? extends Request<Job>> submitter;
+    private final JobCompletionWaiter waiter;
+    private final ObjectWriter writer;
+    private final int maxChunkBytes;
+    private final int concurrency;
+    private final Path journal;
+
+    private ChunkedUsersImport(Builder builder) {
+        this.submitter = builder.submitter;
+        this.waiter = builder.waiter;
+        this.writer = builder.codec.getMapper().writerFor(User.class);
+        this.maxChunkBytes = builder.maxChunkBytes;
+        this.concurrency = builder.concurrency;
+        this.journal = builder.journal;
+    }
+
+    /**
+     * Create a new Builder to configure an import of users in chunks.
+     *
+     * @param submitter the function that creates the request for a Users Imports job with the given users file
+     *                  content, which has an array with the users in JSON format. The request should send the content
+     *                  as is, so it can be retried when rate limited.
+     * @param waiter    the waiter that polls the submitted jobs until they end.
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder(Function<byte[], ? extends Request<Job>> submitter, JobCompletionWaiter waiter) {
+        Asserts.assertNotNull(submitter, "submitter");
+        Asserts.assertNotNull(waiter, "waiter");
+        return new Builder(submitter, waiter);
+    }
+
+    /**
+     * Imports the given users, and waits until every job ended.
+     *
+     * @param users the users to import. When resuming from a journal, they must be the same as in the interrupted
+     *              import, in the same order.
+     * @return the merged summaries of every job.
+     * @throws Auth0Exception if a request failed, the journal couldn't be used, or the wait was interrupted. The jobs
+     *                        submitted until then keep running, and can be resumed with the journal.
+     */
+    public UsersImportReport run(Iterator<User> users) throws Auth0Exception {
+        Asserts.assertNotNull(users, "users");
+        return new Execution(users).run();
+    }
+
+    private static long checksum(byte[] chunk) {
+        CRC32 crc = new CRC32();
+        crc.update(chunk, 0, chunk.length);
+        return crc.getValue();
+    }
+
+    private static String format(Integer count) {
+        return count == null ? "-" : count.toString();
+    }
+
+    private static Integer parseCount(String count) {
+        return "-".equals(count) ? null : Integer.valueOf(count);
+    }
+
+    /**
+     * A chunk recorded in the journal by a previous run.
+     */
+    private static final class Recorded {
+        private final long checksum;
+        private final String jobId;
+        private String[] ended;
+
+        Recorded(long checksum, String jobId) {
+            this.checksum = checksum;
+            this.jobId = jobId;
+        }
+    }
+
+    /**
+     * A chunk whose job is running.
+     */
+    private static final class Running {
+        private final int index;
+        private final String jobId;
+        private final CompletableFuture<Job> completion;
+
+        Running(int index, String jobId, CompletableFuture<Job> completion) {
+            this.index = index;
+            this.jobId = jobId;
+            this.completion = completion;
+        }
+    }
+
+    /**
+     * The state of a single run.
+     */
+    private final class Execution {
+
+        private final Iterator<User> users;
+        private final Map<Integer, Recorded> recorded = new HashMap<>();
+        private final List<Running> running = new ArrayList<>();
+        private final UsersImportReport report = new UsersImportReport();
+        private byte[] pendingUser;
+        private int nextIndex;
+
+        Execution(Iterator<User> users) {
+            this.users = users;
+        }
+
+        UsersImportReport run() throws Auth0Exception {
+            readJournal();
+            try {
+                while (true) {
+                    submitChunks();
+                    if (running.isEmpty()) {
+                        break;
+                    }
+                    awaitJobs();
+                }
+            } finally {
+                for (Running chunk : running) {
+                    chunk.completion.cancel(false);
+                }
+            }
+            if (!recorded.isEmpty()) {
+                throw new Auth0Exception("The journal has more chunks than the users to import. Resume with the same users as the interrupted import.");
+            }
+            return report;
+        }
+
+        private void submitChunks() throws Auth0Exception {
+            byte[] chunk;
+            while (running.size() < concurrency && (chunk = nextChunk()) != null) {
+                int index = nextIndex++;
+                long checksum = checksum(chunk);
+                Recorded previous = recorded.remove(index);
+                if (previous != null) {
+                    if (previous.checksum != checksum) {
+                        throw new Auth0Exception("The chunk " + index + " doesn't match the one in the journal. Resume with the same users as the interrupted import.");
+                    }
+                    if (previous.ended != null) {
+                        String[] ended = previous.ended;
+                        report.add(previous.jobId, STATUS_FAILED.equals(ended[0]),
+                                parseCount(ended[1]), parseCount(ended[2]), parseCount(ended[3]), parseCount(ended[4]));
+                    } else {
+                        running.add(new Running(index, previous.jobId, waiter.await(previous.jobId)));
+                    }
+                    continue;
+                }
+                Job job = submitter.apply(chunk).execute();
+                appendJournal(JOURNAL_SUBMITTED + ' ' + index + ' ' + checksum + ' ' + job.getId());
+                running.add(new Running(index, job.getId(), waiter.await(job)));
+            }
+        }
+
+        /**
+         * Waits until at least one of the running jobs ended, and records every job that did.
+         */
+        private void awaitJobs() throws Auth0Exception {
+            CompletableFuture<?>[] completions = new CompletableFuture<?>[running.size()];
+            for (int i = 0; i < completions.length; i++) {
+                completions[i] = running.get(i).completion;
+            }
+            try {
+                CompletableFuture.anyOf(completions).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new Auth0Exception("Interrupted while waiting for the users import jobs", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Auth0Exception) {
+                    throw (Auth0Exception) e.getCause();
+                }
+                throw new Auth0Exception("Failed to wait for the users import jobs", e.getCause());
+            }
+            Iterator<Running> iterator = running.iterator();
+            while (iterator.hasNext()) {
+                Running chunk = iterator.next();
+                if (!chunk.completion.isDone()) {
+                    continue;
+                }
+                Job job = chunk.completion.join();
+                JobSummary summary = job.getSummary();
+                Integer inserted = summary == null ? null : summary.getInserted();
+                Integer updated = summary == null ? null : summary.getUpdated();
+                Integer failed = summary == null ? null : summary.getFailed();
+                Integer total = summary == null ? null : summary.getTotal();
+                appendJournal(JOURNAL_ENDED + ' ' + chunk.index + ' ' + job.getStatus() + ' ' + format(inserted)
+                        + ' ' + format(updated) + ' ' + format(failed) + ' ' + format(total));
+                report.add(chunk.jobId, STATUS_FAILED.equals(job.getStatus()), inserted, updated, failed, total);
+                iterator.remove();
+            }
+        }
+
+        /**
+         * Serializes the next users into a JSON array that fits the size limit.
+         *
+         * @return the chunk, or null if there are no more users.
+         */
+        private byte[] nextChunk() throws Auth0Exception {
+            ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+            chunk.write('[');
+            int count = 0;
+            while (pendingUser != null || users.hasNext()) {
+                byte[] user = pendingUser != null ? pendingUser : serialize(users.next());
+                pendingUser = null;
+                if (user.length + 2 > maxChunkBytes) {
+                    throw new Auth0Exception("A user doesn't fit in a chunk of " + maxChunkBytes + " bytes");
+                }
+                if (chunk.size() + (count > 0 ? 1 : 0) + user.length + 1 > maxChunkBytes) {
+                    pendingUser = user;
+                    break;
+                }
+                if (count > 0) {
+                    chunk.write(',');
+                }
+                chunk.write(user, 0, user.length);
+                count++;
+            }
+            if (count == 0) {
+                return null;
+            }
+            chunk.write(']');
+            return chunk.toByteArray();
+        }
+
+        private byte[] serialize(User user) throws Auth0Exception {
+            try {
+                return writer.writeValueAsBytes(user);
+            } catch (JsonProcessingException e) {
+                throw new Auth0Exception("Failed to serialize the user to import", e);
+            }
+        }
+
+        private void readJournal() throws Auth0Exception {
+            if (journal == null) {
+                return;
+            }
+            List<String> lines;
+            try {
+                if (!Files.exists(journal)) {
+                    appendJournal(JOURNAL_VERSION + ' ' + maxChunkBytes);
+                    return;
+                }
+                lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new Auth0Exception("Failed to read the users import journal", e);
+            }
+            if (lines.isEmpty() || !lines.get(0).equals(JOURNAL_VERSION + ' ' + maxChunkBytes)) {
+                throw new Auth0Exception("The users import journal was not written by an import with a chunk size of " + maxChunkBytes + " bytes");
+            }
+            for (int i = 1; i < lines.size(); i++) {
+                String[] entry = lines.get(i).split(" ");
+                try {
+                    if (JOURNAL_SUBMITTED.equals(entry[0]) && entry.length == 4) {
+                        recorded.put(Integer.valueOf(entry[1]), new Recorded(Long.parseLong(entry[2]), entry[3]));
+                        continue;
+                    }
+                    Recorded chunk = entry.length == 7 && JOURNAL_ENDED.equals(entry[0]) ? recorded.get(Integer.valueOf(entry[1])) : null;
+                    if (chunk != null) {
+                        for (int count = 3; count < entry.length; count++) {
+                            parseCount(entry[count]);
+                        }
+                        String[] ended = new String[5];
+                        System.arraycopy(entry, 2, ended, 0, ended.length);
+                        chunk.ended = ended;
+                        continue;
+                    }
+                } catch (NumberFormatException ignored) {
+                }
+                // The last line may have been cut short when the previous run was interrupted
+                if (i < lines.size() - 1) {
+                    throw new Auth0Exception("The users import journal is malformed at line " + (i + 1));
+                }
+            }
+        }
+
+        private void appendJournal(String line) throws Auth0Exception {
+            if (journal == null) {
+                return;
+            }
+            try {
+                Files.write(journal, (line + '\n').getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new Auth0Exception("Failed to write the users import journal", e);
+            }
+        }
+    }
+
+    /**
+     * Builder class to configure an import of users in chunks.
+     */
+    public static final class Builder {
+
+        private final Function<byte[], ? extends Request<Job>> submitter;
+        private final JobCompletionWaiter waiter;
+        private JsonCodec codec = JsonCodec.getDefault();
+        private int maxChunkBytes = DEFAULT_MAX_CHUNK_BYTES;
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private Path journal;
+
+        private Builder(Function<byte[], ? extends Request<Job>> submitter, JobCompletionWaiter waiter) {
+            this.submitter = submitter;
+            this.waiter = waiter;
+        }
+
+        /**
+         * Sets the codec that serializes the users. If not set, the default codec will be used.
+         *
+         * @param codec the codec to use. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withCodec(JsonCodec codec) {
+            Asserts.assertNotNull(codec, "codec");
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * Sets the size limit of each chunk. If not set, a default of {@value #DEFAULT_MAX_CHUNK_BYTES} bytes will be
+         * used.
+         *
+         * @param maxChunkBytes the maximum size of a users file, in bytes. Must be greater than zero.
+         * @return this builder instance.
+         */
+        public Builder withMaxChunkBytes(int maxChunkBytes) {
+            if (maxChunkBytes < 1) {
+                throw new IllegalArgumentException("'maxChunkBytes' must be greater than zero!");
+            }
+            this.maxChunkBytes = maxChunkBytes;
+            return this;
+        }
+
+        /**
+         * Sets the amount of jobs that can be running at the same time. If not set, a default of
+         * {@value #DEFAULT_CONCURRENCY} jobs will be used.
+         *
+         * @param concurrency the maximum amount of running jobs. Must be greater than zero.
+         * @return this builder instance.
+         */
+        public Builder withConcurrency(int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("'concurrency' must be greater than zero!");
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Sets the journal file the jobs are recorded in, to resume the import if it's interrupted. It's created if
+         * it doesn't exist. If not set, the import can't be resumed.
+         *
+         * @param journal the path of the journal file. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withJournal(Path journal) {
+            Asserts.assertNotNull(journal, "journal");
+            this.journal = journal;
+            return this;
+        }
+
+        /**
+         * Builds a {@link ChunkedUsersImport} with the provided attributes.
+         *
+         * @return a new instance.
+         */
+        public ChunkedUsersImport build() {
+            return new ChunkedUsersImport(this);
+        }
+    }
+}
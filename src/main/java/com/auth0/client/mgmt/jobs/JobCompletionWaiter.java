@@ -0,0 +1,261 @@
+package com.auth0.client.mgmt.jobs;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
+import com.auth0.json.mgmt.jobs.Job;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Waits for jobs to end without blocking any thread. Each job is polled with asynchronous requests, and the wait
+ * between polls is scheduled on a shared timer, so a single timer thread can drive the waits of any amount of jobs.
+ * <p>
+ * The wait between polls adapts to the progress reported by the job. It's half the time the job reports it has left
+ * or, without it, half the time left estimated from how fast its percentage advanced since the last poll. When the job
+ * reports no progress, the wait doubles after each poll. It's always kept between the minimum and maximum interval.
+ * Rate limited polls are retried once the rate limit resets, and the wait is doubled from then on.
+ * <p>
+ * The futures complete with the job once its status is completed or failed, or exceptionally with the
+ * {@linkplain Auth0Exception} of a failed poll. Cancelling a future stops polling its job.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class JobCompletionWaiter {
+
+    private static final String STATUS_COMPLETED = "completed";
+    private static final String STATUS_FAILED = "failed";
+
+    private final Function<String, ? extends Request<Job>> jobs;
+    private final ScheduledExecutorService scheduler;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private JobCompletionWaiter(Builder builder) {
+        this.jobs = builder.jobs;
+        this.scheduler = builder.scheduler;
+        this.minIntervalMillis = builder.minIntervalMillis;
+        this.maxIntervalMillis = Math.max(builder.minIntervalMillis, builder.maxIntervalMillis);
+    }
+
+    /**
+     * Create a new Builder to configure the waits for jobs.
+     *
+     * @param jobs      the function that creates the request for a job with the given ID.
+     * @param scheduler the timer the polls are scheduled on. Its tasks never block.
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder(Function<String, ? extends Request<Job>> jobs, ScheduledExecutorService scheduler) {
+        Asserts.assertNotNull(jobs, "jobs");
+        Asserts.assertNotNull(scheduler, "scheduler");
+        return new Builder(jobs, scheduler);
+    }
+
+    /**
+     * Waits for the job with the given ID to end. It's first polled after the minimum interval.
+     *
+     * @param jobId the ID of the job.
+     * @return a future that completes with the job once it ended.
+     */
+    public CompletableFuture<Job> await(String jobId) {
+        Asserts.assertNotNull(jobId, "job id");
+        return new Wait(jobId).start(null);
+    }
+
+    /**
+     * Waits for the given job to end, like one just submitted. It completes right away if the job already ended,
+     * otherwise it's first polled after the wait its progress suggests.
+     *
+     * @param job the job.
+     * @return a future that completes with the job once it ended.
+     */
+    public CompletableFuture<Job> await(Job job) {
+        Asserts.assertNotNull(job, "job");
+        Asserts.assertNotNull(job.getId(), "job id");
+        return new Wait(job.getId()).start(job);
+    }
+
+    /**
+     * Getter for the amount of jobs being waited for.
+     *
+     * @return the amount of futures that didn't complete yet.
+     */
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+
+    private static boolean hasEnded(Job job) {
+        return STATUS_COMPLETED.equals(job.getStatus()) || STATUS_FAILED.equals(job.getStatus());
+    }
+
+    /**
+     * The wait for a single job.
+     */
+    private final class Wait {
+
+        private final String jobId;
+        private final CompletableFuture<Job> future = new CompletableFuture<>();
+        private final AtomicBoolean counted = new AtomicBoolean(true);
+        private long intervalMillis = minIntervalMillis;
+        private Integer lastPercentage;
+        private long lastPolledAt;
+
+        Wait(String jobId) {
+            this.jobId = jobId;
+        }
+
+        CompletableFuture<Job> start(Job job) {
+            waiting.incrementAndGet();
+            // Also stops counting the wait if the future is cancelled
+            future.whenComplete((result, e) -> uncount());
+            if (job != null && hasEnded(job)) {
+                complete(job);
+            } else {
+                schedule(job == null ? minIntervalMillis : nextInterval(job, System.nanoTime()));
+            }
+            return future;
+        }
+
+        private void schedule(long delayMillis) {
+            try {
+                scheduler.schedule(this::poll, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                fail(new Auth0Exception("The client was closed while waiting for the job " + jobId, e));
+            }
+        }
+
+        private void poll() {
+            if (future.isDone()) {
+                return;
+            }
+            CompletableFuture<Job> request;
+            try {
+                request = jobs.apply(jobId).executeAsync();
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            request.whenComplete((job, e) -> {
+                long now = System.nanoTime();
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RateLimitException) {
+                    intervalMillis = clamp(intervalMillis * 2);
+                    schedule(Math.max(intervalMillis, ((RateLimitException) cause).getMillisUntilReset()));
+                } else if (cause != null) {
+                    fail(cause);
+                } else if (hasEnded(job)) {
+                    complete(job);
+                } else {
+                    schedule(nextInterval(job, now));
+                }
+            });
+        }
+
+        private void complete(Job job) {
+            uncount();
+            future.complete(job);
+        }
+
+        private void fail(Throwable e) {
+            uncount();
+            future.completeExceptionally(e);
+        }
+
+        /**
+         * Stops counting the wait before its future completes, so the count is up to date for the callers.
+         */
+        private void uncount() {
+            if (counted.compareAndSet(true, false)) {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private long nextInterval(Job job, long now) {
+            Integer timeLeft = job.getTimeLeftSeconds();
+            Integer percentage = job.getPercentageDone();
+            long estimate = -1;
+            if (timeLeft != null && timeLeft > 0) {
+                estimate = TimeUnit.SECONDS.toMillis(timeLeft) / 2;
+            } else if (percentage != null && lastPercentage != null && percentage > lastPercentage && percentage < 100) {
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - lastPolledAt);
+                estimate = elapsedMillis * (100 - percentage) / (percentage - lastPercentage) / 2;
+            }
+            lastPercentage = percentage;
+            lastPolledAt = now;
+            intervalMillis = estimate >= 0 ? clamp(estimate) : clamp(intervalMillis * 2);
+            return intervalMillis;
+        }
+
+        private long clamp(long millis) {
+            return Math.min(Math.max(millis, minIntervalMillis), maxIntervalMillis);
+        }
+    }
+
+    /**
+     * Builder class to configure the waits for jobs.
+     */
+    public static final class Builder {
+
+        private final Function<String, ? extends Request<Job>> jobs;
+        private final ScheduledExecutorService scheduler;
+        private long minIntervalMillis = 1000;
+        private long maxIntervalMillis = 60000;
+
+        private Builder(Function<String, ? extends Request<Job>> jobs, ScheduledExecutorService scheduler) {
+            this.jobs = jobs;
+            this.scheduler = scheduler;
+        }
+
+        /**
+         * Sets the shortest wait between polls of a job. If not set, a default of 1 second will be used.
+         *
+         * @param interval the shortest time to wait. Must be greater than zero.
+         * @param unit     the unit of the interval.
+         * @return this builder instance.
+         */
+        public Builder withMinInterval(long interval, TimeUnit unit) {
+            this.minIntervalMillis = toMillis(interval, unit);
+            return this;
+        }
+
+        /**
+         * Sets the longest wait between polls of a job. If not set, a default of 60 seconds will be used. If it's
+         * shorter than the minimum interval, the minimum interval is used.
+         *
+         * @param interval the longest time to wait. Must be greater than zero.
+         * @param unit     the unit of the interval.
+         * @return this builder instance.
+         */
+        public Builder withMaxInterval(long interval, TimeUnit unit) {
+            this.maxIntervalMillis = toMillis(interval, unit);
+            return this;
+        }
+
+        /**
+         * Builds a {@link JobCompletionWaiter} with the provided attributes.
+         *
+         * @return a new instance.
+         */
+        public JobCompletionWaiter build() {
+            return new JobCompletionWaiter(this);
+        }
+
+        private static long toMillis(long interval, TimeUnit unit) {
+            Asserts.assertNotNull(unit, "unit");
+            if (interval <= 0) {
+                throw new IllegalArgumentException("'interval' must be greater than zero!");
+            }
+            return Math.max(1, unit.toMillis(interval));
+        }
+    }
+}
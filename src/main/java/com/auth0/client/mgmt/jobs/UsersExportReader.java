@@ -0,0 +1,511 @@
+package com.auth0.client.mgmt.jobs;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.jobs.UsersExportField;
+import com.auth0.json.mgmt.users.User;
+import com.auth0.net.JsonCodec;
+import com.auth0.utils.Asserts;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the users of the file exported by a Users Exports job as it's downloaded, one record at a time, so memory use
+ * doesn't grow with the size of the export. The file is decompressed on the fly if it's compressed with GZIP, and read
+ * in the format it was exported in: one JSON object per line, or CSV with a header row. Each record is parsed into a
+ * {@link User}, or into a projection that maps the exported name of each field to its value.
+ * <p>
+ * Records can be decoded in parallel with {@link Builder#withParallelDecode(int, Executor)}. The file is still read
+ * sequentially, and the records are returned in order, but batches of records are decoded on the executor ahead of
+ * the one being consumed, up to the given parallelism.
+ * <p>
+ * Failures reading or decoding the file are thrown as an {@linkplain UncheckedIOException} caused by an
+ * {@linkplain Auth0Exception}. The reader must be closed to release the download, unless it's read to its end.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * try (UsersExportReader<User> users = mgmt.jobs().downloadUsersExport(job).build()) {
+ *     users.forEachRemaining(user -> ...);
+ * }
+ * }
+ * </pre>
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the records.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class UsersExportReader<T> implements Iterator<T>, Closeable {
+
+    /**
+     * The format of an export with one JSON object per line.
+     */
+    public static final String FORMAT_JSON = "json";
+
+    /**
+     * The format of an export in CSV, with a header row.
+     */
+    public static final String FORMAT_CSV = "csv";
+
+    private static final int BATCH_SIZE = 256;
+    private static final TypeReference<User> USER_TYPE = new TypeReference<User>() {
+    };
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    private final BufferedReader reader;
+    private final RecordSource source;
+    private final RecordDecoder<T> decoder;
+    private final int parallelism;
+    private final Executor executor;
+    private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean exhausted;
+    private boolean closed;
+
+    private UsersExportReader(Builder builder, RecordDecoder<T> decoder) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(decompress(builder.content), StandardCharsets.UTF_8));
+        this.source = FORMAT_CSV.equals(builder.format) ? new CsvSource() : new JsonLineSource();
+        this.decoder = decoder;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Create a new Builder to configure the reading of an exported file.
+     *
+     * @param content the content of the file, compressed or not. The reader closes it.
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder(InputStream content) {
+        Asserts.assertNotNull(content, "content");
+        return new Builder(content);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed) {
+                return false;
+            }
+            if (executor == null) {
+                T record = readNext();
+                if (record == null) {
+                    close();
+                    return false;
+                }
+                current = Collections.singletonList(record).iterator();
+                continue;
+            }
+            fill();
+            CompletableFuture<List<T>> batch = pending.poll();
+            if (batch == null) {
+                close();
+                return false;
+            }
+            current = join(batch).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Creates a sequential stream of the remaining records. Closing the stream closes this reader.
+     *
+     * @return a new stream.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Closes the file and cancels the batches being decoded.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (CompletableFuture<List<T>> batch : pending) {
+            batch.cancel(false);
+        }
+        pending.clear();
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private T readNext() {
+        try {
+            Object record = source.read(reader);
+            return record == null ? null : decoder.decode(record);
+        } catch (IOException e) {
+            close();
+            throw readFailed(e);
+        }
+    }
+
+    /**
+     * Reads the next batches and hands them to the executor to decode, until the parallelism is reached.
+     */
+    private void fill() {
+        while (!exhausted && pending.size() < parallelism) {
+            List<Object> records = new ArrayList<>(BATCH_SIZE);
+            try {
+                Object record;
+                while (records.size() < BATCH_SIZE && (record = source.read(reader)) != null) {
+                    records.add(record);
+                }
+            } catch (IOException e) {
+                close();
+                throw readFailed(e);
+            }
+            if (records.size() < BATCH_SIZE) {
+                exhausted = true;
+            }
+            if (records.isEmpty()) {
+                return;
+            }
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                List<T> decoded = new ArrayList<>(records.size());
+                for (Object record : records) {
+                    try {
+                        decoded.add(decoder.decode(record));
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }
+                return decoded;
+            }, executor));
+        }
+    }
+
+    private List<T> join(CompletableFuture<List<T>> batch) {
+        try {
+            return batch.join();
+        } catch (CompletionException e) {
+            close();
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof IOException) {
+                throw readFailed((IOException) cause);
+            }
+            throw e;
+        }
+    }
+
+    private static UncheckedIOException readFailed(IOException e) {
+        return new UncheckedIOException(new Auth0Exception("Failed to read the users export", e));
+    }
+
+    /**
+     * Reads the content as is, or decompressed if it starts with the GZIP magic number.
+     */
+    private static InputStream decompress(InputStream content) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(content);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        if (first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8)) {
+            return new GZIPInputStream(buffered);
+        }
+        return buffered;
+    }
+
+    private static Map<String, Object> project(Map<String, Object> record, Set<String> fields) {
+        if (fields == null) {
+            return record;
+        }
+        Map<String, Object> projection = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (record.containsKey(field)) {
+                projection.put(field, record.get(field));
+            }
+        }
+        return projection;
+    }
+
+    /**
+     * Reads the raw records of the file, one after the other.
+     */
+    private interface RecordSource {
+
+        /**
+         * @return the next record, or null if there are no more.
+         */
+        Object read(BufferedReader reader) throws IOException;
+    }
+
+    /**
+     * Turns a raw record into the type returned by the reader. Must be safe to call from several threads.
+     */
+    private interface RecordDecoder<T> {
+
+        T decode(Object record) throws IOException;
+    }
+
+    /**
+     * Reads one JSON object per line, skipping blank lines, as the line itself.
+     */
+    private static final class JsonLineSource implements RecordSource {
+
+        @Override
+        public Object read(BufferedReader reader) throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    return line;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Reads CSV rows, as the map of the header names to the values of each row. Empty values are left out.
+     */
+    private static final class CsvSource implements RecordSource {
+
+        private List<String> header;
+
+        @Override
+        public Object read(BufferedReader reader) throws IOException {
+            if (header == null) {
+                header = readRow(reader);
+                if (header == null) {
+                    return null;
+                }
+            }
+            List<String> row;
+            do {
+                row = readRow(reader);
+            } while (row != null && row.size() == 1 && row.get(0).isEmpty());
+            if (row == null) {
+                return null;
+            }
+            Map<String, Object> record = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < row.size(); i++) {
+                if (!row.get(i).isEmpty()) {
+                    record.put(header.get(i), row.get(i));
+                }
+            }
+            return record;
+        }
+
+        /**
+         * Reads the values of a row, which may span several lines when a quoted value has line breaks.
+         *
+         * @return the values, or null at the end of the file.
+         */
+        private static List<String> readRow(BufferedReader reader) throws IOException {
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            boolean read = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                if (quoted) {
+                    if (c != '"') {
+                        value.append((char) c);
+                        continue;
+                    }
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        value.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    value.append((char) c);
+                }
+            }
+            if (!read) {
+                return null;
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+
+    /**
+     * Builder class to configure the reading of an exported file.
+     */
+    public static final class Builder {
+
+        private final InputStream content;
+        private JsonCodec codec = JsonCodec.getDefault();
+        private String format = FORMAT_JSON;
+        private Set<String> fields;
+        private int parallelism = 1;
+        private Executor executor;
+
+        private Builder(InputStream content) {
+            this.content = content;
+        }
+
+        /**
+         * Sets the codec that parses the records. If not set, the default codec will be used.
+         *
+         * @param codec the codec to use. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withCodec(JsonCodec codec) {
+            Asserts.assertNotNull(codec, "codec");
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * Sets the format the file was exported in. If not set, the file is read as JSON.
+         *
+         * @param format {@value #FORMAT_JSON} or {@value #FORMAT_CSV}, like the format of the export job. Null is
+         *               read as JSON.
+         * @return this builder instance.
+         */
+        public Builder withFormat(String format) {
+            if (format != null && !FORMAT_JSON.equals(format) && !FORMAT_CSV.equals(format)) {
+                throw new IllegalArgumentException("'format' must be either 'json' or 'csv'!");
+            }
+            this.format = format == null ? FORMAT_JSON : format;
+            return this;
+        }
+
+        /**
+         * Limits each record to the given fields, under their exported names. If not set, every exported field is
+         * read.
+         *
+         * @param fields the fields to read, like the ones the export job was requested with. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withFields(List<UsersExportField> fields) {
+            Asserts.assertNotNull(fields, "fields");
+            Set<String> names = new LinkedHashSet<>();
+            for (UsersExportField field : fields) {
+                names.add(field.getExportAs() != null ? field.getExportAs() : field.getName());
+            }
+            this.fields = names;
+            return this;
+        }
+
+        /**
+         * Decodes the records in batches on the given executor, ahead of the one being consumed.
+         *
+         * @param parallelism the maximum amount of batches decoded at the same time. Must be greater than zero.
+         * @param executor    the executor to decode the records on. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withParallelDecode(int parallelism, Executor executor) {
+            Asserts.assertNotNull(executor, "executor");
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("'parallelism' must be greater than zero!");
+            }
+            this.parallelism = parallelism;
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds a reader that parses each record into a {@link User}.
+         *
+         * @return a new reader.
+         * @throws Auth0Exception if the file couldn't be read.
+         */
+        public UsersExportReader<User> build() throws Auth0Exception {
+            Set<String> fields = this.fields;
+            boolean json = FORMAT_JSON.equals(format);
+            ObjectReader userReader = codec.readerFor(USER_TYPE);
+            ObjectReader mapReader = codec.readerFor(MAP_TYPE);
+            ObjectMapper mapper = codec.getMapper();
+            return create(record -> {
+                if (json && fields == null) {
+                    return userReader.readValue((String) record);
+                }
+                try {
+                    return mapper.convertValue(project(toMap(record, mapReader), fields), User.class);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Failed to decode the user", e);
+                }
+            });
+        }
+
+        /**
+         * Builds a reader that parses each record into a map of the exported name of each field to its value.
+         *
+         * @return a new reader.
+         * @throws Auth0Exception if the file couldn't be read.
+         */
+        public UsersExportReader<Map<String, Object>> buildProjection() throws Auth0Exception {
+            Set<String> fields = this.fields;
+            ObjectReader mapReader = codec.readerFor(MAP_TYPE);
+            return create(record -> project(toMap(record, mapReader), fields));
+        }
+
+        private <T> UsersExportReader<T> create(RecordDecoder<T> decoder) throws Auth0Exception {
+            try {
+                return new UsersExportReader<>(this, decoder);
+            } catch (IOException e) {
+                try {
+                    content.close();
+                } catch (IOException ignored) {
+                }
+                throw new Auth0Exception("Failed to read the users export", e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Object> toMap(Object record, ObjectReader mapReader) throws IOException {
+            if (record instanceof String) {
+                return mapReader.readValue((String) record);
+            }
+            return (Map<String, Object>) record;
+        }
+    }
+}
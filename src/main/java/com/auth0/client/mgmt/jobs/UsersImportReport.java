@@ -0,0 +1,91 @@
+package com.auth0.client.mgmt.jobs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The merged outcome of the Users Imports jobs of a {@link ChunkedUsersImport}: the sum of the
+ * {@linkplain com.auth0.json.mgmt.jobs.JobSummary summaries} of every job, and the IDs of the jobs that were run.
+ * <p>
+ * This class is not thread-safe.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class UsersImportReport {
+
+    private long inserted;
+    private long updated;
+    private long failed;
+    private long total;
+    private final List<String> jobIds = new ArrayList<>();
+    private final List<String> failedJobIds = new ArrayList<>();
+
+    UsersImportReport() {
+    }
+
+    /**
+     * Getter for the amount of users inserted by every job.
+     *
+     * @return the amount of inserted users.
+     */
+    public long getInserted() {
+        return inserted;
+    }
+
+    /**
+     * Getter for the amount of users updated by every job.
+     *
+     * @return the amount of updated users.
+     */
+    public long getUpdated() {
+        return updated;
+    }
+
+    /**
+     * Getter for the amount of users that every job failed to import.
+     *
+     * @return the amount of failed users.
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Getter for the amount of users processed by every job.
+     *
+     * @return the total amount of users.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Getter for the IDs of the jobs that were run, in the order they ended.
+     *
+     * @return the IDs of the jobs.
+     */
+    public List<String> getJobIds() {
+        return Collections.unmodifiableList(jobIds);
+    }
+
+    /**
+     * Getter for the IDs of the jobs that ended with the failed status, whose users may not have been imported. Their
+     * errors can be requested with the job ID.
+     *
+     * @return the IDs of the failed jobs.
+     */
+    public List<String> getFailedJobIds() {
+        return Collections.unmodifiableList(failedJobIds);
+    }
+
+    void add(String jobId, boolean jobFailed, Integer inserted, Integer updated, Integer failed, Integer total) {
+        jobIds.add(jobId);
+        if (jobFailed) {
+            failedJobIds.add(jobId);
+        }
+        this.inserted += inserted == null ? 0 : inserted;
+        this.updated += updated == null ? 0 : updated;
+        this.failed += failed == null ? 0 : failed;
+        this.total += total == null ? 0 : total;
+    }
+}
@@ -0,0 +1,54 @@
+package com.auth0.client.mgmt.logevents;
+
+import com.auth0.utils.Asserts;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Keeps the checkpoint of a {@link LogEventTailer} in a file. The file is replaced atomically on each save, where the
+ * file system supports it, so it always holds a whole log event ID even if the process stops while saving.
+ * <p>
+ * This class is thread-safe.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class FileLogCheckpointStore implements LogCheckpointStore {
+
+    private final Path file;
+
+    /**
+     * Creates a store that keeps the checkpoint in the given file. The file and its temporary copy are created when
+     * the first checkpoint is saved.
+     *
+     * @param file the path of the file.
+     */
+    public FileLogCheckpointStore(Path file) {
+        Asserts.assertNotNull(file, "file");
+        this.file = file;
+    }
+
+    @Override
+    public String load() throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String logEventId = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+        return logEventId.isEmpty() ? null : logEventId;
+    }
+
+    @Override
+    public synchronized void save(String logEventId) throws IOException {
+        Asserts.assertNotNull(logEventId, "log event id");
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, logEventId.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
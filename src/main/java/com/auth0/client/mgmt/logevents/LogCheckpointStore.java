@@ -0,0 +1,28 @@
+package com.auth0.client.mgmt.logevents;
+
+import java.io.IOException;
+
+/**
+ * Keeps the ID of the last log event handled by a {@link LogEventTailer}, so that it resumes after it when it's
+ * started again.
+ *
+ * @see FileLogCheckpointStore
+ */
+public interface LogCheckpointStore {
+
+    /**
+     * Reads the last saved checkpoint.
+     *
+     * @return the ID of the last handled log event, or null if none was saved.
+     * @throws IOException if the checkpoint couldn't be read.
+     */
+    String load() throws IOException;
+
+    /**
+     * Saves the checkpoint, replacing the previous one.
+     *
+     * @param logEventId the ID of the last handled log event.
+     * @throws IOException if the checkpoint couldn't be saved.
+     */
+    void save(String logEventId) throws IOException;
+}
@@ -0,0 +1,496 @@
+package com.auth0.client.mgmt.logevents;
+
+import com.auth0.client.mgmt.filter.LogEventFilter;
+import com.auth0.client.mgmt.filter.QueryFilter;
+import com.auth0.client.mgmt.pagination.RequestDispatcher;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.logevents.LogEvent;
+import com.auth0.json.mgmt.logevents.LogEventsPage;
+import com.auth0.net.RateLimitThrottle;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reads the log events of a range of dates, for instance to load weeks of history into another system, much faster
+ * than following them one checkpoint page at a time. The range is split into partitions by the {@code date} of the
+ * log events, which are searched concurrently, and each partition that matches more log events than the
+ * {@value #SEARCH_WINDOW} the search engine gives access to is split again until every partition fits.
+ * <p>
+ * The log events are handed to a consumer in batches, either in order of date, once every partition before them was
+ * read, or as soon as each page arrives. Log events that are returned twice, by consecutive pages of a partition or by
+ * partitions next to each other around the date they share, are only handed once. The consumer is called on the
+ * threads the responses complete on, one batch at a time.
+ * <p>
+ * The amount of requests in flight is capped by the parallelism and, when the client paces its requests with a
+ * {@link RateLimitThrottle}, by the requests the rate limit allows to send right away. If any request or the consumer
+ * fails, the requests in flight are cancelled and no more batches are handed.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * long count = mgmt.logEvents().backfill(from, to, events -> warehouse.insert(events))
+ *     .withOrder(LogEventBackfill.Order.ARRIVAL)
+ *     .build()
+ *     .run();
+ * }
+ * </pre>
+ * <p>
+ * This class is immutable and thread-safe, and each run reads the range again.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class LogEventBackfill {
+
+    /**
+     * The maximum amount of results the search engine gives access to through pagination.
+     */
+    public static final int SEARCH_WINDOW = 1000;
+
+    /**
+     * The maximum amount of log events per page.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * How close to the bounds of a partition a log event must be dated to be checked against the log events of the
+     * partitions next to it.
+     */
+    private static final long EDGE_MILLIS = 1000;
+
+    private static final String KEY_SORT = "sort";
+    private static final String KEY_FIELDS = "fields";
+    private static final String KEY_INCLUDE_FIELDS = "include_fields";
+    private static final String DATE_SORT = "date:1";
+    private static final Comparator<LogEvent> BY_DATE = Comparator.comparing(LogEvent::getDate, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * The order the log events are handed to the consumer in.
+     */
+    public enum Order {
+        /**
+         * In order of date. A partition is handed once it and every partition before it were read, so the log events
+         * of partitions read ahead are kept in memory until then.
+         */
+        CHRONOLOGICAL,
+        /**
+         * As soon as each page arrives, which keeps no log events in memory.
+         */
+        ARRIVAL
+    }
+
+    private final Function<LogEventFilter, ? extends Request<LogEventsPage>> logs;
+    private final long from;
+    private final long to;
+    private final Consumer<List<LogEvent>> consumer;
+    private final Map<String, Object> parameters;
+    private final String query;
+    private final RateLimitThrottle throttle;
+    private final Order order;
+    private final int partitions;
+    private final int parallelism;
+    private final int pageSize;
+
+    private LogEventBackfill(Builder builder) {
+        this.logs = builder.logs;
+        this.from = builder.from;
+        this.to = builder.to;
+        this.consumer = builder.consumer;
+        this.parameters = builder.parameters;
+        this.query = builder.query;
+        this.throttle = builder.throttle;
+        this.order = builder.order;
+        this.partitions = builder.partitions;
+        this.parallelism = builder.parallelism;
+        this.pageSize = builder.pageSize;
+    }
+
+    /**
+     * Create a new Builder to configure a backfill.
+     *
+     * @param logs     the function that creates the request for a page of log events with the given filter.
+     * @param from     the date the log events must have been created at or after.
+     * @param to       the date the log events must have been created before. Must be after {@code from}.
+     * @param consumer the consumer of each batch of log events. Exceptions it throws stop the backfill.
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder(Function<LogEventFilter, ? extends Request<LogEventsPage>> logs, Date from, Date to, Consumer<List<LogEvent>> consumer) {
+        Asserts.assertNotNull(logs, "logs");
+        Asserts.assertNotNull(from, "from");
+        Asserts.assertNotNull(to, "to");
+        Asserts.assertNotNull(consumer, "consumer");
+        if (!from.before(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'!");
+        }
+        return new Builder(logs, from.getTime(), to.getTime(), consumer);
+    }
+
+    /**
+     * Reads the range, blocking until every log event was handed to the consumer.
+     *
+     * @return the amount of log events handed to the consumer.
+     * @throws Auth0Exception if any request failed, a partition couldn't be split to fit the window, or the thread was
+     *                        interrupted.
+     */
+    public long run() throws Auth0Exception {
+        try {
+            return runAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Auth0Exception("Interrupted while reading the log events", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Auth0Exception) {
+                throw (Auth0Exception) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new Auth0Exception("Failed to read the log events", cause);
+        }
+    }
+
+    /**
+     * Reads the range asynchronously. Cancelling the returned future cancels the requests in flight.
+     *
+     * @return a future completed with the amount of log events handed to the consumer, once every one was.
+     */
+    public CompletableFuture<Long> runAsync() {
+        Execution execution = new Execution();
+        CompletableFuture<Void> handed = CompletableFuture.completedFuture(null);
+        for (Partition partition : new Partition(from, to).split(partitions)) {
+            CompletableFuture<List<LogEvent>> search = execution.search(partition);
+            // In arrival order the searches hand their pages themselves, and return nothing to hand here
+            handed = handed.thenCombine(search, (v, events) -> {
+                execution.hand(events);
+                return null;
+            });
+        }
+        handed.whenComplete((v, e) -> {
+            if (e != null) {
+                execution.fail(e);
+            } else {
+                execution.complete();
+            }
+        });
+        return execution.result;
+    }
+
+    private LogEventFilter pageFilter(Partition partition, int page) {
+        LogEventFilter filter = new LogEventFilter();
+        filter.getAsMap().putAll(parameters);
+        String range = partition.toQuery();
+        filter.withQuery(query == null ? range : "(" + query + ") AND " + range);
+        filter.getAsMap().put(KEY_SORT, DATE_SORT);
+        return filter.withPage(page, pageSize).withTotals(true);
+    }
+
+    private static String urlDecode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException ex) {
+            //"Every implementation of the Java platform is required to support the following standard charsets [...]: UTF-8"
+            throw new IllegalStateException("UTF-8 encoding not supported by current Java platform implementation.", ex);
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    /**
+     * The log events created in a range of dates. The lower bound is inclusive and the upper bound exclusive.
+     */
+    private static final class Partition {
+
+        private final long from;
+        private final long to;
+
+        Partition(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        long width() {
+            return to - from;
+        }
+
+        /**
+         * Splits this partition into consecutive partitions of about the same width, as many as its width allows.
+         *
+         * @return the partitions in order.
+         */
+        List<Partition> split(int parts) {
+            long width = width();
+            int count = (int) Math.max(1, Math.min(parts, width));
+            List<Partition> partitions = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                partitions.add(new Partition(from + width * i / count, from + width * (i + 1) / count));
+            }
+            return partitions;
+        }
+
+        boolean isNearEdge(LogEvent event) {
+            Date date = event.getDate();
+            return date == null || date.getTime() - from < EDGE_MILLIS || to - date.getTime() <= EDGE_MILLIS;
+        }
+
+        String toQuery() {
+            return "date:[" + quote(Instant.ofEpochMilli(from).toString())
+                    + " TO " + quote(Instant.ofEpochMilli(to).toString()) + "}";
+        }
+    }
+
+    /**
+     * A single run of the backfill. The calls to the consumer are guarded by the lock of the result.
+     */
+    private final class Execution {
+
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+        private final RequestDispatcher dispatcher = new RequestDispatcher(result, parallelism, throttle, null);
+        private final Set<String> edgeIds = ConcurrentHashMap.newKeySet();
+        private long handed;
+
+        /**
+         * Reads a partition, splitting it if it doesn't fit the window.
+         *
+         * @return a future completed with the log events of the partition in order of date, or none in arrival order.
+         */
+        private CompletableFuture<List<LogEvent>> search(Partition partition) {
+            return send(partition, 0).thenCompose(first -> {
+                if (first.getTotal() == null) {
+                    throw new CompletionException(new Auth0Exception("The search didn't include the total amount of log events"));
+                }
+                int total = first.getTotal();
+                if (total > SEARCH_WINDOW) {
+                    if (partition.width() <= 1) {
+                        throw new CompletionException(new Auth0Exception("More than " + SEARCH_WINDOW
+                                + " log events match the search in the partition " + partition.toQuery()));
+                    }
+                    return merge(partition.split((total + SEARCH_WINDOW - 1) / SEARCH_WINDOW + 1));
+                }
+                Set<String> ids = ConcurrentHashMap.newKeySet();
+                List<CompletableFuture<List<LogEvent>>> pages = new ArrayList<>();
+                pages.add(CompletableFuture.completedFuture(received(partition, ids, first)));
+                int count = (total + pageSize - 1) / pageSize;
+                for (int page = 1; page < count; page++) {
+                    pages.add(send(partition, page).thenApply(next -> received(partition, ids, next)));
+                }
+                return concat(pages).thenApply(events -> {
+                    events.sort(BY_DATE);
+                    return events;
+                });
+            });
+        }
+
+        private CompletableFuture<List<LogEvent>> merge(List<Partition> partitions) {
+            List<CompletableFuture<List<LogEvent>>> searches = new ArrayList<>();
+            for (Partition partition : partitions) {
+                searches.add(search(partition));
+            }
+            return concat(searches);
+        }
+
+        private CompletableFuture<List<LogEvent>> concat(List<CompletableFuture<List<LogEvent>>> parts) {
+            return CompletableFuture.allOf(parts.toArray(new CompletableFuture[0])).thenApply(v -> {
+                List<LogEvent> events = new ArrayList<>();
+                for (CompletableFuture<List<LogEvent>> part : parts) {
+                    events.addAll(part.join());
+                }
+                return events;
+            });
+        }
+
+        /**
+         * Drops the log events of the page that were already received, and hands the rest right away in arrival order.
+         *
+         * @return the log events to hand once the partitions before were, in order of date, or none in arrival order.
+         */
+        private List<LogEvent> received(Partition partition, Set<String> ids, LogEventsPage page) {
+            List<LogEvent> events = new ArrayList<>();
+            if (page.getItems() != null) {
+                for (LogEvent event : page.getItems()) {
+                    String id = event.getId();
+                    if (id != null && (!ids.add(id) || partition.isNearEdge(event) && !edgeIds.add(id))) {
+                        continue;
+                    }
+                    events.add(event);
+                }
+            }
+            if (order == Order.ARRIVAL) {
+                hand(events);
+                return Collections.emptyList();
+            }
+            return events;
+        }
+
+        private void hand(List<LogEvent> events) {
+            if (events.isEmpty()) {
+                return;
+            }
+            synchronized (result) {
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    consumer.accept(Collections.unmodifiableList(events));
+                } catch (RuntimeException e) {
+                    fail(e);
+                    throw e;
+                }
+                handed += events.size();
+            }
+        }
+
+        private void complete() {
+            synchronized (result) {
+                result.complete(handed);
+            }
+        }
+
+        private CompletableFuture<LogEventsPage> send(Partition partition, int page) {
+            return dispatcher.send(() -> logs.apply(pageFilter(partition, page)));
+        }
+
+        private void fail(Throwable e) {
+            dispatcher.fail(e);
+        }
+    }
+
+    /**
+     * Builder class to configure a backfill.
+     */
+    public static final class Builder {
+
+        private final Function<LogEventFilter, ? extends Request<LogEventsPage>> logs;
+        private final long from;
+        private final long to;
+        private final Consumer<List<LogEvent>> consumer;
+        private Map<String, Object> parameters = new HashMap<>();
+        private String query;
+        private RateLimitThrottle throttle;
+        private Order order = Order.CHRONOLOGICAL;
+        private int partitions = 8;
+        private int parallelism = 4;
+        private int pageSize = MAX_PAGE_SIZE;
+
+        private Builder(Function<LogEventFilter, ? extends Request<LogEventsPage>> logs, long from, long to, Consumer<List<LogEvent>> consumer) {
+            this.logs = logs;
+            this.from = from;
+            this.to = to;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Sets the filter to read the log events with. Its query is combined with the date range of each partition,
+         * and its page, totals and sort parameters are replaced. Its fields selection is ignored, as the partitions
+         * are sorted and the log events deduplicated by their date and ID, so every field is read. Its parameters are
+         * copied, so later changes to the filter don't apply.
+         *
+         * @param filter the filter to use. Can be null.
+         * @return this builder instance.
+         */
+        public Builder withFilter(LogEventFilter filter) {
+            this.parameters = filter == null ? new HashMap<>() : new HashMap<>(filter.getAsMap());
+            parameters.remove(KEY_FIELDS);
+            parameters.remove(KEY_INCLUDE_FIELDS);
+            Object encodedQuery = parameters.remove(QueryFilter.KEY_QUERY);
+            this.query = encodedQuery == null ? null : urlDecode(String.valueOf(encodedQuery));
+            return this;
+        }
+
+        /**
+         * Sets the throttle that paces the requests of the client, to keep the requests in flight within the rate
+         * limit.
+         *
+         * @param throttle the throttle, or null if the requests are not paced.
+         * @return this builder instance.
+         */
+        public Builder withThrottle(RateLimitThrottle throttle) {
+            this.throttle = throttle;
+            return this;
+        }
+
+        /**
+         * Sets the order the log events are handed to the consumer in. If not set, {@link Order#CHRONOLOGICAL} will be
+         * used.
+         *
+         * @param order the order. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withOrder(Order order) {
+            Asserts.assertNotNull(order, "order");
+            this.order = order;
+            return this;
+        }
+
+        /**
+         * Sets the amount of partitions the range is split into at first. If not set, a default of 8 partitions will
+         * be used.
+         *
+         * @param partitions the amount of partitions. Must be greater than zero.
+         * @return this builder instance.
+         */
+        public Builder withPartitions(int partitions) {
+            if (partitions < 1) {
+                throw new IllegalArgumentException("'partitions' must be greater than zero!");
+            }
+            this.partitions = partitions;
+            return this;
+        }
+
+        /**
+         * Sets the maximum amount of requests in flight at the same time. If not set, a default of 4 requests will be
+         * used.
+         *
+         * @param parallelism the maximum amount of requests in flight. Must be greater than zero.
+         * @return this builder instance.
+         */
+        public Builder withParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("'parallelism' must be greater than zero!");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the amount of log events per page. If not set, a default of {@value #MAX_PAGE_SIZE} will be used.
+         *
+         * @param pageSize the amount of log events per page. Must be between 1 and {@value #MAX_PAGE_SIZE}.
+         * @return this builder instance.
+         */
+        public Builder withPageSize(int pageSize) {
+            if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("'pageSize' must be between 1 and " + MAX_PAGE_SIZE + "!");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Builds a {@link LogEventBackfill} with the provided attributes.
+         *
+         * @return a new instance.
+         */
+        public LogEventBackfill build() {
+            return new LogEventBackfill(this);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.auth0.client.mgmt.logevents;
+
+import com.auth0.client.mgmt.filter.LogEventFilter;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
+import com.auth0.json.mgmt.logevents.LogEvent;
+import com.auth0.json.mgmt.logevents.LogEventsPage;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Follows the log events of the tenant as they're created, with checkpoint pagination, and hands them in batches to a
+ * consumer. After a batch is handled, the ID of its last log event is saved to a {@link LogCheckpointStore}, and a
+ * tailer started again with the same store resumes right after it. Log events are handed at least once: a batch
+ * whose consumer failed, or that was being handled when the tailer stopped, is handed again when it resumes.
+ * <p>
+ * While the consumer handles a full batch, the next one is already requested, so it's ready as soon as the consumer
+ * returns. No more than that one batch is requested ahead, so a consumer that falls behind slows down the requests
+ * instead of having the log events pile up in memory. Once the tailer caught up with the latest log events, it waits
+ * for the poll interval before requesting more. Rate limited requests are retried once the rate limit resets.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * LogEventTailer tailer = mgmt.logEvents().tailer(events -> siem.send(events))
+ *     .withCheckpointStore(new FileLogCheckpointStore(Paths.get("logs.checkpoint")))
+ *     .build();
+ * tailer.run(); // until tailer.stop() is called from another thread
+ * }
+ * </pre>
+ * <p>
+ * This class is thread-safe, but it can only run once at a time.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class LogEventTailer {
+
+    /**
+     * The file the checkpoint is kept in if no store is set, in the working directory.
+     */
+    public static final String DEFAULT_CHECKPOINT_FILE = "auth0-log-events.checkpoint";
+
+    /**
+     * The maximum amount of log events in a batch, which is the limit of the checkpoint pagination.
+     */
+    public static final int MAX_TAKE = 100;
+
+    private final Function<LogEventFilter, ? extends Request<LogEventsPage>> logs;
+    private final Consumer<List<LogEvent>> consumer;
+    private final LogCheckpointStore store;
+    private final String startFrom;
+    private final int take;
+    private final long pollIntervalMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile CompletableFuture<Void> stopSignal = new CompletableFuture<>();
+
+    private LogEventTailer(Builder builder) {
+        this.logs = builder.logs;
+        this.consumer = builder.consumer;
+        this.store = builder.store;
+        this.startFrom = builder.startFrom;
+        this.take = builder.take;
+        this.pollIntervalMillis = builder.pollIntervalMillis;
+    }
+
+    /**
+     * Create a new Builder to configure a tailer.
+     *
+     * @param logs     the function that creates the request for a list of log events with the given filter.
+     * @param consumer the consumer of each batch of log events, in the order they were created. Exceptions it throws
+     *                 stop the tailer without saving the checkpoint of the batch.
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder(Function<LogEventFilter, ? extends Request<LogEventsPage>> logs, Consumer<List<LogEvent>> consumer) {
+        Asserts.assertNotNull(logs, "logs");
+        Asserts.assertNotNull(consumer, "consumer");
+        return new Builder(logs, consumer);
+    }
+
+    /**
+     * Follows the log events on the calling thread until {@link #stop()} is called. The batch being requested ahead
+     * when it stops is dropped, and requested again when it resumes.
+     *
+     * @throws Auth0Exception        if a request failed, the checkpoint couldn't be loaded or saved, or the thread was
+     *                               interrupted.
+     * @throws IllegalStateException if the tailer is already running.
+     */
+    public void run() throws Auth0Exception {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("The tailer is already running");
+        }
+        CompletableFuture<LogEventsPage> ahead = null;
+        try {
+            String from = loadCheckpoint();
+            ahead = fetch(from);
+            while (true) {
+                LogEventsPage page = await(ahead, from);
+                ahead = null;
+                if (page == null) {
+                    return;
+                }
+                List<LogEvent> events = page.getItems() == null ? Collections.<LogEvent>emptyList() : page.getItems();
+                if (events.isEmpty()) {
+                    if (sleep(pollIntervalMillis)) {
+                        return;
+                    }
+                    ahead = fetch(from);
+                    continue;
+                }
+                String next = events.get(events.size() - 1).getId();
+                if (events.size() >= take) {
+                    // A full batch suggests there are more log events already, so request them while this one is handled
+                    ahead = fetch(next);
+                }
+                consumer.accept(events);
+                saveCheckpoint(next);
+                from = next;
+                if (ahead == null) {
+                    if (sleep(pollIntervalMillis)) {
+                        return;
+                    }
+                    ahead = fetch(from);
+                }
+            }
+        } finally {
+            if (ahead != null) {
+                ahead.cancel(true);
+            }
+            stopSignal = new CompletableFuture<>();
+            running.set(false);
+        }
+    }
+
+    /**
+     * Stops the running tailer once the consumer returns, if it's handling a batch. Its checkpoint is saved first.
+     */
+    public void stop() {
+        if (running.get()) {
+            stopSignal.complete(null);
+        }
+    }
+
+    /**
+     * Getter for whether the tailer is running.
+     *
+     * @return true if {@link #run()} didn't return yet.
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private CompletableFuture<LogEventsPage> fetch(String from) {
+        return logs.apply(new LogEventFilter().withCheckpoint(from, take)).executeAsync();
+    }
+
+    /**
+     * Waits for the batch, requesting it again from the same checkpoint if it was rate limited.
+     *
+     * @return the batch, or null if the tailer was stopped.
+     */
+    private LogEventsPage await(CompletableFuture<LogEventsPage> batch, String from) throws Auth0Exception {
+        while (true) {
+            try {
+                CompletableFuture.anyOf(batch, stopSignal).get();
+                if (stopSignal.isDone()) {
+                    return null;
+                }
+                return batch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new Auth0Exception("Interrupted while tailing the log events", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RateLimitException) {
+                    long untilReset = ((RateLimitException) cause).getMillisUntilReset();
+                    if (sleep(Math.max(pollIntervalMillis, untilReset))) {
+                        return null;
+                    }
+                    batch = fetch(from);
+                    continue;
+                }
+                if (cause instanceof Auth0Exception) {
+                    throw (Auth0Exception) cause;
+                }
+                throw new Auth0Exception("Failed to request the log events", cause);
+            }
+        }
+    }
+
+    /**
+     * Waits for the given time, unless the tailer is stopped.
+     *
+     * @return whether the tailer was stopped.
+     */
+    private boolean sleep(long millis) throws Auth0Exception {
+        try {
+            stopSignal.get(millis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Auth0Exception("Interrupted while tailing the log events", e);
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+    private String loadCheckpoint() throws Auth0Exception {
+        try {
+            String checkpoint = store.load();
+            return checkpoint != null ? checkpoint : startFrom;
+        } catch (IOException e) {
+            throw new Auth0Exception("Failed to load the log events checkpoint", e);
+        }
+    }
+
+    private void saveCheckpoint(String logEventId) throws Auth0Exception {
+        try {
+            store.save(logEventId);
+        } catch (IOException e) {
+            throw new Auth0Exception("Failed to save the log events checkpoint", e);
+        }
+    }
+
+    /**
+     * Builder class to configure a tailer.
+     */
+    public static final class Builder {
+
+        private final Function<LogEventFilter, ? extends Request<LogEventsPage>> logs;
+        private final Consumer<List<LogEvent>> consumer;
+        private LogCheckpointStore store;
+        private String startFrom;
+        private int take = MAX_TAKE;
+        private long pollIntervalMillis = 5000;
+
+        private Builder(Function<LogEventFilter, ? extends Request<LogEventsPage>> logs, Consumer<List<LogEvent>> consumer) {
+            this.logs = logs;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Sets the store the checkpoint is kept in. If not set, it's kept in the file {@value #DEFAULT_CHECKPOINT_FILE}
+         * of the working directory.
+         *
+         * @param store the store to use. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withCheckpointStore(LogCheckpointStore store) {
+            Asserts.assertNotNull(store, "store");
+            this.store = store;
+            return this;
+        }
+
+        /**
+         * Sets the log event to start after when the store has no checkpoint yet. If not set, the tailer starts
+         * wherever the checkpoint pagination starts without one.
+         *
+         * @param logEventId the ID of the log event to start after.
+         * @return this builder instance.
+         */
+        public Builder withStartFrom(String logEventId) {
+            this.startFrom = logEventId;
+            return this;
+        }
+
+        /**
+         * Sets the maximum amount of log events in a batch. If not set, a default of {@value #MAX_TAKE} will be used.
+         *
+         * @param take the maximum amount of log events. Must be between 1 and {@value #MAX_TAKE}.
+         * @return this builder instance.
+         */
+        public Builder withTake(int take) {
+            if (take < 1 || take > MAX_TAKE) {
+                throw new IllegalArgumentException("'take' must be between 1 and " + MAX_TAKE + "!");
+            }
+            this.take = take;
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for new log events once the tailer caught up with the latest ones. If not set, a
+         * default of 5 seconds will be used.
+         *
+         * @param interval the time to wait. Must be greater than zero.
+         * @param unit     the unit of the interval.
+         * @return this builder instance.
+         */
+        public Builder withPollInterval(long interval, TimeUnit unit) {
+            Asserts.assertNotNull(unit, "unit");
+            if (interval <= 0) {
+                throw new IllegalArgumentException("'interval' must be greater than zero!");
+            }
+            this.pollIntervalMillis = Math.max(1, unit.toMillis(interval));
+            return this;
+        }
+
+        /**
+         * Builds a {@link LogEventTailer} with the provided attributes.
+         *
+         * @return a new instance.
+         */
+        public LogEventTailer build() {
+            if (store == null) {
+                store = new FileLogCheckpointStore(Paths.get(DEFAULT_CHECKPOINT_FILE));
+            }
+            return new LogEventTailer(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.mgmt.filter.PageFilter;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.Page;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Crawls a list paginated by checkpoint, one page at a time, following the {@code next} token of each page. After
+ * every page, {@link #getCursor()} returns the position to resume the crawl from, which can be saved so that a crawl
+ * interrupted by a restart continues where it stopped instead of starting over.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * CheckpointCrawler<Member> crawler = new CheckpointCrawler<>(filter -> mgmt.organizations().getMembers(orgId, filter), savedCursor);
+ * while (crawler.hasNext()) {
+ *     process(crawler.next());
+ *     save(crawler.getCursor().serialize());
+ * }
+ * }
+ * </pre>
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the items in the pages.
+ * @see CheckpointCursor
+ */
+@SuppressWarnings("WeakerAccess")
+public final class CheckpointCrawler<T> {
+
+    private final Function<PageFilter, ? extends Request<? extends Page<T>>> pageRequests;
+    private CheckpointCursor cursor;
+
+    /**
+     * Creates a new crawler.
+     *
+     * @param pageRequests the function that creates the request for a page with the given filter.
+     * @param cursor       the position to start the crawl from, like {@link CheckpointCursor#start(int)} or a
+     *                     restored one.
+     */
+    public CheckpointCrawler(Function<PageFilter, ? extends Request<? extends Page<T>>> pageRequests, CheckpointCursor cursor) {
+        Asserts.assertNotNull(pageRequests, "page requests");
+        Asserts.assertNotNull(cursor, "cursor");
+        this.pageRequests = pageRequests;
+        this.cursor = cursor;
+    }
+
+    /**
+     * @return whether there are more pages to request.
+     */
+    public boolean hasNext() {
+        return !cursor.isFinished();
+    }
+
+    /**
+     * Requests the next page and moves the cursor past it. If the request fails, the cursor is not moved, so the
+     * same page is requested on the next call.
+     *
+     * @return the items of the page.
+     * @throws Auth0Exception         if the request failed.
+     * @throws NoSuchElementException if there are no more pages.
+     */
+    public List<T> next() throws Auth0Exception {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Page<T> page = pageRequests.apply(cursor.applyTo(new PageFilter())).execute();
+        List<T> items = page == null || page.getItems() == null ? Collections.<T>emptyList() : page.getItems();
+        cursor = cursor.advance(items.isEmpty() ? null : page.getNext());
+        return items;
+    }
+
+    /**
+     * @return the position to resume the crawl from, after the last page returned by {@link #next()}.
+     */
+    public CheckpointCursor getCursor() {
+        return cursor;
+    }
+}
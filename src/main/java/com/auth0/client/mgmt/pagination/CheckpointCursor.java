@@ -0,0 +1,173 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.mgmt.filter.PageFilter;
+import com.auth0.utils.Asserts;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The position of a crawl through a list paginated by checkpoint: the token of the next page to request, or whether
+ * the list was already crawled to its end. It can be saved with {@link #serialize()}, or with Java serialization,
+ * and restored with {@link #parse(String)} so that a crawl can be resumed after a restart.
+ * <p>
+ * This class is immutable.
+ *
+ * @see CheckpointCrawler
+ * @see PageFilter#withFrom(String)
+ */
+@SuppressWarnings("WeakerAccess")
+public final class CheckpointCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String VERSION = "v1";
+    private static final char START = 's';
+    private static final char NEXT = 'n';
+    private static final char FINISHED = 'f';
+
+    private final int take;
+    private final String from;
+    private final boolean finished;
+
+    private CheckpointCursor(int take, String from, boolean finished) {
+        this.take = take;
+        this.from = from;
+        this.finished = finished;
+    }
+
+    /**
+     * Creates a cursor at the start of a list.
+     *
+     * @param take the amount of items to request per page. Must be greater than zero.
+     * @return a new cursor.
+     */
+    public static CheckpointCursor start(int take) {
+        if (take < 1) {
+            throw new IllegalArgumentException("'take' must be greater than zero!");
+        }
+        return new CheckpointCursor(take, null, false);
+    }
+
+    /**
+     * Restores a cursor saved with {@link #serialize()}.
+     *
+     * @param value the saved cursor. Must not be null.
+     * @return the restored cursor.
+     */
+    public static CheckpointCursor parse(String value) {
+        Asserts.assertNotNull(value, "value");
+        String[] parts = value.split(":", 3);
+        if (parts.length != 3 || !VERSION.equals(parts[0]) || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("The value is not a valid checkpoint cursor.");
+        }
+        int take;
+        try {
+            take = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The value is not a valid checkpoint cursor.", e);
+        }
+        String state = parts[2];
+        switch (state.charAt(0)) {
+            case START:
+                return start(take);
+            case NEXT:
+                return start(take).advance(state.substring(1));
+            case FINISHED:
+                return new CheckpointCursor(take, null, true);
+            default:
+                throw new IllegalArgumentException("The value is not a valid checkpoint cursor.");
+        }
+    }
+
+    /**
+     * @return the amount of items requested per page.
+     */
+    public int getTake() {
+        return take;
+    }
+
+    /**
+     * @return the token of the next page, or null if the next page is the first one or the list was crawled to its end.
+     */
+    public String getFrom() {
+        return from;
+    }
+
+    /**
+     * @return whether the list was crawled to its end.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Creates the cursor that follows a page.
+     *
+     * @param next the {@code next} token of the page, or null if it was the last page.
+     * @return the cursor of the next page.
+     */
+    public CheckpointCursor advance(String next) {
+        if (next == null || next.isEmpty()) {
+            return new CheckpointCursor(take, null, true);
+        }
+        return new CheckpointCursor(take, next, false);
+    }
+
+    /**
+     * Sets the checkpoint of this cursor on the given filter.
+     *
+     * @param filter the filter to request the next page with. Must not be null.
+     * @return the given filter.
+     * @throws IllegalStateException if the list was crawled to its end.
+     */
+    public PageFilter applyTo(PageFilter filter) {
+        Asserts.assertNotNull(filter, "filter");
+        if (finished) {
+            throw new IllegalStateException("The list was already crawled to its end.");
+        }
+        if (from != null) {
+            filter.withFrom(from);
+        }
+        return filter.withTake(take);
+    }
+
+    /**
+     * Saves this cursor as a string that can be restored with {@link #parse(String)}.
+     *
+     * @return the saved cursor.
+     */
+    public String serialize() {
+        String state;
+        if (finished) {
+            state = String.valueOf(FINISHED);
+        } else if (from == null) {
+            state = String.valueOf(START);
+        } else {
+            state = NEXT + from;
+        }
+        return VERSION + ":" + take + ":" + state;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CheckpointCursor that = (CheckpointCursor) o;
+        return take == that.take && finished == that.finished && Objects.equals(from, that.from);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(take, from, finished);
+    }
+
+    @Override
+    public String toString() {
+        return "CheckpointCursor{" + serialize() + "}";
+    }
+}
@@ -0,0 +1,315 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.Page;
+import com.auth0.net.Deadline;
+import com.auth0.net.RateLimitThrottle;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Request that fetches every page of a paginated Management API list. The first page is requested with the totals,
+ * and once the total amount of items is known, the remaining pages are requested concurrently. The amount of pages in
+ * flight is capped by the parallelism and, when the client paces its requests with a {@link RateLimitThrottle}, by the
+ * requests the rate limit allows to send right away, so the fan-out doesn't get the pages rejected. When the first page
+ * doesn't include the total, the pages are requested one after the other until one has less items than requested.
+ * <p>
+ * The items can be received all at once and in order, with {@link #execute()} or {@link #executeAsync()}, or one page
+ * at a time as they arrive with {@link #stream()}. If any page fails, the pages in flight are cancelled.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the items in the pages.
+ */
+@SuppressWarnings("WeakerAccess")
+public class FetchAllRequest<T> implements Request<List<T>> {
+
+    private final PageRequestFactory<T> pageRequests;
+    private final RateLimitThrottle throttle;
+    private int pageSize = 50;
+    private int parallelism = 4;
+    private Deadline deadline;
+    private long timeoutNanos;
+
+    /**
+     * Creates a new request.
+     *
+     * @param pageRequests the factory of the requests for the pages, which must include the totals.
+     * @param throttle     the throttle that paces the requests of the client, or null if they are not paced.
+     */
+    public FetchAllRequest(PageRequestFactory<T> pageRequests, RateLimitThrottle throttle) {
+        Asserts.assertNotNull(pageRequests, "page requests");
+        this.pageRequests = pageRequests;
+        this.throttle = throttle;
+    }
+
+    /**
+     * Sets the amount of items per page. If not set, a default of 50 items will be used.
+     *
+     * @param pageSize the amount of items per page. Must be between 1 and {@link PageIterable#MAX_PAGE_SIZE}.
+     * @return this request instance.
+     */
+    public FetchAllRequest<T> setPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > PageIterable.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("'pageSize' must be between 1 and " + PageIterable.MAX_PAGE_SIZE + "!");
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of pages requested at the same time. If not set, a default of 4 pages will be used.
+     *
+     * @param parallelism the maximum amount of pages in flight. Must be greater than zero.
+     * @return this request instance.
+     */
+    public FetchAllRequest<T> setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("'parallelism' must be greater than zero!");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time each execution of this request can take, fetching every page. The timeout starts when the
+     * request is executed, and every page request must complete within it. When a deadline is also set, whichever
+     * expires first applies.
+     *
+     * @param timeout the maximum duration of an execution, or 0 to remove the timeout.
+     * @param unit    the unit of the timeout.
+     * @return this request instance.
+     */
+    @Override
+    public FetchAllRequest<T> setTimeout(long timeout, TimeUnit unit) {
+        Asserts.assertNotNull(unit, "unit");
+        if (timeout < 0) {
+            throw new IllegalArgumentException("'timeout' cannot be negative!");
+        }
+        this.timeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * Sets the deadline each page request must complete by.
+     *
+     * @param deadline the deadline, or null to remove it.
+     * @return this request instance.
+     */
+    @Override
+    public FetchAllRequest<T> setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    /**
+     * Fetches every page, blocking until all of them arrived.
+     *
+     * @return the items of every page, in order.
+     * @throws Auth0Exception if any page failed.
+     */
+    @Override
+    public List<T> execute() throws Auth0Exception {
+        try {
+            return executeAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Auth0Exception("Interrupted while fetching the pages", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Auth0Exception) {
+                throw (Auth0Exception) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new Auth0Exception("Failed to fetch the pages", cause);
+        }
+    }
+
+    /**
+     * Fetches every page asynchronously. Cancelling the returned future cancels the pages in flight.
+     *
+     * @return a future completed with the items of every page, in order.
+     */
+    @Override
+    public CompletableFuture<List<T>> executeAsync() {
+        Map<Integer, List<T>> pages = new ConcurrentHashMap<>();
+        Execution execution = new Execution(pages::put);
+        CompletableFuture<List<T>> result = execution.done.thenApply(pageCount -> {
+            List<T> items = new ArrayList<>();
+            for (int i = 0; i < pageCount; i++) {
+                List<T> page = pages.get(i);
+                if (page != null) {
+                    items.addAll(page);
+                }
+            }
+            return items;
+        });
+        result.whenComplete((items, e) -> {
+            if (result.isCancelled()) {
+                execution.cancel();
+            }
+        });
+        execution.start();
+        return result;
+    }
+
+    /**
+     * Fetches every page, and streams the items of each one as soon as it arrives, so they are not in order. Closing
+     * the stream cancels the pages in flight. Failed pages are thrown by the stream as an
+     * {@linkplain UncheckedIOException} caused by the {@linkplain Auth0Exception}.
+     *
+     * @return a new sequential and unordered stream.
+     */
+    public Stream<T> stream() {
+        BlockingQueue<List<T>> arrived = new LinkedBlockingQueue<>();
+        List<T> end = new ArrayList<>();
+        Execution execution = new Execution((page, items) -> arrived.add(items));
+        execution.done.whenComplete((pageCount, e) -> arrived.add(end));
+        execution.start();
+
+        Iterator<T> iterator = new Iterator<T>() {
+            private Iterator<T> current = Collections.emptyIterator();
+            private boolean ended;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && !ended) {
+                    List<T> items = take(arrived);
+                    if (items == end) {
+                        ended = true;
+                        execution.rethrowFailure();
+                    } else {
+                        current = items.iterator();
+                    }
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                .onClose(execution::cancel);
+    }
+
+    private static <E> E take(BlockingQueue<E> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new Auth0Exception("Interrupted while fetching the pages", e));
+        }
+    }
+
+    /**
+     * A single fetch of every page. The state is guarded by the instance lock, and the pages are handed to the
+     * consumer outside of it. Until the total is known, the pages are requested one after the other.
+     */
+    private final class Execution {
+
+        private final BiConsumer<Integer, List<T>> onPage;
+        private final CompletableFuture<Integer> done = new CompletableFuture<>();
+        private final RequestDispatcher dispatcher = new RequestDispatcher(done, parallelism, throttle,
+                RequestDispatcher.deadline(deadline, timeoutNanos));
+        private final int pageSize = FetchAllRequest.this.pageSize;
+        private int pageCount = Integer.MAX_VALUE;
+        private int completedPages;
+
+        private Execution(BiConsumer<Integer, List<T>> onPage) {
+            this.onPage = onPage;
+        }
+
+        private void start() {
+            send(0);
+        }
+
+        private void cancel() {
+            done.cancel(false);
+        }
+
+        private void send(int page) {
+            dispatcher.<Page<T>>send(() -> pageRequests.createRequest(page, pageSize))
+                    .thenAccept(result -> received(page, result));
+        }
+
+        private void received(int page, Page<T> result) {
+            List<T> items = result == null || result.getItems() == null ? Collections.<T>emptyList() : result.getItems();
+            int next = -1;
+            synchronized (this) {
+                if (done.isDone() || page >= pageCount) {
+                    return;
+                }
+                if (page == 0 && result != null && result.getTotal() != null) {
+                    pageCount = Math.max((int) ((result.getTotal() + (long) pageSize - 1) / pageSize), 1);
+                } else if (pageCount == Integer.MAX_VALUE) {
+                    if (items.size() < pageSize) {
+                        pageCount = page + 1;
+                    } else {
+                        next = page + 1;
+                    }
+                }
+            }
+            onPage.accept(page, items);
+            if (page == 0 && pageCount != Integer.MAX_VALUE) {
+                for (int rest = 1; rest < pageCount; rest++) {
+                    send(rest);
+                }
+            } else if (next >= 0) {
+                send(next);
+            }
+            int pages;
+            synchronized (this) {
+                completedPages++;
+                pages = completedPages == pageCount ? pageCount : -1;
+            }
+            if (pages >= 0) {
+                done.complete(pages);
+            }
+        }
+
+        private void rethrowFailure() {
+            if (!done.isCompletedExceptionally() || done.isCancelled()) {
+                return;
+            }
+            try {
+                done.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Auth0Exception) {
+                    throw new UncheckedIOException((Auth0Exception) cause);
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new UncheckedIOException(new Auth0Exception("Failed to fetch the pages", cause));
+            }
+        }
+    }
+}
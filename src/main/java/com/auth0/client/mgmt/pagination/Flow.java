@@ -0,0 +1,86 @@
+package com.auth0.client.mgmt.pagination;
+
+/**
+ * Interfaces for publishing items to subscribers that control, with backpressure, how many they are ready to receive.
+ * They have the same methods and contract as the ones in {@code java.util.concurrent.Flow} and the Reactive Streams
+ * specification, which are not available on every Java version this library supports, so they can be adapted to
+ * those with a plain delegating wrapper.
+ *
+ * @see PagePublisher
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Flow {
+
+    private Flow() {
+    }
+
+    /**
+     * A producer of items that are received by subscribers as they request them.
+     *
+     * @param <T> the type of the items published.
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * Adds the given subscriber, which is first sent a {@link Subscription} through
+         * {@link Subscriber#onSubscribe(Subscription)}, and then the items it requests.
+         *
+         * @param subscriber the subscriber to add.
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of the items of a {@link Publisher}. The methods of a subscriber are never invoked concurrently.
+     *
+     * @param <T> the type of the items received.
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Invoked once, before any other method, with the subscription used to request items.
+         *
+         * @param subscription the new subscription.
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next item, only after it was requested.
+         *
+         * @param item the item.
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked when the publisher failed. No other method is invoked after it.
+         *
+         * @param throwable the cause of the failure.
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when every item was received. No other method is invoked after it.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a publisher and a subscriber, used by the subscriber to request items or stop receiving them.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the given amount of items to the ones the subscriber is ready to receive.
+         *
+         * @param n the amount of items. Must be greater than zero, or the subscriber is sent an
+         *          {@linkplain IllegalArgumentException} through {@link Subscriber#onError(Throwable)}.
+         */
+        void request(long n);
+
+        /**
+         * Stops sending items to the subscriber. Items may still be received for a short time after.
+         */
+        void cancel();
+    }
+}
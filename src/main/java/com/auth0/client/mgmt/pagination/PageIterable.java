@@ -0,0 +1,397 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.Page;
+import com.auth0.utils.Asserts;
+
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Gives blocking access to the items of a paginated Management API list, one by one, across all of its pages, as an
+ * {@linkplain Iterable} or a {@linkplain Stream}. Every iterator, spliterator and stream starts from the first page.
+ * <p>
+ * While the items of a page are being consumed, the next page is already being requested, unless prefetching is
+ * disabled. The list ends on the first page that is empty, that has less items than requested, or that reaches the
+ * total amount of items. When the pages include the total, like when requested with
+ * {@link com.auth0.client.mgmt.filter.PageFilter#withTotals(boolean)}, the {@linkplain Spliterator} reports its size
+ * and can be split by ranges of pages, so {@link Stream#parallel()} requests pages concurrently. The total is read
+ * from the first page, which is requested when the spliterator is created, and the size is exact as long as the list
+ * doesn't change while it's consumed.
+ * <p>
+ * Failed requests are thrown as an {@linkplain UncheckedIOException} caused by the {@linkplain Auth0Exception}.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * PageIterable<Role> roles = PageIterable.newBuilder((page, perPage) -> mgmt.roles().list(new RolesFilter().withPage(page, perPage).withTotals(true)))
+ *     .withAdaptivePageSize(500, TimeUnit.MILLISECONDS)
+ *     .build();
+ * for (Role role : roles) {
+ *     // ...
+ * }
+ * }
+ * </pre>
+ * <p>
+ * This class is immutable and thread-safe. The iterators and spliterators it creates are not.
+ *
+ * @param <T> the type of the items in the pages.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class PageIterable<T> implements Iterable<T> {
+
+    /**
+     * The maximum amount of items per page the Management API returns.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final PageRequestFactory<T> pageRequests;
+    private final int pageSize;
+    private final long targetLatencyNanos;
+    private final boolean prefetch;
+
+    private PageIterable(Builder<T> builder) {
+        this.pageRequests = builder.pageRequests;
+        this.pageSize = builder.pageSize;
+        this.targetLatencyNanos = builder.targetLatencyNanos;
+        this.prefetch = builder.prefetch;
+    }
+
+    /**
+     * Create a new Builder to configure the access to a paginated list.
+     *
+     * @param pageRequests the factory of the requests for the pages of the list.
+     * @param <T>          the type of the items in the pages.
+     * @return a new Builder instance.
+     */
+    public static <T> Builder<T> newBuilder(PageRequestFactory<T> pageRequests) {
+        Asserts.assertNotNull(pageRequests, "page requests");
+        return new Builder<>(pageRequests);
+    }
+
+    /**
+     * Creates an iterator over the items of the list. It requests the first page when it's first used.
+     *
+     * @return a new iterator.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new PageIterator(new Pages(0, Long.MAX_VALUE, pageSize), Collections.<T>emptyList());
+    }
+
+    /**
+     * Creates a spliterator over the items of the list. It requests the first page to read the total amount of
+     * items, and reports it as its size if present.
+     *
+     * @return a new spliterator.
+     * @throws UncheckedIOException if the request for the first page failed.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        Pages pages = new Pages(0, Long.MAX_VALUE, pageSize);
+        List<T> first = pages.next();
+        if (pages.total == null) {
+            return Spliterators.spliteratorUnknownSize(new PageIterator(pages, first), Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+        return new PageSpliterator(pages, first);
+    }
+
+    /**
+     * Creates a sequential stream of the items of the list, which can be made parallel with {@link Stream#parallel()}.
+     * Like {@link #spliterator()}, it requests the first page.
+     *
+     * @return a new stream.
+     * @throws UncheckedIOException if the request for the first page failed.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * The pages of a range of items, requested one after the other.
+     */
+    private final class Pages {
+
+        private long offset;
+        private long end;
+        private int perPage;
+        private PendingPage<T> next;
+        private boolean exhausted;
+        private Integer total;
+
+        private Pages(long offset, long end, int perPage) {
+            this.offset = offset;
+            this.end = end;
+            this.perPage = perPage;
+        }
+
+        /**
+         * @return the items of the next page, or null if there are no more pages.
+         */
+        private List<T> next() {
+            if (exhausted) {
+                return null;
+            }
+            PendingPage<T> pending = next != null ? next : request();
+            next = null;
+            Page<T> page = pending.await();
+            List<T> items = page == null || page.getItems() == null ? Collections.<T>emptyList() : page.getItems();
+            if (page != null && page.getTotal() != null) {
+                total = page.getTotal();
+                end = Math.min(end, total);
+            }
+            offset += pending.perPage;
+            if (items.size() > pending.perPage) {
+                items = items.subList(0, pending.perPage);
+            }
+            if (items.size() < pending.perPage || offset >= end) {
+                exhausted = true;
+                return items;
+            }
+            if (targetLatencyNanos > 0) {
+                adaptPageSize(pending.latencyNanos);
+            }
+            if (prefetch) {
+                next = request();
+            }
+            return items;
+        }
+
+        private void adaptPageSize(long latencyNanos) {
+            if (latencyNanos > targetLatencyNanos) {
+                if (perPage % 2 == 0) {
+                    perPage /= 2;
+                }
+                return;
+            }
+            int larger = perPage * 2;
+            // pages are requested by number, so the offset must stay at the start of a page of the new size
+            if (latencyNanos < targetLatencyNanos / 2 && larger <= MAX_PAGE_SIZE && offset % larger == 0 && offset + larger <= end) {
+                perPage = larger;
+            }
+        }
+
+        private PendingPage<T> request() {
+            return new PendingPage<>(pageRequests, (int) (offset / perPage), perPage);
+        }
+
+        /**
+         * Gives the pages from the given offset on to a new instance, keeping the ones before.
+         */
+        private Pages splitAt(long splitOffset) {
+            Pages suffix = new Pages(splitOffset, end, perPage);
+            end = splitOffset;
+            return suffix;
+        }
+    }
+
+    private static final class PendingPage<T> {
+
+        private final int perPage;
+        private final CompletableFuture<? extends Page<T>> future;
+        private volatile long latencyNanos;
+
+        private PendingPage(PageRequestFactory<T> pageRequests, int pageNumber, int perPage) {
+            this.perPage = perPage;
+            long sentAt = System.nanoTime();
+            this.future = pageRequests.createRequest(pageNumber, perPage).executeAsync()
+                    .whenComplete((page, e) -> latencyNanos = System.nanoTime() - sentAt);
+        }
+
+        private Page<T> await() {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new Auth0Exception("Interrupted while waiting for a page", e));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Auth0Exception) {
+                    throw new UncheckedIOException((Auth0Exception) cause);
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new UncheckedIOException(new Auth0Exception("Failed to request a page", cause));
+            }
+        }
+    }
+
+    private final class PageIterator implements Iterator<T> {
+
+        private final Pages pages;
+        private Iterator<T> current;
+
+        private PageIterator(Pages pages, List<T> first) {
+            this.pages = pages;
+            this.current = first == null ? Collections.<T>emptyIterator() : first.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                List<T> items = pages.next();
+                if (items == null) {
+                    return false;
+                }
+                current = items.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    private final class PageSpliterator implements Spliterator<T> {
+
+        private Pages pages;
+        private Iterator<T> current;
+        private int remainingInCurrent;
+
+        private PageSpliterator(Pages pages, List<T> first) {
+            this.pages = pages;
+            setCurrent(first);
+        }
+
+        private void setCurrent(List<T> items) {
+            current = items.iterator();
+            remainingInCurrent = items.size();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (!current.hasNext()) {
+                List<T> items = pages.next();
+                if (items == null) {
+                    return false;
+                }
+                setCurrent(items);
+            }
+            remainingInCurrent--;
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (pages.exhausted) {
+                return null;
+            }
+            long firstUnrequested = pages.offset + (pages.next != null ? pages.next.perPage : 0);
+            long remainingPages = (pages.end - firstUnrequested) / pages.perPage;
+            if (remainingPages < 2) {
+                return null;
+            }
+            long splitOffset = firstUnrequested + remainingPages / 2 * pages.perPage;
+            // the items before the split, including the current page, are handed to the returned prefix
+            PageSpliterator prefix = new PageSpliterator(pages, Collections.<T>emptyList());
+            prefix.current = current;
+            prefix.remainingInCurrent = remainingInCurrent;
+            pages = pages.splitAt(splitOffset);
+            setCurrent(Collections.<T>emptyList());
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (pages.exhausted) {
+                return remainingInCurrent;
+            }
+            return remainingInCurrent + Math.max(pages.end - pages.offset, 0);
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Builder class to construct a {@linkplain PageIterable}
+     *
+     * @param <T> the type of the items in the pages.
+     */
+    public static class Builder<T> {
+
+        private final PageRequestFactory<T> pageRequests;
+        private int pageSize = 50;
+        private long targetLatencyNanos;
+        private boolean prefetch = true;
+
+        private Builder(PageRequestFactory<T> pageRequests) {
+            this.pageRequests = pageRequests;
+        }
+
+        /**
+         * Specify the amount of items per page. If not specified, a default of 50 items will be used.
+         *
+         * @param pageSize the amount of items per page. Must be between 1 and {@link #MAX_PAGE_SIZE}.
+         * @return this Builder instance.
+         */
+        public Builder<T> withPageSize(int pageSize) {
+            if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("'pageSize' must be between 1 and " + MAX_PAGE_SIZE + "!");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Adapt the amount of items per page to the time each page takes to arrive. Pages that take longer than the
+         * given latency are halved, and pages that take less than half of it are doubled, up to
+         * {@link #MAX_PAGE_SIZE}. Since pages are requested by number, the size only changes when the position of the
+         * next item is a multiple of the new size, so a page size that is a power of two times a small number, like
+         * the default of 50, adapts best. If not specified, the page size doesn't change.
+         *
+         * @param targetLatency the time a page should take to arrive. Must be greater than zero.
+         * @param unit          the unit of the latency.
+         * @return this Builder instance.
+         */
+        public Builder<T> withAdaptivePageSize(long targetLatency, TimeUnit unit) {
+            Asserts.assertNotNull(unit, "unit");
+            if (targetLatency <= 0) {
+                throw new IllegalArgumentException("'targetLatency' must be greater than zero!");
+            }
+            this.targetLatencyNanos = unit.toNanos(targetLatency);
+            return this;
+        }
+
+        /**
+         * Specify whether to request the next page while the items of the current one are consumed. If not
+         * specified, pages are prefetched.
+         *
+         * @param prefetch whether to prefetch the next page.
+         * @return this Builder instance.
+         */
+        public Builder<T> withPrefetch(boolean prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         * Constructs a {@linkplain PageIterable} instance from this Builder.
+         *
+         * @return an initialized instance of {@code PageIterable}.
+         */
+        public PageIterable<T> build() {
+            return new PageIterable<>(this);
+        }
+    }
+}
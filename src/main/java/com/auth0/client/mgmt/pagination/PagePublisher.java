@@ -0,0 +1,287 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.json.mgmt.Page;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Publishes the items of a paginated Management API list, one by one, across all of its pages. A page is only
+ * requested when the items already received can't satisfy the demand of the subscriber, and at most a given amount
+ * of pages is held in memory at a time, so slow subscribers don't make the whole list to be loaded.
+ * <p>
+ * Pages are requested with {@link Request#executeAsync()}, starting from the first one. Once the size of the pages is
+ * known, the following ones are requested ahead as long as the demand exceeds the items received, concurrently, and
+ * their items are sent in order. The list ends on the first page that is empty, that is shorter than its limit, or that
+ * reaches the total amount of items, and the pages requested after it are cancelled. Requesting the totals on each
+ * page, like with {@link com.auth0.client.mgmt.filter.PageFilter#withTotals(boolean)}, saves the request of pages past
+ * the end of the list. Every subscriber receives the list from its start.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * PagePublisher<Role> roles = new PagePublisher<>(page -> mgmt.roles().list(new RolesFilter().withPage(page, 50).withTotals(true)));
+ * roles.subscribe(subscriber);
+ * }
+ * </pre>
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <T> the type of the items in the pages.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class PagePublisher<T> implements Flow.Publisher<T> {
+
+    private static final int DEFAULT_MAX_BUFFERED_PAGES = 2;
+
+    private final IntFunction<? extends Request<? extends Page<T>>> pageRequests;
+    private final int maxBufferedPages;
+
+    /**
+     * Creates a new publisher that holds at most 2 pages in memory at a time.
+     *
+     * @param pageRequests the function that creates the request for the page with the given number, starting at 0.
+     */
+    public PagePublisher(IntFunction<? extends Request<? extends Page<T>>> pageRequests) {
+        this(pageRequests, DEFAULT_MAX_BUFFERED_PAGES);
+    }
+
+    /**
+     * Creates a new publisher.
+     *
+     * @param pageRequests     the function that creates the request for the page with the given number, starting at 0.
+     * @param maxBufferedPages the maximum amount of pages requested or received but not yet sent to the subscriber.
+     *                         Must be greater than zero.
+     */
+    public PagePublisher(IntFunction<? extends Request<? extends Page<T>>> pageRequests, int maxBufferedPages) {
+        Asserts.assertNotNull(pageRequests, "page requests");
+        if (maxBufferedPages < 1) {
+            throw new IllegalArgumentException("'max buffered pages' must be greater than zero!");
+        }
+        this.pageRequests = pageRequests;
+        this.maxBufferedPages = maxBufferedPages;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Asserts.assertNotNull(subscriber, "subscriber");
+        PageSubscription subscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Sends the items to a single subscriber. Its state is only changed by the thread that is draining, which is
+     * whichever thread requested items, cancelled, or received a page while no other thread was draining.
+     */
+    private final class PageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final Map<Integer, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+        private final Map<Integer, Arrival<T>> arrived = new ConcurrentHashMap<>();
+        private volatile boolean cancelled;
+        private volatile int lastPage = Integer.MAX_VALUE;
+        private volatile Throwable error;
+
+        // only accessed while draining
+        private final Deque<Iterator<? extends T>> buffered = new ArrayDeque<>();
+        private long bufferedItems;
+        private long receivedItems;
+        private int pageSize;
+        private Integer total;
+        private int nextPage;
+        private int nextArrival;
+        private int pendingPages;
+        private boolean done;
+
+        private PageSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("'n' must be greater than zero!");
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drainLoop();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            while (!done) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                Throwable failure = error;
+                if (failure != null) {
+                    terminate();
+                    subscriber.onError(failure);
+                    return;
+                }
+                boolean exhausted = nextArrival > lastPage;
+                if (!exhausted) {
+                    Arrival<T> arrival = arrived.remove(nextArrival);
+                    if (arrival != null) {
+                        receive(arrival);
+                        continue;
+                    }
+                }
+                if (!buffered.isEmpty() && requested.get() > 0) {
+                    emit();
+                    continue;
+                }
+                if (exhausted) {
+                    if (buffered.isEmpty()) {
+                        terminate();
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                if (!shouldFetch()) {
+                    return;
+                }
+                fetch();
+            }
+        }
+
+        private void receive(Arrival<T> arrival) {
+            List<T> items = arrival.items;
+            pendingPages--;
+            receivedItems += items.size();
+            if (!items.isEmpty()) {
+                buffered.add(items.iterator());
+                bufferedItems += items.size();
+            }
+            if (pageSize == 0) {
+                pageSize = arrival.limit != null ? arrival.limit : items.size();
+            }
+            if (arrival.total != null) {
+                total = arrival.total;
+            }
+            boolean last = items.isEmpty()
+                    || total != null && receivedItems >= total
+                    || arrival.limit != null && items.size() < arrival.limit;
+            if (last) {
+                // the pages requested ahead of the last one are not needed anymore
+                lastPage = nextArrival;
+                cancelInFlight();
+            }
+            nextArrival++;
+        }
+
+        private boolean shouldFetch() {
+            if (pendingPages + buffered.size() >= maxBufferedPages) {
+                return false;
+            }
+            if (pendingPages > 0 && pageSize == 0) {
+                // the size of the pages is not known until the first one arrives
+                return false;
+            }
+            if (total != null && pageSize > 0 && (long) nextPage * pageSize >= total) {
+                return false;
+            }
+            return requested.get() - bufferedItems > (long) pendingPages * pageSize;
+        }
+
+        private void emit() {
+            long r = requested.get();
+            long emitted = 0;
+            while (emitted < r && !buffered.isEmpty() && !cancelled) {
+                Iterator<? extends T> page = buffered.peek();
+                T item = page.next();
+                if (!page.hasNext()) {
+                    buffered.poll();
+                }
+                bufferedItems--;
+                emitted++;
+                subscriber.onNext(item);
+            }
+            if (r != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+        }
+
+        private void fetch() {
+            int page = nextPage++;
+            pendingPages++;
+            CompletableFuture<? extends Page<T>> future;
+            try {
+                future = pageRequests.apply(page).executeAsync();
+            } catch (RuntimeException e) {
+                error = e;
+                return;
+            }
+            inFlight.put(page, future);
+            future.whenComplete((result, e) -> {
+                inFlight.remove(page);
+                if (page > lastPage) {
+                    return;
+                }
+                if (e != null) {
+                    error = e;
+                } else {
+                    arrived.put(page, new Arrival<>(result));
+                }
+                drain();
+            });
+        }
+
+        private void cancelInFlight() {
+            for (CompletableFuture<?> future : inFlight.values()) {
+                future.cancel(true);
+            }
+        }
+
+        private void terminate() {
+            done = true;
+            lastPage = -1;
+            cancelInFlight();
+            buffered.clear();
+            arrived.clear();
+            bufferedItems = 0;
+        }
+    }
+
+    private static final class Arrival<T> {
+        private final List<T> items;
+        private final Integer total;
+        private final Integer limit;
+
+        private Arrival(Page<T> page) {
+            this.items = page == null || page.getItems() == null ? Collections.<T>emptyList() : page.getItems();
+            this.total = page == null ? null : page.getTotal();
+            this.limit = page == null ? null : page.getLimit();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.json.mgmt.Page;
+import com.auth0.net.Request;
+
+/**
+ * Creates the requests for the pages of a paginated Management API list, like
+ * {@code (page, perPage) -> mgmt.roles().list(new RolesFilter().withPage(page, perPage).withTotals(true))}.
+ *
+ * @param <T> the type of the items in the pages.
+ * @see PageIterable
+ */
+@FunctionalInterface
+public interface PageRequestFactory<T> {
+
+    /**
+     * Creates the request for a page.
+     *
+     * @param pageNumber the number of the page, starting at 0.
+     * @param perPage    the amount of items per page.
+     * @return the request for the page.
+     */
+    Request<? extends Page<T>> createRequest(int pageNumber, int perPage);
+}
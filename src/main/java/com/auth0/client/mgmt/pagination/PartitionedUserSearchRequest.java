@@ -0,0 +1,354 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.mgmt.filter.QueryFilter;
+import com.auth0.client.mgmt.filter.UserFilter;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.users.User;
+import com.auth0.json.mgmt.users.UsersPage;
+import com.auth0.net.Deadline;
+import com.auth0.net.RateLimitThrottle;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Request that searches users past the window of {@value #SEARCH_WINDOW} results the search engine gives access to.
+ * The creation date range of the search is split into partitions that are searched concurrently, and each partition
+ * that still matches more users than the window is split again, first by creation date and then, for users created
+ * in the same millisecond, by user ID at the median of the IDs on the first page of the partition, until every
+ * partition fits. The results of the partitions are merged in order of creation date.
+ * <p>
+ * The first page of each partition is requested with the totals to learn whether it fits. The amount of requests in
+ * flight is capped by the parallelism and, when the client paces its requests with a {@link RateLimitThrottle}, by the
+ * requests the rate limit allows to send right away. If any request fails, the requests in flight are cancelled.
+ * <p>
+ * This class is not thread-safe.
+ */
+@SuppressWarnings("WeakerAccess")
+public class PartitionedUserSearchRequest implements Request<List<User>> {
+
+    /**
+     * The maximum amount of results the search engine gives access to through pagination.
+     */
+    public static final int SEARCH_WINDOW = 1000;
+
+    private static final String KEY_SORT = "sort";
+    private static final String CREATION_SORT = "created_at:1";
+
+    private final Function<UserFilter, ? extends Request<UsersPage>> search;
+    private final Map<String, Object> parameters;
+    private final String query;
+    private final long createdFrom;
+    private final long createdTo;
+    private final RateLimitThrottle throttle;
+    private int pageSize = PageIterable.MAX_PAGE_SIZE;
+    private int parallelism = 4;
+    private Deadline deadline;
+    private long timeoutNanos;
+
+    /**
+     * Creates a new request.
+     *
+     * @param search      the function that creates the search request for a page with the given filter.
+     * @param filter      the filter to search with. Can be null. Its page, totals and sort parameters are replaced.
+     * @param createdFrom the creation date users must have been created at or after. Must not be null.
+     * @param createdTo   the creation date users must have been created before. Must be after {@code createdFrom}.
+     * @param throttle    the throttle that paces the requests of the client, or null if they are not paced.
+     */
+    public PartitionedUserSearchRequest(Function<UserFilter, ? extends Request<UsersPage>> search, UserFilter filter, Date createdFrom, Date createdTo, RateLimitThrottle throttle) {
+        Asserts.assertNotNull(search, "search");
+        Asserts.assertNotNull(createdFrom, "created from");
+        Asserts.assertNotNull(createdTo, "created to");
+        if (!createdFrom.before(createdTo)) {
+            throw new IllegalArgumentException("'createdFrom' must be before 'createdTo'!");
+        }
+        this.search = search;
+        this.parameters = filter == null ? new HashMap<>() : new HashMap<>(filter.getAsMap());
+        Object encodedQuery = parameters.remove(QueryFilter.KEY_QUERY);
+        this.query = encodedQuery == null ? null : urlDecode(String.valueOf(encodedQuery));
+        this.createdFrom = createdFrom.getTime();
+        this.createdTo = createdTo.getTime();
+        this.throttle = throttle;
+    }
+
+    /**
+     * Sets the amount of users per page. If not set, a default of {@link PageIterable#MAX_PAGE_SIZE} users will be used.
+     *
+     * @param pageSize the amount of users per page. Must be between 1 and {@link PageIterable#MAX_PAGE_SIZE}.
+     * @return this request instance.
+     */
+    public PartitionedUserSearchRequest setPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > PageIterable.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("'pageSize' must be between 1 and " + PageIterable.MAX_PAGE_SIZE + "!");
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of requests in flight at the same time. If not set, a default of 4 requests will be used.
+     *
+     * @param parallelism the maximum amount of requests in flight. Must be greater than zero.
+     * @return this request instance.
+     */
+    public PartitionedUserSearchRequest setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("'parallelism' must be greater than zero!");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time each execution of this request can take, fetching every page of the search. The timeout starts when the
+     * request is executed, and every page request must complete within it. When a deadline is also set, whichever
+     * expires first applies.
+     *
+     * @param timeout the maximum duration of an execution, or 0 to remove the timeout.
+     * @param unit    the unit of the timeout.
+     * @return this request instance.
+     */
+    @Override
+    public PartitionedUserSearchRequest setTimeout(long timeout, TimeUnit unit) {
+        Asserts.assertNotNull(unit, "unit");
+        if (timeout < 0) {
+            throw new IllegalArgumentException("'timeout' cannot be negative!");
+        }
+        this.timeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * Sets the deadline each page request must complete by.
+     *
+     * @param deadline the deadline, or null to remove it.
+     * @return this request instance.
+     */
+    @Override
+    public PartitionedUserSearchRequest setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    /**
+     * Searches every partition, blocking until all of them were searched.
+     *
+     * @return the users that match the search, in order of creation date.
+     * @throws Auth0Exception if any request failed, or a partition couldn't be split to fit the window.
+     */
+    @Override
+    public List<User> execute() throws Auth0Exception {
+        try {
+            return executeAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Auth0Exception("Interrupted while searching the users", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Auth0Exception) {
+                throw (Auth0Exception) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new Auth0Exception("Failed to search the users", cause);
+        }
+    }
+
+    /**
+     * Searches every partition asynchronously. Cancelling the returned future cancels the requests in flight.
+     *
+     * @return a future completed with the users that match the search, in order of creation date.
+     */
+    @Override
+    public CompletableFuture<List<User>> executeAsync() {
+        Execution execution = new Execution();
+        execution.search(new Partition(createdFrom, createdTo, null, null)).whenComplete((users, e) -> {
+            if (e != null) {
+                execution.fail(e);
+            } else {
+                execution.result.complete(users);
+            }
+        });
+        return execution.result;
+    }
+
+    private UserFilter pageFilter(Partition partition, int page) {
+        UserFilter filter = new UserFilter();
+        filter.getAsMap().putAll(parameters);
+        String range = partition.toQuery();
+        filter.withQuery(query == null ? range : "(" + query + ") AND " + range);
+        filter.getAsMap().put(KEY_SORT, CREATION_SORT);
+        return filter.withPage(page, pageSize).withTotals(true);
+    }
+
+    private static String urlDecode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException ex) {
+            //"Every implementation of the Java platform is required to support the following standard charsets [...]: UTF-8"
+            throw new IllegalStateException("UTF-8 encoding not supported by current Java platform implementation.", ex);
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * The users created in a range of dates and, once the range can't be split any further, with a user ID in a range.
+     * The lower bounds are inclusive and the upper bounds exclusive, and a null user ID bound is unbounded.
+     */
+    private static final class Partition {
+
+        private final long createdFrom;
+        private final long createdTo;
+        private final String userIdFrom;
+        private final String userIdTo;
+
+        Partition(long createdFrom, long createdTo, String userIdFrom, String userIdTo) {
+            this.createdFrom = createdFrom;
+            this.createdTo = createdTo;
+            this.userIdFrom = userIdFrom;
+            this.userIdTo = userIdTo;
+        }
+
+        /**
+         * Splits this partition into consecutive partitions, by creation date while the range spans more than one
+         * millisecond, and then in two by user ID, at the median of the IDs of the given users of this partition.
+         *
+         * @return the partitions in order, or null if this partition can't be split.
+         */
+        List<Partition> split(int parts, List<User> sample) {
+            long width = createdTo - createdFrom;
+            List<Partition> partitions = new ArrayList<>();
+            if (width > 1) {
+                int count = (int) Math.min(Math.max(parts, 2), width);
+                for (int i = 0; i < count; i++) {
+                    long from = createdFrom + width * i / count;
+                    long to = createdFrom + width * (i + 1) / count;
+                    partitions.add(new Partition(from, to, null, null));
+                }
+                return partitions;
+            }
+            String userId = splitUserId(sample);
+            if (userId == null) {
+                return null;
+            }
+            partitions.add(new Partition(createdFrom, createdTo, userIdFrom, userId));
+            partitions.add(new Partition(createdFrom, createdTo, userId, userIdTo));
+            return partitions;
+        }
+
+        /**
+         * @return the median of the IDs of the given users that splits this partition in two non-empty ones, or null if
+         * there is none.
+         */
+        private String splitUserId(List<User> sample) {
+            List<String> userIds = new ArrayList<>();
+            for (User user : sample) {
+                String userId = user.getId();
+                if (userId != null && (userIdFrom == null || userId.compareTo(userIdFrom) > 0)
+                        && (userIdTo == null || userId.compareTo(userIdTo) < 0)) {
+                    userIds.add(userId);
+                }
+            }
+            Collections.sort(userIds);
+            for (int i = userIds.size() / 2; i < userIds.size(); i++) {
+                if (userIds.get(i).compareTo(userIds.get(0)) > 0) {
+                    return userIds.get(i);
+                }
+            }
+            return null;
+        }
+
+        String toQuery() {
+            String query = "created_at:[" + quote(Instant.ofEpochMilli(createdFrom).toString())
+                    + " TO " + quote(Instant.ofEpochMilli(createdTo).toString()) + "}";
+            if (userIdFrom == null && userIdTo == null) {
+                return query;
+            }
+            return query + " AND user_id:[" + (userIdFrom == null ? "*" : quote(userIdFrom))
+                    + " TO " + (userIdTo == null ? "*" : quote(userIdTo)) + "}";
+        }
+    }
+
+    /**
+     * A single search of every partition.
+     */
+    private final class Execution {
+
+        private final CompletableFuture<List<User>> result = new CompletableFuture<>();
+        private final RequestDispatcher dispatcher = new RequestDispatcher(result, parallelism, throttle,
+                RequestDispatcher.deadline(deadline, timeoutNanos));
+
+        private CompletableFuture<List<User>> search(Partition partition) {
+            return send(partition, 0).thenCompose(first -> {
+                if (first.getTotal() == null) {
+                    throw new CompletionException(new Auth0Exception("The search didn't include the total amount of users"));
+                }
+                int total = first.getTotal();
+                if (total > SEARCH_WINDOW) {
+                    List<Partition> partitions = partition.split((total + SEARCH_WINDOW - 1) / SEARCH_WINDOW, items(first));
+                    if (partitions == null) {
+                        throw new CompletionException(new Auth0Exception("More than " + SEARCH_WINDOW
+                                + " users match the search in the partition " + partition.toQuery()));
+                    }
+                    return merge(partitions);
+                }
+                int pages = (total + pageSize - 1) / pageSize;
+                List<CompletableFuture<UsersPage>> rest = new ArrayList<>();
+                for (int page = 1; page < pages; page++) {
+                    rest.add(send(partition, page));
+                }
+                return CompletableFuture.allOf(rest.toArray(new CompletableFuture[0])).thenApply(v -> {
+                    List<User> users = new ArrayList<>(items(first));
+                    for (CompletableFuture<UsersPage> page : rest) {
+                        users.addAll(items(page.join()));
+                    }
+                    return users;
+                });
+            });
+        }
+
+        private CompletableFuture<List<User>> merge(List<Partition> partitions) {
+            List<CompletableFuture<List<User>>> searches = new ArrayList<>();
+            for (Partition partition : partitions) {
+                searches.add(search(partition));
+            }
+            return CompletableFuture.allOf(searches.toArray(new CompletableFuture[0])).thenApply(v -> {
+                List<User> users = new ArrayList<>();
+                for (CompletableFuture<List<User>> search : searches) {
+                    users.addAll(search.join());
+                }
+                return users;
+            });
+        }
+
+        private CompletableFuture<UsersPage> send(Partition partition, int page) {
+            return dispatcher.send(() -> search.apply(pageFilter(partition, page)));
+        }
+
+        private void fail(Throwable e) {
+            dispatcher.fail(e);
+        }
+
+        private List<User> items(UsersPage page) {
+            return page == null || page.getItems() == null ? Collections.<User>emptyList() : page.getItems();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.net.Deadline;
+import com.auth0.net.RateLimitThrottle;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends the requests of an operation that fans out over many pages, like fetching every page of a list, in the order
+ * they were queued. The amount of requests in flight is capped by the parallelism and, when the client paces its
+ * requests with a {@link RateLimitThrottle}, by the requests the rate limit allows to send right away, so the fan-out
+ * doesn't get them rejected.
+ * <p>
+ * The dispatcher is bound to the result of the operation: the first request that fails completes the result with its
+ * failure, and once the result is completed exceptionally or cancelled, the requests in flight are cancelled and the
+ * queued ones are never sent.
+ * <p>
+ * This class is thread-safe. Its queue is guarded by the instance lock, and the requests are sent outside of it.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class RequestDispatcher {
+
+    private final CompletableFuture<?> result;
+    private final int parallelism;
+    private final RateLimitThrottle throttle;
+    private final Deadline deadline;
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+    private int requestsInFlight;
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param result      the result of the operation the requests are sent for. Must not be null.
+     * @param parallelism the maximum amount of requests in flight. Must be greater than zero.
+     * @param throttle    the throttle that paces the requests of the client, or null if they are not paced.
+     * @param deadline    the deadline every request must complete by, or null if there is none.
+     */
+    public RequestDispatcher(CompletableFuture<?> result, int parallelism, RateLimitThrottle throttle, Deadline deadline) {
+        Asserts.assertNotNull(result, "result");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("'parallelism' must be greater than zero!");
+        }
+        this.result = result;
+        this.parallelism = parallelism;
+        this.throttle = throttle;
+        this.deadline = deadline;
+        result.whenComplete((value, e) -> {
+            if (e != null) {
+                for (CompletableFuture<?> future : inFlight) {
+                    future.cancel(true);
+                }
+            }
+        });
+    }
+
+    /**
+     * Queues a request, and sends it as soon as the caps allow.
+     *
+     * @param request the supplier of the request, called when it's sent.
+     * @param <T>     the type of the response.
+     * @return a future completed with the response. It's never completed if the result completes before the request
+     * is sent.
+     */
+    public <T> CompletableFuture<T> send(Supplier<? extends Request<? extends T>> request) {
+        CompletableFuture<T> sent = new CompletableFuture<>();
+        synchronized (this) {
+            waiting.add(() -> {
+                CompletableFuture<? extends T> future;
+                try {
+                    Request<? extends T> created = request.get();
+                    if (deadline != null) {
+                        created.setDeadline(deadline);
+                    }
+                    future = created.executeAsync();
+                } catch (RuntimeException e) {
+                    completed(sent, null, e);
+                    return;
+                }
+                inFlight.add(future);
+                future.whenComplete((response, e) -> {
+                    inFlight.remove(future);
+                    completed(sent, response, e);
+                });
+                if (result.isCompletedExceptionally()) {
+                    future.cancel(true);
+                }
+            });
+        }
+        dispatch();
+        return sent;
+    }
+
+    /**
+     * Completes the result with the given failure, unwrapped from a {@linkplain CompletionException}, which cancels
+     * the requests in flight.
+     *
+     * @param e the failure.
+     */
+    public void fail(Throwable e) {
+        result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+    }
+
+    /**
+     * The deadline of an operation that starts now, with the given deadline and timeout: the timeout counts from
+     * here, and the earliest of both applies.
+     */
+    static Deadline deadline(Deadline deadline, long timeoutNanos) {
+        if (timeoutNanos <= 0) {
+            return deadline;
+        }
+        Deadline timeout = Deadline.after(timeoutNanos, TimeUnit.NANOSECONDS);
+        return deadline == null ? timeout : deadline.minimum(timeout);
+    }
+
+    private <T> void completed(CompletableFuture<T> sent, T response, Throwable e) {
+        synchronized (this) {
+            requestsInFlight--;
+        }
+        if (e != null) {
+            fail(e);
+            sent.completeExceptionally(e);
+        } else {
+            sent.complete(response);
+        }
+        dispatch();
+    }
+
+    private void dispatch() {
+        List<Runnable> requests = new ArrayList<>();
+        synchronized (this) {
+            int allowed = allowedInFlight();
+            while (!result.isDone() && requestsInFlight < allowed && !waiting.isEmpty()) {
+                requests.add(waiting.poll());
+                requestsInFlight++;
+            }
+        }
+        for (Runnable request : requests) {
+            request.run();
+        }
+    }
+
+    private int allowedInFlight() {
+        if (throttle != null) {
+            long available = throttle.getAvailable();
+            if (available >= 0) {
+                return (int) Math.max(1, Math.min(parallelism, available));
+            }
+        }
+        return parallelism;
+    }
+}
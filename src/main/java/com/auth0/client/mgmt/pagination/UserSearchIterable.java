@@ -0,0 +1,325 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.mgmt.jobs.JobCompletionWaiter;
+import com.auth0.client.mgmt.jobs.UsersExportReader;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.Page;
+import com.auth0.json.mgmt.jobs.Job;
+import com.auth0.json.mgmt.users.User;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.Request;
+import com.auth0.utils.Asserts;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Gives blocking access to the users that match a search, one by one, as an {@linkplain Iterable} or a
+ * {@linkplain Stream}, however many they are. The first page of the search is requested with the totals. If the
+ * search matches at most {@value PartitionedUserSearchRequest#SEARCH_WINDOW} users, the users are read from the
+ * search pages. Otherwise, a users export job is submitted instead, waited for with a {@link JobCompletionWaiter}, and the users are read
+ * from the exported file as it's downloaded, with a {@link UsersExportReader}.
+ * <p>
+ * The export includes every user of its connection, so the users it returns must be narrowed down to the ones that
+ * match the search with {@link Builder#withExportMatcher(Predicate)}. Without it, a search that exceeds the window
+ * fails instead of returning other users than the search pages would. Users are parsed from an export in JSON format, and only the fields
+ * selected by the export, under their exported names, are set on them.
+ * <p>
+ * Failed requests and jobs are thrown as an {@linkplain UncheckedIOException} caused by the
+ * {@linkplain Auth0Exception}. A stream that reads an export must be closed, like with a try-with-resources block,
+ * if it's not consumed to its end, to release the download.
+ * <p>
+ * This class is immutable and thread-safe. The iterators it creates are not.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class UserSearchIterable implements Iterable<User> {
+
+    private static final String STATUS_FAILED = "failed";
+
+    private final PageRequestFactory<User> searchPages;
+    private final Supplier<? extends Request<Job>> exportJob;
+    private final JobCompletionWaiter waiter;
+    private final ExportOpener exportOpener;
+    private final JsonCodec codec;
+    private final int pageSize;
+    private final Predicate<User> exportMatcher;
+
+    private UserSearchIterable(Builder builder) {
+        this.searchPages = builder.searchPages;
+        this.exportJob = builder.exportJob;
+        this.waiter = builder.waiter;
+        this.exportOpener = builder.exportOpener;
+        this.codec = builder.codec;
+        this.pageSize = builder.pageSize;
+        this.exportMatcher = builder.exportMatcher;
+    }
+
+    /**
+     * Create a new Builder to configure the access to the users of a search.
+     *
+     * @param searchPages  the factory of the requests for the pages of the search, which must include the totals.
+     * @param exportJob    the supplier of the request that submits the users export job, in JSON format.
+     * @param waiter       the waiter that polls the export job until it ends.
+     * @param exportOpener the opener of the file at the location of a completed export job.
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder(PageRequestFactory<User> searchPages, Supplier<? extends Request<Job>> exportJob, JobCompletionWaiter waiter, ExportOpener exportOpener) {
+        Asserts.assertNotNull(searchPages, "search pages");
+        Asserts.assertNotNull(exportJob, "export job");
+        Asserts.assertNotNull(waiter, "waiter");
+        Asserts.assertNotNull(exportOpener, "export opener");
+        return new Builder(searchPages, exportJob, waiter, exportOpener);
+    }
+
+    /**
+     * Creates an iterator over the users. It requests the first page of the search when it's first used.
+     *
+     * @return a new iterator.
+     */
+    @Override
+    public Iterator<User> iterator() {
+        return new Users();
+    }
+
+    /**
+     * Creates a sequential stream of the users. Closing the stream releases the download of the export, if any.
+     *
+     * @return a new stream.
+     */
+    public Stream<User> stream() {
+        Users users = new Users();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(users, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(users::close);
+    }
+
+    private static <E> E execute(Request<? extends E> request) {
+        try {
+            return request.execute();
+        } catch (Auth0Exception e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<User> items(Page<User> page) {
+        return page == null || page.getItems() == null ? Collections.<User>emptyList() : page.getItems();
+    }
+
+    /**
+     * Opens the file exported by a users export job.
+     */
+    @FunctionalInterface
+    public interface ExportOpener {
+
+        /**
+         * Opens the file at the given location for reading.
+         *
+         * @param location the location of the exported file.
+         * @return the content of the file, compressed or not.
+         * @throws Auth0Exception if the file couldn't be opened.
+         */
+        InputStream open(String location) throws Auth0Exception;
+    }
+
+    /**
+     * The users of a single iteration, read from the search pages or from the export, whichever applies.
+     */
+    private final class Users implements Iterator<User>, Closeable {
+
+        private Iterator<User> current;
+        private int page;
+        private long offset;
+        private Integer total;
+        private boolean lastPage;
+        private UsersExportReader<User> export;
+        private User nextExported;
+
+        @Override
+        public boolean hasNext() {
+            if (current == null) {
+                start();
+            }
+            if (export != null) {
+                return nextExported != null || readExported();
+            }
+            while (!current.hasNext() && !lastPage) {
+                current = nextPage().iterator();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public User next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (export != null) {
+                User user = nextExported;
+                nextExported = null;
+                return user;
+            }
+            return current.next();
+        }
+
+        @Override
+        public void close() {
+            if (export != null) {
+                export.close();
+            }
+        }
+
+        private void start() {
+            List<User> first = nextPage();
+            if (total != null && total > PartitionedUserSearchRequest.SEARCH_WINDOW) {
+                if (exportMatcher == null) {
+                    throw new UncheckedIOException(new Auth0Exception("The search matches " + total + " users, more than the "
+                            + PartitionedUserSearchRequest.SEARCH_WINDOW + " it gives access to, and no export matcher was set to find them in an export"));
+                }
+                current = Collections.emptyIterator();
+                export = openExport(awaitExport());
+                return;
+            }
+            current = first.iterator();
+        }
+
+        private List<User> nextPage() {
+            Page<User> result = execute(searchPages.createRequest(page, pageSize));
+            List<User> items = items(result);
+            if (page == 0 && result != null) {
+                total = result.getTotal();
+            }
+            page++;
+            offset += items.size();
+            lastPage = items.size() < pageSize || total != null && offset >= total
+                    || offset >= PartitionedUserSearchRequest.SEARCH_WINDOW;
+            return items;
+        }
+
+        private Job awaitExport() {
+            CompletableFuture<Job> completion = waiter.await(execute(exportJob.get()));
+            Job job;
+            try {
+                job = completion.get();
+            } catch (InterruptedException e) {
+                completion.cancel(false);
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new Auth0Exception("Interrupted while waiting for the users export job", e));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw new UncheckedIOException(cause instanceof Auth0Exception ? (Auth0Exception) cause
+                        : new Auth0Exception("Failed to wait for the users export job", cause));
+            }
+            if (STATUS_FAILED.equals(job.getStatus())) {
+                throw new UncheckedIOException(new Auth0Exception("The users export job " + job.getId() + " failed"));
+            }
+            return job;
+        }
+
+        private UsersExportReader<User> openExport(Job job) {
+            try {
+                InputStream content = job.getLocation() == null || job.getLocation().isEmpty()
+                        ? new ByteArrayInputStream(new byte[0])
+                        : exportOpener.open(job.getLocation());
+                return UsersExportReader.newBuilder(content).withCodec(codec).build();
+            } catch (Auth0Exception e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private boolean readExported() {
+            while (export.hasNext()) {
+                User user = export.next();
+                if (exportMatcher.test(user)) {
+                    nextExported = user;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Builder class to configure the access to the users of a search.
+     */
+    public static final class Builder {
+
+        private final PageRequestFactory<User> searchPages;
+        private final Supplier<? extends Request<Job>> exportJob;
+        private final JobCompletionWaiter waiter;
+        private final ExportOpener exportOpener;
+        private JsonCodec codec = JsonCodec.getDefault();
+        private int pageSize = PageIterable.MAX_PAGE_SIZE;
+        private Predicate<User> exportMatcher;
+
+        private Builder(PageRequestFactory<User> searchPages, Supplier<? extends Request<Job>> exportJob, JobCompletionWaiter waiter, ExportOpener exportOpener) {
+            this.searchPages = searchPages;
+            this.exportJob = exportJob;
+            this.waiter = waiter;
+            this.exportOpener = exportOpener;
+        }
+
+        /**
+         * Sets the codec that parses the exported users. If not set, the default codec will be used.
+         *
+         * @param codec the codec to use. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withCodec(JsonCodec codec) {
+            Asserts.assertNotNull(codec, "codec");
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * Sets the amount of users per search page. If not set, a default of {@link PageIterable#MAX_PAGE_SIZE} users
+         * will be used.
+         *
+         * @param pageSize the amount of users per page. Must be between 1 and {@link PageIterable#MAX_PAGE_SIZE}.
+         * @return this builder instance.
+         */
+        public Builder withPageSize(int pageSize) {
+            if (pageSize < 1 || pageSize > PageIterable.MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("'pageSize' must be between 1 and " + PageIterable.MAX_PAGE_SIZE + "!");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the condition the exported users must meet to be returned, since the export includes every user of
+         * its connection. It must match the users the search matches, for the results not to depend on whether they
+         * were read from the search or the export. If not set, a search that exceeds the window fails, and no export
+         * job is submitted.
+         *
+         * @param exportMatcher the condition exported users must meet. Must not be null.
+         * @return this builder instance.
+         */
+        public Builder withExportMatcher(Predicate<User> exportMatcher) {
+            Asserts.assertNotNull(exportMatcher, "export matcher");
+            this.exportMatcher = exportMatcher;
+            return this;
+        }
+
+        /**
+         * Builds an {@link UserSearchIterable} with the provided attributes.
+         *
+         * @return a new instance.
+         */
+        public UserSearchIterable build() {
+            return new UserSearchIterable(this);
+        }
+    }
+}
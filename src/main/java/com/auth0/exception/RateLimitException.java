@@ -1,5 +1,7 @@
 package com.auth0.exception;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Represents a server error when a rate limit has been exceeded.
  * <p>
@@ -47,4 +49,21 @@ public class RateLimitException extends APIException {
         return reset;
     }
 
+    /**
+     * Getter for the time left until the rate limit resets.
+     * @return The milliseconds until the reset, or 0 if missing or already passed.
+     */
+    public long getMillisUntilReset() {
+        return getMillisUntilReset(System.currentTimeMillis());
+    }
+
+    /**
+     * Getter for the time left from the given time until the rate limit resets.
+     * @param nowMillis the current time, in milliseconds since the epoch.
+     * @return The milliseconds until the reset, or 0 if missing or already passed.
+     */
+    public long getMillisUntilReset(long nowMillis) {
+        return reset <= 0 ? 0 : Math.max(0, TimeUnit.SECONDS.toMillis(reset) - nowMillis);
+    }
+
 }
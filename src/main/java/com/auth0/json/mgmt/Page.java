@@ -24,6 +24,8 @@ public abstract class Page<T> {
     private Integer total;
     @JsonProperty("limit")
     private Integer limit;
+    @JsonProperty("next")
+    private String next;
     private final List<T> items;
 
     public Page(List<T> items) {
@@ -78,6 +80,21 @@ public abstract class Page<T> {
         return limit;
     }
 
+    /**
+     * Getter for the token to request the next page with, on endpoints paginated by checkpoint.
+     *
+     * @return the next value, or null if this is the last page or the page was not requested by checkpoint.
+     * @see com.auth0.client.mgmt.filter.PageFilter#withFrom(String)
+     */
+    @JsonProperty("next")
+    public String getNext() {
+        return next;
+    }
+
+    void setNext(String next) {
+        this.next = next;
+    }
+
     /**
      * Getter for the list of items.
      *
@@ -1,18 +1,22 @@
 package com.auth0.json.mgmt;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.type.CollectionType;
 
 import java.io.IOException;
 import java.util.List;
 
 /**
  * Parses a given paged response into their page pojo representation.
+ * The response is read in a single pass from the parser's token stream: the items are bound as they are read
+ * using the deserializers of the calling {@link com.fasterxml.jackson.databind.ObjectMapper}, without building
+ * an intermediate tree. Both a bare array of items and an object wrapping the items with the
+ * {@code start}, {@code length}, {@code total} and {@code limit} values, or the {@code next} checkpoint, are
+ * supported.
  * <p>
  * This class is thread-safe.
  *
@@ -23,7 +27,6 @@ public abstract class PageDeserializer<T, U> extends StdDeserializer<T> {
 
     private final String itemsPropertyName;
     private final Class<U> uClazz;
-    private static final ObjectMapper mapper = new ObjectMapper();
 
     protected PageDeserializer(Class<U> clazz, String arrayName) {
         super(Object.class);
@@ -33,34 +36,82 @@ public abstract class PageDeserializer<T, U> extends StdDeserializer<T> {
 
     @Override
     public T deserialize(JsonParser p, DeserializationContext ctx) throws IOException {
-        JsonNode node = p.getCodec().readTree(p);
-        if (node.isArray()) {
-            return createPage(getArrayElements((ArrayNode) node));
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            return createPage(readItems(p, ctx));
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
         }
 
-        Integer start = getIntegerValue(node.get("start"));
-        Integer length = getIntegerValue(node.get("length"));
-        Integer total = getIntegerValue(node.get("total"));
-        Integer limit = getIntegerValue(node.get("limit"));
-        ArrayNode array = (ArrayNode) node.get(itemsPropertyName);
+        Integer start = null;
+        Integer length = null;
+        Integer total = null;
+        Integer limit = null;
+        String next = null;
+        List<U> items = null;
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.getCurrentName();
+            p.nextToken();
+            if (itemsPropertyName.equals(name)) {
+                items = readItems(p, ctx);
+                continue;
+            }
+            switch (name) {
+                case "start":
+                    start = readInteger(p);
+                    break;
+                case "length":
+                    length = readInteger(p);
+                    break;
+                case "total":
+                    total = readInteger(p);
+                    break;
+                case "limit":
+                    limit = readInteger(p);
+                    break;
+                case "next":
+                    next = p.currentToken() == JsonToken.VALUE_STRING ? p.getText() : null;
+                    p.skipChildren();
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            ctx.reportWrongTokenException(this, JsonToken.END_OBJECT, "Expected the end of the page object.");
+        }
 
-        return createPage(start, length, total, limit, getArrayElements(array));
+        T page = createPage(start, length, total, limit, items);
+        if (next != null && page instanceof Page) {
+            ((Page<?>) page).setNext(next);
+        }
+        return page;
     }
 
     protected abstract T createPage(List<U> items);
 
     protected abstract T createPage(Integer start, Integer length, Integer total, Integer limit, List<U> items);
 
-    private Integer getIntegerValue(JsonNode node) {
-        if (node == null || node.isNull()) {
+    private Integer readInteger(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
             return null;
-        } else {
-            return node.intValue();
         }
+        if (token.isStructStart()) {
+            p.skipChildren();
+            return 0;
+        }
+        return p.getValueAsInt();
     }
 
-    private List<U> getArrayElements(ArrayNode array) throws IOException {
-        CollectionType type = mapper.getTypeFactory().constructCollectionType(List.class, uClazz);
-        return mapper.readerFor(type).readValue(array);
+    @SuppressWarnings("unchecked")
+    private List<U> readItems(JsonParser p, DeserializationContext ctx) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        JavaType type = ctx.getTypeFactory().constructCollectionType(List.class, uClazz);
+        JsonDeserializer<Object> deserializer = ctx.findRootValueDeserializer(type);
+        return (List<U>) deserializer.deserialize(p, ctx);
     }
 }
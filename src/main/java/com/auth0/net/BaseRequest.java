@@ -1,21 +1,45 @@
 package com.auth0.net;
 
 import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
+import com.auth0.utils.Asserts;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public abstract class BaseRequest<T> implements Request<T> {
 
     private final OkHttpClient client;
+    private final ClientContext context;
+    private volatile CallTimingsEventListener.Trace trace;
+    private volatile long timeoutNanos;
+    private volatile Deadline deadline;
 
-    BaseRequest(OkHttpClient client) {
+    BaseRequest(OkHttpClient client, ClientContext context) {
         this.client = client;
+        this.context = context;
     }
 
     protected abstract okhttp3.Request createRequest() throws Auth0Exception;
@@ -23,52 +47,590 @@ public abstract class BaseRequest<T> implements Request<T> {
     protected abstract T parseResponse(Response response) throws Auth0Exception;
 
     /**
-     * Executes this request.
+     * Executes this request. If the client paces its requests with a {@link RateLimitThrottle}, the request waits on
+     * the calling thread until it can be sent. If the request is rejected because the rate limit was reached, it is
+     * retried as configured by the {@link RetryPolicy} of the client, waiting on the calling thread.
+     * If the client coalesces requests and an identical GET request is already in flight, this request waits for it
+     * and returns its result instead of being sent.
+     * If a timeout or deadline is set, the request fails once it's reached, whichever attempt or wait is in progress.
      *
      * @return the response body JSON decoded as T
      * @throws Auth0Exception if the request execution fails.
      */
     @Override
     public T execute() throws Auth0Exception {
-        okhttp3.Request request = createRequest();
-        try (Response response = client.newCall(request).execute()) {
-            return parseResponse(response);
-        } catch (Auth0Exception e) {
+        okhttp3.Request request = prepare(createRequest());
+        ConcurrentMap<String, SharedCall> inFlight = context.getInFlightRequests();
+        String key = inFlight == null ? null : getCoalescingKey(request);
+        if (key == null) {
+            return executeWithRetries(request);
+        }
+
+        SharedCall shared = new SharedCall(null);
+        SharedCall existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            if (!existing.follow()) {
+                // Every caller of the identical request cancelled it
+                return executeWithRetries(request);
+            }
+            try {
+                return await(existing, getDeadline(request));
+            } finally {
+                existing.unfollow();
+            }
+        }
+        try {
+            T result = executeWithRetries(request);
+            inFlight.remove(key, shared);
+            shared.complete(result);
+            return result;
+        } catch (Auth0Exception | RuntimeException | Error e) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(e);
             throw e;
-        } catch (IOException e) {
-            throw new Auth0Exception("Failed to execute request", e);
         }
     }
 
+    /**
+     * Executes this request asynchronously. If the client paces its requests with a {@link RateLimitThrottle}, the
+     * request is sent once it's allowed to. If the request is rejected because the rate limit was reached, it is
+     * retried as configured by the {@link RetryPolicy} of the client. Both waits are scheduled on a timer, so no
+     * thread is blocked by them.
+     * If the client coalesces requests and an identical GET request is already in flight, the returned future
+     * completes with its result instead of this request being sent. Cancelling the returned future doesn't affect
+     * other callers sharing the same request, and the shared call is cancelled once every one of them cancelled.
+     * <p>
+     * The response is parsed and the returned future completed on the completion executor of the client, or on the
+     * OkHttp dispatcher thread if it has none. Cancelling the returned future cancels the network call in progress.
+     *
+     * @return a {@linkplain CompletableFuture} representing the specified request.
+     */
     @Override
     public CompletableFuture<T> executeAsync() {
+        return executeAsync(context.getCompletionExecutor());
+    }
+
+    /**
+     * Executes this request asynchronously, as {@link #executeAsync()} does, parsing the response and completing the
+     * returned future on the given executor. Dependent stages that are not async also run on it. If the executor
+     * rejects the task, it runs on the OkHttp dispatcher thread instead.
+     *
+     * @param executor the executor to parse the response and complete the future on, or null to use the OkHttp
+     *                 dispatcher thread.
+     * @return a {@linkplain CompletableFuture} representing the specified request.
+     */
+    @Override
+    public CompletableFuture<T> executeAsync(Executor executor) {
         final CompletableFuture<T> future = new CompletableFuture<T>();
 
         okhttp3.Request request;
         try {
-            request = createRequest();
+            request = prepare(createRequest());
         } catch (Auth0Exception e) {
             future.completeExceptionally(e);
             return future;
         }
 
-        client.newCall(request).enqueue(new Callback() {
+        ConcurrentMap<String, SharedCall> inFlight = context.getInFlightRequests();
+        String key = inFlight == null ? null : getCoalescingKey(request);
+        if (key == null) {
+            enqueue(request, future, executor, 1, System.nanoTime());
+            return future;
+        }
+
+        CompletableFuture<T> sent = new CompletableFuture<>();
+        SharedCall shared = new SharedCall(sent);
+        SharedCall existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null && !existing.follow()) {
+            // Every caller of the identical request cancelled it
+            enqueue(request, future, executor, 1, System.nanoTime());
+            return future;
+        }
+        if (existing != null) {
+            future.whenComplete((result, e) -> existing.unfollow());
+            if (executor == null) {
+                existing.whenComplete((result, e) -> complete(future, result, e));
+            } else {
+                existing.whenCompleteAsync((result, e) -> complete(future, result, e), executor);
+            }
+            Deadline deadline = getDeadline(request);
+            if (deadline != null) {
+                schedule(() -> future.completeExceptionally(deadlineExceeded(null)), future, deadline.timeRemaining(TimeUnit.MILLISECONDS));
+            }
+            return future;
+        }
+        sent.whenComplete((result, e) -> {
+            inFlight.remove(key, shared);
+            complete(shared, result, e);
+            complete(future, result, e);
+        });
+        future.whenComplete((result, e) -> shared.unfollow());
+        enqueue(request, sent, executor, 1, System.nanoTime());
+        return future;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Requests that shared the result of an identical request in flight made no calls of their own.
+     */
+    @Override
+    public List<CallTimings> getCallTimings() {
+        CallTimingsEventListener.Trace current = trace;
+        return current == null ? Collections.emptyList() : current.getTimings();
+    }
+
+    /**
+     * Sets the maximum time each execution of this request can take, counted from the moment it's executed and
+     * including its retries and the time it waits for the rate limit. It applies along with the call timeout of the
+     * client, and with the deadline of this request if set: whichever expires first applies.
+     *
+     * @param timeout the maximum duration of an execution, or 0 to remove the timeout.
+     * @param unit    the unit of the timeout.
+     * @return this same request instance.
+     */
+    @Override
+    public BaseRequest<T> setTimeout(long timeout, TimeUnit unit) {
+        Asserts.assertNotNull(unit, "unit");
+        if (timeout < 0) {
+            throw new IllegalArgumentException("'timeout' cannot be negative!");
+        }
+        this.timeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * Sets the deadline by which each execution of this request, including its retries and the time it waits for the
+     * rate limit, must complete. Executions started after the deadline expired fail without being sent.
+     *
+     * @param deadline the deadline, or null to remove it.
+     * @return this same request instance.
+     */
+    @Override
+    public BaseRequest<T> setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    /**
+     * Tags the request so the timings of its calls are collected, if the client traces them, and so its calls
+     * share the deadline of this execution, if there is one.
+     */
+    private okhttp3.Request prepare(okhttp3.Request request) {
+        if (request == null) {
+            return null;
+        }
+        Deadline deadline = this.deadline;
+        long timeoutNanos = this.timeoutNanos;
+        if (timeoutNanos > 0) {
+            Deadline timeout = Deadline.after(timeoutNanos, TimeUnit.NANOSECONDS);
+            deadline = deadline == null ? timeout : deadline.minimum(timeout);
+        }
+        if (deadline == null && !context.isCallTracingEnabled()) {
+            return request;
+        }
+
+        okhttp3.Request.Builder builder = request.newBuilder();
+        if (context.isCallTracingEnabled()) {
+            CallTimingsEventListener.Trace trace = new CallTimingsEventListener.Trace();
+            this.trace = trace;
+            builder.tag(CallTimingsEventListener.Trace.class, trace);
+        }
+        if (deadline != null) {
+            builder.tag(Deadline.class, deadline);
+        }
+        return builder.build();
+    }
+
+    private static Deadline getDeadline(okhttp3.Request request) {
+        return request == null ? null : request.tag(Deadline.class);
+    }
+
+    private static Auth0Exception deadlineExceeded(Throwable cause) {
+        return new Auth0Exception("The request deadline was exceeded", cause);
+    }
+
+    /**
+     * Creates the call to send the request with, limited to the time left until the deadline of the execution.
+     *
+     * @throws Auth0Exception if the deadline already expired.
+     */
+    private Call newCall(okhttp3.Request request) throws Auth0Exception {
+        Deadline deadline = getDeadline(request);
+        if (deadline == null) {
+            return client.newCall(request);
+        }
+        long remaining = deadline.timeRemaining(TimeUnit.NANOSECONDS);
+        if (remaining <= 0) {
+            throw deadlineExceeded(null);
+        }
+        Call call = client.newCall(request);
+        long timeout = call.timeout().timeoutNanos();
+        if (timeout == 0 || remaining < timeout) {
+            call.timeout().timeout(remaining, TimeUnit.NANOSECONDS);
+        }
+        return call;
+    }
+
+    private static Auth0Exception callFailed(okhttp3.Request request, IOException e) {
+        Deadline deadline = getDeadline(request);
+        if (deadline != null && deadline.isExpired()) {
+            return deadlineExceeded(e);
+        }
+        return new Auth0Exception("Failed to execute request", e);
+    }
+
+    /**
+     * Checks that waiting the given delay before sending the request doesn't exceed the deadline of the execution.
+     *
+     * @throws Auth0Exception if it does.
+     */
+    private static void checkDelay(okhttp3.Request request, long delay) throws Auth0Exception {
+        Deadline deadline = getDeadline(request);
+        if (deadline != null && delay >= deadline.timeRemaining(TimeUnit.MILLISECONDS)) {
+            throw deadlineExceeded(null);
+        }
+    }
+
+    /**
+     * Getter for the key identifying the requests that can share a single network call and its parsed result.
+     * Only GET requests are coalesced, since any other method may change the resource.
+     *
+     * @param request the request about to be sent.
+     * @return the key, or null if the request must not be coalesced.
+     */
+    String getCoalescingKey(okhttp3.Request request) {
+        if (!"GET".equals(request.method())) {
+            return null;
+        }
+        return request.method() + ' ' + request.url() + ' ' + request.header("Authorization") + ' ' + getResponseType();
+    }
+
+    /**
+     * Getter for the type the response is parsed into, used to tell apart requests to the same URL that expect
+     * a different result.
+     *
+     * @return the response type.
+     */
+    Type getResponseType() {
+        return getClass();
+    }
+
+    private T executeWithRetries(okhttp3.Request request) throws Auth0Exception {
+        long startedAt = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeOnce(request);
+            } catch (RateLimitException e) {
+                long delay = getRetryDelay(request, attempt, e, startedAt);
+                if (delay < 0) {
+                    throw e;
+                }
+                recordRetry(request);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T await(CompletableFuture<Object> shared, Deadline deadline) throws Auth0Exception {
+        try {
+            if (deadline == null) {
+                return (T) shared.get();
+            }
+            return (T) shared.get(deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw deadlineExceeded(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Auth0Exception("Interrupted while waiting for an identical request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Auth0Exception) {
+                throw (Auth0Exception) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new Auth0Exception("Failed to execute request", cause);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void complete(CompletableFuture<V> future, Object result, Throwable e) {
+        if (e != null) {
+            future.completeExceptionally(e);
+        } else {
+            future.complete((V) result);
+        }
+    }
+
+    private T executeOnce(okhttp3.Request request) throws Auth0Exception {
+        long delay = acquireThrottle();
+        checkDelay(request, delay);
+        if (delay > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new Auth0Exception("Interrupted while waiting for the rate limit", e);
+            }
+        }
+        long sentAt = context.getMetricsRecorder() == null ? 0 : System.nanoTime();
+        try (Response response = newCall(request).execute()) {
+            return readResponse(request, response, sentAt);
+        } catch (Auth0Exception e) {
+            throw e;
+        } catch (IOException e) {
+            recordFailure(request, sentAt);
+            throw callFailed(request, e);
+        }
+    }
+
+    private void enqueue(final okhttp3.Request request, final CompletableFuture<T> future, final Executor executor, final int attempt, final long startedAt) {
+        long delay = acquireThrottle();
+        try {
+            checkDelay(request, delay);
+        } catch (Auth0Exception e) {
+            run(executor, () -> future.completeExceptionally(e));
+            return;
+        }
+        if (delay <= 0 || !schedule(() -> send(request, future, executor, attempt, startedAt), future, delay)) {
+            send(request, future, executor, attempt, startedAt);
+        }
+    }
+
+    private void send(final okhttp3.Request request, final CompletableFuture<T> future, final Executor executor, final int attempt, final long startedAt) {
+        if (future.isDone()) {
+            return;
+        }
+        final Call call;
+        try {
+            call = newCall(request);
+        } catch (Auth0Exception e) {
+            run(executor, () -> future.completeExceptionally(e));
+            return;
+        }
+        final long sentAt = context.getMetricsRecorder() == null ? 0 : System.nanoTime();
+        // An abandoned request must not keep using a connection
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
             @Override
             public void onFailure(@NotNull Call call, @NotNull IOException e) {
-                future.completeExceptionally(new Auth0Exception("Failed to execute request", e));
+                recordFailure(request, sentAt);
+                run(executor, () -> future.completeExceptionally(callFailed(request, e)));
             }
 
             @Override
-            public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
-                try {
-                    T parsedResponse = parseResponse(response);
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                run(executor, () -> {
+                    T parsedResponse;
+                    try (Response ignored = response) {
+                        parsedResponse = readResponse(request, response, sentAt);
+                    } catch (RateLimitException e) {
+                        retryLater(request, future, executor, attempt, startedAt, e);
+                        return;
+                    } catch (Auth0Exception | RuntimeException e) {
+                        future.completeExceptionally(e);
+                        return;
+                    }
                     future.complete(parsedResponse);
-                } catch (Auth0Exception e) {
-                    future.completeExceptionally(e);
-                }
+                });
             }
         });
+    }
 
-        return future;
+    /**
+     * Runs the task on the executor, or on the current thread if there is none or it rejects the task.
+     */
+    private static void run(Executor executor, Runnable task) {
+        if (executor != null) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException ignored) {
+                // Run it on the current thread instead, so the future is still completed
+            }
+        }
+        task.run();
+    }
+
+    private void retryLater(final okhttp3.Request request, final CompletableFuture<T> future, final Executor executor, final int attempt, final long startedAt, RateLimitException e) {
+        long delay = getRetryDelay(request, attempt, e, startedAt);
+        if (delay < 0 || !schedule(() -> enqueue(request, future, executor, attempt + 1, startedAt), future, delay)) {
+            future.completeExceptionally(e);
+        } else {
+            recordRetry(request);
+        }
+    }
+
+    /**
+     * Updates the throttle with the received response and parses it, measuring the parsing if the client has
+     * a {@link MetricsRecorder}.
+     */
+    private T readResponse(okhttp3.Request request, Response response, long sentAt) throws Auth0Exception {
+        updateThrottle(response);
+        MetricsRecorder metrics = context.getMetricsRecorder();
+        if (metrics == null) {
+            return parseResponse(response);
+        }
+        long receivedAt = System.nanoTime();
+        CountingResponseBody body = response.body() == null ? null : new CountingResponseBody(response.body());
+        try {
+            return parseResponse(body == null ? response : response.newBuilder().body(body).build());
+        } finally {
+            metrics.recordResponse(EndpointNames.getName(request.method(), request.url()), response.code(),
+                    receivedAt - sentAt, System.nanoTime() - receivedAt, getContentLength(request.body()),
+                    body == null ? -1 : body.getByteCount());
+        }
+    }
+
+    private void recordFailure(okhttp3.Request request, long sentAt) {
+        MetricsRecorder metrics = context.getMetricsRecorder();
+        if (metrics != null) {
+            metrics.recordFailure(EndpointNames.getName(request.method(), request.url()), System.nanoTime() - sentAt,
+                    getContentLength(request.body()));
+        }
+    }
+
+    private void recordRetry(okhttp3.Request request) {
+        MetricsRecorder metrics = context.getMetricsRecorder();
+        if (metrics != null) {
+            metrics.recordRetry(EndpointNames.getName(request.method(), request.url()));
+        }
+    }
+
+    private static long getContentLength(RequestBody body) {
+        if (body == null) {
+            return 0;
+        }
+        try {
+            return body.contentLength();
+        } catch (IOException ignored) {
+            return -1;
+        }
+    }
+
+    /**
+     * Runs the task on the timer of the client after the given delay, unless the future is completed by then.
+     *
+     * @return whether the task was scheduled.
+     */
+    private boolean schedule(Runnable task, CompletableFuture<T> future, long delay) {
+        if (future.isDone()) {
+            return false;
+        }
+        try {
+            context.getScheduler().schedule(() -> {
+                if (!future.isDone()) {
+                    task.run();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException ignored) {
+            return false;
+        }
+    }
+
+    private long acquireThrottle() {
+        RateLimitThrottle throttle = context.getThrottle();
+        return throttle == null ? 0 : throttle.acquire();
+    }
+
+    private void updateThrottle(Response response) {
+        RateLimitThrottle throttle = context.getThrottle();
+        if (throttle != null) {
+            throttle.update(response);
+        }
+    }
+
+    private long getRetryDelay(okhttp3.Request request, int attempt, RateLimitException e, long startedAt) {
+        RetryPolicy retryPolicy = context.getRetryPolicy();
+        if (retryPolicy == null || request != null && isOneShot(request.body())) {
+            // A body that can only be written once can't be sent again
+            return -1;
+        }
+        long delay = retryPolicy.getRetryDelay(attempt, e, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        Deadline deadline = getDeadline(request);
+        if (deadline != null && delay >= deadline.timeRemaining(TimeUnit.MILLISECONDS)) {
+            // The retry would not complete in time
+            return -1;
+        }
+        return delay;
+    }
+
+    /**
+     * Whether the body can only be written once. Multipart bodies don't report it for their parts, so they are checked
+     * one by one.
+     */
+    private static boolean isOneShot(RequestBody body) {
+        if (body == null) {
+            return false;
+        }
+        if (body.isOneShot()) {
+            return true;
+        }
+        if (body instanceof MultipartBody) {
+            for (MultipartBody.Part part : ((MultipartBody) body).parts()) {
+                if (part.body().isOneShot()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Response body that counts the bytes read from it, for bodies of unknown length.
+     */
+    private static final class CountingResponseBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private long bytesRead;
+        private BufferedSource source;
+
+        private CountingResponseBody(ResponseBody delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @NotNull
+        @Override
+        public BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                    @Override
+                    public long read(@NotNull Buffer sink, long byteCount) throws IOException {
+                        long read = super.read(sink, byteCount);
+                        if (read > 0) {
+                            bytesRead += read;
+                        }
+                        return read;
+                    }
+                });
+            }
+            return source;
+        }
+
+        private long getByteCount() {
+            long length = delegate.contentLength();
+            return length >= 0 ? length : bytesRead;
+        }
     }
 }
@@ -0,0 +1,121 @@
+package com.auth0.net;
+
+/**
+ * The time spent in each phase of a single network call made by a request, as traced when
+ * {@link com.auth0.client.HttpOptions#setCallTracingEnabled(boolean)} is enabled. A request that is retried makes
+ * one call per attempt. Durations are in nanoseconds, and are -1 when the phase didn't happen during the call, like
+ * the DNS lookup, connection and TLS handshake of a call that reused a pooled connection.
+ * <p>
+ * This class is immutable.
+ *
+ * @see Request#getCallTimings()
+ */
+@SuppressWarnings("WeakerAccess")
+public final class CallTimings {
+
+    private final long dnsNanos;
+    private final long connectNanos;
+    private final long tlsNanos;
+    private final long requestWriteNanos;
+    private final long timeToFirstByteNanos;
+    private final long bodyReadNanos;
+    private final long totalNanos;
+    private final boolean connectionReused;
+    private final boolean failed;
+
+    CallTimings(long dnsNanos, long connectNanos, long tlsNanos, long requestWriteNanos, long timeToFirstByteNanos,
+                long bodyReadNanos, long totalNanos, boolean connectionReused, boolean failed) {
+        this.dnsNanos = dnsNanos;
+        this.connectNanos = connectNanos;
+        this.tlsNanos = tlsNanos;
+        this.requestWriteNanos = requestWriteNanos;
+        this.timeToFirstByteNanos = timeToFirstByteNanos;
+        this.bodyReadNanos = bodyReadNanos;
+        this.totalNanos = totalNanos;
+        this.connectionReused = connectionReused;
+        this.failed = failed;
+    }
+
+    /**
+     * @return the time spent resolving the domain name, or -1 if it was not resolved.
+     */
+    public long getDnsNanos() {
+        return dnsNanos;
+    }
+
+    /**
+     * Getter for the time spent opening the connection, including the TLS handshake.
+     *
+     * @return the time spent connecting, or -1 if no connection was opened.
+     */
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    /**
+     * @return the time spent on the TLS handshake, or -1 if there was none.
+     */
+    public long getTlsNanos() {
+        return tlsNanos;
+    }
+
+    /**
+     * @return the time spent writing the request headers and body, or -1 if the request was not written.
+     */
+    public long getRequestWriteNanos() {
+        return requestWriteNanos;
+    }
+
+    /**
+     * Getter for the time from the end of the request write until the response headers started to arrive. This is
+     * mostly the time the server took to handle the request.
+     *
+     * @return the time to first byte, or -1 if no response was received.
+     */
+    public long getTimeToFirstByteNanos() {
+        return timeToFirstByteNanos;
+    }
+
+    /**
+     * @return the time spent reading the response body, or -1 if it was not read.
+     */
+    public long getBodyReadNanos() {
+        return bodyReadNanos;
+    }
+
+    /**
+     * @return the time from the start of the call until it ended or failed.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return whether the call was sent on a pooled connection instead of opening a new one.
+     */
+    public boolean isConnectionReused() {
+        return connectionReused;
+    }
+
+    /**
+     * @return whether the call failed before a complete response was received, like on a connection error or a timeout.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "CallTimings{" +
+                "dnsNanos=" + dnsNanos +
+                ", connectNanos=" + connectNanos +
+                ", tlsNanos=" + tlsNanos +
+                ", requestWriteNanos=" + requestWriteNanos +
+                ", timeToFirstByteNanos=" + timeToFirstByteNanos +
+                ", bodyReadNanos=" + bodyReadNanos +
+                ", totalNanos=" + totalNanos +
+                ", connectionReused=" + connectionReused +
+                ", failed=" + failed +
+                '}';
+    }
+}
@@ -0,0 +1,165 @@
+package com.auth0.net;
+
+import okhttp3.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * OkHttp EventListener implementation that measures the phases of the calls made by requests that are traced, and
+ * hands the resulting {@link CallTimings} to the request once each call ends.
+ * Calls made by requests that are not traced are not listened to.
+ *
+ * @see EventListener
+ */
+public final class CallTimingsEventListener extends EventListener {
+
+    /**
+     * The factory to set on the networking client for requests to be traced.
+     */
+    public static final EventListener.Factory FACTORY = call -> {
+        Trace trace = call.request().tag(Trace.class);
+        return trace == null ? EventListener.NONE : new CallTimingsEventListener(trace);
+    };
+
+    private static final long NOT_SET = Long.MIN_VALUE;
+
+    private final Trace trace;
+    // OkHttp reports the events of a call one after the other, so they are not read and written concurrently
+    private long callStart = NOT_SET;
+    private long dnsStart = NOT_SET;
+    private long dnsEnd = NOT_SET;
+    private long connectStart = NOT_SET;
+    private long connectEnd = NOT_SET;
+    private long secureConnectStart = NOT_SET;
+    private long secureConnectEnd = NOT_SET;
+    private long requestStart = NOT_SET;
+    private long requestEnd = NOT_SET;
+    private long responseStart = NOT_SET;
+    private long responseBodyStart = NOT_SET;
+    private long responseBodyEnd = NOT_SET;
+    private boolean connectionReused;
+
+    private CallTimingsEventListener(Trace trace) {
+        this.trace = trace;
+    }
+
+    @Override
+    public void callStart(@NotNull Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(@NotNull Call call, @NotNull String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(@NotNull Call call, @NotNull String domainName, @NotNull List<InetAddress> inetAddressList) {
+        dnsEnd = System.nanoTime();
+    }
+
+    @Override
+    public void connectStart(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(@NotNull Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(@NotNull Call call, Handshake handshake) {
+        secureConnectEnd = System.nanoTime();
+    }
+
+    @Override
+    public void connectEnd(@NotNull Call call, @NotNull InetSocketAddress inetSocketAddress, @NotNull Proxy proxy, Protocol protocol) {
+        connectEnd = System.nanoTime();
+    }
+
+    @Override
+    public void connectionAcquired(@NotNull Call call, @NotNull Connection connection) {
+        connectionReused = connectStart == NOT_SET;
+    }
+
+    @Override
+    public void requestHeadersStart(@NotNull Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void requestHeadersEnd(@NotNull Call call, @NotNull okhttp3.Request request) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void requestBodyEnd(@NotNull Call call, long byteCount) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(@NotNull Call call) {
+        responseStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyStart(@NotNull Call call) {
+        responseBodyStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(@NotNull Call call, long byteCount) {
+        responseBodyEnd = System.nanoTime();
+    }
+
+    @Override
+    public void callEnd(@NotNull Call call) {
+        end(false);
+    }
+
+    @Override
+    public void callFailed(@NotNull Call call, @NotNull IOException ioe) {
+        end(true);
+    }
+
+    private void end(boolean failed) {
+        long callEnd = System.nanoTime();
+        trace.add(new CallTimings(
+                elapsed(dnsStart, dnsEnd),
+                elapsed(connectStart, connectEnd),
+                elapsed(secureConnectStart, secureConnectEnd),
+                elapsed(requestStart, requestEnd),
+                elapsed(requestEnd, responseStart),
+                elapsed(responseBodyStart, responseBodyEnd),
+                elapsed(callStart, callEnd),
+                connectionReused,
+                failed));
+    }
+
+    private static long elapsed(long start, long end) {
+        return start == NOT_SET || end == NOT_SET ? -1 : end - start;
+    }
+
+    /**
+     * Collects the timings of the calls made by a single execution of a request.
+     */
+    static final class Trace {
+        private final List<CallTimings> timings = new CopyOnWriteArrayList<>();
+
+        private void add(CallTimings callTimings) {
+            timings.add(callTimings);
+        }
+
+        List<CallTimings> getTimings() {
+            return Collections.unmodifiableList(timings);
+        }
+    }
+}
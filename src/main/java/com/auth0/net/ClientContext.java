@@ -0,0 +1,249 @@
+package com.auth0.net;
+
+import com.auth0.utils.Asserts;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the state that an API client shares with every request it creates: the {@link JsonCodec} used to
+ * read and write bodies, the {@link RetryPolicy} to apply to rate limited requests, the {@link RateLimitThrottle}
+ * that paces outgoing requests, the {@link MetricsRecorder} that measures them, the GET requests in flight that
+ * identical requests can share, the executor that completes asynchronous requests and the timer used to reschedule
+ * them.
+ * <p>
+ * An instance is owned by each {@link com.auth0.client.mgmt.ManagementAPI} and {@link com.auth0.client.auth.AuthAPI}
+ * and closed along with them.
+ * <p>
+ * This class is thread-safe.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ClientContext implements AutoCloseable {
+
+    private static final ClientContext DEFAULT = newBuilder(JsonCodec.getDefault()).build();
+
+    private final JsonCodec codec;
+    private final RetryPolicy retryPolicy;
+    private final RateLimitThrottle throttle;
+    private final MetricsRecorder metricsRecorder;
+    private final boolean callTracing;
+    private final Executor completionExecutor;
+    private final ConcurrentMap<String, SharedCall> inFlightRequests;
+    private final ScheduledExecutorService scheduler;
+
+    private ClientContext(Builder builder) {
+        this.codec = builder.codec;
+        this.retryPolicy = builder.retryPolicy;
+        this.throttle = builder.throttle;
+        this.metricsRecorder = builder.metricsRecorder;
+        this.callTracing = builder.callTracing;
+        this.completionExecutor = builder.completionExecutor;
+        this.inFlightRequests = builder.requestCoalescing ? new ConcurrentHashMap<>() : null;
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "Auth0 Request Scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The thread is only started once a task is scheduled, and stops when it has been idle for a while.
+        scheduler.setKeepAliveTime(60, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Getter for the instance shared by the requests that were not given a client-scoped context.
+     * It uses the default codec and doesn't retry requests.
+     *
+     * @return the default context.
+     */
+    public static ClientContext getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Create a new Builder to configure a context.
+     *
+     * @param codec the codec the requests will use to read and write bodies. Must not be null.
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder(JsonCodec codec) {
+        return new Builder(codec);
+    }
+
+    /**
+     * @return the codec used to read and write bodies.
+     */
+    public JsonCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * @return the policy to retry rate limited requests with, or null if they must not be retried.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * @return the throttle that paces outgoing requests, or null if they are not paced.
+     */
+    public RateLimitThrottle getThrottle() {
+        return throttle;
+    }
+
+    /**
+     * @return the recorder that measures the requests, or null if they are not measured.
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * @return whether the phases of the network calls are timed.
+     */
+    public boolean isCallTracingEnabled() {
+        return callTracing;
+    }
+
+    /**
+     * @return the executor that parses the responses of asynchronous requests and completes their futures, or null
+     * if it's done on the OkHttp dispatcher threads.
+     */
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+
+    /**
+     * @return whether identical GET requests in flight at the same time share a single network call.
+     */
+    public boolean isRequestCoalescingEnabled() {
+        return inFlightRequests != null;
+    }
+
+    ConcurrentMap<String, SharedCall> getInFlightRequests() {
+        return inFlightRequests;
+    }
+
+    /**
+     * @return the timer shared by the client to reschedule requests. Tasks scheduled on it must be short and never
+     * block, since a single thread runs them all.
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Stops the timer used to reschedule asynchronous requests once the requests already waiting on it are retried.
+     * Requests rate limited afterwards fail without being retried. Closing the default instance has no effect.
+     */
+    @Override
+    public void close() {
+        if (this != DEFAULT) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Builder class to construct a {@linkplain ClientContext}
+     */
+    public static class Builder {
+
+        private final JsonCodec codec;
+        private RetryPolicy retryPolicy;
+        private RateLimitThrottle throttle;
+        private MetricsRecorder metricsRecorder;
+        private boolean callTracing;
+        private Executor completionExecutor;
+        private boolean requestCoalescing;
+
+        private Builder(JsonCodec codec) {
+            Asserts.assertNotNull(codec, "codec");
+            this.codec = codec;
+        }
+
+        /**
+         * Specify the policy to retry rate limited requests with. If not specified, requests are not retried.
+         *
+         * @param retryPolicy the retry policy to use.
+         * @return this Builder instance.
+         */
+        public Builder withRetryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Specify the throttle that paces outgoing requests. If not specified, requests are sent right away.
+         *
+         * @param throttle the throttle to use.
+         * @return this Builder instance.
+         */
+        public Builder withThrottle(RateLimitThrottle throttle) {
+            this.throttle = throttle;
+            return this;
+        }
+
+        /**
+         * Specify the recorder that measures the requests. If not specified, requests are not measured.
+         *
+         * @param metricsRecorder the metrics recorder to use.
+         * @return this Builder instance.
+         */
+        public Builder withMetricsRecorder(MetricsRecorder metricsRecorder) {
+            this.metricsRecorder = metricsRecorder;
+            return this;
+        }
+
+        /**
+         * Specify whether the phases of the network calls are timed, to be read from
+         * {@link Request#getCallTimings()}. The networking client must use the
+         * {@link CallTimingsEventListener#FACTORY}. If not specified, calls are not traced.
+         *
+         * @param callTracing whether to trace the calls.
+         * @return this Builder instance.
+         */
+        public Builder withCallTracing(boolean callTracing) {
+            this.callTracing = callTracing;
+            return this;
+        }
+
+        /**
+         * Specify the executor that parses the responses of asynchronous requests and completes their futures.
+         * If not specified, it's done on the OkHttp dispatcher threads.
+         *
+         * @param completionExecutor the executor to use.
+         * @return this Builder instance.
+         */
+        public Builder withCompletionExecutor(Executor completionExecutor) {
+            this.completionExecutor = completionExecutor;
+            return this;
+        }
+
+        /**
+         * Specify whether identical GET requests in flight at the same time share a single network call and its
+         * parsed result. Requests are identical when they have the same URL, authorization header and response type.
+         * Callers sharing a result must not modify it. If not specified, every request is sent on its own.
+         *
+         * @param requestCoalescing whether to coalesce identical GET requests.
+         * @return this Builder instance.
+         */
+        public Builder withRequestCoalescing(boolean requestCoalescing) {
+            this.requestCoalescing = requestCoalescing;
+            return this;
+        }
+
+        /**
+         * Constructs a {@linkplain ClientContext} instance from this Builder.
+         *
+         * @return an initialized instance of {@code ClientContext}.
+         */
+        public ClientContext build() {
+            return new ClientContext(this);
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package com.auth0.net;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,20 +25,25 @@ public class CustomRequest<T> extends ExtendedBaseRequest<T> implements Customiz
 
     private static final String CONTENT_TYPE_APPLICATION_JSON = "application/json";
 
-    private final ObjectMapper mapper;
+    private final JsonCodec codec;
     private final TypeReference<T> tType;
     private final Map<String, Object> parameters;
     private Object body;
 
-    CustomRequest(OkHttpClient client, String url, String method, ObjectMapper mapper, TypeReference<T> tType) {
-        super(client, url, method, mapper);
-        this.mapper = mapper;
+    public CustomRequest(OkHttpClient client, String url, String method, ClientContext context, TypeReference<T> tType) {
+        super(client, url, method, context);
+        this.codec = context.getCodec();
         this.tType = tType;
         this.parameters = new HashMap<>();
     }
 
     public CustomRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
-        this(client, url, method, new ObjectMapper(), tType);
+        this(client, url, method, ClientContext.getDefault(), tType);
+    }
+
+    @Override
+    Type getResponseType() {
+        return tType.getType();
     }
 
     @Override
@@ -47,7 +52,7 @@ public class CustomRequest<T> extends ExtendedBaseRequest<T> implements Customiz
         if (body == null && parameters.isEmpty()) {
             return null;
         }
-        byte[] jsonBody = mapper.writeValueAsBytes(body != null ? body : parameters);
+        byte[] jsonBody = codec.writeValueAsBytes(body != null ? body : parameters);
         // Use OkHttp v3 signature to ensure binary compatibility between v3 and v4
         // https://github.com/auth0/auth0-java/issues/324
         return RequestBody.create(MediaType.parse(CONTENT_TYPE_APPLICATION_JSON), jsonBody);
@@ -55,8 +60,7 @@ public class CustomRequest<T> extends ExtendedBaseRequest<T> implements Customiz
 
     @Override
     protected T readResponseBody(ResponseBody body) throws IOException {
-        String payload = body.string();
-        return mapper.readValue(payload, tType);
+        return codec.readValue(body.byteStream(), tType);
     }
 
     @Override
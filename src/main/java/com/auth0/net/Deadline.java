@@ -0,0 +1,75 @@
+package com.auth0.net;
+
+import com.auth0.utils.Asserts;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point in time by which a request, including its retries and the time it waits for the rate limit, must be
+ * completed. The same deadline can be given to every request made on behalf of an operation, so that each one
+ * only gets the time the operation has left.
+ * <p>
+ * Deadlines are measured with {@link System#nanoTime()}, so they are not affected by changes of the wall clock and
+ * are only meaningful within the running JVM.
+ * <p>
+ * This class is immutable.
+ *
+ * @see Request#setDeadline(Deadline)
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Deadline {
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline that expires after the given duration from now.
+     *
+     * @param duration the time until the deadline. Must not be negative.
+     * @param unit     the unit of the duration.
+     * @return a new deadline.
+     */
+    public static Deadline after(long duration, TimeUnit unit) {
+        Asserts.assertNotNull(unit, "unit");
+        if (duration < 0) {
+            throw new IllegalArgumentException("'duration' cannot be negative!");
+        }
+        return new Deadline(System.nanoTime() + Math.min(unit.toNanos(duration), Long.MAX_VALUE / 2));
+    }
+
+    /**
+     * Getter for the time left until this deadline expires.
+     *
+     * @param unit the unit to return the time in.
+     * @return the time left, or 0 if it already expired.
+     */
+    public long timeRemaining(TimeUnit unit) {
+        return unit.convert(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return whether this deadline already expired.
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Getter for the deadline that expires first, between this one and the given one.
+     *
+     * @param other the deadline to compare with. Must not be null.
+     * @return the earliest of both deadlines.
+     */
+    public Deadline minimum(Deadline other) {
+        Asserts.assertNotNull(other, "other");
+        return deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + timeRemaining(TimeUnit.MILLISECONDS) + "ms}";
+    }
+}
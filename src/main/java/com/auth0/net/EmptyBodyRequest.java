@@ -13,6 +13,10 @@ import okhttp3.RequestBody;
  */
 public class EmptyBodyRequest<T> extends CustomRequest<T> {
 
+    public EmptyBodyRequest(OkHttpClient client, String url, String method, ClientContext context, TypeReference<T> tType) {
+        super(client, url, method, context, tType);
+    }
+
     public EmptyBodyRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
         super(client, url, method, tType);
     }
@@ -0,0 +1,146 @@
+package com.auth0.net;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The measurements of the requests sent to a single endpoint, as collected by a {@link HistogramMetricsRecorder}.
+ * Values keep changing while requests are sent.
+ * <p>
+ * This class is thread-safe.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class EndpointMetrics {
+
+    private static final int STATUS_CODE_TOO_MANY_REQUEST = 429;
+
+    private final String endpoint;
+    private final LongAdder[] statusClassCounts = new LongAdder[5];
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder rateLimitedCount = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LatencyHistogram networkTime = new LatencyHistogram();
+    private final LatencyHistogram parseTime = new LatencyHistogram();
+
+    EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+        for (int i = 0; i < statusClassCounts.length; i++) {
+            statusClassCounts[i] = new LongAdder();
+        }
+    }
+
+    void recordResponse(int statusCode, long networkNanos, long parseNanos, long sent, long received) {
+        int statusClass = statusCode / 100;
+        if (statusClass >= 1 && statusClass <= 5) {
+            statusClassCounts[statusClass - 1].increment();
+        }
+        if (statusCode == STATUS_CODE_TOO_MANY_REQUEST) {
+            rateLimitedCount.increment();
+        }
+        networkTime.record(networkNanos);
+        parseTime.record(parseNanos);
+        addBytes(sent, received);
+    }
+
+    void recordFailure(long networkNanos, long sent) {
+        failureCount.increment();
+        networkTime.record(networkNanos);
+        addBytes(sent, -1);
+    }
+
+    void recordRetry() {
+        retryCount.increment();
+    }
+
+    private void addBytes(long sent, long received) {
+        if (sent > 0) {
+            bytesSent.add(sent);
+        }
+        if (received > 0) {
+            bytesReceived.add(received);
+        }
+    }
+
+    /**
+     * @return the name of the endpoint.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Getter for the number of requests sent, including those that failed without a response and every retry.
+     *
+     * @return the number of requests.
+     */
+    public long getRequestCount() {
+        long total = failureCount.sum();
+        for (LongAdder statusClassCount : statusClassCounts) {
+            total += statusClassCount.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Getter for the number of responses received with a status code of the given class.
+     *
+     * @param statusClass the first digit of the status code, between 1 and 5. For example, 2 for any 2xx status code.
+     * @return the number of responses.
+     */
+    public long getStatusClassCount(int statusClass) {
+        if (statusClass < 1 || statusClass > 5) {
+            throw new IllegalArgumentException("'statusClass' must be between 1 and 5!");
+        }
+        return statusClassCounts[statusClass - 1].sum();
+    }
+
+    /**
+     * @return the number of requests that failed before a response was received.
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * @return the number of rate limited requests that were sent again.
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * @return the number of responses rejected with 429 Too Many Requests.
+     */
+    public long getRateLimitedCount() {
+        return rateLimitedCount.sum();
+    }
+
+    /**
+     * @return the total size of the request bodies sent, in bytes.
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * @return the total size of the response bodies received, in bytes.
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * @return the histogram of the time from sending a request until its response headers were received.
+     */
+    public LatencyHistogram getNetworkTime() {
+        return networkTime;
+    }
+
+    /**
+     * @return the histogram of the time spent reading and parsing the response bodies.
+     */
+    public LatencyHistogram getParseTime() {
+        return parseTime;
+    }
+}
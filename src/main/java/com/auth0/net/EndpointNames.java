@@ -0,0 +1,172 @@
+package com.auth0.net;
+
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Derives the logical endpoint name of a request from its method and URL, as reported to the {@link MetricsRecorder}.
+ * The path is matched against the templates of the endpoints this library calls, like {@code users/{id}/roles}, and
+ * named after their literal segments, so that every user, client or job shares the same name.
+ * <p>
+ * A path that matches no template falls back to keeping the segments made of lowercase words, and leaving out any
+ * other segment as an identifier. A segment that follows a known collection, like {@code users}, is always left out,
+ * since identifiers and user-chosen keys can look like words too.
+ */
+final class EndpointNames {
+
+    private static final String PLACEHOLDER = "{}";
+    private static final List<String[]> TEMPLATES = templates(
+            // Management API, relative to api/v2
+            "blacklists/tokens",
+            "client-grants", "client-grants/{}",
+            "clients", "clients/{}", "clients/{}/rotate-secret",
+            "connections", "connections/{}", "connections/{}/users",
+            "device-credentials", "device-credentials/{}",
+            "emails/provider",
+            "email-templates", "email-templates/{}",
+            "grants", "grants/{}",
+            "guardian/enrollments/ticket", "guardian/enrollments/{}",
+            "guardian/factors", "guardian/factors/{}", "guardian/factors/sms/templates",
+            "guardian/factors/sms/providers/twilio", "guardian/factors/push-notification/providers/sns",
+            "jobs/{}", "jobs/users-exports", "jobs/users-imports", "jobs/verification-email",
+            "logs", "logs/{}",
+            "log-streams", "log-streams/{}",
+            "organizations", "organizations/{}", "organizations/name/{}",
+            "organizations/{}/members", "organizations/{}/members/{}/roles",
+            "organizations/{}/enabled_connections", "organizations/{}/enabled_connections/{}",
+            "organizations/{}/invitations", "organizations/{}/invitations/{}",
+            "resource-servers", "resource-servers/{}",
+            "roles", "roles/{}", "roles/{}/users", "roles/{}/permissions",
+            "rules", "rules/{}",
+            "rules-configs", "rules-configs/{}",
+            "stats/active-users", "stats/daily",
+            "tenants/settings",
+            "tickets/email-verification", "tickets/password-change",
+            "user-blocks", "user-blocks/{}",
+            "users", "users/{}", "users/{}/enrollments", "users/{}/logs", "users/{}/multifactor/{}",
+            "users/{}/recovery-code-regeneration", "users/{}/identities", "users/{}/identities/{}/{}",
+            "users/{}/permissions", "users/{}/roles", "users/{}/organizations",
+            "users-by-email",
+            // Authentication API
+            "authorize", "v2/logout", "userinfo",
+            "oauth/token", "oauth/revoke",
+            "dbconnections/change_password", "dbconnections/signup",
+            "passwordless/start");
+    private static final Set<String> COLLECTIONS = collections(TEMPLATES);
+    private static final Pattern LITERAL_SEGMENT = Pattern.compile("[a-z]+([-_][a-z]+)*");
+
+    private EndpointNames() {
+    }
+
+    static String getName(String method, HttpUrl url) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : url.pathSegments()) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        if (segments.size() >= 2 && "api".equals(segments.get(0)) && "v2".equals(segments.get(1))) {
+            segments = segments.subList(2, segments.size());
+        }
+
+        String[] template = match(segments);
+        StringBuilder name = new StringBuilder();
+        boolean endsWithIdentifier = false;
+        String previous = null;
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (template != null) {
+                endsWithIdentifier = PLACEHOLDER.equals(template[i]);
+            } else {
+                endsWithIdentifier = COLLECTIONS.contains(previous) || !LITERAL_SEGMENT.matcher(segment).matches();
+            }
+            if (!endsWithIdentifier) {
+                name.append(segment).append('.');
+            }
+            previous = segment;
+        }
+        return name.append(getOperation(method, endsWithIdentifier)).toString();
+    }
+
+    /**
+     * Finds the template the path segments match. When several do, the one with a literal where the others have a
+     * placeholder first is chosen, so {@code jobs/users-imports} wins over {@code jobs/{}}.
+     */
+    private static String[] match(List<String> segments) {
+        String[] best = null;
+        for (String[] template : TEMPLATES) {
+            if (matches(template, segments) && (best == null || isMoreSpecific(template, best))) {
+                best = template;
+            }
+        }
+        return best;
+    }
+
+    private static boolean matches(String[] template, List<String> segments) {
+        if (template.length != segments.size()) {
+            return false;
+        }
+        for (int i = 0; i < template.length; i++) {
+            if (!PLACEHOLDER.equals(template[i]) && !template[i].equals(segments.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMoreSpecific(String[] template, String[] other) {
+        for (int i = 0; i < template.length; i++) {
+            boolean placeholder = PLACEHOLDER.equals(template[i]);
+            if (placeholder != PLACEHOLDER.equals(other[i])) {
+                return !placeholder;
+            }
+        }
+        return false;
+    }
+
+    private static List<String[]> templates(String... templates) {
+        List<String[]> parsed = new ArrayList<>();
+        for (String template : templates) {
+            parsed.add(template.split("/"));
+        }
+        return Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * The segments some template follows with a placeholder, like {@code users} or {@code rules-configs}.
+     */
+    private static Set<String> collections(List<String[]> templates) {
+        Set<String> collections = new HashSet<>();
+        for (String[] template : templates) {
+            for (int i = 1; i < template.length; i++) {
+                if (PLACEHOLDER.equals(template[i]) && !PLACEHOLDER.equals(template[i - 1])) {
+                    collections.add(template[i - 1]);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(collections);
+    }
+
+    private static String getOperation(String method, boolean endsWithIdentifier) {
+        switch (method) {
+            case "GET":
+                return endsWithIdentifier ? "get" : "list";
+            case "POST":
+                return "create";
+            case "PUT":
+            case "PATCH":
+                return "update";
+            case "DELETE":
+                return "delete";
+            default:
+                return method.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -3,8 +3,7 @@ package com.auth0.net;
 import com.auth0.exception.APIException;
 import com.auth0.exception.Auth0Exception;
 import com.auth0.exception.RateLimitException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.core.type.TypeReference;
 import okhttp3.Request;
 import okhttp3.*;
 
@@ -26,19 +25,21 @@ import java.util.Map;
 abstract class ExtendedBaseRequest<T> extends BaseRequest<T> {
 
     private static final String CONTENT_TYPE_APPLICATION_JSON = "application/json";
+    private static final TypeReference<Map<String, Object>> ERROR_VALUES_TYPE = new TypeReference<Map<String, Object>>() {
+    };
 
     private final String url;
     private final String method;
-    private final ObjectMapper mapper;
+    private final JsonCodec codec;
     private final Map<String, String> headers;
 
     private static final int STATUS_CODE_TOO_MANY_REQUEST = 429;
 
-    ExtendedBaseRequest(OkHttpClient client, String url, String method, ObjectMapper mapper) {
-        super(client);
+    ExtendedBaseRequest(OkHttpClient client, String url, String method, ClientContext context) {
+        super(client, context);
         this.url = url;
         this.method = method;
-        this.mapper = mapper;
+        this.codec = context.getCodec();
         this.headers = new HashMap<>();
     }
 
@@ -92,6 +93,7 @@ abstract class ExtendedBaseRequest<T> extends BaseRequest<T> {
 
     /**
      * Responsible for parsing the payload that is received as part of the response.
+     * Implementations should parse the body from its stream rather than reading it whole into memory first.
      *
      * @param body the received body payload. The body buffer will automatically closed.
      * @return the instance of type T, result of interpreting the payload.
@@ -126,8 +128,7 @@ abstract class ExtendedBaseRequest<T> extends BaseRequest<T> {
         String payload = null;
         try (ResponseBody body = response.body()) {
             payload = body.string();
-            MapType mapType = mapper.getTypeFactory().constructMapType(HashMap.class, String.class, Object.class);
-            Map<String, Object> values = mapper.readValue(payload, mapType);
+            Map<String, Object> values = codec.readValue(payload, ERROR_VALUES_TYPE);
             return new APIException(values, response.code());
         } catch (IOException e) {
             return new APIException(payload, response.code(), e);
@@ -0,0 +1,65 @@
+package com.auth0.net;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link MetricsRecorder} implementation that keeps the measurements in memory, as counters and
+ * {@link LatencyHistogram}s for each endpoint. They can be read at any time, for example to be exported periodically.
+ * <p>
+ * This class is thread-safe and lock-free once an endpoint has been seen.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class HistogramMetricsRecorder implements MetricsRecorder {
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordResponse(String endpoint, int statusCode, long networkNanos, long parseNanos, long bytesSent, long bytesReceived) {
+        getOrCreate(endpoint).recordResponse(statusCode, networkNanos, parseNanos, bytesSent, bytesReceived);
+    }
+
+    @Override
+    public void recordFailure(String endpoint, long networkNanos, long bytesSent) {
+        getOrCreate(endpoint).recordFailure(networkNanos, bytesSent);
+    }
+
+    @Override
+    public void recordRetry(String endpoint) {
+        getOrCreate(endpoint).recordRetry();
+    }
+
+    /**
+     * Getter for the measurements of a single endpoint.
+     *
+     * @param endpoint the name of the endpoint, like {@code users.list}.
+     * @return the measurements, or null if no request was sent to the endpoint yet.
+     */
+    public EndpointMetrics getEndpointMetrics(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    /**
+     * @return a read-only view of the measurements of every endpoint a request was sent to, by endpoint name.
+     */
+    public Map<String, EndpointMetrics> getAllEndpointMetrics() {
+        return Collections.unmodifiableMap(endpoints);
+    }
+
+    /**
+     * Removes every measurement.
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private EndpointMetrics getOrCreate(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        if (metrics == null) {
+            metrics = endpoints.computeIfAbsent(endpoint, EndpointMetrics::new);
+        }
+        return metrics;
+    }
+}
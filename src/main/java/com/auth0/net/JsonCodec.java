@@ -0,0 +1,138 @@
+package com.auth0.net;
+
+import com.auth0.utils.Asserts;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Serializes request bodies and deserializes response bodies using a single configured {@link ObjectMapper}.
+ * The {@link ObjectReader} built for each response type is cached, so that resolving the type and locating its
+ * deserializer happens once per type instead of once per request.
+ * <p>
+ * An instance is owned by each {@link com.auth0.client.mgmt.ManagementAPI} and {@link com.auth0.client.auth.AuthAPI}
+ * and shared by every request they create.
+ * <p>
+ * This class is thread-safe.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class JsonCodec {
+
+    private static final JsonCodec DEFAULT = new JsonCodec();
+
+    private final ObjectMapper mapper;
+    private final ObjectWriter writer;
+    private final ConcurrentMap<Type, ObjectReader> readers;
+
+    /**
+     * Creates a new instance backed by a default {@link ObjectMapper}.
+     */
+    public JsonCodec() {
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Creates a new instance backed by the given {@link ObjectMapper}.
+     * The mapper must be fully configured before calling this constructor and must not be modified afterwards.
+     *
+     * @param mapper the mapper to use.
+     */
+    public JsonCodec(ObjectMapper mapper) {
+        Asserts.assertNotNull(mapper, "mapper");
+        this.mapper = mapper;
+        this.writer = mapper.writer();
+        this.readers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Getter for the instance shared by the requests that were not given a client-scoped codec.
+     *
+     * @return the default codec.
+     */
+    public static JsonCodec getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Getter for the underlying {@link ObjectMapper}. It must not be reconfigured.
+     *
+     * @return the mapper.
+     */
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * Getter for the reader of the given type. Readers are cached per resolved type, so different
+     * {@link TypeReference} instances describing the same type share the same reader.
+     *
+     * @param type the type to read.
+     * @return the reader for the given type.
+     */
+    public ObjectReader readerFor(TypeReference<?> type) {
+        ObjectReader reader = readers.get(type.getType());
+        if (reader == null) {
+            reader = mapper.readerFor(type);
+            ObjectReader existing = readers.putIfAbsent(type.getType(), reader);
+            if (existing != null) {
+                reader = existing;
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Getter for the writer used to serialize request bodies.
+     *
+     * @return the writer.
+     */
+    public ObjectWriter writer() {
+        return writer;
+    }
+
+    /**
+     * Serializes the given value as a JSON byte array.
+     *
+     * @param value the value to serialize.
+     * @return the JSON representation of the value.
+     * @throws JsonProcessingException if the value could not be serialized.
+     */
+    public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    /**
+     * Deserializes the given JSON payload into an instance of the given type.
+     *
+     * @param payload the JSON payload.
+     * @param type    the type to read.
+     * @param <T>     the type to read.
+     * @return the deserialized value.
+     * @throws IOException if the payload could not be parsed.
+     */
+    public <T> T readValue(String payload, TypeReference<T> type) throws IOException {
+        return readerFor(type).readValue(payload);
+    }
+
+    /**
+     * Deserializes the JSON payload read from the given stream into an instance of the given type.
+     * The payload is parsed as it is read, without being buffered as a whole.
+     *
+     * @param payload the stream to read the JSON payload from.
+     * @param type    the type to read.
+     * @param <T>     the type to read.
+     * @return the deserialized value.
+     * @throws IOException if the payload could not be read or parsed.
+     */
+    public <T> T readValue(InputStream payload, TypeReference<T> type) throws IOException {
+        return readerFor(type).readValue(payload);
+    }
+}
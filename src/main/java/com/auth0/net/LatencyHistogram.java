@@ -0,0 +1,121 @@
+package com.auth0.net;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations with a fixed relative precision, in the style of HdrHistogram. Durations are recorded in
+ * microseconds into buckets that double in width every 16 buckets, so any recorded value is reported with an error
+ * below 1/16th (6.25%) of it. Durations longer than about 71 minutes are recorded as the longest one.
+ * <p>
+ * This class is thread-safe and lock-free: recording a value is an atomic increment of a single bucket.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 31;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+    }
+
+    /**
+     * Records a duration. Negative durations are recorded as zero.
+     *
+     * @param nanos the duration, in nanoseconds.
+     */
+    void record(long nanos) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), MAX_VALUE);
+        buckets.incrementAndGet(getBucketIndex(micros));
+        count.increment();
+        total.add(micros);
+        max.accumulate(micros);
+    }
+
+    /**
+     * @return the number of recorded durations.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Getter for the average of the recorded durations.
+     *
+     * @param unit the unit to return the duration in.
+     * @return the mean duration, or 0 if none was recorded.
+     */
+    public double getMean(TimeUnit unit) {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) unit.convert(total.sum(), TimeUnit.MICROSECONDS) / n;
+    }
+
+    /**
+     * Getter for the longest recorded duration.
+     *
+     * @param unit the unit to return the duration in.
+     * @return the maximum duration, or 0 if none was recorded.
+     */
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Getter for the duration below which the given percentage of the recorded durations fall. The returned value
+     * is the upper bound of the bucket the percentile falls in, and never more than the maximum.
+     *
+     * @param percentile the percentile, between 0 and 100. For example, 99 for the 99th percentile.
+     * @param unit       the unit to return the duration in.
+     * @return the duration at the percentile, or 0 if none was recorded.
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("'percentile' must be between 0 and 100!");
+        }
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max((long) Math.ceil(percentile / 100 * n), 1);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return unit.convert(Math.min(getBucketUpperBound(i), max.get()), TimeUnit.MICROSECONDS);
+            }
+        }
+        // Values were recorded after the count was read
+        return getMax(unit);
+    }
+
+    //Visible for testing
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    //Visible for testing
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
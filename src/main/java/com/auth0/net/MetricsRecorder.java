@@ -0,0 +1,47 @@
+package com.auth0.net;
+
+/**
+ * Receives the measurements of every request sent by an API client, so they can be exported to a metrics library.
+ * An instance is configured through {@link com.auth0.client.HttpOptions#setMetricsRecorder(MetricsRecorder)}.
+ * When none is configured, requests are not measured at all.
+ * <p>
+ * Requests are grouped by logical endpoint, named after the literal segments of the URL path followed by the
+ * operation: {@code users.list}, {@code users.get}, {@code users.roles.create}, {@code jobs.get},
+ * {@code oauth.token.create}. Identifiers in the path are left out of the name.
+ * <p>
+ * Methods are called from the threads executing the requests, including the OkHttp dispatcher threads, so
+ * implementations must be thread-safe and return quickly.
+ *
+ * @see HistogramMetricsRecorder
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Records a response received from the server, whatever its status code. A response that is retried is
+     * recorded once per attempt.
+     *
+     * @param endpoint      the name of the endpoint.
+     * @param statusCode    the status code of the response.
+     * @param networkNanos  the time from sending the request until the response headers were received, in nanoseconds.
+     * @param parseNanos    the time spent reading and parsing the response body, in nanoseconds.
+     * @param bytesSent     the size of the request body, or -1 if unknown.
+     * @param bytesReceived the size of the response body, or -1 if unknown.
+     */
+    void recordResponse(String endpoint, int statusCode, long networkNanos, long parseNanos, long bytesSent, long bytesReceived);
+
+    /**
+     * Records a request that failed before a response was received, like on a connection error or a timeout.
+     *
+     * @param endpoint     the name of the endpoint.
+     * @param networkNanos the time from sending the request until it failed, in nanoseconds.
+     * @param bytesSent    the size of the request body, or -1 if unknown.
+     */
+    void recordFailure(String endpoint, long networkNanos, long bytesSent);
+
+    /**
+     * Records a rate limited request that is going to be sent again, as configured by the {@link RetryPolicy}.
+     *
+     * @param endpoint the name of the endpoint.
+     */
+    void recordRetry(String endpoint);
+}
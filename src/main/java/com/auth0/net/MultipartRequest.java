@@ -1,12 +1,18 @@
 package com.auth0.net;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.*;
+import okio.BufferedSink;
 
 import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.auth0.utils.Asserts.assertNotNull;
 
@@ -27,22 +33,26 @@ public class MultipartRequest<T> extends ExtendedBaseRequest<T> implements FormD
 
     private final MultipartBody.Builder bodyBuilder;
     private final TypeReference<T> tType;
-    private final ObjectMapper mapper;
+    private final JsonCodec codec;
     private int partsCount;
 
-    MultipartRequest(OkHttpClient client, String url, String method, ObjectMapper mapper, TypeReference<T> tType, MultipartBody.Builder multipartBuilder) {
-        super(client, url, method, mapper);
+    MultipartRequest(OkHttpClient client, String url, String method, ClientContext context, TypeReference<T> tType, MultipartBody.Builder multipartBuilder) {
+        super(client, url, method, context);
         if ("GET".equalsIgnoreCase(method)) {
             throw new IllegalArgumentException("Multipart/form-data requests do not support the GET method.");
         }
-        this.mapper = mapper;
+        this.codec = context.getCodec();
         this.tType = tType;
         this.bodyBuilder = multipartBuilder
                 .setType(MultipartBody.FORM);
     }
 
+    public MultipartRequest(OkHttpClient client, String url, String method, ClientContext context, TypeReference<T> tType) {
+        this(client, url, method, context, tType, new MultipartBody.Builder());
+    }
+
     public MultipartRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
-        this(client, url, method, new ObjectMapper(), tType, new MultipartBody.Builder());
+        this(client, url, method, ClientContext.getDefault(), tType);
     }
 
     @Override
@@ -60,8 +70,7 @@ public class MultipartRequest<T> extends ExtendedBaseRequest<T> implements FormD
 
     @Override
     protected T readResponseBody(ResponseBody body) throws IOException {
-        String payload = body.string();
-        return mapper.readValue(payload, tType);
+        return codec.readValue(body.byteStream(), tType);
     }
 
     @Override
@@ -87,6 +96,98 @@ public class MultipartRequest<T> extends ExtendedBaseRequest<T> implements FormD
         return this;
     }
 
+    /**
+     * Adds a file part read from the given path as the request is sent, instead of being loaded in memory. The path
+     * doesn't need to be in the default file system.
+     *
+     * @param name      the name of the part
+     * @param path      the path of the file contents to send in this part
+     * @param mediaType the file contents media type
+     * @return this same request instance
+     */
+    public MultipartRequest<T> addPart(String name, Path path, String mediaType) {
+        assertNotNull(name, "name");
+        assertNotNull(path, "path");
+        if (!Files.exists(path)) {
+            throw new IllegalArgumentException("Failed to add part because the file specified cannot be found.");
+        }
+        Path fileName = path.getFileName();
+        return addPart(name, fileName == null ? name : fileName.toString(), new StreamingBody(mediaType, output -> {
+            try (InputStream content = Files.newInputStream(path)) {
+                copy(content, output);
+            }
+        }, false));
+    }
+
+    /**
+     * Adds a file part with the given contents. Unlike a streamed part, it can be sent again, like when a rate limited
+     * request is retried.
+     *
+     * @param name      the name of the part
+     * @param fileName  the name of the file sent in this part
+     * @param content   the file contents to send in this part
+     * @param mediaType the file contents media type
+     * @return this same request instance
+     */
+    @SuppressWarnings("deprecation")
+    public MultipartRequest<T> addPart(String name, String fileName, byte[] content, String mediaType) {
+        assertNotNull(name, "name");
+        assertNotNull(fileName, "file name");
+        assertNotNull(content, "content");
+        // Use OkHttp v3 signature to ensure binary compatibility between v3 and v4
+        return addPart(name, fileName, RequestBody.create(mediaType == null ? null : MediaType.parse(mediaType), content));
+    }
+
+    /**
+     * Adds a file part copied from the given stream as the request is sent. The stream is closed once it's sent, so
+     * the request can't be sent again.
+     *
+     * @param name      the name of the part
+     * @param fileName  the name of the file sent in this part
+     * @param content   the file contents to send in this part
+     * @param mediaType the file contents media type
+     * @return this same request instance
+     */
+    public MultipartRequest<T> addPart(String name, String fileName, InputStream content, String mediaType) {
+        assertNotNull(content, "content");
+        return addPart(name, fileName, mediaType, output -> {
+            try (InputStream input = content) {
+                copy(input, output);
+            }
+        });
+    }
+
+    /**
+     * Adds a file part whose contents are written by the given writer as the request is sent, without being held in
+     * memory. The writer is only called once, so the request can't be sent again.
+     *
+     * @param name      the name of the part
+     * @param fileName  the name of the file sent in this part
+     * @param mediaType the file contents media type
+     * @param writer    the writer of the file contents to send in this part
+     * @return this same request instance
+     */
+    public MultipartRequest<T> addPart(String name, String fileName, String mediaType, PartWriter writer) {
+        assertNotNull(name, "name");
+        assertNotNull(fileName, "file name");
+        assertNotNull(writer, "writer");
+        return addPart(name, fileName, new StreamingBody(mediaType, writer, true));
+    }
+
+    private MultipartRequest<T> addPart(String name, String fileName, RequestBody body) {
+        bodyBuilder.addFormDataPart(name, fileName, body);
+        partsCount++;
+        return this;
+    }
+
+    private static void copy(InputStream input, OutputStream output) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+    }
+
     @Override
     public MultipartRequest<T> addPart(String name, String value) {
         assertNotNull(name, "name");
@@ -95,4 +196,66 @@ public class MultipartRequest<T> extends ExtendedBaseRequest<T> implements FormD
         partsCount++;
         return this;
     }
+
+    /**
+     * Writes the contents of a file part as the request is sent.
+     */
+    @FunctionalInterface
+    public interface PartWriter {
+
+        /**
+         * Writes the contents of the part.
+         *
+         * @param output the stream to write the contents to. Closing it has no effect.
+         * @throws IOException if the contents couldn't be written.
+         */
+        void writeTo(OutputStream output) throws IOException;
+    }
+
+    /**
+     * A part body of unknown length, written straight into the request as it's sent.
+     */
+    private static final class StreamingBody extends RequestBody {
+
+        private final MediaType mediaType;
+        private final PartWriter writer;
+        private final boolean oneShot;
+        private final AtomicBoolean written = new AtomicBoolean();
+
+        StreamingBody(String mediaType, PartWriter writer, boolean oneShot) {
+            this.mediaType = mediaType == null ? null : MediaType.parse(mediaType);
+            this.writer = writer;
+            this.oneShot = oneShot;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return mediaType;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return oneShot;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            if (oneShot && !written.compareAndSet(false, true)) {
+                throw new IOException("The streamed part can only be sent once.");
+            }
+            OutputStream output = new FilterOutputStream(sink.outputStream()) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+            writer.writeTo(output);
+            output.flush();
+        }
+    }
 }
@@ -0,0 +1,157 @@
+package com.auth0.net;
+
+import okhttp3.Response;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Client-side token bucket that paces outgoing requests so that they stay within the rate limit of the server,
+ * instead of sending them and having them rejected with 429 Too Many Requests.
+ * <p>
+ * The bucket is learned from the {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset}
+ * headers of every response: the limit is the size of the bucket, the remaining value is the number of tokens left and
+ * the refill rate is derived from the time left until the bucket is full again. Each request takes a token before it
+ * is sent; when none is left, the request waits until one is refilled. Until a response with these headers is
+ * received, requests are not paced.
+ * <p>
+ * Responses of concurrent requests can arrive out of order. A response to a request sent before the one the bucket
+ * was last updated with is ignored, and so is one that reports more remaining requests within the same reset window,
+ * since the server only lowers that value until the window resets.
+ * <p>
+ * An instance is shared by every request of a {@link com.auth0.client.mgmt.ManagementAPI}.
+ * This class is thread-safe and doesn't block: the bucket state is updated with compare-and-set operations.
+ */
+public final class RateLimitThrottle {
+
+    private static final State UNKNOWN = new State(-1, 0, 0, 0, -1, -1, Long.MIN_VALUE);
+
+    private final AtomicReference<State> state = new AtomicReference<>(UNKNOWN);
+
+    /**
+     * Getter for the size of the bucket, as last reported by the server.
+     *
+     * @return the maximum number of requests in the current time frame, or -1 if no response reported it yet.
+     */
+    public long getLimit() {
+        return (long) state.get().limit;
+    }
+
+    /**
+     * Getter for the estimated number of requests that can be sent right now without waiting.
+     *
+     * @return the estimated number of tokens left in the bucket, or -1 if no response reported the rate limit yet.
+     */
+    public long getAvailable() {
+        State current = state.get();
+        if (current.limit < 0) {
+            return -1;
+        }
+        return (long) Math.max(current.tokensAt(System.nanoTime()), 0);
+    }
+
+    /**
+     * Takes a token from the bucket for a request that is about to be sent.
+     *
+     * @return the time the request has to wait before being sent, in milliseconds.
+     */
+    long acquire() {
+        return acquire(System.nanoTime());
+    }
+
+    //Visible for testing
+    long acquire(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            if (current.limit < 0) {
+                return 0;
+            }
+            double tokens = current.tokensAt(nowNanos);
+            if (tokens < 1 && current.refillPerNano <= 0) {
+                // The refill rate is not known yet, so there is no way to tell how long to wait.
+                return 0;
+            }
+            State next = new State(current.limit, tokens - 1, current.refillPerNano, nowNanos,
+                    current.remaining, current.reset, current.sentAt);
+            if (!state.compareAndSet(current, next)) {
+                continue;
+            }
+            if (tokens >= 1) {
+                return 0;
+            }
+            return TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - tokens) / current.refillPerNano));
+        }
+    }
+
+    /**
+     * Updates the bucket with the rate limit headers of a response. Responses without them are ignored.
+     *
+     * @param response the received response.
+     */
+    void update(Response response) {
+        try {
+            long limit = Long.parseLong(response.header("X-RateLimit-Limit", "-1"));
+            long remaining = Long.parseLong(response.header("X-RateLimit-Remaining", "-1"));
+            long reset = Long.parseLong(response.header("X-RateLimit-Reset", "-1"));
+            update(limit, remaining, reset, response.sentRequestAtMillis(), System.currentTimeMillis(), System.nanoTime());
+        } catch (NumberFormatException ignored) {
+            // The headers are malformed, keep the current estimate.
+        }
+    }
+
+    //Visible for testing
+    void update(long limit, long remaining, long reset, long nowMillis, long nowNanos) {
+        update(limit, remaining, reset, nowMillis, nowMillis, nowNanos);
+    }
+
+    //Visible for testing
+    void update(long limit, long remaining, long reset, long sentAtMillis, long nowMillis, long nowNanos) {
+        if (limit <= 0 || remaining < 0) {
+            return;
+        }
+        while (true) {
+            State current = state.get();
+            if (sentAtMillis < current.sentAt || reset > 0 && reset == current.reset && remaining > current.remaining) {
+                // A response that was overtaken by the one of a later request is out of date.
+                return;
+            }
+            double refillPerNano = current.refillPerNano;
+            long untilReset = TimeUnit.SECONDS.toMillis(reset) - nowMillis;
+            if (reset > 0 && untilReset > 0 && remaining < limit) {
+                refillPerNano = (limit - remaining) / (double) TimeUnit.MILLISECONDS.toNanos(untilReset);
+            }
+            // Requests that took a token but are still waiting to be sent are not known by the server yet.
+            double waiting = current.limit < 0 ? 0 : Math.min(current.tokensAt(nowNanos), 0);
+            State next = new State(limit, Math.min(remaining, limit) + waiting, refillPerNano, nowNanos,
+                    remaining, reset, sentAtMillis);
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static final class State {
+        private final double limit;
+        private final double tokens;
+        private final double refillPerNano;
+        private final long updatedAt;
+        private final long remaining;
+        private final long reset;
+        private final long sentAt;
+
+        private State(double limit, double tokens, double refillPerNano, long updatedAt, long remaining, long reset, long sentAt) {
+            this.limit = limit;
+            this.tokens = tokens;
+            this.refillPerNano = refillPerNano;
+            this.updatedAt = updatedAt;
+            this.remaining = remaining;
+            this.reset = reset;
+            this.sentAt = sentAt;
+        }
+
+        private double tokensAt(long nowNanos) {
+            long elapsed = Math.max(nowNanos - updatedAt, 0);
+            return Math.min(limit, tokens + elapsed * refillPerNano);
+        }
+    }
+}
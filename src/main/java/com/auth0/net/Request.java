@@ -3,7 +3,11 @@ package com.auth0.net;
 import com.auth0.exception.APIException;
 import com.auth0.exception.Auth0Exception;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class that represents an HTTP Request that can be executed.
@@ -36,4 +40,72 @@ public interface Request<T> {
     default CompletableFuture<T> executeAsync() {
         throw new UnsupportedOperationException("executeAsync");
     }
+
+    /**
+     * Executes this request asynchronously, parsing the response and completing the returned future on the given
+     * executor instead of the networking client's threads. This keeps the parsing of large responses, and any
+     * dependent stage, from holding the threads that send the requests.
+     *
+     * Note: This method was added after the interface was released in version 1.0.
+     * It is defined as a default method for compatibility reasons.
+     *
+     * The default implementation throws an {@linkplain UnsupportedOperationException}.
+     *
+     * @param executor the executor to parse the response and complete the future on.
+     * @return a {@linkplain CompletableFuture} representing the specified request.
+     */
+    default CompletableFuture<T> executeAsync(Executor executor) {
+        throw new UnsupportedOperationException("executeAsync");
+    }
+
+    /**
+     * Sets the maximum time each execution of this request can take, including its retries and the time it waits
+     * for the rate limit. This allows a tighter or looser budget than the timeouts of the client for a single request.
+     *
+     * Note: This method was added after the interface was released in version 1.0.
+     * It is defined as a default method for compatibility reasons.
+     *
+     * The default implementation throws an {@linkplain UnsupportedOperationException}.
+     *
+     * @param timeout the maximum duration of an execution, or 0 to remove the timeout.
+     * @param unit    the unit of the timeout.
+     * @return this same request instance.
+     */
+    default Request<T> setTimeout(long timeout, TimeUnit unit) {
+        throw new UnsupportedOperationException("setTimeout");
+    }
+
+    /**
+     * Sets the deadline by which each execution of this request, including its retries and the time it waits for the
+     * rate limit, must complete. Giving the same deadline to every request made for an operation makes each one use
+     * the time the operation has left.
+     *
+     * Note: This method was added after the interface was released in version 1.0.
+     * It is defined as a default method for compatibility reasons.
+     *
+     * The default implementation throws an {@linkplain UnsupportedOperationException}.
+     *
+     * @param deadline the deadline, or null to remove it.
+     * @return this same request instance.
+     */
+    default Request<T> setDeadline(Deadline deadline) {
+        throw new UnsupportedOperationException("setDeadline");
+    }
+
+    /**
+     * Getter for the timings of the network calls made by the last execution of this request, one per attempt,
+     * in the order they were made. The timings of a call are available once {@link #execute()} returns or the future
+     * returned by {@link #executeAsync()} completes. Calls are only traced when enabled with
+     * {@link com.auth0.client.HttpOptions#setCallTracingEnabled(boolean)}.
+     *
+     * Note: This method was added after the interface was released in version 1.0.
+     * It is defined as a default method for compatibility reasons.
+     *
+     * The default implementation returns an empty list.
+     *
+     * @return the timings of the calls, or an empty list if they were not traced.
+     */
+    default List<CallTimings> getCallTimings() {
+        return Collections.emptyList();
+    }
 }
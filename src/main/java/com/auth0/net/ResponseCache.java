@@ -0,0 +1,398 @@
+package com.auth0.net;
+
+import com.auth0.utils.Asserts;
+import okhttp3.Request;
+import okhttp3.*;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OkHttp Interceptor implementation that keeps the successful responses of GET requests in memory, so that
+ * resources that rarely change, like the tenant settings, clients or connections, are not requested on every read.
+ * <p>
+ * Only the paths configured with a time to live are cached. Until it expires, a cached response is returned without
+ * reaching the server. Once expired, if the response had an {@code ETag} header, the request is sent with an
+ * {@code If-None-Match} header and a 304 Not Modified response renews the cached one. Responses are cached separately
+ * for each {@code Authorization} header value.
+ * <p>
+ * Any request with a method other than GET or HEAD removes the cached responses of the resource it targets, the
+ * resources nested under it and the collections it belongs to. For example, a PATCH to {@code /api/v2/clients/abc}
+ * removes the cached responses of {@code /api/v2/clients}, {@code /api/v2/clients/abc} and
+ * {@code /api/v2/clients/abc/credentials} of the same host, whatever their query. A read that was in flight while a
+ * related resource was changed isn't cached, since its response may predate the change.
+ * <p>
+ * The least recently used responses are evicted once the total size of the cached bodies exceeds the maximum size.
+ * Responses larger than the maximum size are not cached, and no more than the maximum size is read ahead to tell.
+ * An instance can be shared by multiple API clients through {@link com.auth0.client.HttpOptions#setResponseCache(ResponseCache)}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see Interceptor
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ResponseCache implements Interceptor {
+
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+    private static final String RATE_LIMIT_HEADER_PREFIX = "X-RateLimit-";
+    private static final int STATUS_CODE_NOT_MODIFIED = 304;
+    private static final int MAX_INVALIDATIONS = 256;
+
+    private final Map<String, Long> ttls;
+    private final long maxSize;
+    private final LinkedHashMap<String, Entry> entries;
+    private long size;
+    // The generation of the last invalidation of each location, in order, and of the last one forgotten
+    private final LinkedHashMap<String, Long> invalidations = new LinkedHashMap<>();
+    private long generation;
+    private long forgottenGeneration;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong revalidationCount = new AtomicLong();
+
+    private ResponseCache(Builder builder) {
+        this.ttls = new HashMap<>(builder.ttls);
+        this.maxSize = builder.maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Create a new Builder to configure a response cache.
+     *
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Getter for the number of requests served from the cache without reaching the server, including those
+     * revalidated with a 304 Not Modified response.
+     *
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Getter for the number of cacheable requests whose response was read from the server.
+     *
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Getter for the number of expired responses the server confirmed as not modified.
+     *
+     * @return the number of revalidated responses.
+     */
+    public long getRevalidationCount() {
+        return revalidationCount.get();
+    }
+
+    /**
+     * @return the number of cached responses.
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return the total size of the cached response bodies, in bytes.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Removes every cached response.
+     */
+    public synchronized void evictAll() {
+        entries.clear();
+        size = 0;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String method = request.method();
+        if (!"GET".equals(method)) {
+            if ("HEAD".equals(method)) {
+                return chain.proceed(request);
+            }
+            // Also invalidated afterwards, in case a concurrent read cached the resource while it was being changed.
+            // Reads still in flight then are not cached, since they started before the second invalidation.
+            invalidate(request.url());
+            try {
+                return chain.proceed(request);
+            } finally {
+                invalidate(request.url());
+            }
+        }
+        Long ttl = getTtl(request.url());
+        if (ttl == null) {
+            return chain.proceed(request);
+        }
+
+        String key = request.url() + " " + request.header(HEADER_AUTHORIZATION);
+        long since = getGeneration();
+        Entry entry = get(key);
+        if (entry != null && System.nanoTime() < entry.expiresAt) {
+            hitCount.incrementAndGet();
+            return entry.toResponse(request);
+        }
+        if (entry != null && entry.etag != null) {
+            request = request.newBuilder()
+                    .header(HEADER_IF_NONE_MATCH, entry.etag)
+                    .build();
+        }
+
+        Response response = chain.proceed(request);
+        if (entry != null && response.code() == STATUS_CODE_NOT_MODIFIED) {
+            response.close();
+            hitCount.incrementAndGet();
+            revalidationCount.incrementAndGet();
+            put(key, entry.renew(System.nanoTime() + ttl), since);
+            return entry.toResponse(request);
+        }
+        missCount.incrementAndGet();
+        ResponseBody body = response.body();
+        if (response.code() != 200 || body == null || body.contentLength() > maxSize) {
+            return response;
+        }
+
+        // Reads no more than the maximum size ahead, for bodies of unknown length
+        BufferedSource source = body.source();
+        if (source.request(maxSize + 1)) {
+            // The bytes read ahead stay buffered in the source, so the response is returned whole
+            return response;
+        }
+        byte[] bytes;
+        try (ResponseBody ignored = body) {
+            bytes = source.readByteArray();
+        }
+        Entry created = new Entry(response, bytes, System.nanoTime() + ttl);
+        put(key, created, since);
+        return created.toResponse(request);
+    }
+
+    private Long getTtl(HttpUrl url) {
+        String path = url.encodedPath();
+        Long ttl = null;
+        int matched = -1;
+        for (Map.Entry<String, Long> e : ttls.entrySet()) {
+            String prefix = e.getKey();
+            if (prefix.length() > matched && isSameOrNested(path, prefix)) {
+                ttl = e.getValue();
+                matched = prefix.length();
+            }
+        }
+        return ttl;
+    }
+
+    private synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Caches the response of a read, unless a related resource was invalidated since the read started.
+     */
+    private synchronized void put(String key, Entry entry, long since) {
+        if (entry.body.length > maxSize || isInvalidatedSince(entry.location, since)) {
+            return;
+        }
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            size -= previous.body.length;
+        }
+        size += entry.body.length;
+        Iterator<Entry> it = entries.values().iterator();
+        while (size > maxSize && it.hasNext()) {
+            size -= it.next().body.length;
+            it.remove();
+        }
+    }
+
+    private synchronized void invalidate(HttpUrl url) {
+        String location = location(url);
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (isRelated(entry.location, location)) {
+                size -= entry.body.length;
+                it.remove();
+            }
+        }
+        invalidations.remove(location);
+        invalidations.put(location, ++generation);
+        if (invalidations.size() > MAX_INVALIDATIONS) {
+            Iterator<Long> eldest = invalidations.values().iterator();
+            forgottenGeneration = eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private boolean isInvalidatedSince(String location, long since) {
+        if (since < forgottenGeneration) {
+            // Whether the forgotten invalidations were related can't be told anymore
+            return true;
+        }
+        for (Map.Entry<String, Long> e : invalidations.entrySet()) {
+            if (e.getValue() > since && isRelated(location, e.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the host and path of the URL, so that the responses of different tenants don't invalidate each other.
+     */
+    private static String location(HttpUrl url) {
+        return url.scheme() + "://" + url.host() + ":" + url.port() + url.encodedPath();
+    }
+
+    private static boolean isRelated(String location, String other) {
+        return isSameOrNested(location, other) || isSameOrNested(other, location);
+    }
+
+    private static boolean isSameOrNested(String path, String parent) {
+        if (parent.endsWith("/")) {
+            parent = parent.substring(0, parent.length() - 1);
+        }
+        return path.startsWith(parent) && (path.length() == parent.length() || path.charAt(parent.length()) == '/');
+    }
+
+    private static final class Entry {
+        private final String location;
+        private final int code;
+        private final String message;
+        private final Protocol protocol;
+        private final Headers headers;
+        private final MediaType contentType;
+        private final byte[] body;
+        private final String etag;
+        private final long expiresAt;
+
+        private Entry(Response response, byte[] body, long expiresAt) {
+            Headers.Builder headers = response.headers().newBuilder();
+            // Rate limit values are only meaningful for the response that carried them.
+            for (String name : response.headers().names()) {
+                if (name.regionMatches(true, 0, RATE_LIMIT_HEADER_PREFIX, 0, RATE_LIMIT_HEADER_PREFIX.length())) {
+                    headers.removeAll(name);
+                }
+            }
+            this.location = location(response.request().url());
+            this.code = response.code();
+            this.message = response.message();
+            this.protocol = response.protocol();
+            this.headers = headers.build();
+            this.contentType = response.body().contentType();
+            this.body = body;
+            this.etag = response.header(HEADER_ETAG);
+            this.expiresAt = expiresAt;
+        }
+
+        private Entry(Entry entry, long expiresAt) {
+            this.location = entry.location;
+            this.code = entry.code;
+            this.message = entry.message;
+            this.protocol = entry.protocol;
+            this.headers = entry.headers;
+            this.contentType = entry.contentType;
+            this.body = entry.body;
+            this.etag = entry.etag;
+            this.expiresAt = expiresAt;
+        }
+
+        private Entry renew(long expiresAt) {
+            return new Entry(this, expiresAt);
+        }
+
+        @SuppressWarnings("deprecation")
+        private Response toResponse(Request request) {
+            long now = System.currentTimeMillis();
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(protocol)
+                    .code(code)
+                    .message(message)
+                    .headers(headers)
+                    // Use OkHttp v3 signature to ensure binary compatibility between v3 and v4
+                    .body(ResponseBody.create(contentType, body))
+                    .sentRequestAtMillis(now)
+                    .receivedResponseAtMillis(now)
+                    .build();
+        }
+    }
+
+    /**
+     * Builder class to construct a {@linkplain ResponseCache}
+     */
+    public static class Builder {
+
+        private final Map<String, Long> ttls = new HashMap<>();
+        private long maxSize = 1024 * 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * Specify how long the responses of a path, and of the paths nested under it, are fresh. The path is matched
+         * against the complete path of the request URL, for example {@code /api/v2/tenants/settings} or
+         * {@code /api/v2/clients}. When several configured paths match, the longest one is used.
+         * Paths without a time to live are not cached.
+         *
+         * @param path the path to cache.
+         * @param ttl  the time to live of the responses. Must be greater than zero.
+         * @param unit the unit of the time to live.
+         * @return this Builder instance.
+         */
+        public Builder withTtl(String path, long ttl, TimeUnit unit) {
+            Asserts.assertNotNull(path, "path");
+            Asserts.assertNotNull(unit, "unit");
+            if (ttl <= 0) {
+                throw new IllegalArgumentException("'ttl' must be greater than zero!");
+            }
+            ttls.put(path, unit.toNanos(ttl));
+            return this;
+        }
+
+        /**
+         * Specify the maximum total size of the cached response bodies. If not specified, a default of 1 MiB will
+         * be used.
+         *
+         * @param maxSize the maximum size, in bytes. Must be greater than zero.
+         * @return this Builder instance.
+         */
+        public Builder withMaxSize(long maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("'maxSize' must be greater than zero!");
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Constructs a {@linkplain ResponseCache} instance from this Builder.
+         *
+         * @return an initialized instance of {@code ResponseCache}.
+         */
+        public ResponseCache build() {
+            return new ResponseCache(this);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.auth0.net;
+
+import com.auth0.exception.RateLimitException;
+import com.auth0.utils.Asserts;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy to automatically retry the requests that were rejected because the rate limit was reached
+ * (429 Too Many Requests). Requests rejected for this reason were not processed by the server, so they are safe to
+ * retry regardless of their HTTP method.
+ * <p>
+ * Before the n-th retry, the request waits a random time between zero and
+ * {@code min(maxDelay, baseDelay * 2^(n-1))} (exponential backoff with full jitter). When the response includes the
+ * {@code X-RateLimit-Reset} header, that wait starts at the time the rate limit resets. The request is not retried
+ * once the maximum number of attempts is reached, or when waiting would exceed the deadline measured from the
+ * first attempt; the {@link RateLimitException} is raised instead.
+ * <p>
+ * Synchronous requests wait on the calling thread. Asynchronous requests are rescheduled on a timer and don't hold
+ * any networking thread while they wait.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long deadlineMillis;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelayMillis = builder.baseDelayMillis;
+        this.maxDelayMillis = builder.maxDelayMillis;
+        this.deadlineMillis = builder.deadlineMillis;
+    }
+
+    /**
+     * Create a new Builder to configure a retry policy.
+     *
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of attempts, including the first one.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return the base delay of the exponential backoff, in milliseconds.
+     */
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    /**
+     * @return the maximum delay of the exponential backoff, in milliseconds.
+     */
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * @return the total time a request can spend retrying, in milliseconds.
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Computes how long to wait before retrying a request that was rejected.
+     *
+     * @param attempt       the number of the attempt that was rejected, starting at 1.
+     * @param exception     the exception the attempt was rejected with.
+     * @param elapsedMillis the time elapsed since the first attempt, in milliseconds.
+     * @return the delay before the next attempt in milliseconds, or -1 if the request must not be retried.
+     */
+    long getRetryDelay(int attempt, RateLimitException exception, long elapsedMillis) {
+        return getRetryDelay(attempt, exception, elapsedMillis, System.currentTimeMillis(), ThreadLocalRandom.current().nextDouble());
+    }
+
+    //Visible for testing
+    long getRetryDelay(int attempt, RateLimitException exception, long elapsedMillis, long nowMillis, double random) {
+        if (attempt >= maxAttempts) {
+            return -1;
+        }
+        double backoff = Math.min(maxDelayMillis, baseDelayMillis * Math.pow(2, attempt - 1));
+        long delay = (long) (random * backoff);
+        delay += exception.getMillisUntilReset(nowMillis);
+        if (elapsedMillis + delay > deadlineMillis) {
+            return -1;
+        }
+        return delay;
+    }
+
+    /**
+     * Builder class to construct a {@linkplain RetryPolicy}
+     */
+    public static class Builder {
+
+        private int maxAttempts = 3;
+        private long baseDelayMillis = 500;
+        private long maxDelayMillis = 10_000;
+        private long deadlineMillis = 30_000;
+
+        private Builder() {
+        }
+
+        /**
+         * Specify the maximum number of attempts, including the first one. If not specified, a default of 3 attempts
+         * will be used. A value of one disables retries.
+         *
+         * @param maxAttempts the maximum number of attempts. Must be greater than zero.
+         * @return this Builder instance.
+         */
+        public Builder withMaxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("'maxAttempts' must be greater than zero!");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Specify the base delay of the exponential backoff. If not specified, a default of 500 milliseconds will be used.
+         *
+         * @param delay the base delay. Must not be negative.
+         * @param unit  the unit of the delay.
+         * @return this Builder instance.
+         */
+        public Builder withBaseDelay(long delay, TimeUnit unit) {
+            this.baseDelayMillis = toMillis(delay, unit, "delay");
+            return this;
+        }
+
+        /**
+         * Specify the maximum delay of the exponential backoff. It doesn't limit the time waited for the rate limit
+         * to reset. If not specified, a default of 10 seconds will be used.
+         *
+         * @param delay the maximum delay. Must not be negative.
+         * @param unit  the unit of the delay.
+         * @return this Builder instance.
+         */
+        public Builder withMaxDelay(long delay, TimeUnit unit) {
+            this.maxDelayMillis = toMillis(delay, unit, "delay");
+            return this;
+        }
+
+        /**
+         * Specify the total time a request can spend retrying, measured from the first attempt. A request is not
+         * retried when waiting for the next attempt would exceed it. If not specified, a default of 30 seconds will
+         * be used.
+         *
+         * @param deadline the total time to spend retrying. Must not be negative.
+         * @param unit     the unit of the deadline.
+         * @return this Builder instance.
+         */
+        public Builder withDeadline(long deadline, TimeUnit unit) {
+            this.deadlineMillis = toMillis(deadline, unit, "deadline");
+            return this;
+        }
+
+        /**
+         * Constructs a {@linkplain RetryPolicy} instance from this Builder.
+         *
+         * @return an initialized instance of {@code RetryPolicy}.
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+
+        private static long toMillis(long value, TimeUnit unit, String name) {
+            if (value < 0) {
+                throw new IllegalArgumentException(String.format("'%s' cannot be negative!", name));
+            }
+            Asserts.assertNotNull(unit, "unit");
+            return unit.toMillis(value);
+        }
+    }
+}
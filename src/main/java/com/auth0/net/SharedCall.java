@@ -0,0 +1,49 @@
+package com.auth0.net;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The result of a request in flight that identical requests share when the client coalesces them, with the count of
+ * callers still waiting for it. Once every caller stopped waiting, like when they cancelled their futures, the call
+ * is cancelled too, and no caller can share it anymore.
+ */
+final class SharedCall extends CompletableFuture<Object> {
+
+    private final AtomicInteger waiting = new AtomicInteger(1);
+    private final CompletableFuture<?> call;
+
+    /**
+     * Creates the result shared with the caller that sends the request.
+     *
+     * @param call the future of the call to cancel once no caller waits for it, or null if it can't be cancelled.
+     */
+    SharedCall(CompletableFuture<?> call) {
+        this.call = call;
+    }
+
+    /**
+     * Counts one more caller waiting for the result.
+     *
+     * @return whether the caller can wait for it, or false if every caller already stopped and the call is cancelled.
+     */
+    boolean follow() {
+        int count;
+        do {
+            count = waiting.get();
+            if (count == 0) {
+                return false;
+            }
+        } while (!waiting.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Counts one less caller waiting for the result, and cancels the call if it was the last one.
+     */
+    void unfollow() {
+        if (waiting.decrementAndGet() == 0 && call != null) {
+            call.cancel(false);
+        }
+    }
+}
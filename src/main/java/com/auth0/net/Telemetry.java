@@ -1,7 +1,6 @@
 package com.auth0.net;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.Base64;
 import java.util.Collections;
@@ -63,7 +62,7 @@ public class Telemetry {
 
         String tmpValue;
         try {
-            String json = new ObjectMapper().writeValueAsString(values);
+            String json = JsonCodec.getDefault().writer().writeValueAsString(values);
             tmpValue = Base64.getUrlEncoder().encodeToString(json.getBytes());
         } catch (JsonProcessingException e) {
             tmpValue = null;
@@ -6,11 +6,15 @@ import okhttp3.OkHttpClient;
 
 public class TokenRequest extends CustomRequest<TokenHolder> implements AuthRequest {
 
-    public TokenRequest(OkHttpClient client, String url) {
-        super(client, url, "POST", new TypeReference<TokenHolder>() {
+    public TokenRequest(OkHttpClient client, String url, ClientContext context) {
+        super(client, url, "POST", context, new TypeReference<TokenHolder>() {
         });
     }
 
+    public TokenRequest(OkHttpClient client, String url) {
+        this(client, url, ClientContext.getDefault());
+    }
+
     @Override
     public TokenRequest setRealm(String realm) {
         super.addParameter("realm", realm);
@@ -18,11 +18,15 @@ import java.util.HashMap;
  */
 public class VoidRequest extends CustomRequest<Void> {
 
-    public VoidRequest(OkHttpClient client, String url, String method) {
-        super(client, url, method, new TypeReference<Void>() {
+    public VoidRequest(OkHttpClient client, String url, String method, ClientContext context) {
+        super(client, url, method, context, new TypeReference<Void>() {
         });
     }
 
+    public VoidRequest(OkHttpClient client, String url, String method) {
+        this(client, url, method, ClientContext.getDefault());
+    }
+
     @Override
     protected Void parseResponse(Response response) throws Auth0Exception {
         if (!response.isSuccessful()) {
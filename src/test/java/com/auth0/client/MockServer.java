@@ -12,6 +12,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class MockServer {
 
@@ -54,6 +55,7 @@ public class MockServer {
     public static final String MGMT_ROLE_PERMISSIONS_PAGED_LIST = "src/test/resources/mgmt/role_permissions_paged_list.json";
     public static final String MGMT_ROLE_USERS_LIST = "src/test/resources/mgmt/role_users_list.json";
     public static final String MGMT_ROLE_USERS_PAGED_LIST = "src/test/resources/mgmt/role_users_paged_list.json";
+    public static final String MGMT_ROLE_USERS_CHECKPOINT_PAGED_LIST = "src/test/resources/mgmt/role_users_checkpoint_paged_list.json";
     public static final String MGMT_RULES_LIST = "src/test/resources/mgmt/rules_list.json";
     public static final String MGMT_RULES_CONFIGS_LIST = "src/test/resources/mgmt/rules_configs_list.json";
     public static final String MGMT_RULES_PAGED_LIST = "src/test/resources/mgmt/rules_paged_list.json";
@@ -64,6 +66,7 @@ public class MockServer {
     public static final String MGMT_EMAIL_TEMPLATE = "src/test/resources/mgmt/email_template.json";
     public static final String MGMT_USERS_LIST = "src/test/resources/mgmt/users_list.json";
     public static final String MGMT_USERS_PAGED_LIST = "src/test/resources/mgmt/users_paged_list.json";
+    public static final String MGMT_USERS_PAGED_LIST_OVER_SEARCH_WINDOW = "src/test/resources/mgmt/users_paged_list_over_search_window.json";
     public static final String MGMT_USER_PERMISSIONS_PAGED_LIST = "src/test/resources/mgmt/user_permissions_paged_list.json";
     public static final String MGMT_USER_ROLES_PAGED_LIST = "src/test/resources/mgmt/user_roles_paged_list.json";
     public static final String MGMT_USER = "src/test/resources/mgmt/user.json";
@@ -91,14 +94,18 @@ public class MockServer {
     public static final String MGMT_JOB_POST_USERS_EXPORTS = "src/test/resources/mgmt/job_post_users_exports.json";
     public static final String MGMT_JOB_POST_USERS_IMPORTS = "src/test/resources/mgmt/job_post_users_imports.json";
     public static final String MGMT_JOB_POST_USERS_IMPORTS_INPUT = "src/test/resources/mgmt/job_post_users_imports_input.json";
+    public static final String MGMT_JOB_USERS_IMPORT_COMPLETED = "src/test/resources/mgmt/job_users_import_completed.json";
+    public static final String MGMT_USERS_EXPORT = "src/test/resources/mgmt/users_export.ndjson";
     public static final String MULTIPART_SAMPLE = "src/test/resources/mgmt/multipart_sample.json";
     public static final String PASSWORDLESS_EMAIL_RESPONSE = "src/test/resources/auth/passwordless_email.json";
     public static final String PASSWORDLESS_SMS_RESPONSE = "src/test/resources/auth/passwordless_sms.json";
     public static final String ORGANIZATION = "src/test/resources/mgmt/organization.json";
     public static final String ORGANIZATIONS_LIST = "src/test/resources/mgmt/organizations_list.json";
     public static final String ORGANIZATIONS_PAGED_LIST = "src/test/resources/mgmt/organizations_paged_list.json";
+    public static final String ORGANIZATIONS_CHECKPOINT_PAGED_LIST = "src/test/resources/mgmt/organizations_checkpoint_paged_list.json";
     public static final String ORGANIZATION_MEMBERS_LIST = "src/test/resources/mgmt/organization_members_list.json";
     public static final String ORGANIZATION_MEMBERS_PAGED_LIST = "src/test/resources/mgmt/organization_members_paged_list.json";
+    public static final String ORGANIZATION_MEMBERS_CHECKPOINT_PAGED_LIST = "src/test/resources/mgmt/organization_members_checkpoint_paged_list.json";
     public static final String ORGANIZATION_CONNECTIONS_LIST = "src/test/resources/mgmt/organization_connections_list.json";
     public static final String ORGANIZATION_CONNECTIONS_PAGED_LIST = "src/test/resources/mgmt/organization_connections_paged_list.json";
     public static final String ORGANIZATION_CONNECTION = "src/test/resources/mgmt/organization_connection.json";
@@ -139,6 +146,19 @@ public class MockServer {
         server.enqueue(response);
     }
 
+    public void delayedJsonResponse(String path, int statusCode, long delay, TimeUnit unit) throws IOException {
+        MockResponse response = new MockResponse()
+                .setResponseCode(statusCode)
+                .addHeader("Content-Type", "application/json")
+                .setBody(readTextFile(path))
+                .setHeadersDelay(delay, unit);
+        server.enqueue(response);
+    }
+
+    public int getRequestCount() {
+        return server.getRequestCount();
+    }
+
     public void rateLimitReachedResponse(long limit, long remaining, long reset) {
         MockResponse response = new MockResponse().setResponseCode(429);
         if (limit != -1) {
@@ -0,0 +1,87 @@
+package com.auth0.client;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.net.Deadline;
+import com.auth0.net.Request;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Request that answers with the futures of a supplier instead of calling a server, and records the deadline it was
+ * given.
+ *
+ * @param <T> the type of the response.
+ */
+public class StubRequest<T> implements Request<T> {
+
+    private final Supplier<CompletableFuture<T>> responses;
+    private volatile Deadline deadline;
+
+    /**
+     * Creates a request that answers each execution with a new future of the supplier.
+     */
+    public StubRequest(Supplier<CompletableFuture<T>> responses) {
+        this.responses = responses;
+    }
+
+    /**
+     * Creates a request that answers with the given value.
+     */
+    public static <T> StubRequest<T> completed(T value) {
+        return new StubRequest<>(() -> CompletableFuture.completedFuture(value));
+    }
+
+    /**
+     * Creates a request that fails with the given exception.
+     */
+    public static <T> StubRequest<T> failed(Throwable failure) {
+        return new StubRequest<>(() -> {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(failure);
+            return future;
+        });
+    }
+
+    /**
+     * Creates a request that answers every execution with the given future.
+     */
+    public static <T> StubRequest<T> of(CompletableFuture<T> future) {
+        return new StubRequest<>(() -> future);
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public T execute() throws Auth0Exception {
+        try {
+            return executeAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Auth0Exception("Interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Auth0Exception) {
+                throw (Auth0Exception) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new Auth0Exception("Failed", cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<T> executeAsync() {
+        return responses.get();
+    }
+
+    @Override
+    public Request<T> setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+}
@@ -22,6 +22,10 @@ import java.net.Proxy;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.auth0.client.MockServer.*;
 import static com.auth0.client.RecordedRequestMatcher.hasHeader;
@@ -105,6 +109,15 @@ public class AuthAPITest {
         new AuthAPI(DOMAIN, CLIENT_ID, null);
     }
 
+    @Test
+    public void shouldCreateClientScopedContext() {
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET);
+        assertThat(api.getContext(), is(notNullValue()));
+        assertThat(api.getContext(), is(not(sameInstance(ClientContext.getDefault()))));
+        assertThat(api.getContext().getCodec(), is(not(sameInstance(JsonCodec.getDefault()))));
+        assertThat(api.getContext().getRetryPolicy(), is(nullValue()));
+    }
+
     @Test
     public void shouldUseDefaultTimeValues() {
         AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET);
@@ -134,6 +147,219 @@ public class AuthAPITest {
         assertThat(api.getClient().readTimeoutMillis(), is(0));
     }
 
+    @Test
+    public void shouldShareConnectionPoolIfConfigured() {
+        ConnectionPool pool = new ConnectionPool();
+        HttpOptions options = new HttpOptions();
+        options.setConnectionPool(pool);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        AuthAPI other = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getClient().connectionPool(), is(sameInstance(pool)));
+        assertThat(other.getClient().connectionPool(), is(sameInstance(pool)));
+    }
+
+    @Test
+    public void shouldShareDispatcherIfConfigured() {
+        Dispatcher dispatcher = new Dispatcher();
+        HttpOptions options = new HttpOptions();
+        options.setDispatcher(dispatcher);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getClient().dispatcher(), is(sameInstance(dispatcher)));
+    }
+
+    @Test
+    public void shouldDeriveFromSharedClientIfConfigured() {
+        OkHttpClient shared = new OkHttpClient();
+        HttpOptions options = new HttpOptions();
+        options.setHttpClient(shared);
+        options.setReadTimeout(30);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getClient(), is(not(sameInstance(shared))));
+        assertThat(api.getClient().connectionPool(), is(sameInstance(shared.connectionPool())));
+        assertThat(api.getClient().dispatcher(), is(sameInstance(shared.dispatcher())));
+        assertThat(api.getClient().readTimeoutMillis(), is(30 * 1000));
+        assertThat(api.getClient().interceptors(), hasItem(isA(TelemetryInterceptor.class)));
+        assertThat(shared.interceptors(), is(empty()));
+    }
+
+    @Test
+    public void shouldKeepTimeoutsOfSharedClientUnlessSet() {
+        OkHttpClient shared = new OkHttpClient.Builder()
+                .connectTimeout(42, TimeUnit.SECONDS)
+                .readTimeout(20, TimeUnit.SECONDS)
+                .writeTimeout(25, TimeUnit.SECONDS)
+                .callTimeout(7, TimeUnit.SECONDS)
+                .build();
+        HttpOptions options = new HttpOptions();
+        options.setHttpClient(shared);
+        options.setWriteTimeout(5);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getClient().connectTimeoutMillis(), is(42 * 1000));
+        assertThat(api.getClient().readTimeoutMillis(), is(20 * 1000));
+        assertThat(api.getClient().writeTimeoutMillis(), is(5 * 1000));
+        assertThat(api.getClient().callTimeoutMillis(), is(7 * 1000));
+    }
+
+    @Test
+    public void shouldReleaseOwnedResourcesOnClose() {
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, new HttpOptions());
+        api.close();
+        assertThat(api.getClient().dispatcher().executorService().isShutdown(), is(true));
+    }
+
+    @Test
+    public void shouldNotReleaseSharedResourcesOnClose() {
+        OkHttpClient shared = new OkHttpClient();
+        HttpOptions options = new HttpOptions();
+        options.setHttpClient(shared);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        api.close();
+        assertThat(shared.dispatcher().executorService().isShutdown(), is(false));
+
+        Dispatcher dispatcher = new Dispatcher();
+        HttpOptions dispatcherOptions = new HttpOptions();
+        dispatcherOptions.setDispatcher(dispatcher);
+        AuthAPI other = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, dispatcherOptions);
+        other.close();
+        assertThat(dispatcher.executorService().isShutdown(), is(false));
+    }
+
+    @Test
+    public void shouldUseDefaultConcurrencyIfNotSpecified() {
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, new HttpOptions());
+        assertThat(api.getClient().dispatcher().getMaxRequests(), is(64));
+        assertThat(api.getClient().dispatcher().getMaxRequestsPerHost(), is(5));
+        assertThat(api.getClient().writeTimeoutMillis(), is(10 * 1000));
+        assertThat(api.getClient().callTimeoutMillis(), is(0));
+    }
+
+    @Test
+    public void shouldSetConcurrencyAndTimeoutsIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setMaxRequests(20);
+        options.setMaxRequestsPerHost(10);
+        options.setMaxIdleConnections(8);
+        options.setKeepAliveDuration(60);
+        options.setWriteTimeout(15);
+        options.setCallTimeout(40);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getClient().dispatcher().getMaxRequests(), is(20));
+        assertThat(api.getClient().dispatcher().getMaxRequestsPerHost(), is(10));
+        assertThat(api.getClient().writeTimeoutMillis(), is(15 * 1000));
+        assertThat(api.getClient().callTimeoutMillis(), is(40 * 1000));
+    }
+
+    @Test
+    public void shouldClampInvalidConcurrencyAndTimeoutValues() {
+        HttpOptions options = new HttpOptions();
+        options.setMaxRequests(0);
+        options.setMaxRequestsPerHost(-1);
+        options.setMaxIdleConnections(-1);
+        options.setKeepAliveDuration(0);
+        options.setWriteTimeout(-1);
+        options.setCallTimeout(-1);
+        assertThat(options.getMaxRequests(), is(1));
+        assertThat(options.getMaxRequestsPerHost(), is(1));
+        assertThat(options.getMaxIdleConnections(), is(0));
+        assertThat(options.getKeepAliveDuration(), is(1));
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getClient().dispatcher().getMaxRequests(), is(1));
+        assertThat(api.getClient().dispatcher().getMaxRequestsPerHost(), is(1));
+        assertThat(api.getClient().writeTimeoutMillis(), is(0));
+        assertThat(api.getClient().callTimeoutMillis(), is(0));
+    }
+
+    @Test
+    public void shouldNotApplyConcurrencyToSharedDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        HttpOptions options = new HttpOptions();
+        options.setDispatcher(dispatcher);
+        options.setMaxRequestsPerHost(10);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getClient().dispatcher(), is(sameInstance(dispatcher)));
+        assertThat(dispatcher.getMaxRequestsPerHost(), is(5));
+    }
+
+    @Test
+    public void shouldUseRetryPolicyIfConfigured() {
+        RetryPolicy retryPolicy = RetryPolicy.newBuilder().build();
+        HttpOptions options = new HttpOptions();
+        options.setRetryPolicy(retryPolicy);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getContext().getRetryPolicy(), is(sameInstance(retryPolicy)));
+    }
+
+    @Test
+    public void shouldCoalesceRequestsIfConfigured() {
+        assertThat(new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, new HttpOptions()).getContext().isRequestCoalescingEnabled(), is(false));
+
+        HttpOptions options = new HttpOptions();
+        options.setRequestCoalescingEnabled(true);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getContext().isRequestCoalescingEnabled(), is(true));
+    }
+
+    @Test
+    public void shouldAddResponseCacheIfConfigured() {
+        assertThat(new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, new HttpOptions()).getClient().interceptors(), not(hasItem(isA(ResponseCache.class))));
+
+        ResponseCache cache = ResponseCache.newBuilder().build();
+        HttpOptions options = new HttpOptions();
+        options.setResponseCache(cache);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getClient().interceptors(), hasItem(sameInstance(cache)));
+    }
+
+    @Test
+    public void shouldUseMetricsRecorderIfConfigured() {
+        assertThat(new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, new HttpOptions()).getContext().getMetricsRecorder(), is(nullValue()));
+
+        MetricsRecorder metrics = new HistogramMetricsRecorder();
+        HttpOptions options = new HttpOptions();
+        options.setMetricsRecorder(metrics);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getContext().getMetricsRecorder(), is(sameInstance(metrics)));
+    }
+
+    @Test
+    public void shouldTraceCallsIfConfigured() {
+        AuthAPI defaultApi = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, new HttpOptions());
+        assertThat(defaultApi.getContext().isCallTracingEnabled(), is(false));
+        assertThat(defaultApi.getClient().eventListenerFactory(), is(not(sameInstance(CallTimingsEventListener.FACTORY))));
+
+        HttpOptions options = new HttpOptions();
+        options.setCallTracingEnabled(true);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getContext().isCallTracingEnabled(), is(true));
+        assertThat(api.getClient().eventListenerFactory(), is(sameInstance(CallTimingsEventListener.FACTORY)));
+    }
+
+    @Test
+    public void shouldUseCompletionExecutorIfConfigured() {
+        assertThat(new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, new HttpOptions()).getContext().getCompletionExecutor(), is(nullValue()));
+
+        Executor executor = Runnable::run;
+        HttpOptions options = new HttpOptions();
+        options.setCompletionExecutor(executor);
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+        assertThat(api.getContext().getCompletionExecutor(), is(sameInstance(executor)));
+    }
+
+    @Test
+    public void shouldUseExecutorServiceIfConfigured() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            HttpOptions options = new HttpOptions();
+            options.setExecutorService(executor);
+            AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+            assertThat(api.getClient().dispatcher().executorService(), is(sameInstance(executor)));
+            api.close();
+            assertThat(executor.isShutdown(), is(false));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void shouldNotUseProxyByDefault() throws Exception {
         AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET);
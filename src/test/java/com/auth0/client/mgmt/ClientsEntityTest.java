@@ -1,6 +1,7 @@
 package com.auth0.client.mgmt;
 
 import com.auth0.client.mgmt.filter.ClientFilter;
+import com.auth0.client.mgmt.pagination.FetchAllRequest;
 import com.auth0.json.mgmt.client.Client;
 import com.auth0.json.mgmt.client.ClientsPage;
 import com.auth0.net.Request;
@@ -77,6 +78,29 @@ public class ClientsEntityTest extends BaseMgmtEntityTest {
         assertThat(response.getLimit(), is(50));
     }
 
+    @Test
+    public void shouldFetchAllClients() throws Exception {
+        FetchAllRequest<Client> request = api.clients().fetchAll(new ClientFilter().withFields("name", true));
+        assertThat(request, is(notNullValue()));
+
+        server.jsonResponse(MGMT_CLIENTS_PAGED_LIST, 200);
+        server.jsonResponse(MGMT_CLIENTS_PAGED_LIST, 200);
+        List<Client> response = request.setPageSize(10).execute();
+        RecordedRequest firstRequest = server.takeRequest();
+        RecordedRequest secondRequest = server.takeRequest();
+
+        assertThat(firstRequest, hasMethodAndPath("GET", "/api/v2/clients"));
+        assertThat(firstRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(firstRequest, hasQueryParameter("fields", "name"));
+        assertThat(firstRequest, hasQueryParameter("include_totals", "true"));
+        assertThat(firstRequest, hasQueryParameter("page", "0"));
+        assertThat(firstRequest, hasQueryParameter("per_page", "10"));
+        assertThat(secondRequest, hasQueryParameter("fields", "name"));
+        assertThat(secondRequest, hasQueryParameter("page", "1"));
+
+        assertThat(response, hasSize(4));
+    }
+
     @Test
     public void shouldListClientsWithFields() throws Exception {
         ClientFilter filter = new ClientFilter().withFields("some,random,fields", true);
@@ -1,23 +1,40 @@
 package com.auth0.client.mgmt;
 
+import com.auth0.client.HttpOptions;
 import com.auth0.client.mgmt.filter.UsersExportFilter;
 import com.auth0.client.mgmt.filter.UsersImportOptions;
+import com.auth0.client.mgmt.jobs.ChunkedUsersImport;
+import com.auth0.client.mgmt.jobs.JobCompletionWaiter;
+import com.auth0.client.mgmt.jobs.UsersExportReader;
+import com.auth0.client.mgmt.jobs.UsersImportReport;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
 import com.auth0.json.mgmt.EmailVerificationIdentity;
 import com.auth0.json.mgmt.jobs.Job;
 import com.auth0.json.mgmt.jobs.UsersExportField;
+import com.auth0.json.mgmt.users.User;
 import com.auth0.net.Request;
+import com.auth0.net.RetryPolicy;
 import com.auth0.net.multipart.FilePart;
 import com.auth0.net.multipart.KeyValuePart;
 import com.auth0.net.multipart.RecordedMultipartRequest;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.auth0.client.MockServer.*;
 import static com.auth0.client.RecordedRequestMatcher.hasHeader;
@@ -87,6 +104,54 @@ public class JobsEntityTest extends BaseMgmtEntityTest {
         assertThat(response, is(notNullValue()));
     }
 
+    @Test
+    public void shouldOpenUsersExportWithoutApiToken() throws Exception {
+        server.textResponse(MGMT_USERS_EXPORT, 200);
+        String content;
+        try (InputStream export = api.jobs().openUsersExport(server.getBaseUrl() + "exports/users.json.gz")) {
+            content = new String(readAllBytes(export), StandardCharsets.UTF_8);
+        }
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/exports/users.json.gz"));
+        assertThat(recordedRequest.getHeader("Authorization"), is(nullValue()));
+        assertThat(content, is(new String(Files.readAllBytes(new File(MGMT_USERS_EXPORT).toPath()), StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void shouldThrowOnFailedUsersExportDownload() throws Exception {
+        server.emptyResponse(403);
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("Failed to download the users export: status 403");
+        api.jobs().openUsersExport(server.getBaseUrl() + "exports/users.json.gz");
+    }
+
+    @Test
+    public void shouldThrowOnDownloadUsersExportWithoutLocation() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'job location' cannot be null!");
+        api.jobs().downloadUsersExport(mock(Job.class));
+    }
+
+    @Test
+    public void shouldDownloadUsersExportInFormatOfJob() throws Exception {
+        Job job = mock(Job.class);
+        when(job.getLocation()).thenReturn(server.getBaseUrl() + "exports/users.json");
+        when(job.getFormat()).thenReturn("json");
+        server.textResponse(MGMT_USERS_EXPORT, 200);
+
+        List<String> names = new ArrayList<>();
+        try (UsersExportReader<User> users = api.jobs().downloadUsersExport(job).build()) {
+            users.forEachRemaining(user -> names.add(user.getName()));
+        }
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/exports/users.json"));
+        assertThat(recordedRequest.getHeader("Authorization"), is(nullValue()));
+        assertThat(names, contains("dave", "eric"));
+    }
+
     @Test
     public void shouldRequestUsersExportWithLimit() throws Exception {
         UsersExportFilter filter = new UsersExportFilter();
@@ -294,6 +359,13 @@ public class JobsEntityTest extends BaseMgmtEntityTest {
         api.jobs().importUsers("con_123456789", null, options);
     }
 
+    @Test
+    public void shouldThrowOnRequestUsersImportWithNullUsersIterator() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'users' cannot be null!");
+        api.jobs().importUsersFromIterator("con_123456789", null, null);
+    }
+
     @Test
     public void shouldNotThrowOnRequestUsersImportWithNullOptions() {
         File usersFile = mock(File.class);
@@ -338,6 +410,201 @@ public class JobsEntityTest extends BaseMgmtEntityTest {
         assertThat(response, is(notNullValue()));
     }
 
+    @Test
+    public void shouldRequestUsersImportFromPath() throws Exception {
+        Path usersFile = new File(MGMT_JOB_POST_USERS_IMPORTS_INPUT).toPath();
+        Request<Job> request = api.jobs().importUsersFromPath("con_123456789", usersFile, null);
+
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        request.execute();
+        RecordedMultipartRequest recordedMultipartRequest = new RecordedMultipartRequest(server.takeRequest());
+
+        FilePart jsonFile = recordedMultipartRequest.getFilePart("users");
+        assertThat(jsonFile.getContentType(), is("text/json"));
+        assertThat(jsonFile.getFilename(), is("job_post_users_imports_input.json"));
+        assertThat(jsonFile.getValue(), is(new String(Files.readAllBytes(usersFile))));
+        assertThat(recordedMultipartRequest.getKeyValuePart("connection_id").getValue(), is("con_123456789"));
+    }
+
+    @Test
+    public void shouldRequestUsersImportFromStream() throws Exception {
+        byte[] users = Files.readAllBytes(new File(MGMT_JOB_POST_USERS_IMPORTS_INPUT).toPath());
+        Request<Job> request = api.jobs().importUsersFromStream("con_123456789", new ByteArrayInputStream(users), null);
+
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        request.execute();
+        RecordedMultipartRequest recordedMultipartRequest = new RecordedMultipartRequest(server.takeRequest());
+
+        FilePart jsonFile = recordedMultipartRequest.getFilePart("users");
+        assertThat(jsonFile.getContentType(), is("text/json"));
+        assertThat(jsonFile.getFilename(), is("users.json"));
+        assertThat(jsonFile.getValue(), is(new String(users)));
+    }
+
+    @Test
+    public void shouldRequestUsersImportFromIterator() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (String email : new String[]{"dave@domain.com", "eric@domain.com"}) {
+            User user = new User();
+            user.setEmail(email);
+            users.add(user);
+        }
+        Request<Job> request = api.jobs().importUsersFromIterator("con_123456789", users.iterator(), null);
+
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        Job response = request.execute();
+        RecordedMultipartRequest recordedMultipartRequest = new RecordedMultipartRequest(server.takeRequest());
+
+        FilePart jsonFile = recordedMultipartRequest.getFilePart("users");
+        assertThat(jsonFile.getContentType(), is("text/json"));
+        assertThat(jsonFile.getFilename(), is("users.json"));
+        assertThat(jsonFile.getValue(), is("[{\"email\":\"dave@domain.com\"},{\"email\":\"eric@domain.com\"}]"));
+        assertThat(response, is(notNullValue()));
+    }
+
+    @Test
+    public void shouldNotRetryRateLimitedUsersImportFromStream() throws Exception {
+        ManagementAPI retrying = retryingApi();
+        byte[] users = Files.readAllBytes(new File(MGMT_JOB_POST_USERS_IMPORTS_INPUT).toPath());
+        Request<Job> request = retrying.jobs().importUsersFromStream("con_123456789", new ByteArrayInputStream(users), null);
+
+        server.rateLimitReachedResponse(100, 0, -1);
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        Exception exception = null;
+        try {
+            request.execute();
+        } catch (Exception e) {
+            exception = e;
+        }
+
+        // The stream was consumed by the first attempt, so the rate limit is surfaced instead of a failed retry
+        assertThat(exception, is(instanceOf(RateLimitException.class)));
+        assertThat(server.getRequestCount(), is(1));
+    }
+
+    @Test
+    public void shouldRetryRateLimitedUsersImportFromPath() throws Exception {
+        ManagementAPI retrying = retryingApi();
+        Request<Job> request = retrying.jobs().importUsersFromPath("con_123456789", new File(MGMT_JOB_POST_USERS_IMPORTS_INPUT).toPath(), null);
+
+        server.rateLimitReachedResponse(100, 0, -1);
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        Job response = request.execute();
+
+        assertThat(response, is(notNullValue()));
+        assertThat(server.getRequestCount(), is(2));
+        server.takeRequest();
+        RecordedMultipartRequest retried = new RecordedMultipartRequest(server.takeRequest());
+        assertThat(retried.getFilePart("users").getValue(), is(new String(Files.readAllBytes(new File(MGMT_JOB_POST_USERS_IMPORTS_INPUT).toPath()))));
+    }
+
+    private ManagementAPI retryingApi() {
+        HttpOptions options = new HttpOptions();
+        options.setRetryPolicy(RetryPolicy.newBuilder().withBaseDelay(0, TimeUnit.MILLISECONDS).build());
+        return new ManagementAPI(server.getBaseUrl(), "apiToken", options);
+    }
+
+    private static JobCompletionWaiter fastWaiter(ManagementAPI api) {
+        return api.jobs().completionWaiter().withMinInterval(1, TimeUnit.MILLISECONDS).build();
+    }
+
+    @Test
+    public void shouldWaitForJobCompletion() throws Exception {
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        Job submitted = api.jobs().get("job_123456789").execute();
+        server.takeRequest();
+
+        server.jsonResponse(MGMT_JOB_USERS_IMPORT_COMPLETED, 200);
+        Job completed = api.jobs().completionWaiter()
+                .withMinInterval(1, TimeUnit.MILLISECONDS)
+                .build()
+                .await(submitted)
+                .get(5, TimeUnit.SECONDS);
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/api/v2/jobs/job_123456789"));
+        assertThat(recordedRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(completed.getStatus(), is("completed"));
+        assertThat(completed.getSummary().getInserted(), is(3));
+    }
+
+    @Test
+    public void shouldNotPollJobThatAlreadyEnded() throws Exception {
+        server.jsonResponse(MGMT_JOB_USERS_IMPORT_COMPLETED, 200);
+        Job completed = api.jobs().get("job_123456789").execute();
+        server.takeRequest();
+
+        assertThat(api.jobs().waitForCompletion(completed).get(), is(sameInstance(completed)));
+    }
+
+    @Test
+    public void shouldThrowOnImportUsersInChunksWithNullConnectionId() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'connection id' cannot be null!");
+        api.jobs().importUsersInChunks(null, null);
+    }
+
+    @Test
+    public void shouldImportUsersInChunks() throws Exception {
+        User user = new User();
+        user.setEmail("dave@domain.com");
+        ChunkedUsersImport usersImport = api.jobs().importUsersInChunks("con_123456789", null, fastWaiter(api))
+                .build();
+
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        server.jsonResponse(MGMT_JOB_USERS_IMPORT_COMPLETED, 200);
+        UsersImportReport report = usersImport.run(Collections.singletonList(user).iterator());
+
+        RecordedRequest submitRequest = server.takeRequest();
+        assertThat(submitRequest, hasMethodAndPath("POST", "/api/v2/jobs/users-imports"));
+        RecordedMultipartRequest recordedMultipartRequest = new RecordedMultipartRequest(submitRequest);
+        assertThat(recordedMultipartRequest.getKeyValuePart("connection_id").getValue(), is("con_123456789"));
+        assertThat(recordedMultipartRequest.getFilePart("users").getValue(), is("[{\"email\":\"dave@domain.com\"}]"));
+        RecordedRequest pollRequest = server.takeRequest();
+        assertThat(pollRequest, hasMethodAndPath("GET", "/api/v2/jobs/job_123456789"));
+        assertThat(pollRequest, hasHeader("Authorization", "Bearer apiToken"));
+
+        assertThat(report.getJobIds(), contains("job_123456789"));
+        assertThat(report.getInserted(), is(3L));
+        assertThat(report.getUpdated(), is(2L));
+        assertThat(report.getFailed(), is(1L));
+        assertThat(report.getTotal(), is(6L));
+    }
+
+    @Test
+    public void shouldRetryRateLimitedChunkSubmission() throws Exception {
+        User user = new User();
+        user.setEmail("dave@domain.com");
+        ManagementAPI retrying = retryingApi();
+        ChunkedUsersImport usersImport = retrying.jobs().importUsersInChunks("con_123456789", null, fastWaiter(retrying))
+                .build();
+
+        server.rateLimitReachedResponse(100, 0, -1);
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        server.jsonResponse(MGMT_JOB_USERS_IMPORT_COMPLETED, 200);
+        UsersImportReport report = usersImport.run(Collections.singletonList(user).iterator());
+
+        server.takeRequest();
+        RecordedMultipartRequest retried = new RecordedMultipartRequest(server.takeRequest());
+        assertThat(retried.getFilePart("users").getValue(), is("[{\"email\":\"dave@domain.com\"}]"));
+        assertThat(report.getJobIds(), contains("job_123456789"));
+    }
+
+    @Test
+    public void shouldRequestUsersImportFromBytes() throws Exception {
+        byte[] users = Files.readAllBytes(new File(MGMT_JOB_POST_USERS_IMPORTS_INPUT).toPath());
+        Request<Job> request = api.jobs().importUsersFromBytes("con_123456789", users, null);
+
+        server.jsonResponse(MGMT_JOB_POST_USERS_IMPORTS, 200);
+        request.execute();
+        RecordedMultipartRequest recordedMultipartRequest = new RecordedMultipartRequest(server.takeRequest());
+
+        FilePart jsonFile = recordedMultipartRequest.getFilePart("users");
+        assertThat(jsonFile.getContentType(), is("text/json"));
+        assertThat(jsonFile.getFilename(), is("users.json"));
+        assertThat(jsonFile.getValue(), is(new String(users)));
+    }
+
     @Test
     public void shouldRequestUsersImportWithOptions() throws Exception {
         UsersImportOptions options = new UsersImportOptions();
@@ -394,4 +661,14 @@ public class JobsEntityTest extends BaseMgmtEntityTest {
         assertThat(response, is(notNullValue()));
     }
 
+
+    private static byte[] readAllBytes(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
 }
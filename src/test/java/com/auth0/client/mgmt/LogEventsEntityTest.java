@@ -1,12 +1,20 @@
 package com.auth0.client.mgmt;
 
 import com.auth0.client.mgmt.filter.LogEventFilter;
+import com.auth0.client.mgmt.logevents.LogCheckpointStore;
+import com.auth0.client.mgmt.logevents.LogEventBackfill;
+import com.auth0.client.mgmt.logevents.LogEventTailer;
 import com.auth0.json.mgmt.logevents.LogEvent;
 import com.auth0.json.mgmt.logevents.LogEventsPage;
 import com.auth0.net.Request;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static com.auth0.client.MockServer.*;
 import static com.auth0.client.RecordedRequestMatcher.*;
 import static org.hamcrest.Matchers.*;
@@ -132,6 +140,68 @@ public class LogEventsEntityTest extends BaseMgmtEntityTest {
         assertThat(response.getItems(), hasSize(2));
     }
 
+    @Test
+    public void shouldTailLogEventsFromCheckpoint() throws Exception {
+        List<String> saved = new ArrayList<>();
+        List<LogEvent> handled = new ArrayList<>();
+        AtomicReference<LogEventTailer> tailer = new AtomicReference<>();
+        tailer.set(api.logEvents().tailer(events -> {
+                handled.addAll(events);
+                tailer.get().stop();
+            })
+            .withCheckpointStore(new LogCheckpointStore() {
+                @Override
+                public String load() {
+                    return null;
+                }
+
+                @Override
+                public void save(String logEventId) {
+                    saved.add(logEventId);
+                }
+            })
+            .withStartFrom("id3")
+            .withTake(2)
+            .build());
+
+        server.jsonResponse(MGMT_LOG_EVENTS_LIST, 200);
+        server.jsonResponse(MGMT_LOG_EVENTS_LIST, 200);
+        tailer.get().run();
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/api/v2/logs"));
+        assertThat(recordedRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(recordedRequest, hasQueryParameter("from", "id3"));
+        assertThat(recordedRequest, hasQueryParameter("take", "2"));
+
+        assertThat(handled, hasSize(2));
+        assertThat(saved, contains(handled.get(1).getId()));
+    }
+
+    @Test
+    public void shouldBackfillLogEventsByDate() throws Exception {
+        List<LogEvent> handled = new ArrayList<>();
+        LogEventBackfill backfill = api.logEvents().backfill(new Date(0), new Date(86400000), handled::addAll)
+                .withFilter(new LogEventFilter().withQuery("type:sapi"))
+                .withPartitions(1)
+                .build();
+
+        server.jsonResponse(MGMT_LOG_EVENTS_PAGED_LIST, 200);
+        long count = backfill.run();
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/api/v2/logs"));
+        assertThat(recordedRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(recordedRequest, hasQueryParameter("q", "(type:sapi) AND date:[\"1970-01-01T00:00:00Z\" TO \"1970-01-02T00:00:00Z\"}"));
+        assertThat(recordedRequest, hasQueryParameter("sort", "date:1"));
+        assertThat(recordedRequest, hasQueryParameter("include_totals", "true"));
+        assertThat(recordedRequest, hasQueryParameter("page", "0"));
+        assertThat(recordedRequest, hasQueryParameter("per_page", "100"));
+
+        assertThat(count, is(2L));
+        assertThat(handled, hasSize(2));
+    }
+
     @Test
     public void shouldListLogEventsWithFields() throws Exception {
         LogEventFilter filter = new LogEventFilter().withFields("some,random,fields", true);
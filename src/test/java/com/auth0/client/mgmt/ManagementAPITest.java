@@ -3,6 +3,11 @@ package com.auth0.client.mgmt;
 import com.auth0.client.HttpOptions;
 import com.auth0.client.MockServer;
 import com.auth0.client.ProxyOptions;
+import com.auth0.net.CallTimingsEventListener;
+import com.auth0.net.HistogramMetricsRecorder;
+import com.auth0.net.MetricsRecorder;
+import com.auth0.net.ResponseCache;
+import com.auth0.net.RetryPolicy;
 import com.auth0.net.Telemetry;
 import com.auth0.net.TelemetryInterceptor;
 import okhttp3.*;
@@ -15,6 +20,10 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
 
 import java.net.Proxy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.auth0.client.UrlMatcher.isUrl;
 import static okhttp3.logging.HttpLoggingInterceptor.Level;
@@ -139,6 +148,17 @@ public class ManagementAPITest {
         assertThat(api.users().apiToken, is("new token"));
     }
 
+    @Test
+    public void shouldShareContextWithEntities() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+
+        assertThat(api.getContext(), is(notNullValue()));
+        assertThat(api.users().context, is(sameInstance(api.getContext())));
+        assertThat(api.roles().context, is(sameInstance(api.getContext())));
+        assertThat(api.jobs().context, is(sameInstance(api.getContext())));
+        assertThat(new ManagementAPI(DOMAIN, API_TOKEN).getContext(), is(not(sameInstance(api.getContext()))));
+    }
+
     @Test
     public void shouldUseDefaultTimeoutIfNotSpecified() {
         ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
@@ -167,6 +187,237 @@ public class ManagementAPITest {
         assertThat(api.getClient().readTimeoutMillis(), is(30 * 1000));
     }
 
+    @Test
+    public void shouldShareConnectionPoolIfConfigured() {
+        ConnectionPool pool = new ConnectionPool();
+        HttpOptions options = new HttpOptions();
+        options.setConnectionPool(pool);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        ManagementAPI other = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient().connectionPool(), is(sameInstance(pool)));
+        assertThat(other.getClient().connectionPool(), is(sameInstance(pool)));
+    }
+
+    @Test
+    public void shouldShareDispatcherIfConfigured() {
+        Dispatcher dispatcher = new Dispatcher();
+        HttpOptions options = new HttpOptions();
+        options.setDispatcher(dispatcher);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient().dispatcher(), is(sameInstance(dispatcher)));
+    }
+
+    @Test
+    public void shouldDeriveFromSharedClientIfConfigured() {
+        OkHttpClient shared = new OkHttpClient();
+        HttpOptions options = new HttpOptions();
+        options.setHttpClient(shared);
+        options.setReadTimeout(30);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient(), is(not(sameInstance(shared))));
+        assertThat(api.getClient().connectionPool(), is(sameInstance(shared.connectionPool())));
+        assertThat(api.getClient().dispatcher(), is(sameInstance(shared.dispatcher())));
+        assertThat(api.getClient().readTimeoutMillis(), is(30 * 1000));
+        assertThat(api.getClient().interceptors(), hasItem(isA(TelemetryInterceptor.class)));
+        assertThat(shared.interceptors(), is(empty()));
+    }
+
+    @Test
+    public void shouldKeepTimeoutsOfSharedClientUnlessSet() {
+        OkHttpClient shared = new OkHttpClient.Builder()
+                .connectTimeout(42, TimeUnit.SECONDS)
+                .readTimeout(20, TimeUnit.SECONDS)
+                .writeTimeout(25, TimeUnit.SECONDS)
+                .callTimeout(7, TimeUnit.SECONDS)
+                .build();
+        HttpOptions options = new HttpOptions();
+        options.setHttpClient(shared);
+        options.setWriteTimeout(5);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient().connectTimeoutMillis(), is(42 * 1000));
+        assertThat(api.getClient().readTimeoutMillis(), is(20 * 1000));
+        assertThat(api.getClient().writeTimeoutMillis(), is(5 * 1000));
+        assertThat(api.getClient().callTimeoutMillis(), is(7 * 1000));
+    }
+
+    @Test
+    public void shouldReleaseOwnedResourcesOnClose() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions());
+        api.close();
+        assertThat(api.getClient().dispatcher().executorService().isShutdown(), is(true));
+    }
+
+    @Test
+    public void shouldNotReleaseSharedResourcesOnClose() {
+        OkHttpClient shared = new OkHttpClient();
+        HttpOptions options = new HttpOptions();
+        options.setHttpClient(shared);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        api.close();
+        assertThat(shared.dispatcher().executorService().isShutdown(), is(false));
+
+        Dispatcher dispatcher = new Dispatcher();
+        HttpOptions dispatcherOptions = new HttpOptions();
+        dispatcherOptions.setDispatcher(dispatcher);
+        ManagementAPI other = new ManagementAPI(DOMAIN, API_TOKEN, dispatcherOptions);
+        other.close();
+        assertThat(dispatcher.executorService().isShutdown(), is(false));
+    }
+
+    @Test
+    public void shouldUseDefaultConcurrencyIfNotSpecified() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions());
+        assertThat(api.getClient().dispatcher().getMaxRequests(), is(64));
+        assertThat(api.getClient().dispatcher().getMaxRequestsPerHost(), is(5));
+        assertThat(api.getClient().writeTimeoutMillis(), is(10 * 1000));
+        assertThat(api.getClient().callTimeoutMillis(), is(0));
+    }
+
+    @Test
+    public void shouldSetConcurrencyAndTimeoutsIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setMaxRequests(20);
+        options.setMaxRequestsPerHost(10);
+        options.setMaxIdleConnections(8);
+        options.setKeepAliveDuration(60);
+        options.setWriteTimeout(15);
+        options.setCallTimeout(40);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient().dispatcher().getMaxRequests(), is(20));
+        assertThat(api.getClient().dispatcher().getMaxRequestsPerHost(), is(10));
+        assertThat(api.getClient().writeTimeoutMillis(), is(15 * 1000));
+        assertThat(api.getClient().callTimeoutMillis(), is(40 * 1000));
+    }
+
+    @Test
+    public void shouldClampInvalidConcurrencyAndTimeoutValues() {
+        HttpOptions options = new HttpOptions();
+        options.setMaxRequests(0);
+        options.setMaxRequestsPerHost(-1);
+        options.setMaxIdleConnections(-1);
+        options.setKeepAliveDuration(0);
+        options.setWriteTimeout(-1);
+        options.setCallTimeout(-1);
+        assertThat(options.getMaxRequests(), is(1));
+        assertThat(options.getMaxRequestsPerHost(), is(1));
+        assertThat(options.getMaxIdleConnections(), is(0));
+        assertThat(options.getKeepAliveDuration(), is(1));
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient().dispatcher().getMaxRequests(), is(1));
+        assertThat(api.getClient().dispatcher().getMaxRequestsPerHost(), is(1));
+        assertThat(api.getClient().writeTimeoutMillis(), is(0));
+        assertThat(api.getClient().callTimeoutMillis(), is(0));
+    }
+
+    @Test
+    public void shouldNotApplyConcurrencyToSharedDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        HttpOptions options = new HttpOptions();
+        options.setDispatcher(dispatcher);
+        options.setMaxRequestsPerHost(10);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient().dispatcher(), is(sameInstance(dispatcher)));
+        assertThat(dispatcher.getMaxRequestsPerHost(), is(5));
+    }
+
+    @Test
+    public void shouldUseRetryPolicyIfConfigured() {
+        RetryPolicy retryPolicy = RetryPolicy.newBuilder().build();
+        HttpOptions options = new HttpOptions();
+        options.setRetryPolicy(retryPolicy);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getContext().getRetryPolicy(), is(sameInstance(retryPolicy)));
+    }
+
+    @Test
+    public void shouldNotThrottleByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getRateLimitThrottle(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldShareThrottleWithEntitiesIfEnabled() {
+        HttpOptions options = new HttpOptions();
+        options.setThrottlingEnabled(true);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getRateLimitThrottle(), is(notNullValue()));
+        assertThat(api.getRateLimitThrottle().getLimit(), is(-1L));
+        assertThat(api.users().context.getThrottle(), is(sameInstance(api.getRateLimitThrottle())));
+        assertThat(api.roles().context.getThrottle(), is(sameInstance(api.getRateLimitThrottle())));
+        assertThat(new ManagementAPI(DOMAIN, API_TOKEN, options).getRateLimitThrottle(), is(not(sameInstance(api.getRateLimitThrottle()))));
+    }
+
+    @Test
+    public void shouldCoalesceRequestsIfConfigured() {
+        assertThat(new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions()).getContext().isRequestCoalescingEnabled(), is(false));
+
+        HttpOptions options = new HttpOptions();
+        options.setRequestCoalescingEnabled(true);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getContext().isRequestCoalescingEnabled(), is(true));
+    }
+
+    @Test
+    public void shouldAddResponseCacheIfConfigured() {
+        assertThat(new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions()).getClient().interceptors(), not(hasItem(isA(ResponseCache.class))));
+
+        ResponseCache cache = ResponseCache.newBuilder().build();
+        HttpOptions options = new HttpOptions();
+        options.setResponseCache(cache);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient().interceptors(), hasItem(sameInstance(cache)));
+    }
+
+    @Test
+    public void shouldUseMetricsRecorderIfConfigured() {
+        assertThat(new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions()).getContext().getMetricsRecorder(), is(nullValue()));
+
+        MetricsRecorder metrics = new HistogramMetricsRecorder();
+        HttpOptions options = new HttpOptions();
+        options.setMetricsRecorder(metrics);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getContext().getMetricsRecorder(), is(sameInstance(metrics)));
+    }
+
+    @Test
+    public void shouldTraceCallsIfConfigured() {
+        ManagementAPI defaultApi = new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions());
+        assertThat(defaultApi.getContext().isCallTracingEnabled(), is(false));
+        assertThat(defaultApi.getClient().eventListenerFactory(), is(not(sameInstance(CallTimingsEventListener.FACTORY))));
+
+        HttpOptions options = new HttpOptions();
+        options.setCallTracingEnabled(true);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getContext().isCallTracingEnabled(), is(true));
+        assertThat(api.getClient().eventListenerFactory(), is(sameInstance(CallTimingsEventListener.FACTORY)));
+    }
+
+    @Test
+    public void shouldUseCompletionExecutorIfConfigured() {
+        assertThat(new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions()).getContext().getCompletionExecutor(), is(nullValue()));
+
+        Executor executor = Runnable::run;
+        HttpOptions options = new HttpOptions();
+        options.setCompletionExecutor(executor);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getContext().getCompletionExecutor(), is(sameInstance(executor)));
+    }
+
+    @Test
+    public void shouldUseExecutorServiceIfConfigured() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            HttpOptions options = new HttpOptions();
+            options.setExecutorService(executor);
+            ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+            assertThat(api.getClient().dispatcher().executorService(), is(sameInstance(executor)));
+            api.close();
+            assertThat(executor.isShutdown(), is(false));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void shouldNotUseProxyByDefault() throws Exception {
         ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
@@ -4,6 +4,7 @@ import com.auth0.client.MockServer;
 import com.auth0.client.mgmt.filter.FieldsFilter;
 import com.auth0.client.mgmt.filter.InvitationsFilter;
 import com.auth0.client.mgmt.filter.PageFilter;
+import com.auth0.client.mgmt.pagination.FetchAllRequest;
 import com.auth0.json.mgmt.RolesPage;
 import com.auth0.json.mgmt.organizations.*;
 import com.auth0.net.Request;
@@ -58,6 +59,27 @@ public class OrganizationEntityTest extends BaseMgmtEntityTest {
         assertThat(response.getItems(), hasSize(2));
     }
 
+    @Test
+    public void shouldListOrgsWithCheckpoint() throws Exception {
+        PageFilter filter = new PageFilter().withFrom("abc123").withTake(2);
+        Request<OrganizationsPage> request = api.organizations().list(filter);
+        assertThat(request, is(notNullValue()));
+
+        server.jsonResponse(MockServer.ORGANIZATIONS_CHECKPOINT_PAGED_LIST, 200);
+        OrganizationsPage response = request.execute();
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/api/v2/organizations"));
+        assertThat(recordedRequest, hasHeader("Content-Type", "application/json"));
+        assertThat(recordedRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(recordedRequest, hasQueryParameter("from", "abc123"));
+        assertThat(recordedRequest, hasQueryParameter("take", "2"));
+
+        assertThat(response, is(notNullValue()));
+        assertThat(response.getItems(), hasSize(2));
+        assertThat(response.getNext(), is("b3JnX1czT0g5d3RNUmJqaEh1V0s"));
+    }
+
     @Test
     public void shouldListOrgsWithTotals() throws Exception {
         PageFilter filter = new PageFilter().withTotals(true);
@@ -77,6 +99,27 @@ public class OrganizationEntityTest extends BaseMgmtEntityTest {
         assertThat(response.getItems(), hasSize(2));
     }
 
+    @Test
+    public void shouldFetchAllOrgs() throws Exception {
+        FetchAllRequest<Organization> request = api.organizations().fetchAll(null);
+        assertThat(request, is(notNullValue()));
+
+        server.jsonResponse(ORGANIZATIONS_PAGED_LIST, 200);
+        server.jsonResponse(ORGANIZATIONS_PAGED_LIST, 200);
+        List<Organization> response = request.setPageSize(1).execute();
+        RecordedRequest firstRequest = server.takeRequest();
+        RecordedRequest secondRequest = server.takeRequest();
+
+        assertThat(firstRequest, hasMethodAndPath("GET", "/api/v2/organizations"));
+        assertThat(firstRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(firstRequest, hasQueryParameter("include_totals", "true"));
+        assertThat(firstRequest, hasQueryParameter("page", "0"));
+        assertThat(firstRequest, hasQueryParameter("per_page", "1"));
+        assertThat(secondRequest, hasQueryParameter("page", "1"));
+
+        assertThat(response, hasSize(4));
+    }
+
     @Test
     public void shouldThrowOnGetOrgWithNullId() {
         exception.expect(IllegalArgumentException.class);
@@ -287,6 +330,27 @@ public class OrganizationEntityTest extends BaseMgmtEntityTest {
         assertThat(response.getItems(), hasSize(3));
     }
 
+    @Test
+    public void shouldListOrgMembersWithCheckpoint() throws Exception {
+        PageFilter filter = new PageFilter().withFrom("abc123").withTake(2);
+        Request<MembersPage> request = api.organizations().getMembers("org_abc", filter);
+        assertThat(request, is(notNullValue()));
+
+        server.jsonResponse(MockServer.ORGANIZATION_MEMBERS_CHECKPOINT_PAGED_LIST, 200);
+        MembersPage response = request.execute();
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/api/v2/organizations/org_abc/members"));
+        assertThat(recordedRequest, hasHeader("Content-Type", "application/json"));
+        assertThat(recordedRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(recordedRequest, hasQueryParameter("from", "abc123"));
+        assertThat(recordedRequest, hasQueryParameter("take", "2"));
+
+        assertThat(response, is(notNullValue()));
+        assertThat(response.getItems(), hasSize(2));
+        assertThat(response.getNext(), is("MjAyMS0wMy0yMyAxNjozNjoyMi4yNzYwMDBfYXV0aDB8NjA1YTBmYzFiZWY2N2YwMDY4NTFhMTIz"));
+    }
+
     @Test
     public void shouldListOrgMembersWithTotals() throws Exception {
         PageFilter filter = new PageFilter().withTotals(true);
@@ -4,6 +4,7 @@ import static com.auth0.client.MockServer.MGMT_ROLE;
 import static com.auth0.client.MockServer.MGMT_ROLES_LIST;
 import static com.auth0.client.MockServer.MGMT_ROLES_PAGED_LIST;
 import static com.auth0.client.MockServer.MGMT_ROLE_PERMISSIONS_PAGED_LIST;
+import static com.auth0.client.MockServer.MGMT_ROLE_USERS_CHECKPOINT_PAGED_LIST;
 import static com.auth0.client.MockServer.MGMT_ROLE_USERS_PAGED_LIST;
 import static com.auth0.client.MockServer.bodyFromRequest;
 import static com.auth0.client.RecordedRequestMatcher.hasHeader;
@@ -19,6 +20,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.auth0.client.mgmt.filter.PageFilter;
 import com.auth0.client.mgmt.filter.RolesFilter;
+import com.auth0.client.mgmt.pagination.FetchAllRequest;
 import com.auth0.json.mgmt.Permission;
 import com.auth0.json.mgmt.PermissionsPage;
 import com.auth0.json.mgmt.Role;
@@ -94,6 +96,29 @@ public class RolesEntityTest extends BaseMgmtEntityTest {
     assertThat(response.getLimit(), is(50));
   }
 
+  @Test
+  public void shouldFetchAllRoles() throws Exception {
+    FetchAllRequest<Role> request = api.roles().fetchAll(new RolesFilter().withName("role"));
+    assertThat(request, is(notNullValue()));
+
+    server.jsonResponse(MGMT_ROLES_PAGED_LIST, 200);
+    server.jsonResponse(MGMT_ROLES_PAGED_LIST, 200);
+    List<Role> response = request.setPageSize(10).execute();
+    RecordedRequest firstRequest = server.takeRequest();
+    RecordedRequest secondRequest = server.takeRequest();
+
+    assertThat(firstRequest, hasMethodAndPath("GET", "/api/v2/roles"));
+    assertThat(firstRequest, hasHeader("Authorization", "Bearer apiToken"));
+    assertThat(firstRequest, hasQueryParameter("name_filter", "role"));
+    assertThat(firstRequest, hasQueryParameter("include_totals", "true"));
+    assertThat(firstRequest, hasQueryParameter("page", "0"));
+    assertThat(firstRequest, hasQueryParameter("per_page", "10"));
+    assertThat(secondRequest, hasQueryParameter("name_filter", "role"));
+    assertThat(secondRequest, hasQueryParameter("page", "1"));
+
+    assertThat(response, hasSize(4));
+  }
+
   @Test
   public void shouldGetRole() throws Exception {
     Request<Role> request = api.roles().get("1");
@@ -247,6 +272,27 @@ public class RolesEntityTest extends BaseMgmtEntityTest {
     assertThat(response.getItems(), hasSize(2));
   }
 
+  @Test
+  public void shouldListUsersWithCheckpoint() throws Exception {
+    PageFilter filter = new PageFilter().withFrom("abc123").withTake(2);
+    Request<UsersPage> request = api.roles().listUsers("1", filter);
+    assertThat(request, is(notNullValue()));
+
+    server.jsonResponse(MGMT_ROLE_USERS_CHECKPOINT_PAGED_LIST, 200);
+    UsersPage response = request.execute();
+    RecordedRequest recordedRequest = server.takeRequest();
+
+    assertThat(recordedRequest, hasMethodAndPath("GET", "/api/v2/roles/1/users"));
+    assertThat(recordedRequest, hasHeader("Content-Type", "application/json"));
+    assertThat(recordedRequest, hasHeader("Authorization", "Bearer apiToken"));
+    assertThat(recordedRequest, hasQueryParameter("from", "abc123"));
+    assertThat(recordedRequest, hasQueryParameter("take", "2"));
+
+    assertThat(response, is(notNullValue()));
+    assertThat(response.getItems(), hasSize(2));
+    assertThat(response.getNext(), is("dXNyXzU0NTdlZGVhMWI4ZjMzMzkxYTAwMDAwNA"));
+  }
+
   @Test
   public void shouldListUsersWithTotals() throws Exception {
     PageFilter filter = new PageFilter().withTotals(true);
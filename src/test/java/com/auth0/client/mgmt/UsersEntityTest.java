@@ -4,20 +4,28 @@ import static com.auth0.client.MockServer.*;
 import static com.auth0.client.RecordedRequestMatcher.hasHeader;
 import static com.auth0.client.RecordedRequestMatcher.hasMethodAndPath;
 import static com.auth0.client.RecordedRequestMatcher.hasQueryParameter;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.emptyCollectionOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isA;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 import com.auth0.client.mgmt.filter.FieldsFilter;
 import com.auth0.client.mgmt.filter.LogEventFilter;
 import com.auth0.client.mgmt.filter.PageFilter;
 import com.auth0.client.mgmt.filter.UserFilter;
+import com.auth0.client.mgmt.filter.UsersExportFilter;
+import com.auth0.client.mgmt.pagination.FetchAllRequest;
+import com.auth0.client.mgmt.pagination.PartitionedUserSearchRequest;
+import com.auth0.client.mgmt.pagination.UserSearchIterable;
+import com.auth0.exception.Auth0Exception;
 import com.auth0.json.mgmt.Permission;
 import com.auth0.json.mgmt.PermissionsPage;
 import com.auth0.json.mgmt.RolesPage;
@@ -30,10 +38,17 @@ import com.auth0.json.mgmt.users.RecoveryCode;
 import com.auth0.json.mgmt.users.User;
 import com.auth0.json.mgmt.users.UsersPage;
 import com.auth0.net.Request;
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.Test;
 
@@ -150,6 +165,117 @@ public class UsersEntityTest extends BaseMgmtEntityTest {
         assertThat(response.getLimit(), is(50));
     }
 
+    @Test
+    public void shouldFetchAllUsers() throws Exception {
+        FetchAllRequest<User> request = api.users().fetchAll(new UserFilter().withQuery("email:\\*@example.com"));
+        assertThat(request, is(notNullValue()));
+
+        server.jsonResponse(MGMT_USERS_PAGED_LIST, 200);
+        server.jsonResponse(MGMT_USERS_PAGED_LIST, 200);
+        List<User> response = request.setPageSize(10).execute();
+        RecordedRequest firstRequest = server.takeRequest();
+        RecordedRequest secondRequest = server.takeRequest();
+
+        assertThat(firstRequest, hasMethodAndPath("GET", "/api/v2/users"));
+        assertThat(firstRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(firstRequest, hasQueryParameter("q", "email:\\*@example.com"));
+        assertThat(firstRequest, hasQueryParameter("include_totals", "true"));
+        assertThat(firstRequest, hasQueryParameter("page", "0"));
+        assertThat(firstRequest, hasQueryParameter("per_page", "10"));
+        assertThat(secondRequest, hasQueryParameter("q", "email:\\*@example.com"));
+        assertThat(secondRequest, hasQueryParameter("page", "1"));
+
+        assertThat(response, hasSize(4));
+    }
+
+    @Test
+    public void shouldSearchAllUsersByCreationDate() throws Exception {
+        PartitionedUserSearchRequest request = api.users().searchAll(new UserFilter().withQuery("email:\\*@example.com"), new Date(0), new Date(86400000));
+        assertThat(request, is(notNullValue()));
+
+        server.jsonResponse(MGMT_USERS_PAGED_LIST, 200);
+        List<User> response = request.execute();
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/api/v2/users"));
+        assertThat(recordedRequest, hasHeader("Authorization", "Bearer apiToken"));
+        assertThat(recordedRequest, hasQueryParameter("q", "(email:\\*@example.com) AND created_at:[\"1970-01-01T00:00:00Z\" TO \"1970-01-02T00:00:00Z\"}"));
+        assertThat(recordedRequest, hasQueryParameter("sort", "created_at:1"));
+        assertThat(recordedRequest, hasQueryParameter("include_totals", "true"));
+        assertThat(recordedRequest, hasQueryParameter("page", "0"));
+        assertThat(recordedRequest, hasQueryParameter("per_page", "100"));
+
+        assertThat(response, hasSize(2));
+    }
+
+    @Test
+    public void shouldSearchUsersWhenSearchWindowFits() throws Exception {
+        UserSearchIterable users = api.users().searchOrExport(new UserFilter().withQuery("email:\\*@example.com"), "con_123456789", null);
+        assertThat(users, is(notNullValue()));
+
+        server.jsonResponse(MGMT_USERS_PAGED_LIST, 200);
+        List<User> response = new ArrayList<>();
+        users.forEach(response::add);
+        RecordedRequest recordedRequest = server.takeRequest();
+
+        assertThat(recordedRequest, hasMethodAndPath("GET", "/api/v2/users"));
+        assertThat(recordedRequest, hasQueryParameter("q", "email:\\*@example.com"));
+        assertThat(recordedRequest, hasQueryParameter("include_totals", "true"));
+        assertThat(recordedRequest, hasQueryParameter("page", "0"));
+        assertThat(server.getRequestCount(), is(1));
+        assertThat(response, hasSize(2));
+    }
+
+    @Test
+    public void shouldExportUsersWhenSearchExceedsWindow() throws Exception {
+        UsersExportFilter exportFilter = new UsersExportFilter().withFormat("csv");
+        // The export has every user of the connection, including eric who doesn't match the search
+        UserSearchIterable users = api.users().searchOrExport(new UserFilter().withQuery("name:dave"), "con_123456789", exportFilter,
+                user -> "dave".equals(user.getName()));
+
+        File completedJob = File.createTempFile("job", ".json");
+        completedJob.deleteOnExit();
+        Files.write(completedJob.toPath(), ("{\"type\":\"users_export\",\"status\":\"completed\",\"id\":\"job_123456789\","
+                + "\"location\":\"" + server.getBaseUrl() + "exports/users.json.gz\"}").getBytes(StandardCharsets.UTF_8));
+        server.jsonResponse(MGMT_USERS_PAGED_LIST_OVER_SEARCH_WINDOW, 200);
+        server.jsonResponse(MGMT_JOB_POST_USERS_EXPORTS, 200);
+        server.jsonResponse(completedJob.getPath(), 200);
+        server.textResponse(MGMT_USERS_EXPORT, 200);
+        List<String> emails;
+        try (Stream<User> stream = users.stream()) {
+            emails = stream.map(User::getEmail).collect(Collectors.toList());
+        }
+        RecordedRequest searchRequest = server.takeRequest();
+        RecordedRequest exportRequest = server.takeRequest();
+        RecordedRequest jobRequest = server.takeRequest();
+        RecordedRequest downloadRequest = server.takeRequest();
+
+        assertThat(searchRequest, hasMethodAndPath("GET", "/api/v2/users"));
+        assertThat(exportRequest, hasMethodAndPath("POST", "/api/v2/jobs/users-exports"));
+        Map<String, Object> body = bodyFromRequest(exportRequest);
+        assertThat(body, hasEntry("connection_id", "con_123456789"));
+        assertThat(body, hasEntry("format", "json"));
+        assertThat(jobRequest, hasMethodAndPath("GET", "/api/v2/jobs/job_123456789"));
+        assertThat(downloadRequest, hasMethodAndPath("GET", "/exports/users.json.gz"));
+        assertThat(emails, contains("dave@domain.com"));
+    }
+
+    @Test
+    public void shouldFailQueriedSearchExceedingWindowWithoutExportMatcher() throws Exception {
+        UserSearchIterable users = api.users().searchOrExport(new UserFilter().withQuery("name:dave"), "con_123456789", null);
+
+        server.jsonResponse(MGMT_USERS_PAGED_LIST_OVER_SEARCH_WINDOW, 200);
+        try {
+            users.iterator().hasNext();
+            fail("Expected the search to fail");
+        } catch (UncheckedIOException e) {
+            assertThat(e.getCause(), isA(Auth0Exception.class));
+        }
+
+        assertThat(server.takeRequest(), hasMethodAndPath("GET", "/api/v2/users"));
+        assertThat(server.getRequestCount(), is(1));
+    }
+
     @Test
     public void shouldListUsersWithSort() throws Exception {
         UserFilter filter = new UserFilter().withSort("date:1");
@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -27,6 +28,14 @@ public class LogEventFilterTest {
         assertThat(filter.getAsMap(), Matchers.hasEntry("take", 10));
     }
 
+    @Test
+    public void shouldLeaveOutNullCheckpointFrom() {
+        filter.withCheckpoint("log123", 10).withCheckpoint(null, 20);
+
+        assertThat(filter.getAsMap(), not(Matchers.hasKey("from")));
+        assertThat(filter.getAsMap(), Matchers.hasEntry("take", 20));
+    }
+
     @Test
     public void shouldIncludeTotals() {
         LogEventFilter instance = filter.withTotals(true);
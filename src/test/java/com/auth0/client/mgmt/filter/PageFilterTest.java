@@ -36,4 +36,14 @@ public class PageFilterTest {
         assertThat(filter.getAsMap(), Matchers.hasEntry("include_totals", true));
     }
 
+    @Test
+    public void shouldFilterByCheckpoint() {
+        PageFilter instance = filter.withFrom("abc123").withTake(10);
+
+        assertThat(filter, is(instance));
+        assertThat(filter.getAsMap(), is(notNullValue()));
+        assertThat(filter.getAsMap(), Matchers.hasEntry("from", "abc123"));
+        assertThat(filter.getAsMap(), Matchers.hasEntry("take", 10));
+    }
+
 }
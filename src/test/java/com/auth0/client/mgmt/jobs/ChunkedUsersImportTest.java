@@ -0,0 +1,298 @@
+package com.auth0.client.mgmt.jobs;
+
+import com.auth0.client.StubRequest;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
+import com.auth0.json.mgmt.jobs.Job;
+import com.auth0.json.mgmt.users.User;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.Request;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ChunkedUsersImportTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<List<String>> chunks = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> chunkSizes = new ArrayList<>();
+    private final Map<String, Integer> pollsLeft = new ConcurrentHashMap<>();
+    private final Set<String> rateLimitedJobs = ConcurrentHashMap.newKeySet();
+    private final List<String> failingJobs = new ArrayList<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+    private final JobCompletionWaiter waiter = JobCompletionWaiter.newBuilder(this::job, scheduler)
+            .withMinInterval(1, TimeUnit.MILLISECONDS)
+            .withMaxInterval(1, TimeUnit.MILLISECONDS)
+            .build();
+    private int maxRunning;
+    private int submissionsLeft = Integer.MAX_VALUE;
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void shouldThrowOnNullSubmitter() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'submitter' cannot be null!");
+        ChunkedUsersImport.newBuilder(null, waiter);
+    }
+
+    @Test
+    public void shouldThrowOnNullWaiter() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'waiter' cannot be null!");
+        ChunkedUsersImport.newBuilder(this::submit, null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidConcurrency() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'concurrency' must be greater than zero!");
+        ChunkedUsersImport.newBuilder(this::submit, waiter).withConcurrency(0);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidMaxChunkBytes() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'maxChunkBytes' must be greater than zero!");
+        ChunkedUsersImport.newBuilder(this::submit, waiter).withMaxChunkBytes(0);
+    }
+
+    @Test
+    public void shouldImportNoUsers() throws Exception {
+        UsersImportReport report = builder().build().run(users(0).iterator());
+
+        assertThat(chunks, is(empty()));
+        assertThat(report.getJobIds(), is(empty()));
+        assertThat(report.getTotal(), is(0L));
+    }
+
+    @Test
+    public void shouldSplitUsersIntoChunksWithinTheSizeLimit() throws Exception {
+        UsersImportReport report = builder().withMaxChunkBytes(1000).build().run(users(100).iterator());
+
+        assertThat(chunks.size(), is(greaterThan(1)));
+        assertThat(chunkSizes, everyItem(lessThanOrEqualTo(1000)));
+        List<String> imported = new ArrayList<>();
+        chunks.forEach(imported::addAll);
+        assertThat(imported, is(emails(100)));
+        assertThat(report.getJobIds(), hasSize(chunks.size()));
+        assertThat(report.getInserted(), is(100L));
+        assertThat(report.getTotal(), is(100L));
+    }
+
+    @Test
+    public void shouldKeepRunningJobsWithinConcurrency() throws Exception {
+        builder().withMaxChunkBytes(500).withConcurrency(3).build().run(users(100).iterator());
+
+        assertThat(chunks.size(), is(greaterThan(3)));
+        assertThat(maxRunning, is(3));
+    }
+
+    @Test
+    public void shouldReportFailedJobs() throws Exception {
+        failingJobs.add("job_1");
+        UsersImportReport report = builder().withMaxChunkBytes(500).build().run(users(20).iterator());
+
+        assertThat(report.getFailedJobIds(), contains("job_1"));
+        assertThat(report.getJobIds(), hasItem("job_1"));
+        assertThat(report.getTotal(), is((long) (20 - chunks.get(1).size())));
+    }
+
+    @Test
+    public void shouldKeepWaitingForRateLimitedJobs() throws Exception {
+        rateLimitedJobs.add("job_0");
+        UsersImportReport report = builder().build().run(users(20).iterator());
+
+        assertThat(rateLimitedJobs, is(empty()));
+        assertThat(report.getJobIds(), contains("job_0"));
+        assertThat(report.getTotal(), is(20L));
+    }
+
+    @Test
+    public void shouldThrowWhenUserDoesNotFitInChunk() throws Exception {
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("A user doesn't fit in a chunk of 10 bytes");
+        builder().withMaxChunkBytes(10).build().run(users(1).iterator());
+    }
+
+    @Test
+    public void shouldResumeFromJournal() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("import.journal");
+        ChunkedUsersImport usersImport = builder().withMaxChunkBytes(500).withJournal(journal).build();
+        submissionsLeft = 3;
+        pollsLeft.put("job_0", 0);
+        // The third job keeps running until the crash
+        pollsLeft.put("job_2", Integer.MAX_VALUE);
+        try {
+            usersImport.run(users(100).iterator());
+        } catch (UncheckedIOException expected) {
+            // the process crashed after submitting three chunks
+        }
+        int submitted = chunks.size();
+        assertThat(submitted, is(3));
+        assertThat(running.get(), is(1));
+
+        submissionsLeft = Integer.MAX_VALUE;
+        pollsLeft.put("job_2", 0);
+        UsersImportReport report = usersImport.run(users(100).iterator());
+
+        List<String> imported = new ArrayList<>();
+        chunks.forEach(imported::addAll);
+        assertThat(imported, is(emails(100)));
+        assertThat(report.getJobIds(), hasSize(chunks.size()));
+        assertThat(report.getJobIds(), hasItems("job_0", "job_1", "job_2"));
+        assertThat(report.getTotal(), is(100L));
+    }
+
+    @Test
+    public void shouldSkipEveryChunkOfCompletedImport() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("import.journal");
+        ChunkedUsersImport usersImport = builder().withMaxChunkBytes(500).withJournal(journal).build();
+        UsersImportReport first = usersImport.run(users(20).iterator());
+        int submitted = chunks.size();
+
+        UsersImportReport second = usersImport.run(users(20).iterator());
+
+        assertThat(chunks, hasSize(submitted));
+        assertThat(second.getJobIds(), is(first.getJobIds()));
+        assertThat(second.getTotal(), is(20L));
+    }
+
+    @Test
+    public void shouldIgnoreCutShortLastLineOfJournal() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("import.journal");
+        ChunkedUsersImport usersImport = builder().withMaxChunkBytes(500).withJournal(journal).build();
+        usersImport.run(users(20).iterator());
+        int submitted = chunks.size();
+        Files.write(journal, "ended 0 compl".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        UsersImportReport report = usersImport.run(users(20).iterator());
+
+        assertThat(chunks, hasSize(submitted));
+        assertThat(report.getTotal(), is(20L));
+    }
+
+    @Test
+    public void shouldThrowWhenResumingWithDifferentUsers() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("import.journal");
+        ChunkedUsersImport usersImport = builder().withMaxChunkBytes(500).withJournal(journal).build();
+        usersImport.run(users(20).iterator());
+        List<User> others = users(20);
+        others.get(0).setEmail("other@example.com");
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("The chunk 0 doesn't match the one in the journal");
+        usersImport.run(others.iterator());
+    }
+
+    @Test
+    public void shouldThrowWhenJournalHasDifferentChunkSize() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("import.journal");
+        builder().withMaxChunkBytes(500).withJournal(journal).build().run(users(20).iterator());
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("The users import journal was not written by an import with a chunk size of 600 bytes");
+        builder().withMaxChunkBytes(600).withJournal(journal).build().run(users(20).iterator());
+    }
+
+    private ChunkedUsersImport.Builder builder() {
+        return ChunkedUsersImport.newBuilder(this::submit, waiter);
+    }
+
+    private Request<Job> submit(byte[] bytes) {
+        if (submissionsLeft-- <= 0) {
+            throw new UncheckedIOException(new IOException("crashed"));
+        }
+        List<String> emails = new ArrayList<>();
+        try {
+            chunkSizes.add(bytes.length);
+            List<User> users = JsonCodec.getDefault().getMapper().readValue(bytes, new TypeReference<List<User>>() {
+            });
+            users.forEach(user -> emails.add(user.getEmail()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String id = "job_" + chunks.size();
+        chunks.add(emails);
+        pollsLeft.putIfAbsent(id, 1);
+        maxRunning = Math.max(maxRunning, running.incrementAndGet());
+        return StubRequest.completed(job(id, "pending", null));
+    }
+
+    private Request<Job> job(String id) {
+        if (rateLimitedJobs.remove(id)) {
+            return StubRequest.failed(new RateLimitException(100, 0, -1));
+        }
+        int left = pollsLeft.get(id);
+        pollsLeft.put(id, left - 1);
+        if (left > 0) {
+            return StubRequest.completed(job(id, "processing", null));
+        }
+        running.decrementAndGet();
+        int size = chunks.get(Integer.parseInt(id.substring(4))).size();
+        if (failingJobs.contains(id)) {
+            return StubRequest.completed(job(id, "failed", null));
+        }
+        return StubRequest.completed(job(id, "completed", "{\"inserted\":" + size + ",\"updated\":0,\"failed\":0,\"total\":" + size + "}"));
+    }
+
+    private static Job job(String id, String status, String summary) {
+        String json = "{\"type\":\"users_import\",\"id\":\"" + id + "\",\"status\":\"" + status + "\""
+                + (summary == null ? "" : ",\"summary\":" + summary) + "}";
+        try {
+            return JsonCodec.getDefault().getMapper().readValue(json, Job.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<User> users(int count) {
+        List<User> users = new ArrayList<>();
+        for (String email : emails(count)) {
+            User user = new User();
+            user.setEmail(email);
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static List<String> emails(int count) {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            emails.add("user" + i + "@example.com");
+        }
+        return emails;
+    }
+}
@@ -0,0 +1,250 @@
+package com.auth0.client.mgmt.jobs;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
+import com.auth0.json.mgmt.jobs.Job;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.Request;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JobCompletionWaiterTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final List<Long> delays = new ArrayList<>();
+    private final Deque<Object> responses = new LinkedList<>();
+    private final AtomicInteger polls = new AtomicInteger();
+
+    @Test
+    public void shouldThrowOnNullScheduler() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'scheduler' cannot be null!");
+        JobCompletionWaiter.newBuilder(this::job, null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidInterval() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'interval' must be greater than zero!");
+        JobCompletionWaiter.newBuilder(this::job, inlineScheduler()).withMinInterval(0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldCompleteRightAwayWhenJobEnded() throws Exception {
+        Job ended = job("job_1", "completed", null, null);
+        CompletableFuture<Job> future = waiter().await(ended);
+
+        assertThat(future.get(), is(sameInstance(ended)));
+        assertThat(polls.get(), is(0));
+    }
+
+    @Test
+    public void shouldPollUntilJobCompletes() throws Exception {
+        responses.add(job("job_1", "pending", null, null));
+        responses.add(job("job_1", "processing", null, null));
+        responses.add(job("job_1", "completed", null, null));
+        JobCompletionWaiter waiter = waiter();
+        CompletableFuture<Job> future = waiter.await("job_1");
+
+        assertThat(future.get().getStatus(), is("completed"));
+        assertThat(polls.get(), is(3));
+        assertThat(waiter.getWaitingCount(), is(0));
+    }
+
+    @Test
+    public void shouldCompleteWithFailedJob() throws Exception {
+        responses.add(job("job_1", "failed", null, null));
+
+        assertThat(waiter().await("job_1").get().getStatus(), is("failed"));
+    }
+
+    @Test
+    public void shouldDoubleIntervalWithoutProgress() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            responses.add(job("job_1", "processing", null, null));
+        }
+        responses.add(job("job_1", "completed", null, null));
+        waiter().await("job_1").get();
+
+        assertThat(delays, contains(1000L, 2000L, 4000L, 8000L, 16000L, 32000L, 60000L, 60000L, 60000L));
+    }
+
+    @Test
+    public void shouldWaitHalfTheTimeLeft() throws Exception {
+        responses.add(job("job_1", "processing", 20, null));
+        responses.add(job("job_1", "processing", 1, null));
+        responses.add(job("job_1", "completed", null, null));
+        waiter().await(job("job_1", "pending", 600, null)).get();
+
+        assertThat(delays, contains(60000L, 10000L, 1000L));
+    }
+
+    @Test
+    public void shouldBackOffOnRateLimit() throws Exception {
+        responses.add(new RateLimitException(10, 0, -1));
+        responses.add(new RateLimitException(10, 0, -1));
+        responses.add(job("job_1", "completed", null, null));
+        CompletableFuture<Job> future = waiter().await("job_1");
+
+        assertThat(future.get().getStatus(), is("completed"));
+        assertThat(delays, contains(1000L, 2000L, 4000L));
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyOnFailedPoll() throws Exception {
+        Auth0Exception failure = new Auth0Exception("failed");
+        responses.add(failure);
+        CompletableFuture<Job> future = waiter().await("job_1");
+
+        exception.expect(ExecutionException.class);
+        exception.expectCause(is(sameInstance(failure)));
+        future.get();
+    }
+
+    @Test
+    public void shouldStopPollingWhenCancelled() throws Exception {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        try {
+            JobCompletionWaiter waiter = JobCompletionWaiter.newBuilder(this::job, scheduler)
+                    .withMinInterval(50, TimeUnit.MILLISECONDS)
+                    .build();
+            CompletableFuture<Job> future = waiter.await("job_1");
+            future.cancel(false);
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+
+            assertThat(polls.get(), is(0));
+            assertThat(waiter.getWaitingCount(), is(0));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenSchedulerIsShutDown() throws Exception {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.shutdown();
+        CompletableFuture<Job> future = JobCompletionWaiter.newBuilder(this::job, scheduler).build().await("job_1");
+
+        exception.expect(ExecutionException.class);
+        exception.expectCause(isA(Auth0Exception.class));
+        exception.expectMessage("The client was closed while waiting for the job job_1");
+        future.get();
+    }
+
+    @Test
+    public void shouldWaitForManyJobsOnOneThread() throws Exception {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        try {
+            Map<String, Integer> pollsLeft = Collections.synchronizedMap(new HashMap<>());
+            JobCompletionWaiter waiter = JobCompletionWaiter.newBuilder(id -> {
+                int left = pollsLeft.merge(id, -1, Integer::sum);
+                return new AsyncRequest(CompletableFuture.supplyAsync(() -> job(id, left > 0 ? "processing" : "completed", null, null)));
+            }, scheduler).withMinInterval(1, TimeUnit.MILLISECONDS).withMaxInterval(5, TimeUnit.MILLISECONDS).build();
+
+            List<CompletableFuture<Job>> futures = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                pollsLeft.put("job_" + i, 1 + i % 4);
+                futures.add(waiter.await("job_" + i));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get().getId(), is("job_" + i));
+            }
+            assertThat(waiter.getWaitingCount(), is(0));
+            assertThat(scheduler.getLargestPoolSize(), is(1));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private JobCompletionWaiter waiter() {
+        return JobCompletionWaiter.newBuilder(this::job, inlineScheduler()).build();
+    }
+
+    /**
+     * A scheduler that records the delays and runs the tasks right away.
+     */
+    private ScheduledExecutorService inlineScheduler() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            delays.add(invocation.getArgument(1));
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        });
+        return scheduler;
+    }
+
+    private Request<Job> job(String id) {
+        polls.incrementAndGet();
+        Object response = responses.poll();
+        CompletableFuture<Job> future = new CompletableFuture<>();
+        if (response instanceof Job) {
+            future.complete((Job) response);
+        } else if (response instanceof Exception) {
+            future.completeExceptionally((Exception) response);
+        } else {
+            future.completeExceptionally(new RejectedExecutionException("no response"));
+        }
+        return new AsyncRequest(future);
+    }
+
+    private static Job job(String id, String status, Integer timeLeft, Integer percentage) {
+        String json = "{\"type\":\"users_import\",\"id\":\"" + id + "\",\"status\":\"" + status + "\""
+                + (timeLeft == null ? "" : ",\"time_left_seconds\":" + timeLeft)
+                + (percentage == null ? "" : ",\"percentage_done\":" + percentage) + "}";
+        try {
+            return JsonCodec.getDefault().getMapper().readValue(json, Job.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class AsyncRequest implements Request<Job> {
+        private final CompletableFuture<Job> future;
+
+        AsyncRequest(CompletableFuture<Job> future) {
+            this.future = future;
+        }
+
+        @Override
+        public Job execute() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Job> executeAsync() {
+            return future;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.auth0.client.mgmt.jobs;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.jobs.UsersExportField;
+import com.auth0.json.mgmt.users.User;
+import com.auth0.net.JsonCodec;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class UsersExportReaderTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldThrowOnNullContent() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'content' cannot be null!");
+        UsersExportReader.newBuilder(null);
+    }
+
+    @Test
+    public void shouldThrowOnUnknownFormat() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'format' must be either 'json' or 'csv'!");
+        UsersExportReader.newBuilder(content("")).withFormat("xml");
+    }
+
+    @Test
+    public void shouldThrowOnInvalidParallelism() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'parallelism' must be greater than zero!");
+        UsersExportReader.newBuilder(content("")).withParallelDecode(0, Runnable::run);
+    }
+
+    @Test
+    public void shouldReadJsonLinesSkippingBlankOnes() throws Exception {
+        UsersExportReader<User> users = UsersExportReader.newBuilder(content("{\"user_id\":\"user1\"}\n\n{\"user_id\":\"user2\",\"email\":\"user2@example.com\"}\n")).build();
+
+        List<User> read = new ArrayList<>();
+        users.forEachRemaining(read::add);
+        assertThat(read, hasSize(2));
+        assertThat(read.get(0).getId(), is("user1"));
+        assertThat(read.get(1).getEmail(), is("user2@example.com"));
+    }
+
+    @Test
+    public void shouldThrowOnNullCodec() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'codec' cannot be null!");
+        UsersExportReader.newBuilder(content("")).withCodec(null);
+    }
+
+    @Test
+    public void shouldParseRecordsWithGivenCodec() throws Exception {
+        JsonCodec codec = new JsonCodec(new ObjectMapper().enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES));
+        String lines = "{'user_id':'user1'}\n{'user_id':'user2','email':'user2@example.com'}\n";
+
+        List<User> read = new ArrayList<>();
+        UsersExportReader.newBuilder(content(lines)).withCodec(codec).build().forEachRemaining(read::add);
+        assertThat(read, hasSize(2));
+        assertThat(read.get(0).getId(), is("user1"));
+        assertThat(read.get(1).getEmail(), is("user2@example.com"));
+
+        List<Map<String, Object>> projected = new ArrayList<>();
+        UsersExportReader.newBuilder(content(lines)).withCodec(codec).buildProjection().forEachRemaining(projected::add);
+        assertThat(projected.get(1), hasEntry("email", "user2@example.com"));
+    }
+
+    @Test
+    public void shouldReadGzipCompressedContent() throws Exception {
+        UsersExportReader<User> users = UsersExportReader.newBuilder(gzip(jsonLines(3))).build();
+
+        assertThat(ids(users), contains("user0", "user1", "user2"));
+    }
+
+    @Test
+    public void shouldReadEmptyContent() throws Exception {
+        assertThat(UsersExportReader.newBuilder(content("")).build().hasNext(), is(false));
+        assertThat(UsersExportReader.newBuilder(content("")).withFormat("csv").build().hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldReadCsvWithQuotedValues() throws Exception {
+        String csv = "user_id,email,name\r\n"
+                + "user1,user1@example.com,\"Doe, John\"\r\n"
+                + "user2,,\"Say \"\"hi\"\"\nagain\"\r\n";
+        UsersExportReader<Map<String, Object>> users = UsersExportReader.newBuilder(content(csv)).withFormat("csv").buildProjection();
+
+        Map<String, Object> first = users.next();
+        Map<String, Object> second = users.next();
+        assertThat(users.hasNext(), is(false));
+        assertThat(first, hasEntry("name", "Doe, John"));
+        assertThat(first, hasEntry("email", "user1@example.com"));
+        assertThat(second, hasEntry("name", "Say \"hi\"\nagain"));
+        assertThat(second, not(hasKey("email")));
+    }
+
+    @Test
+    public void shouldParseCsvIntoUsers() throws Exception {
+        String csv = "user_id,email,email_verified\nuser1,user1@example.com,true\n";
+        UsersExportReader<User> users = UsersExportReader.newBuilder(content(csv)).withFormat("csv").build();
+
+        User user = users.next();
+        assertThat(user.getId(), is("user1"));
+        assertThat(user.getEmail(), is("user1@example.com"));
+        assertThat(user.isEmailVerified(), is(true));
+    }
+
+    @Test
+    public void shouldProjectRequestedFieldsUnderExportedNames() throws Exception {
+        String json = "{\"user_id\":\"user1\",\"mail\":\"user1@example.com\",\"name\":\"one\"}\n";
+        List<UsersExportField> fields = Arrays.asList(new UsersExportField("user_id"), new UsersExportField("email", "mail"));
+        UsersExportReader<Map<String, Object>> records = UsersExportReader.newBuilder(content(json)).withFields(fields).buildProjection();
+
+        Map<String, Object> record = records.next();
+        assertThat(record.keySet(), contains("user_id", "mail"));
+        assertThat(record, hasEntry("mail", "user1@example.com"));
+    }
+
+    @Test
+    public void shouldLimitUsersToRequestedFields() throws Exception {
+        String json = "{\"user_id\":\"user1\",\"email\":\"user1@example.com\",\"name\":\"one\"}\n";
+        UsersExportReader<User> users = UsersExportReader.newBuilder(content(json))
+                .withFields(Arrays.asList(new UsersExportField("user_id"), new UsersExportField("name")))
+                .build();
+
+        User user = users.next();
+        assertThat(user.getId(), is("user1"));
+        assertThat(user.getName(), is("one"));
+        assertThat(user.getEmail(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldDecodeInParallelKeepingOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            UsersExportReader<User> users = UsersExportReader.newBuilder(gzip(jsonLines(2000)))
+                    .withParallelDecode(4, executor)
+                    .build();
+
+            List<String> ids = ids(users);
+            assertThat(ids, hasSize(2000));
+            for (int i = 0; i < ids.size(); i++) {
+                assertThat(ids.get(i), is("user" + i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldBoundBatchesDecodedAhead() throws Exception {
+        AtomicInteger submitted = new AtomicInteger();
+        UsersExportReader<User> users = UsersExportReader.newBuilder(content(jsonLines(5000)))
+                .withParallelDecode(2, task -> {
+                    submitted.incrementAndGet();
+                    task.run();
+                })
+                .build();
+
+        users.next();
+        assertThat(submitted.get(), is(2));
+        users.close();
+    }
+
+    @Test
+    public void shouldThrowOnMalformedLine() throws Exception {
+        UsersExportReader<User> users = UsersExportReader.newBuilder(content("{\"user_id\":\"user1\"}\nnot json\n")).build();
+        users.next();
+
+        exception.expect(UncheckedIOException.class);
+        exception.expectCause(isA(Auth0Exception.class));
+        exception.expectMessage("Failed to read the users export");
+        users.next();
+    }
+
+    @Test
+    public void shouldThrowOnMalformedLineDecodedInParallel() throws Exception {
+        UsersExportReader<User> users = UsersExportReader.newBuilder(content("not json\n"))
+                .withParallelDecode(1, Runnable::run)
+                .build();
+
+        exception.expect(UncheckedIOException.class);
+        exception.expectCause(isA(Auth0Exception.class));
+        users.hasNext();
+    }
+
+    @Test
+    public void shouldCloseContentWhenReadToTheEnd() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        UsersExportReader<User> users = UsersExportReader.newBuilder(tracking(content(jsonLines(2)), closed)).build();
+
+        ids(users);
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void shouldCloseContentWhenStreamIsClosed() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        UsersExportReader<User> users = UsersExportReader.newBuilder(tracking(content(jsonLines(10)), closed)).build();
+
+        try (Stream<User> stream = users.stream()) {
+            assertThat(stream.limit(2).map(User::getId).collect(Collectors.toList()), contains("user0", "user1"));
+        }
+        assertThat(closed.get(), is(true));
+        assertThat(users.hasNext(), is(false));
+    }
+
+    private static String jsonLines(int count) {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            lines.append("{\"user_id\":\"user").append(i).append("\",\"email\":\"user").append(i).append("@example.com\"}\n");
+        }
+        return lines.toString();
+    }
+
+    private static InputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    private static InputStream tracking(InputStream content, AtomicBoolean closed) {
+        return new FilterInputStream(content) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+    }
+
+    private static List<String> ids(UsersExportReader<User> users) {
+        List<String> ids = new ArrayList<>();
+        users.forEachRemaining(user -> ids.add(user.getId()));
+        return ids;
+    }
+}
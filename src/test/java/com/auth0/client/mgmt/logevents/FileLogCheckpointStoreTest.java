@@ -0,0 +1,64 @@
+package com.auth0.client.mgmt.logevents;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FileLogCheckpointStoreTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldThrowOnNullFile() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'file' cannot be null!");
+        new FileLogCheckpointStore(null);
+    }
+
+    @Test
+    public void shouldLoadNullWithoutFile() throws Exception {
+        FileLogCheckpointStore store = new FileLogCheckpointStore(folder.getRoot().toPath().resolve("logs.checkpoint"));
+
+        assertThat(store.load(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldLoadNullFromEmptyFile() throws Exception {
+        Path file = folder.newFile("logs.checkpoint").toPath();
+
+        assertThat(new FileLogCheckpointStore(file).load(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldSaveAndLoadCheckpoint() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("logs.checkpoint");
+        FileLogCheckpointStore store = new FileLogCheckpointStore(file);
+        store.save("log_1");
+        store.save("log_2");
+
+        assertThat(store.load(), is("log_2"));
+        assertThat(new FileLogCheckpointStore(file).load(), is("log_2"));
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), is("log_2"));
+        assertThat(Files.exists(folder.getRoot().toPath().resolve("logs.checkpoint.tmp")), is(false));
+    }
+
+    @Test
+    public void shouldThrowOnNullCheckpoint() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'log event id' cannot be null!");
+        new FileLogCheckpointStore(folder.getRoot().toPath().resolve("logs.checkpoint")).save(null);
+    }
+}
@@ -0,0 +1,288 @@
+package com.auth0.client.mgmt.logevents;
+
+import com.auth0.client.mgmt.filter.LogEventFilter;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.logevents.LogEvent;
+import com.auth0.json.mgmt.logevents.LogEventsPage;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.Request;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LogEventBackfillTest {
+
+    private static final Pattern RANGE = Pattern.compile("date:\\[\"([^\"]+)\" TO \"([^\"]+)\"}");
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final List<LogEvent> events = new ArrayList<>();
+    private final List<Map<String, Object>> requests = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final List<List<LogEvent>> batches = Collections.synchronizedList(new ArrayList<>());
+    private boolean inclusiveUpperBound;
+    private int pageDrift;
+    private Auth0Exception failure;
+
+    @Test
+    public void shouldThrowOnNullConsumer() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'consumer' cannot be null!");
+        LogEventBackfill.newBuilder(this::list, new Date(0), new Date(1), null);
+    }
+
+    @Test
+    public void shouldThrowOnEmptyRange() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'from' must be before 'to'!");
+        LogEventBackfill.newBuilder(this::list, new Date(1), new Date(1), batches::add);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidPartitions() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'partitions' must be greater than zero!");
+        builder(0, 1).withPartitions(0);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidPageSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'pageSize' must be between 1 and 100!");
+        builder(0, 1).withPageSize(101);
+    }
+
+    @Test
+    public void shouldHandLogEventsInOrderOfDate() throws Exception {
+        addEvents(500, 0, 86400000);
+        long count = builder(0, 86400000).withPageSize(20).withParallelism(3).build().run();
+
+        assertThat(count, is(500L));
+        assertThat(handedIds(), is(ids(0, 500)));
+        assertThat(requests, hasSize(greaterThan(8)));
+        assertThat(maxInFlight.get(), is(lessThanOrEqualTo(3)));
+        for (Map<String, Object> request : requests) {
+            assertThat(request.get("sort"), is("date:1"));
+            assertThat(request.get("include_totals"), is(true));
+        }
+    }
+
+    @Test
+    public void shouldHandLogEventsAsPagesArrive() throws Exception {
+        addEvents(300, 0, 80000);
+        long count = builder(0, 80000).withOrder(LogEventBackfill.Order.ARRIVAL).withPageSize(10).build().run();
+
+        assertThat(count, is(300L));
+        List<String> handed = handedIds();
+        assertThat(handed, hasSize(300));
+        assertThat(new HashSet<>(handed), is(new HashSet<>(ids(0, 300))));
+        for (List<LogEvent> batch : batches) {
+            assertThat(batch, hasSize(lessThanOrEqualTo(10)));
+        }
+    }
+
+    @Test
+    public void shouldSplitPartitionsOverSearchWindow() throws Exception {
+        addEvents(2500, 0, 10000);
+        long count = builder(0, 10000).withPartitions(1).build().run();
+
+        assertThat(count, is(2500L));
+        assertThat(handedIds(), is(ids(0, 2500)));
+        for (Map<String, Object> request : requests) {
+            int page = (int) request.get("page");
+            int perPage = (int) request.get("per_page");
+            assertThat((page + 1) * perPage, is(lessThanOrEqualTo(LogEventBackfill.SEARCH_WINDOW)));
+        }
+    }
+
+    @Test
+    public void shouldThrowWhenPartitionCannotBeSplit() throws Exception {
+        addEvents(1001, 5, 6);
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("More than 1000 log events match the search in the partition date:[\"1970-01-01T00:00:00.005Z\" TO \"1970-01-01T00:00:00.006Z\"}");
+        builder(5, 6).build().run();
+    }
+
+    @Test
+    public void shouldHandLogEventsAtPartitionEdgesOnce() throws Exception {
+        inclusiveUpperBound = true;
+        // One log event at the start of each of the 8 partitions, which the end of the previous one includes too
+        addEvents(8, 0, 7000);
+        long count = builder(0, 8000).build().run();
+
+        assertThat(count, is(8L));
+        assertThat(handedIds(), is(ids(0, 8)));
+    }
+
+    @Test
+    public void shouldHandLogEventsOnShiftedPagesOnce() throws Exception {
+        pageDrift = 2;
+        addEvents(50, 0, 1000000);
+        long count = builder(0, 1000000).withPartitions(1).withPageSize(10).build().run();
+
+        assertThat(count, is(50L));
+        assertThat(handedIds(), is(ids(0, 50)));
+    }
+
+    @Test
+    public void shouldCombineFilterQueryWithDateRange() throws Exception {
+        addEvents(1, 0, 1000);
+        builder(0, 1000).withPartitions(1).withFilter(new LogEventFilter().withQuery("type:s")).build().run();
+
+        assertThat(requests, hasSize(1));
+        assertThat(decode(requests.get(0).get("q")), is("(type:s) AND date:[\"1970-01-01T00:00:00Z\" TO \"1970-01-01T00:00:01Z\"}"));
+    }
+
+    @Test
+    public void shouldIgnoreFieldsOfFilter() throws Exception {
+        addEvents(10, 0, 1000);
+        long count = builder(0, 1000).withPartitions(1).withFilter(new LogEventFilter().withFields("type", true)).build().run();
+
+        assertThat(count, is(10L));
+        assertThat(handedIds(), is(ids(0, 10)));
+        assertThat(requests.get(0), not(hasKey("fields")));
+        assertThat(requests.get(0), not(hasKey("include_fields")));
+    }
+
+    @Test
+    public void shouldThrowFailedRequest() throws Exception {
+        addEvents(10, 0, 1000);
+        failure = new Auth0Exception("failed");
+
+        exception.expect(is(sameInstance(failure)));
+        builder(0, 1000).build().run();
+    }
+
+    @Test
+    public void shouldStopHandingWhenConsumerFails() throws Exception {
+        addEvents(100, 0, 8000);
+        IllegalStateException consumerFailure = new IllegalStateException("consumer failed");
+        LogEventBackfill backfill = builder(0, 8000, batch -> {
+            batches.add(batch);
+            throw consumerFailure;
+        }).build();
+
+        Exception thrown = null;
+        try {
+            backfill.run();
+        } catch (IllegalStateException e) {
+            thrown = e;
+        }
+        assertThat(thrown, is(sameInstance(consumerFailure)));
+        assertThat(batches, hasSize(1));
+    }
+
+    private LogEventBackfill.Builder builder(long from, long to) {
+        return builder(from, to, batches::add);
+    }
+
+    private LogEventBackfill.Builder builder(long from, long to, Consumer<List<LogEvent>> consumer) {
+        return LogEventBackfill.newBuilder(this::list, new Date(from), new Date(to), consumer);
+    }
+
+    private Request<LogEventsPage> list(LogEventFilter filter) {
+        Map<String, Object> parameters = filter.getAsMap();
+        requests.add(parameters);
+        Matcher range = RANGE.matcher(decode(parameters.get("q")));
+        assertThat(range.find(), is(true));
+        long from = Instant.parse(range.group(1)).toEpochMilli();
+        long to = Instant.parse(range.group(2)).toEpochMilli();
+        int page = (int) parameters.get("page");
+        int perPage = (int) parameters.get("per_page");
+        Auth0Exception failed = failure;
+        return new Request<LogEventsPage>() {
+            @Override
+            public LogEventsPage execute() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<LogEventsPage> executeAsync() {
+                if (failed != null) {
+                    CompletableFuture<LogEventsPage> future = new CompletableFuture<>();
+                    future.completeExceptionally(failed);
+                    return future;
+                }
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return CompletableFuture.supplyAsync(() -> {
+                    List<LogEvent> matching = events.stream()
+                            .filter(event -> event.getDate().getTime() >= from
+                                    && (inclusiveUpperBound ? event.getDate().getTime() <= to : event.getDate().getTime() < to))
+                            .collect(Collectors.toList());
+                    int start = Math.max(0, page * perPage - (page > 0 ? pageDrift : 0));
+                    List<LogEvent> items = matching.subList(Math.min(start, matching.size()), Math.min(page * perPage + perPage, matching.size()));
+                    inFlight.decrementAndGet();
+                    return new LogEventsPage(page * perPage, items.size(), matching.size(), perPage, new ArrayList<>(items));
+                });
+            }
+        };
+    }
+
+    /**
+     * Adds log events spread evenly from the start date, both inclusive, to the end date.
+     */
+    private void addEvents(int count, long from, long to) {
+        for (int i = 0; i < count; i++) {
+            long date = count == 1 ? from : from + (to - from) * i / (count - 1);
+            if (date >= to && !inclusiveUpperBound) {
+                date = to - 1;
+            }
+            String json = "{\"_id\":\"" + String.format("log_%04d", i) + "\",\"date\":\"" + Instant.ofEpochMilli(date) + "\"}";
+            try {
+                events.add(JsonCodec.getDefault().getMapper().readValue(json, LogEvent.class));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private List<String> handedIds() {
+        List<String> ids = new ArrayList<>();
+        for (List<LogEvent> batch : batches) {
+            for (LogEvent event : batch) {
+                ids.add(event.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static List<String> ids(int from, int to) {
+        List<String> ids = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            ids.add(String.format("log_%04d", i));
+        }
+        return ids;
+    }
+
+    private static String decode(Object value) {
+        try {
+            return URLDecoder.decode(String.valueOf(value), "UTF-8");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.auth0.client.mgmt.logevents;
+
+import com.auth0.client.mgmt.filter.LogEventFilter;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
+import com.auth0.json.mgmt.logevents.LogEvent;
+import com.auth0.json.mgmt.logevents.LogEventsPage;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.Request;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LogEventTailerTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final List<LogEvent> events = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+    private final List<Object> failures = Collections.synchronizedList(new ArrayList<>());
+    private final MemoryStore store = new MemoryStore();
+    private final AtomicReference<LogEventTailer> stopper = new AtomicReference<>();
+
+    @Test
+    public void shouldThrowOnNullConsumer() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'consumer' cannot be null!");
+        LogEventTailer.newBuilder(this::list, null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidTake() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'take' must be between 1 and 100!");
+        LogEventTailer.newBuilder(this::list, batch -> {
+        }).withTake(101);
+    }
+
+    @Test
+    public void shouldHandBatchesInOrderAndSaveCheckpoints() throws Exception {
+        addEvents(250);
+        LogEventTailer tailer = tailer(batch -> {
+        }, 250);
+
+        tailer.run();
+
+        assertThat(handled, is(ids(0, 250)));
+        assertThat(store.saved, contains("log_0099", "log_0199", "log_0249"));
+        assertThat(requests.get(0), is("take=100"));
+        assertThat(requests.get(1), is("from=log_0099&take=100"));
+        assertThat(tailer.isRunning(), is(false));
+    }
+
+    @Test
+    public void shouldResumeAfterStoredCheckpoint() throws Exception {
+        addEvents(150);
+        store.checkpoint = "log_0099";
+        tailer(batch -> {
+        }, 50).run();
+
+        assertThat(requests.get(0), is("from=log_0099&take=100"));
+        assertThat(handled, is(ids(100, 150)));
+    }
+
+    @Test
+    public void shouldStartFromGivenEventWithoutCheckpoint() throws Exception {
+        addEvents(20);
+        LogEventTailer tailer = builder(batch -> stopAfter(batch, 10)).withStartFrom("log_0009").build();
+        stopper.set(tailer);
+        tailer.run();
+
+        assertThat(requests.get(0), is("from=log_0009&take=100"));
+        assertThat(handled, is(ids(10, 20)));
+    }
+
+    @Test
+    public void shouldRequestNextBatchWhileConsumerHandlesFullOne() throws Exception {
+        addEvents(300);
+        List<Integer> requestsWhileHandling = new ArrayList<>();
+        tailer(batch -> requestsWhileHandling.add(requests.size()), 300).run();
+
+        // Exactly one batch is requested ahead of the one being handled
+        assertThat(requestsWhileHandling, contains(2, 3, 4));
+    }
+
+    @Test
+    public void shouldNotSaveCheckpointWhenConsumerFails() throws Exception {
+        addEvents(50);
+        IllegalStateException failure = new IllegalStateException("consumer failed");
+        LogEventTailer tailer = tailer(batch -> {
+            throw failure;
+        }, 50);
+
+        Exception thrown = null;
+        try {
+            tailer.run();
+        } catch (IllegalStateException e) {
+            thrown = e;
+        }
+        assertThat(thrown, is(sameInstance(failure)));
+        assertThat(store.saved, is(empty()));
+        assertThat(tailer.isRunning(), is(false));
+    }
+
+    @Test
+    public void shouldRetryRateLimitedRequestFromSameCheckpoint() throws Exception {
+        addEvents(30);
+        failures.add(new RateLimitException(50, 0, -1));
+        tailer(batch -> {
+        }, 30).run();
+
+        assertThat(requests, hasSize(greaterThanOrEqualTo(2)));
+        assertThat(requests.get(0), is("take=100"));
+        assertThat(requests.get(1), is("take=100"));
+        assertThat(handled, is(ids(0, 30)));
+    }
+
+    @Test
+    public void shouldThrowFailedRequest() throws Exception {
+        Auth0Exception failure = new Auth0Exception("failed");
+        failures.add(failure);
+
+        exception.expect(is(sameInstance(failure)));
+        tailer(batch -> {
+        }, 1).run();
+    }
+
+    @Test
+    public void shouldPollForNewEventsOnceCaughtUp() throws Exception {
+        addEvents(10);
+        LogEventTailer tailer = tailer(batch -> {
+        }, 15);
+        Thread thread = new Thread(() -> {
+            try {
+                tailer.run();
+            } catch (Auth0Exception e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        thread.start();
+        while (requests.size() < 3) {
+            Thread.sleep(1);
+        }
+        addEvents(5);
+        thread.join(5000);
+
+        assertThat(thread.isAlive(), is(false));
+        assertThat(handled, is(ids(0, 15)));
+        assertThat(requests.subList(1, requests.size()), everyItem(is("from=log_0009&take=100")));
+    }
+
+    @Test
+    public void shouldStopFromAnotherThread() throws Exception {
+        LogEventTailer tailer = builder(batch -> {
+        }).build();
+        Thread thread = new Thread(() -> {
+            try {
+                tailer.run();
+            } catch (Auth0Exception e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        thread.start();
+        while (!tailer.isRunning() || requests.isEmpty()) {
+            Thread.sleep(1);
+        }
+        tailer.stop();
+        thread.join(5000);
+
+        assertThat(thread.isAlive(), is(false));
+        assertThat(tailer.isRunning(), is(false));
+    }
+
+    /**
+     * Creates a tailer that stops once the given amount of events were handled in total.
+     */
+    private LogEventTailer tailer(Consumer<List<LogEvent>> consumer, int stopAfter) {
+        LogEventTailer tailer = builder(batch -> {
+            consumer.accept(batch);
+            stopAfter(batch, stopAfter);
+        }).build();
+        stopper.set(tailer);
+        return tailer;
+    }
+
+    private void stopAfter(List<LogEvent> batch, int total) {
+        batch.forEach(event -> handled.add(event.getId()));
+        if (handled.size() >= total) {
+            stopper.get().stop();
+        }
+    }
+
+    private LogEventTailer.Builder builder(Consumer<List<LogEvent>> consumer) {
+        return LogEventTailer.newBuilder(this::list, consumer)
+                .withCheckpointStore(store)
+                .withPollInterval(1, TimeUnit.MILLISECONDS);
+    }
+
+    private Request<LogEventsPage> list(LogEventFilter filter) {
+        Map<String, Object> parameters = filter.getAsMap();
+        String from = (String) parameters.get("from");
+        int take = (int) parameters.get("take");
+        requests.add((from == null ? "" : "from=" + from + "&") + "take=" + take);
+        Object failure = failures.isEmpty() ? null : failures.remove(0);
+        return new Request<LogEventsPage>() {
+            @Override
+            public LogEventsPage execute() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<LogEventsPage> executeAsync() {
+                if (failure != null) {
+                    CompletableFuture<LogEventsPage> failed = new CompletableFuture<>();
+                    failed.completeExceptionally((Throwable) failure);
+                    return failed;
+                }
+                return CompletableFuture.supplyAsync(() -> {
+                    List<LogEvent> after;
+                    synchronized (events) {
+                        after = events.stream()
+                                .filter(event -> from == null || event.getId().compareTo(from) > 0)
+                                .limit(take)
+                                .collect(Collectors.toList());
+                    }
+                    return new LogEventsPage(after);
+                });
+            }
+        };
+    }
+
+    private void addEvents(int count) {
+        synchronized (events) {
+            int start = events.size();
+            for (int i = start; i < start + count; i++) {
+                try {
+                    events.add(JsonCodec.getDefault().getMapper().readValue("{\"_id\":\"" + String.format("log_%04d", i) + "\"}", LogEvent.class));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private static List<String> ids(int from, int to) {
+        List<String> ids = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            ids.add(String.format("log_%04d", i));
+        }
+        return ids;
+    }
+
+    private static class MemoryStore implements LogCheckpointStore {
+        private final List<String> saved = Collections.synchronizedList(new ArrayList<>());
+        private volatile String checkpoint;
+
+        @Override
+        public String load() {
+            return checkpoint;
+        }
+
+        @Override
+        public void save(String logEventId) {
+            saved.add(logEventId);
+            checkpoint = logEventId;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.mgmt.filter.PageFilter;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.Role;
+import com.auth0.json.mgmt.RolesPage;
+import com.auth0.net.Request;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CheckpointCrawlerTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    public void shouldThrowOnNullPageRequests() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'page requests' cannot be null!");
+        new CheckpointCrawler<Role>(null, CheckpointCursor.start(10));
+    }
+
+    @Test
+    public void shouldThrowOnNullCursor() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'cursor' cannot be null!");
+        new CheckpointCrawler<>(source(5), null);
+    }
+
+    @Test
+    public void shouldCrawlToTheEnd() throws Exception {
+        CheckpointCrawler<Role> crawler = new CheckpointCrawler<>(source(5), CheckpointCursor.start(2));
+        List<String> names = new ArrayList<>();
+        while (crawler.hasNext()) {
+            crawler.next().forEach(role -> names.add(role.getName()));
+        }
+
+        assertThat(names, contains("role0", "role1", "role2", "role3", "role4"));
+        assertThat(calls, contains("null/2", "2/2", "4/2"));
+        assertThat(crawler.getCursor().isFinished(), is(true));
+    }
+
+    @Test
+    public void shouldStopAtEmptyPage() throws Exception {
+        CheckpointCrawler<Role> crawler = new CheckpointCrawler<>(source(4), CheckpointCursor.start(2));
+        while (crawler.hasNext()) {
+            crawler.next();
+        }
+
+        assertThat(calls, contains("null/2", "2/2", "4/2"));
+    }
+
+    @Test
+    public void shouldResumeFromRestoredCursor() throws Exception {
+        CheckpointCrawler<Role> first = new CheckpointCrawler<>(source(5), CheckpointCursor.start(2));
+        first.next();
+        String saved = first.getCursor().serialize();
+
+        CheckpointCrawler<Role> resumed = new CheckpointCrawler<>(source(5), CheckpointCursor.parse(saved));
+        List<Role> roles = resumed.next();
+
+        assertThat(roles.get(0).getName(), is("role2"));
+        assertThat(calls, contains("null/2", "2/2"));
+    }
+
+    @Test
+    public void shouldNotMoveCursorOnFailure() throws Exception {
+        Auth0Exception failure = new Auth0Exception("failed");
+        CheckpointCursor cursor = CheckpointCursor.start(2).advance("2");
+        CheckpointCrawler<Role> crawler = new CheckpointCrawler<>(filter -> new PageRequest(null, failure), cursor);
+
+        try {
+            crawler.next();
+        } catch (Auth0Exception e) {
+            assertThat(e, is(sameInstance(failure)));
+        }
+        assertThat(crawler.getCursor(), is(cursor));
+    }
+
+    @Test
+    public void shouldThrowWhenFinished() throws Exception {
+        CheckpointCrawler<Role> crawler = new CheckpointCrawler<>(source(1), CheckpointCursor.start(2));
+        crawler.next();
+
+        exception.expect(NoSuchElementException.class);
+        crawler.next();
+    }
+
+    private Function<PageFilter, Request<RolesPage>> source(int size) {
+        return filter -> {
+            Object from = filter.getAsMap().get("from");
+            int take = (int) filter.getAsMap().get("take");
+            calls.add(from + "/" + take);
+            int start = from == null ? 0 : Integer.parseInt((String) from);
+            int end = Math.min(start + take, size);
+            List<Role> items = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                Role role = new Role();
+                role.setName("role" + i);
+                items.add(role);
+            }
+            RolesPage page = mock(RolesPage.class);
+            when(page.getItems()).thenReturn(items.isEmpty() ? Collections.emptyList() : items);
+            when(page.getNext()).thenReturn(end < size || items.size() == take ? String.valueOf(end) : null);
+            return new PageRequest(page, null);
+        };
+    }
+
+    private static class PageRequest implements Request<RolesPage> {
+        private final RolesPage page;
+        private final Auth0Exception failure;
+
+        PageRequest(RolesPage page, Auth0Exception failure) {
+            this.page = page;
+            this.failure = failure;
+        }
+
+        @Override
+        public RolesPage execute() throws Auth0Exception {
+            if (failure != null) {
+                throw failure;
+            }
+            return page;
+        }
+
+        @Override
+        public CompletableFuture<RolesPage> executeAsync() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
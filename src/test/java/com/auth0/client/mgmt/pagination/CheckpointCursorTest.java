@@ -0,0 +1,119 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.mgmt.filter.PageFilter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CheckpointCursorTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldThrowOnInvalidTake() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'take' must be greater than zero!");
+        CheckpointCursor.start(0);
+    }
+
+    @Test
+    public void shouldThrowOnNullValue() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'value' cannot be null!");
+        CheckpointCursor.parse(null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidValue() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The value is not a valid checkpoint cursor.");
+        CheckpointCursor.parse("v1:abc:s");
+    }
+
+    @Test
+    public void shouldThrowOnUnknownVersion() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The value is not a valid checkpoint cursor.");
+        CheckpointCursor.parse("v2:10:s");
+    }
+
+    @Test
+    public void shouldStartAtFirstPage() {
+        CheckpointCursor cursor = CheckpointCursor.start(10);
+
+        assertThat(cursor.getTake(), is(10));
+        assertThat(cursor.getFrom(), is(nullValue()));
+        assertThat(cursor.isFinished(), is(false));
+    }
+
+    @Test
+    public void shouldAdvanceToNextPage() {
+        CheckpointCursor cursor = CheckpointCursor.start(10).advance("abc123");
+
+        assertThat(cursor.getTake(), is(10));
+        assertThat(cursor.getFrom(), is("abc123"));
+        assertThat(cursor.isFinished(), is(false));
+    }
+
+    @Test
+    public void shouldFinishWithoutNextToken() {
+        assertThat(CheckpointCursor.start(10).advance(null).isFinished(), is(true));
+        assertThat(CheckpointCursor.start(10).advance("").isFinished(), is(true));
+    }
+
+    @Test
+    public void shouldRestoreSerializedCursor() {
+        CheckpointCursor start = CheckpointCursor.start(10);
+        CheckpointCursor next = start.advance("abc:123");
+        CheckpointCursor finished = next.advance(null);
+
+        assertThat(CheckpointCursor.parse(start.serialize()), is(start));
+        assertThat(CheckpointCursor.parse(next.serialize()), is(next));
+        assertThat(CheckpointCursor.parse(finished.serialize()), is(finished));
+    }
+
+    @Test
+    public void shouldSupportJavaSerialization() throws Exception {
+        CheckpointCursor cursor = CheckpointCursor.start(25).advance("abc123");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cursor);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject(), is(cursor));
+        }
+    }
+
+    @Test
+    public void shouldApplyTakeToFilter() {
+        PageFilter filter = CheckpointCursor.start(10).applyTo(new PageFilter());
+
+        assertThat(filter.getAsMap(), hasEntry("take", 10));
+        assertThat(filter.getAsMap(), not(hasKey("from")));
+    }
+
+    @Test
+    public void shouldApplyCheckpointToFilter() {
+        PageFilter filter = CheckpointCursor.start(10).advance("abc123").applyTo(new PageFilter());
+
+        assertThat(filter.getAsMap(), hasEntry("take", 10));
+        assertThat(filter.getAsMap(), hasEntry("from", "abc123"));
+    }
+
+    @Test
+    public void shouldThrowOnApplyWhenFinished() {
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("The list was already crawled to its end.");
+        CheckpointCursor.start(10).advance(null).applyTo(new PageFilter());
+    }
+}
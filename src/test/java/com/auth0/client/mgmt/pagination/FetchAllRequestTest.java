@@ -0,0 +1,314 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.StubRequest;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.Role;
+import com.auth0.json.mgmt.RolesPage;
+import com.auth0.net.Deadline;
+import com.auth0.net.RateLimitThrottle;
+import com.auth0.net.Request;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FetchAllRequestTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final Map<Integer, CompletableFuture<RolesPage>> pages = new ConcurrentHashMap<>();
+    private final Map<Integer, StubRequest<RolesPage>> requests = new ConcurrentHashMap<>();
+
+    @Test
+    public void shouldThrowOnNullPageRequests() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'page requests' cannot be null!");
+        new FetchAllRequest<Role>(null, null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidParallelism() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'parallelism' must be greater than zero!");
+        new FetchAllRequest<>(this::pendingPage, null).setParallelism(0);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidPageSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'pageSize' must be between 1 and 100!");
+        new FetchAllRequest<>(this::pendingPage, null).setPageSize(101);
+    }
+
+    @Test
+    public void shouldFetchAllPagesInOrder() throws Exception {
+        List<Role> roles = new FetchAllRequest<>(source(95, true), null).setPageSize(10).execute();
+
+        assertThat(names(roles), is(expectedNames(95)));
+        assertThat(requests.keySet(), hasSize(10));
+    }
+
+    @Test
+    public void shouldFetchSinglePage() throws Exception {
+        List<Role> roles = new FetchAllRequest<>(source(7, true), null).setPageSize(10).execute();
+
+        assertThat(names(roles), is(expectedNames(7)));
+        assertThat(requests.keySet(), contains(0));
+    }
+
+    @Test
+    public void shouldFetchEmptyList() throws Exception {
+        List<Role> roles = new FetchAllRequest<>(source(0, true), null).execute();
+
+        assertThat(roles, is(empty()));
+        assertThat(requests.keySet(), contains(0));
+    }
+
+    @Test
+    public void shouldFetchPagesSequentiallyWithoutTotal() throws Exception {
+        List<Role> roles = new FetchAllRequest<>(source(25, false), null).setPageSize(10).execute();
+
+        assertThat(names(roles), is(expectedNames(25)));
+        assertThat(requests.keySet(), containsInAnyOrder(0, 1, 2));
+    }
+
+    @Test
+    public void shouldOrderPagesCompletedOutOfOrder() throws Exception {
+        CompletableFuture<List<Role>> future = new FetchAllRequest<>(this::pendingPage, null)
+                .setPageSize(2)
+                .setParallelism(3)
+                .executeAsync();
+        pages.get(0).complete(page(0, 2, 6));
+        assertThat(pages.keySet(), containsInAnyOrder(0, 1, 2));
+        pages.get(2).complete(page(4, 2, 6));
+        pages.get(1).complete(page(2, 2, 6));
+
+        assertThat(names(future.get(5, TimeUnit.SECONDS)), is(expectedNames(6)));
+    }
+
+    @Test
+    public void shouldCapPagesInFlightToParallelism() {
+        new FetchAllRequest<>(this::pendingPage, null)
+                .setPageSize(1)
+                .setParallelism(3)
+                .executeAsync();
+        assertThat(pages.keySet(), contains(0));
+
+        pages.get(0).complete(page(0, 1, 10));
+        assertThat(pages.keySet(), containsInAnyOrder(0, 1, 2, 3));
+
+        pages.get(2).complete(page(2, 1, 10));
+        assertThat(pages.keySet(), containsInAnyOrder(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    public void shouldCapPagesInFlightToAvailableRateLimit() {
+        RateLimitThrottle throttle = mock(RateLimitThrottle.class);
+        when(throttle.getAvailable()).thenReturn(1L);
+        new FetchAllRequest<>(this::pendingPage, throttle)
+                .setPageSize(1)
+                .setParallelism(3)
+                .executeAsync();
+        pages.get(0).complete(page(0, 1, 10));
+        assertThat(pages.keySet(), containsInAnyOrder(0, 1));
+
+        when(throttle.getAvailable()).thenReturn(5L);
+        pages.get(1).complete(page(1, 1, 10));
+        assertThat(pages.keySet(), containsInAnyOrder(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    public void shouldNotCapPagesInFlightBeforeRateLimitIsKnown() {
+        RateLimitThrottle throttle = mock(RateLimitThrottle.class);
+        when(throttle.getAvailable()).thenReturn(-1L);
+        new FetchAllRequest<>(this::pendingPage, throttle)
+                .setPageSize(1)
+                .setParallelism(3)
+                .executeAsync();
+        pages.get(0).complete(page(0, 1, 10));
+
+        assertThat(pages.keySet(), containsInAnyOrder(0, 1, 2, 3));
+    }
+
+    @Test
+    public void shouldFailAndCancelPagesInFlight() throws Exception {
+        CompletableFuture<List<Role>> future = new FetchAllRequest<>(this::pendingPage, null)
+                .setPageSize(1)
+                .setParallelism(2)
+                .executeAsync();
+        pages.get(0).complete(page(0, 1, 5));
+        Auth0Exception failure = new Auth0Exception("failed");
+        pages.get(1).completeExceptionally(failure);
+
+        assertThat(pages.get(2).isCancelled(), is(true));
+        assertThat(pages.keySet(), containsInAnyOrder(0, 1, 2));
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(sameInstance(failure)));
+        }
+    }
+
+    @Test
+    public void shouldThrowPageFailureOnExecute() throws Exception {
+        Auth0Exception failure = new Auth0Exception("failed");
+        FetchAllRequest<Role> request = new FetchAllRequest<>((page, perPage) -> {
+            CompletableFuture<RolesPage> future = new CompletableFuture<>();
+            future.completeExceptionally(failure);
+            return StubRequest.of(future);
+        }, null);
+
+        exception.expect(is(sameInstance(failure)));
+        request.execute();
+    }
+
+    @Test
+    public void shouldCancelPagesInFlightWhenCancelled() {
+        CompletableFuture<List<Role>> future = new FetchAllRequest<>(this::pendingPage, null)
+                .setPageSize(1)
+                .setParallelism(2)
+                .executeAsync();
+        pages.get(0).complete(page(0, 1, 5));
+        future.cancel(true);
+
+        assertThat(pages.get(1).isCancelled(), is(true));
+        assertThat(pages.get(2).isCancelled(), is(true));
+    }
+
+    @Test
+    public void shouldSetDeadlineOnEachPage() throws Exception {
+        Deadline deadline = Deadline.after(1, TimeUnit.MINUTES);
+        new FetchAllRequest<>(source(30, true), null).setPageSize(10).setDeadline(deadline).execute();
+
+        assertThat(requests.values(), hasSize(3));
+        for (StubRequest<RolesPage> request : requests.values()) {
+            assertThat(request.getDeadline(), is(sameInstance(deadline)));
+        }
+    }
+
+    @Test
+    public void shouldTurnTimeoutIntoDeadlineOfEachPage() throws Exception {
+        new FetchAllRequest<>(source(30, true), null).setPageSize(10).setTimeout(1, TimeUnit.MINUTES).execute();
+
+        assertThat(requests.values(), hasSize(3));
+        Deadline deadline = requests.get(0).getDeadline();
+        assertThat(deadline.timeRemaining(TimeUnit.SECONDS), is(both(greaterThan(0L)).and(lessThanOrEqualTo(60L))));
+        for (StubRequest<RolesPage> request : requests.values()) {
+            assertThat(request.getDeadline(), is(sameInstance(deadline)));
+        }
+    }
+
+    @Test
+    public void shouldApplyEarliestOfTimeoutAndDeadline() throws Exception {
+        Deadline deadline = Deadline.after(1, TimeUnit.MINUTES);
+        new FetchAllRequest<>(source(30, true), null).setPageSize(10).setDeadline(deadline).setTimeout(1, TimeUnit.HOURS).execute();
+
+        for (StubRequest<RolesPage> request : requests.values()) {
+            assertThat(request.getDeadline(), is(sameInstance(deadline)));
+        }
+    }
+
+    @Test
+    public void shouldThrowOnNegativeTimeout() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'timeout' cannot be negative!");
+        new FetchAllRequest<>(source(0, true), null).setTimeout(-1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldStreamItemsOfAllPages() {
+        try (Stream<Role> stream = new FetchAllRequest<>(source(95, true), null).setPageSize(10).setParallelism(4).stream()) {
+            List<String> names = stream.map(Role::getName).collect(Collectors.toList());
+            assertThat(names, containsInAnyOrder(expectedNames(95).toArray()));
+        }
+    }
+
+    @Test
+    public void shouldStreamPagesAsTheyArrive() {
+        Stream<Role> stream = new FetchAllRequest<>(this::pendingPage, null)
+                .setPageSize(2)
+                .setParallelism(2)
+                .stream();
+        pages.get(0).complete(page(0, 2, 6));
+        pages.get(2).complete(page(4, 2, 6));
+        pages.get(1).complete(page(2, 2, 6));
+
+        List<String> names = stream.map(Role::getName).collect(Collectors.toList());
+        assertThat(names, contains("role0", "role1", "role4", "role5", "role2", "role3"));
+    }
+
+    @Test
+    public void shouldThrowPageFailureFromStream() {
+        Stream<Role> stream = new FetchAllRequest<>(this::pendingPage, null).setPageSize(1).stream();
+        Auth0Exception failure = new Auth0Exception("failed");
+        pages.get(0).completeExceptionally(failure);
+
+        exception.expect(UncheckedIOException.class);
+        exception.expectCause(is(sameInstance(failure)));
+        stream.count();
+    }
+
+    @Test
+    public void shouldCancelPagesInFlightWhenStreamClosed() {
+        Stream<Role> stream = new FetchAllRequest<>(this::pendingPage, null).setPageSize(1).setParallelism(2).stream();
+        pages.get(0).complete(page(0, 1, 5));
+        stream.close();
+
+        assertThat(pages.get(1).isCancelled(), is(true));
+        assertThat(pages.get(2).isCancelled(), is(true));
+    }
+
+    private Request<RolesPage> pendingPage(int page, int perPage) {
+        CompletableFuture<RolesPage> future = new CompletableFuture<>();
+        pages.put(page, future);
+        StubRequest<RolesPage> request = StubRequest.of(future);
+        requests.put(page, request);
+        return request;
+    }
+
+    private PageRequestFactory<Role> source(int size, boolean totals) {
+        return (page, perPage) -> {
+            int from = Math.min(page * perPage, size);
+            RolesPage rolesPage = page(from, Math.min(from + perPage, size) - from, totals ? size : null);
+            StubRequest<RolesPage> request = StubRequest.of(CompletableFuture.supplyAsync(() -> rolesPage));
+            requests.put(page, request);
+            return request;
+        };
+    }
+
+    private static RolesPage page(int from, int length, Integer total) {
+        List<Role> items = new ArrayList<>();
+        for (int i = from; i < from + length; i++) {
+            Role role = new Role();
+            role.setName("role" + i);
+            items.add(role);
+        }
+        return new RolesPage(from, length, total, null, items);
+    }
+
+    private static List<String> names(List<Role> roles) {
+        return roles.stream().map(Role::getName).collect(Collectors.toList());
+    }
+
+    private static List<String> expectedNames(int size) {
+        return IntStream.range(0, size).mapToObj(i -> "role" + i).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,251 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.StubRequest;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.Role;
+import com.auth0.json.mgmt.RolesPage;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PageIterableTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void shouldThrowOnNullPageRequests() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'page requests' cannot be null!");
+        PageIterable.newBuilder(null);
+    }
+
+    @Test
+    public void shouldThrowOnPageSizeOutOfRange() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'pageSize' must be between 1 and 100!");
+        PageIterable.newBuilder(source(10, true)).withPageSize(101);
+    }
+
+    @Test
+    public void shouldThrowOnZeroPageSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'pageSize' must be between 1 and 100!");
+        PageIterable.newBuilder(source(10, true)).withPageSize(0);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidTargetLatency() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'targetLatency' must be greater than zero!");
+        PageIterable.newBuilder(source(10, true)).withAdaptivePageSize(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void shouldIterateItemsOfAllPages() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(7, false)).withPageSize(3).build();
+
+        assertThat(names(roles), is(expectedNames(7)));
+        assertThat(calls, contains("0/3", "1/3", "2/3"));
+    }
+
+    @Test
+    public void shouldRequestEmptyPageWhenTotalIsUnknown() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(6, false)).withPageSize(3).build();
+
+        assertThat(names(roles), is(expectedNames(6)));
+        assertThat(calls, contains("0/3", "1/3", "2/3"));
+    }
+
+    @Test
+    public void shouldNotRequestPagePastTotal() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(6, true)).withPageSize(3).build();
+
+        assertThat(names(roles), is(expectedNames(6)));
+        assertThat(calls, contains("0/3", "1/3"));
+    }
+
+    @Test
+    public void shouldUseDefaultPageSize() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(120, true)).build();
+
+        assertThat(names(roles), hasSize(120));
+        assertThat(calls, contains("0/50", "1/50", "2/50"));
+    }
+
+    @Test
+    public void shouldPrefetchNextPage() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(10, true)).withPageSize(3).build();
+        Iterator<Role> iterator = roles.iterator();
+        assertThat(calls, is(empty()));
+
+        iterator.next();
+        assertThat(calls, contains("0/3", "1/3"));
+    }
+
+    @Test
+    public void shouldNotPrefetchNextPageWhenDisabled() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(10, true)).withPageSize(3).withPrefetch(false).build();
+        Iterator<Role> iterator = roles.iterator();
+        iterator.next();
+        assertThat(calls, contains("0/3"));
+
+        iterator.next();
+        iterator.next();
+        iterator.next();
+        assertThat(calls, contains("0/3", "1/3"));
+    }
+
+    @Test
+    public void shouldThrowPageRequestFailure() {
+        Auth0Exception failure = new Auth0Exception("failed");
+        PageIterable<Role> roles = PageIterable.newBuilder((page, perPage) -> {
+            CompletableFuture<RolesPage> future = new CompletableFuture<>();
+            future.completeExceptionally(failure);
+            return StubRequest.of(future);
+        }).build();
+
+        exception.expect(UncheckedIOException.class);
+        exception.expectCause(is(sameInstance(failure)));
+        roles.iterator().hasNext();
+    }
+
+    @Test
+    public void shouldReportSizeWhenTotalIsKnown() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(10, true)).withPageSize(3).build();
+        Spliterator<Role> spliterator = roles.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED), is(true));
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED), is(true));
+        assertThat(spliterator.getExactSizeIfKnown(), is(10L));
+        spliterator.tryAdvance(role -> {
+        });
+        assertThat(spliterator.getExactSizeIfKnown(), is(9L));
+    }
+
+    @Test
+    public void shouldNotReportSizeWhenTotalIsUnknown() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(10, false)).withPageSize(3).build();
+        Spliterator<Role> spliterator = roles.spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED), is(false));
+        assertThat(spliterator.estimateSize(), is(Long.MAX_VALUE));
+        assertThat(names(StreamSupport.stream(spliterator, false).iterator()), is(expectedNames(10)));
+    }
+
+    @Test
+    public void shouldSplitByPageRanges() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(10, true)).withPageSize(2).withPrefetch(false).build();
+        Spliterator<Role> suffix = roles.spliterator();
+        Spliterator<Role> prefix = suffix.trySplit();
+
+        assertThat(prefix, is(notNullValue()));
+        assertThat(prefix.getExactSizeIfKnown() + suffix.getExactSizeIfKnown(), is(10L));
+        List<String> names = new ArrayList<>();
+        prefix.forEachRemaining(role -> names.add(role.getName()));
+        suffix.forEachRemaining(role -> names.add(role.getName()));
+        assertThat(names, is(expectedNames(10)));
+        assertThat(calls, hasSize(5));
+    }
+
+    @Test
+    public void shouldNotSplitSinglePage() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(3, true)).withPageSize(3).build();
+        Spliterator<Role> spliterator = roles.spliterator();
+
+        assertThat(spliterator.trySplit(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldCollectParallelStreamInOrder() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(1000, true)).withPageSize(10).build();
+        List<String> names = roles.stream().parallel().map(Role::getName).collect(Collectors.toList());
+
+        assertThat(names, is(expectedNames(1000)));
+        assertThat(calls, hasSize(100));
+    }
+
+    @Test
+    public void shouldGrowPageSizeWhenPagesArriveFast() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(300, true))
+                .withPageSize(25)
+                .withAdaptivePageSize(1, TimeUnit.HOURS)
+                .build();
+
+        assertThat(names(roles), is(expectedNames(300)));
+        assertThat(calls, contains("0/25", "1/25", "1/50", "1/100", "2/100"));
+    }
+
+    @Test
+    public void shouldShrinkPageSizeWhenPagesArriveSlowly() {
+        PageIterable<Role> roles = PageIterable.newBuilder(source(120, true, 20))
+                .withPageSize(100)
+                .withAdaptivePageSize(5, TimeUnit.MILLISECONDS)
+                .build();
+
+        assertThat(names(roles), is(expectedNames(120)));
+        assertThat(calls, contains("0/100", "2/50"));
+    }
+
+    private PageRequestFactory<Role> source(int size, boolean totals) {
+        return source(size, totals, 0);
+    }
+
+    private PageRequestFactory<Role> source(int size, boolean totals, long delayMillis) {
+        return (page, perPage) -> {
+            calls.add(page + "/" + perPage);
+            int from = Math.min(page * perPage, size);
+            int to = Math.min(from + perPage, size);
+            List<Role> items = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                Role role = new Role();
+                role.setName("role" + i);
+                items.add(role);
+            }
+            RolesPage rolesPage = new RolesPage(from, items.size(), totals ? size : null, perPage, items);
+            if (delayMillis == 0) {
+                return StubRequest.of(CompletableFuture.completedFuture(rolesPage));
+            }
+            return StubRequest.of(CompletableFuture.supplyAsync(() -> {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rolesPage;
+            }));
+        };
+    }
+
+    private static List<String> names(Iterable<Role> roles) {
+        return names(roles.iterator());
+    }
+
+    private static List<String> names(Iterator<Role> roles) {
+        List<String> names = new ArrayList<>();
+        roles.forEachRemaining(role -> names.add(role.getName()));
+        return names;
+    }
+
+    private static List<String> expectedNames(int size) {
+        return IntStream.range(0, size).mapToObj(i -> "role" + i).collect(Collectors.toList());
+    }
+}
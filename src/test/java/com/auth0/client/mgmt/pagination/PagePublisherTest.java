@@ -0,0 +1,339 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.StubRequest;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.Role;
+import com.auth0.json.mgmt.RolesPage;
+import com.auth0.net.Request;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PagePublisherTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private List<CompletableFuture<RolesPage>> pages;
+    private List<Integer> pageNumbers;
+    private PagePublisher<Role> publisher;
+
+    @Before
+    public void setUp() {
+        pages = new ArrayList<>();
+        pageNumbers = new ArrayList<>();
+        publisher = new PagePublisher<>(this::pageRequest);
+    }
+
+    @Test
+    public void shouldThrowOnNullPageRequests() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'page requests' cannot be null!");
+        new PagePublisher<Role>(null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidMaxBufferedPages() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'max buffered pages' must be greater than zero!");
+        new PagePublisher<>(this::pageRequest, 0);
+    }
+
+    @Test
+    public void shouldThrowOnNullSubscriber() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'subscriber' cannot be null!");
+        publisher.subscribe(null);
+    }
+
+    @Test
+    public void shouldPublishItemsOfAllPages() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        completePage(0, page(null, 2, "a", "b"));
+        completePage(1, page(null, 2, "c", "d"));
+        completePage(2, page(null, 2, "e"));
+
+        assertThat(subscriber.names(), contains("a", "b", "c", "d", "e"));
+        assertThat(subscriber.completed, is(true));
+        assertThat(pages, hasSize(4));
+        assertThat(pages.get(3).isCancelled(), is(true));
+    }
+
+    @Test
+    public void shouldNotRequestPagesWithoutDemand() {
+        subscribe();
+        assertThat(pages, is(empty()));
+    }
+
+    @Test
+    public void shouldRequestNextPageOnlyWhenDemandExceedsBufferedItems() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(1);
+        assertThat(pages, hasSize(1));
+        completePage(0, page(null, 3, "a", "b", "c"));
+        assertThat(subscriber.names(), contains("a"));
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.names(), contains("a", "b", "c"));
+        assertThat(pages, hasSize(1));
+
+        subscriber.subscription.request(1);
+        assertThat(pages, hasSize(2));
+        assertThat(subscriber.completed, is(false));
+    }
+
+    @Test
+    public void shouldRequestPagesAheadUpToMaxBufferedPages() {
+        publisher = new PagePublisher<>(this::pageRequest, 3);
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(pages, hasSize(1));
+
+        completePage(0, page(null, 2, "a", "b"));
+        assertThat(pageNumbers, contains(0, 1, 2, 3));
+    }
+
+    @Test
+    public void shouldRequestPagesAheadOnlyForDemand() {
+        publisher = new PagePublisher<>(this::pageRequest, 3);
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(3);
+        completePage(0, page(null, 2, "a", "b"));
+
+        assertThat(subscriber.names(), contains("a", "b"));
+        assertThat(pages, hasSize(2));
+    }
+
+    @Test
+    public void shouldSendItemsInPageOrder() {
+        publisher = new PagePublisher<>(this::pageRequest, 3);
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        completePage(0, page(null, 1, "a"));
+        completePage(2, page(null, 1, "c"));
+        assertThat(subscriber.names(), contains("a"));
+
+        completePage(1, page(null, 1, "b"));
+        assertThat(subscriber.names(), contains("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldCancelPagesRequestedAfterLastPage() {
+        publisher = new PagePublisher<>(this::pageRequest, 3);
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        completePage(0, page(null, 2, "a", "b"));
+        completePage(1, page(null, 2, "c"));
+
+        assertThat(subscriber.names(), contains("a", "b", "c"));
+        assertThat(subscriber.completed, is(true));
+        assertThat(subscriber.error, is(nullValue()));
+        assertThat(pages.get(2).isCancelled(), is(true));
+        assertThat(pages.get(3).isCancelled(), is(true));
+    }
+
+    @Test
+    public void shouldCompleteWhenTotalReachedWithoutRequestingAnotherPage() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        completePage(0, new RolesPage(0, 2, 3, null, roles("a", "b")));
+        completePage(1, new RolesPage(2, 1, 3, null, roles("c")));
+
+        assertThat(subscriber.names(), contains("a", "b", "c"));
+        assertThat(subscriber.completed, is(true));
+        assertThat(pages, hasSize(2));
+    }
+
+    @Test
+    public void shouldCompleteOnEmptyPage() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        completePage(0, page(null, null, "a", "b"));
+        completePage(1, new RolesPage(Collections.emptyList()));
+
+        assertThat(subscriber.names(), contains("a", "b"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void shouldCompleteOnNullPage() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(1);
+        completePage(0, null);
+
+        assertThat(subscriber.names(), is(empty()));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void shouldCompleteOnlyOnceLastItemsAreSent() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(1);
+        completePage(0, page(null, 5, "a", "b"));
+        assertThat(subscriber.completed, is(false));
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.names(), contains("a", "b"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void shouldSendPageRequestFailure() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        completePage(0, page(null, 1, "a"));
+        Auth0Exception failure = new Auth0Exception("failed");
+        pages.get(1).completeExceptionally(failure);
+
+        assertThat(subscriber.names(), contains("a"));
+        assertThat(subscriber.error, is(sameInstance(failure)));
+        assertThat(subscriber.completed, is(false));
+        assertThat(pages.get(2).isCancelled(), is(true));
+    }
+
+    @Test
+    public void shouldSendPageRequestCreationFailure() {
+        RuntimeException failure = new IllegalStateException("failed");
+        publisher = new PagePublisher<>(page -> {
+            throw failure;
+        });
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error, is(sameInstance(failure)));
+    }
+
+    @Test
+    public void shouldSendErrorOnInvalidRequest() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+        assertThat(subscriber.error.getMessage(), is("'n' must be greater than zero!"));
+        assertThat(pages, is(empty()));
+    }
+
+    @Test
+    public void shouldCancelPageInFlight() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+
+        assertThat(pages.get(0).isCancelled(), is(true));
+        assertThat(subscriber.error, is(nullValue()));
+        assertThat(subscriber.completed, is(false));
+    }
+
+    @Test
+    public void shouldStopSendingItemsOnCancel() {
+        TestSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.cancelAfter = 2;
+        completePage(0, page(null, 3, "a", "b", "c"));
+
+        assertThat(subscriber.names(), contains("a", "b"));
+        assertThat(pages, hasSize(1));
+    }
+
+    @Test
+    public void shouldPublishFromFirstPageToEachSubscriber() {
+        TestSubscriber first = subscribe();
+        first.subscription.request(Long.MAX_VALUE);
+        completePage(0, page(null, 2, "a"));
+        TestSubscriber second = subscribe();
+        second.subscription.request(Long.MAX_VALUE);
+        completePage(1, page(null, 2, "a"));
+
+        assertThat(pageNumbers, contains(0, 0));
+        assertThat(first.names(), contains("a"));
+        assertThat(second.names(), contains("a"));
+        assertThat(second.completed, is(true));
+    }
+
+    private TestSubscriber subscribe() {
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        assertThat(subscriber.subscription, is(notNullValue()));
+        return subscriber;
+    }
+
+    private Request<RolesPage> pageRequest(int page) {
+        pageNumbers.add(page);
+        CompletableFuture<RolesPage> future = new CompletableFuture<>();
+        pages.add(future);
+        return StubRequest.of(future);
+    }
+
+    private void completePage(int index, RolesPage page) {
+        assertThat(pages.size(), is(greaterThan(index)));
+        pages.get(index).complete(page);
+    }
+
+    private static RolesPage page(Integer total, Integer limit, String... names) {
+        return new RolesPage(null, names.length, total, limit, roles(names));
+    }
+
+    private static List<Role> roles(String... names) {
+        List<Role> roles = new ArrayList<>();
+        for (String name : names) {
+            Role role = new Role();
+            role.setName(name);
+            roles.add(role);
+        }
+        return roles;
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<Role> {
+        private final List<Role> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+        private int cancelAfter = -1;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Role item) {
+            items.add(item);
+            if (items.size() == cancelAfter) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            assertThat(error, is(nullValue()));
+            assertThat(completed, is(false));
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            assertThat(error, is(nullValue()));
+            assertThat(completed, is(false));
+            completed = true;
+        }
+
+        private List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (Role item : items) {
+                names.add(item.getName());
+            }
+            return names;
+        }
+    }
+}
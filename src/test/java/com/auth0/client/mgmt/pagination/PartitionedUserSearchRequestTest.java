@@ -0,0 +1,310 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.StubRequest;
+import com.auth0.client.mgmt.filter.UserFilter;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.users.User;
+import com.auth0.json.mgmt.users.UsersPage;
+import com.auth0.net.Deadline;
+import com.auth0.net.Request;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.net.URLDecoder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PartitionedUserSearchRequestTest {
+
+    private static final Pattern CREATED_AT = Pattern.compile("created_at:\\[\"([^\"]+)\" TO \"([^\"]+)\"}");
+    private static final Pattern USER_ID = Pattern.compile("user_id:\\[(\\*|\"([^\"]*)\") TO (\\*|\"([^\"]*)\")}");
+    private static final Date FROM = new Date(0);
+    private static final Date TO = new Date(100_000);
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final List<StoredUser> users = new ArrayList<>();
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, Object> lastParameters = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    public void shouldThrowOnNullSearch() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'search' cannot be null!");
+        new PartitionedUserSearchRequest(null, null, FROM, TO, null);
+    }
+
+    @Test
+    public void shouldThrowOnEmptyRange() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'createdFrom' must be before 'createdTo'!");
+        new PartitionedUserSearchRequest(search(), null, TO, TO, null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidPageSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'pageSize' must be between 1 and 100!");
+        new PartitionedUserSearchRequest(search(), null, FROM, TO, null).setPageSize(0);
+    }
+
+    @Test
+    public void shouldSearchSinglePartitionWhenItFits() throws Exception {
+        addUsers(250, 0, 100_000);
+        List<User> found = new PartitionedUserSearchRequest(search(), null, FROM, TO, null).execute();
+
+        assertThat(ids(found), is(expectedIds()));
+        assertThat(queries, hasSize(3));
+    }
+
+    @Test
+    public void shouldSplitRangeUntilEveryPartitionFits() throws Exception {
+        addUsers(4500, 0, 100_000);
+        List<User> found = new PartitionedUserSearchRequest(search(), null, FROM, TO, null).execute();
+
+        assertThat(ids(found), is(expectedIds()));
+    }
+
+    @Test
+    public void shouldSplitSkewedRangeAgain() throws Exception {
+        addUsers(300, 0, 90_000);
+        addUsers(2500, 99_000, 100_000);
+        List<User> found = new PartitionedUserSearchRequest(search(), null, FROM, TO, null).execute();
+
+        assertThat(ids(found), is(expectedIds()));
+    }
+
+    @Test
+    public void shouldSplitByUserIdWhenCreatedInSameMillisecond() throws Exception {
+        addUsers(1500, 5_000, 5_001);
+        List<User> found = new PartitionedUserSearchRequest(search(), null, FROM, TO, null).execute();
+
+        assertThat(ids(found), is(expectedIds()));
+        assertThat(queries, hasItem(containsString("user_id:[")));
+    }
+
+    @Test
+    public void shouldKeepFilterParametersAndQuery() throws Exception {
+        addUsers(10, 0, 100_000);
+        UserFilter filter = new UserFilter().withQuery("email:\"a@b.com\"").withFields("user_id", true).withSort("email:1");
+        new PartitionedUserSearchRequest(search(), filter, FROM, TO, null).execute();
+
+        assertThat(queries.get(0), startsWith("(email:\"a@b.com\") AND created_at:["));
+        assertThat(lastParameters, hasEntry("fields", "user_id"));
+        assertThat(lastParameters, hasEntry("sort", "created_at:1"));
+        assertThat(lastParameters, hasEntry("include_totals", true));
+    }
+
+    @Test
+    public void shouldCapRequestsInFlightToParallelism() throws Exception {
+        addUsers(3000, 0, 100_000);
+        List<User> found = new PartitionedUserSearchRequest(search(), null, FROM, TO, null).setParallelism(2).execute();
+
+        assertThat(found, hasSize(3000));
+        assertThat(maxInFlight.get(), is(lessThanOrEqualTo(2)));
+    }
+
+    @Test
+    public void shouldSetDeadlineOnEachPage() throws Exception {
+        addUsers(250, 0, 100_000);
+        Deadline deadline = Deadline.after(1, TimeUnit.MINUTES);
+        List<Deadline> deadlines = Collections.synchronizedList(new ArrayList<>());
+        Function<UserFilter, Request<UsersPage>> search = search();
+        new PartitionedUserSearchRequest(filter -> {
+            Request<UsersPage> request = search.apply(filter);
+            return new Request<UsersPage>() {
+                @Override
+                public UsersPage execute() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public CompletableFuture<UsersPage> executeAsync() {
+                    return request.executeAsync();
+                }
+
+                @Override
+                public Request<UsersPage> setDeadline(Deadline deadline) {
+                    deadlines.add(deadline);
+                    return this;
+                }
+            };
+        }, null, FROM, TO, null).setDeadline(deadline).execute();
+
+        assertThat(deadlines, hasSize(3));
+        assertThat(deadlines, everyItem(is(sameInstance(deadline))));
+    }
+
+    @Test
+    public void shouldTurnTimeoutIntoDeadlineOfEachPage() throws Exception {
+        addUsers(250, 0, 100_000);
+        List<Deadline> deadlines = Collections.synchronizedList(new ArrayList<>());
+        Function<UserFilter, Request<UsersPage>> search = search();
+        new PartitionedUserSearchRequest(filter -> {
+            Request<UsersPage> request = search.apply(filter);
+            return new Request<UsersPage>() {
+                @Override
+                public UsersPage execute() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public CompletableFuture<UsersPage> executeAsync() {
+                    return request.executeAsync();
+                }
+
+                @Override
+                public Request<UsersPage> setDeadline(Deadline deadline) {
+                    deadlines.add(deadline);
+                    return this;
+                }
+            };
+        }, null, FROM, TO, null).setTimeout(1, TimeUnit.MINUTES).execute();
+
+        assertThat(deadlines, hasSize(3));
+        assertThat(deadlines, everyItem(is(sameInstance(deadlines.get(0)))));
+        assertThat(deadlines.get(0).timeRemaining(TimeUnit.SECONDS), is(both(greaterThan(0L)).and(lessThanOrEqualTo(60L))));
+    }
+
+    @Test
+    public void shouldThrowOnNegativeTimeout() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'timeout' cannot be negative!");
+        new PartitionedUserSearchRequest(search(), null, FROM, TO, null).setTimeout(-1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldThrowRequestFailure() throws Exception {
+        Auth0Exception failure = new Auth0Exception("failed");
+        PartitionedUserSearchRequest request = new PartitionedUserSearchRequest(filter -> StubRequest.failed(failure), null, FROM, TO, null);
+
+        exception.expect(is(sameInstance(failure)));
+        request.execute();
+    }
+
+    @Test
+    public void shouldThrowWhenPartitionCantBeSplit() throws Exception {
+        PartitionedUserSearchRequest request = new PartitionedUserSearchRequest(
+                filter -> request(() -> new UsersPage(0, 0, 1001, 100, Collections.emptyList())),
+                null, new Date(0), new Date(1), null);
+        request.setParallelism(1);
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("More than 1000 users match the search in the partition");
+        request.execute();
+    }
+
+    private void addUsers(int count, long from, long to) {
+        for (int i = 0; i < count; i++) {
+            long created = from + (to - from) * i / count;
+            users.add(new StoredUser(String.format("auth0|%08d", users.size()), created));
+        }
+    }
+
+    private Function<UserFilter, Request<UsersPage>> search() {
+        return filter -> request(() -> {
+            Map<String, Object> parameters = filter.getAsMap();
+            lastParameters.putAll(parameters);
+            String query = decode(String.valueOf(parameters.get("q")));
+            queries.add(query);
+            Matcher created = CREATED_AT.matcher(query);
+            assertThat(created.find(), is(true));
+            long createdFrom = Instant.parse(created.group(1)).toEpochMilli();
+            long createdTo = Instant.parse(created.group(2)).toEpochMilli();
+            Matcher userId = USER_ID.matcher(query);
+            String idFrom = null;
+            String idTo = null;
+            if (userId.find()) {
+                idFrom = userId.group(2);
+                idTo = userId.group(4);
+            }
+            List<StoredUser> matched = new ArrayList<>();
+            for (StoredUser user : users) {
+                if (user.created >= createdFrom && user.created < createdTo
+                        && (idFrom == null || user.id.compareTo(idFrom) >= 0)
+                        && (idTo == null || user.id.compareTo(idTo) < 0)) {
+                    matched.add(user);
+                }
+            }
+            matched.sort(Comparator.comparingLong((StoredUser user) -> user.created).thenComparing(user -> user.id));
+            int page = (int) parameters.get("page");
+            int perPage = (int) parameters.get("per_page");
+            int start = Math.min(page * perPage, matched.size());
+            int end = Math.min(start + perPage, matched.size());
+            List<User> items = new ArrayList<>();
+            for (StoredUser stored : matched.subList(start, end)) {
+                User user = new User();
+                user.setId(stored.id);
+                items.add(user);
+            }
+            return new UsersPage(start, items.size(), matched.size(), perPage, items);
+        });
+    }
+
+    private List<String> expectedIds() {
+        return users.stream()
+                .sorted(Comparator.comparingLong((StoredUser user) -> user.created).thenComparing(user -> user.id))
+                .map(user -> user.id)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> ids(List<User> users) {
+        return users.stream().map(User::getId).collect(Collectors.toList());
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class StoredUser {
+        private final String id;
+        private final long created;
+
+        StoredUser(String id, long created) {
+            this.id = id;
+            this.created = created;
+        }
+    }
+
+    /**
+     * Creates a request that supplies its page on another thread, counting the requests in flight.
+     */
+    private Request<UsersPage> request(Supplier<UsersPage> page) {
+        return new StubRequest<>(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return page.get();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.StubRequest;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.net.Deadline;
+import com.auth0.net.RateLimitThrottle;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RequestDispatcherTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private final List<CompletableFuture<String>> sent = new ArrayList<>();
+    private final List<StubRequest<String>> requests = new ArrayList<>();
+
+    @Test
+    public void shouldThrowOnNullResult() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'result' cannot be null!");
+        new RequestDispatcher(null, 1, null, null);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidParallelism() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'parallelism' must be greater than zero!");
+        new RequestDispatcher(result, 0, null, null);
+    }
+
+    @Test
+    public void shouldSendInOrderWithinParallelism() throws Exception {
+        RequestDispatcher dispatcher = new RequestDispatcher(result, 2, null, null);
+        List<CompletableFuture<String>> responses = send(dispatcher, 5);
+
+        assertThat(sent, hasSize(2));
+        sent.get(1).complete("page1");
+        assertThat(sent, hasSize(3));
+        assertThat(responses.get(1).get(), is("page1"));
+        sent.get(0).complete("page0");
+        sent.get(2).complete("page2");
+        assertThat(sent, hasSize(5));
+    }
+
+    @Test
+    public void shouldCapRequestsInFlightByThrottle() {
+        RateLimitThrottle throttle = mock(RateLimitThrottle.class);
+        when(throttle.getAvailable()).thenReturn(0L);
+        RequestDispatcher dispatcher = new RequestDispatcher(result, 4, throttle, null);
+        send(dispatcher, 5);
+        assertThat(sent, hasSize(1));
+
+        when(throttle.getAvailable()).thenReturn(3L);
+        sent.get(0).complete("page0");
+        assertThat(sent, hasSize(4));
+    }
+
+    @Test
+    public void shouldFailResultAndCancelRequestsInFlight() throws Exception {
+        RequestDispatcher dispatcher = new RequestDispatcher(result, 2, null, null);
+        send(dispatcher, 5);
+        Auth0Exception failure = new Auth0Exception("failed");
+        sent.get(0).completeExceptionally(failure);
+
+        assertThat(sent.get(1).isCancelled(), is(true));
+        assertThat(sent, hasSize(2));
+        Throwable thrown = null;
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            thrown = e.getCause();
+        }
+        assertThat(thrown, is(sameInstance(failure)));
+    }
+
+    @Test
+    public void shouldCancelRequestsInFlightWhenResultIsCancelled() {
+        RequestDispatcher dispatcher = new RequestDispatcher(result, 2, null, null);
+        send(dispatcher, 5);
+        result.cancel(false);
+
+        assertThat(sent.get(0).isCancelled(), is(true));
+        assertThat(sent.get(1).isCancelled(), is(true));
+        assertThat(sent, hasSize(2));
+    }
+
+    @Test
+    public void shouldSetDeadlineOnEachRequest() {
+        Deadline deadline = Deadline.after(1, TimeUnit.MINUTES);
+        send(new RequestDispatcher(result, 4, null, deadline), 3);
+
+        assertThat(requests, hasSize(3));
+        for (StubRequest<String> request : requests) {
+            assertThat(request.getDeadline(), is(sameInstance(deadline)));
+        }
+    }
+
+    @Test
+    public void shouldTurnTimeoutIntoDeadline() {
+        Deadline deadline = Deadline.after(1, TimeUnit.MINUTES);
+        assertThat(RequestDispatcher.deadline(null, 0), is(nullValue()));
+        assertThat(RequestDispatcher.deadline(deadline, 0), is(sameInstance(deadline)));
+        assertThat(RequestDispatcher.deadline(deadline, TimeUnit.HOURS.toNanos(1)), is(sameInstance(deadline)));
+        assertThat(RequestDispatcher.deadline(null, TimeUnit.SECONDS.toNanos(5)).timeRemaining(TimeUnit.SECONDS), is(lessThanOrEqualTo(5L)));
+    }
+
+    private List<CompletableFuture<String>> send(RequestDispatcher dispatcher, int count) {
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            responses.add(dispatcher.send(() -> {
+                CompletableFuture<String> future = new CompletableFuture<>();
+                sent.add(future);
+                StubRequest<String> request = StubRequest.of(future);
+                requests.add(request);
+                return request;
+            }));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,278 @@
+package com.auth0.client.mgmt.pagination;
+
+import com.auth0.client.StubRequest;
+import com.auth0.client.mgmt.jobs.JobCompletionWaiter;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
+import com.auth0.json.mgmt.jobs.Job;
+import com.auth0.json.mgmt.users.User;
+import com.auth0.json.mgmt.users.UsersPage;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.Request;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class UserSearchIterableTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> jobStatuses = Collections.synchronizedList(new ArrayList<>(Arrays.asList("pending", "processing", "completed")));
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+    private final JobCompletionWaiter waiter = JobCompletionWaiter.newBuilder(this::job, scheduler)
+            .withMinInterval(1, TimeUnit.MILLISECONDS)
+            .withMaxInterval(1, TimeUnit.MILLISECONDS)
+            .build();
+    private byte[] export = ndjson("user1", "user2", "user3");
+    private String location = "https://example.com/users.json.gz";
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void shouldThrowOnNullSearchPages() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'search pages' cannot be null!");
+        UserSearchIterable.newBuilder(null, this::exportJob, waiter, this::open);
+    }
+
+    @Test
+    public void shouldThrowOnNullWaiter() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'waiter' cannot be null!");
+        UserSearchIterable.newBuilder(search(10), this::exportJob, null, this::open);
+    }
+
+    @Test
+    public void shouldReadSearchPagesWhenTheyFitTheWindow() {
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(250), this::exportJob, waiter, this::open).build();
+
+        assertThat(ids(users.iterator()), hasSize(250));
+        assertThat(calls, contains("search 0", "search 1", "search 2"));
+    }
+
+    @Test
+    public void shouldReadEmptySearch() {
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(0), this::exportJob, waiter, this::open).build();
+
+        assertThat(users.iterator().hasNext(), is(false));
+        assertThat(calls, contains("search 0"));
+    }
+
+    @Test
+    public void shouldExportWhenSearchExceedsTheWindow() {
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(1001), this::exportJob, waiter, this::open)
+                .withExportMatcher(user -> true)
+                .build();
+
+        assertThat(ids(users.iterator()), contains("user1", "user2", "user3"));
+        assertThat(calls, contains("search 0", "export", "job job_1", "job job_1", "open " + location));
+    }
+
+    @Test
+    public void shouldKeepWaitingForRateLimitedExportJob() {
+        jobStatuses.add(1, "rate limited");
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(1001), this::exportJob, waiter, this::open)
+                .withExportMatcher(user -> true)
+                .build();
+
+        assertThat(ids(users.iterator()), contains("user1", "user2", "user3"));
+        assertThat(calls, contains("search 0", "export", "job job_1", "job job_1", "job job_1", "open " + location));
+    }
+
+    @Test
+    public void shouldThrowOnNullCodec() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'codec' cannot be null!");
+        UserSearchIterable.newBuilder(search(10), this::exportJob, waiter, this::open).withCodec(null);
+    }
+
+    @Test
+    public void shouldParseExportWithGivenCodec() {
+        JsonCodec codec = new JsonCodec(new ObjectMapper().enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES));
+        byte[] plain = "{'user_id':'user1'}\n{'user_id':'user2'}\n".getBytes(StandardCharsets.UTF_8);
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(5000), this::exportJob, waiter, location -> new ByteArrayInputStream(plain))
+                .withCodec(codec)
+                .withExportMatcher(user -> true)
+                .build();
+
+        assertThat(ids(users.iterator()), contains("user1", "user2"));
+    }
+
+    @Test
+    public void shouldReadUncompressedExport() {
+        byte[] plain = "{\"user_id\":\"user1\"}\n\n{\"user_id\":\"user2\"}\n".getBytes(StandardCharsets.UTF_8);
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(5000), this::exportJob, waiter, location -> new ByteArrayInputStream(plain))
+                .withExportMatcher(user -> true)
+                .build();
+
+        assertThat(ids(users.iterator()), contains("user1", "user2"));
+    }
+
+    @Test
+    public void shouldFilterExportedUsersWithMatcher() {
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(5000), this::exportJob, waiter, this::open)
+                .withExportMatcher(user -> !"user2".equals(user.getId()))
+                .build();
+
+        assertThat(ids(users.iterator()), contains("user1", "user3"));
+    }
+
+    @Test
+    public void shouldThrowWhenSearchExceedsTheWindowWithoutExportMatcher() {
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(5000), this::exportJob, waiter, this::open)
+                .build();
+
+        try {
+            users.iterator().hasNext();
+            fail("Expected the search to fail");
+        } catch (UncheckedIOException e) {
+            assertThat(e.getCause(), isA(Auth0Exception.class));
+            assertThat(e.getCause().getMessage(), is("The search matches 5000 users, more than the 1000 it gives access to, and no export matcher was set to find them in an export"));
+        }
+        assertThat(calls, contains("search 0"));
+    }
+
+    @Test
+    public void shouldReadNoUsersWhenExportHasNoLocation() {
+        location = null;
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(5000), this::exportJob, waiter, this::open)
+                .withExportMatcher(user -> true)
+                .build();
+
+        assertThat(users.iterator().hasNext(), is(false));
+        assertThat(calls, not(hasItem(startsWith("open"))));
+    }
+
+    @Test
+    public void shouldThrowWhenExportJobFails() {
+        jobStatuses.set(1, "failed");
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(5000), this::exportJob, waiter, this::open)
+                .withExportMatcher(user -> true)
+                .build();
+
+        exception.expect(UncheckedIOException.class);
+        exception.expectCause(isA(Auth0Exception.class));
+        exception.expectMessage("The users export job job_1 failed");
+        users.iterator().hasNext();
+    }
+
+    @Test
+    public void shouldThrowSearchFailure() {
+        Auth0Exception failure = new Auth0Exception("failed");
+        UserSearchIterable users = UserSearchIterable.newBuilder((page, perPage) -> StubRequest.<UsersPage>failed(failure), this::exportJob, waiter, this::open).build();
+
+        exception.expect(UncheckedIOException.class);
+        exception.expectCause(is(sameInstance(failure)));
+        users.iterator().hasNext();
+    }
+
+    @Test
+    public void shouldCloseExportWhenStreamIsClosed() {
+        AtomicBoolean closed = new AtomicBoolean();
+        UserSearchIterable users = UserSearchIterable.newBuilder(search(5000), this::exportJob, waiter, location -> new FilterInputStream(open(location)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        }).withExportMatcher(user -> true).build();
+
+        try (Stream<User> stream = users.stream()) {
+            assertThat(stream.map(User::getId).findFirst().orElse(null), is("user1"));
+        }
+        assertThat(closed.get(), is(true));
+    }
+
+    private PageRequestFactory<User> search(int total) {
+        return (page, perPage) -> {
+            calls.add("search " + page);
+            int from = Math.min(page * perPage, total);
+            int to = Math.min(from + perPage, total);
+            List<User> items = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                User user = new User();
+                user.setId("user" + i);
+                items.add(user);
+            }
+            return StubRequest.completed(new UsersPage(from, items.size(), total, perPage, items));
+        };
+    }
+
+    private Request<Job> exportJob() {
+        calls.add("export");
+        return StubRequest.completed(jobWithStatus(jobStatuses.remove(0)));
+    }
+
+    private Request<Job> job(String id) {
+        calls.add("job " + id);
+        String status = jobStatuses.remove(0);
+        if ("rate limited".equals(status)) {
+            return StubRequest.failed(new RateLimitException(100, 0, -1));
+        }
+        return StubRequest.completed(jobWithStatus(status));
+    }
+
+    private Job jobWithStatus(String status) {
+        String json = "{\"type\":\"users_export\",\"id\":\"job_1\",\"status\":\"" + status + "\""
+                + (location == null ? "" : ",\"location\":\"" + location + "\"") + "}";
+        try {
+            return JsonCodec.getDefault().getMapper().readValue(json, Job.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private InputStream open(String location) {
+        calls.add("open " + location);
+        return new ByteArrayInputStream(export);
+    }
+
+    private static byte[] ndjson(String... ids) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (String id : ids) {
+                gzip.write(("{\"user_id\":\"" + id + "\",\"email\":\"" + id + "@example.com\"}\n").getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<String> ids(Iterator<User> users) {
+        List<String> ids = new ArrayList<>();
+        users.forEachRemaining(user -> ids.add(user.getId()));
+        return ids;
+    }
+}
@@ -42,6 +42,18 @@ public class MembersPageTest extends JsonTest<MembersPage> {
         "  \"total\": 2\n" +
         "}\n";
 
+    private static final String jsonWithCheckpoint = "{\n" +
+        "  \"members\": [\n" +
+        "    {\n" +
+        "      \"user_id\": \"auth0|605a1f57cbeb2c0070fdf123\",\n" +
+        "      \"email\": \"dave@domain.com\",\n" +
+        "      \"picture\": \"https://domain.com/img.png\",\n" +
+        "      \"name\": \"dave\"\n" +
+        "    }\n" +
+        "  ],\n" +
+        "  \"next\": \"MjAyMS0wMy0yMyAxNjozNjoyMi4yNzYwMDA\"\n" +
+        "}\n";
+
 
     @Test
     public void shouldDeserializeWithoutTotals() throws Exception {
@@ -67,6 +79,18 @@ public class MembersPageTest extends JsonTest<MembersPage> {
         assertThat(page.getLimit(), is(20));
         assertThat(page.getItems(), is(notNullValue()));
         assertThat(page.getItems().size(), is(2));
+        assertThat(page.getNext(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldDeserializeWithCheckpoint() throws Exception {
+        MembersPage page = fromJSON(jsonWithCheckpoint, MembersPage.class);
+
+        assertThat(page, is(notNullValue()));
+        assertThat(page.getTotal(), is(nullValue()));
+        assertThat(page.getItems(), is(notNullValue()));
+        assertThat(page.getItems().size(), is(1));
+        assertThat(page.getNext(), is("MjAyMS0wMy0yMyAxNjozNjoyMi4yNzYwMDA"));
     }
 }
 
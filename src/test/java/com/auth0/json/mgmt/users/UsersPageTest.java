@@ -1,8 +1,11 @@
 package com.auth0.json.mgmt.users;
 
 import com.auth0.json.JsonTest;
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -36,4 +39,44 @@ public class UsersPageTest extends JsonTest<UsersPage> {
         assertThat(page.getItems().size(), is(1));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldDeserializeWithItemsBeforeTotalsAndUnknownProperties() throws Exception {
+        String json = "{\"users\":[{\"user_id\":\"auth0|1\"},{\"user_id\":\"auth0|2\"}],\"next\":{\"nested\":[1,2]},\"start\":20,\"length\":2,\"total\":22,\"limit\":50}";
+        UsersPage page = fromJSON(json, UsersPage.class);
+
+        assertThat(page, is(notNullValue()));
+        assertThat(page.getStart(), is(20));
+        assertThat(page.getLength(), is(2));
+        assertThat(page.getTotal(), is(22));
+        assertThat(page.getLimit(), is(50));
+        assertThat(page.getItems(), hasSize(2));
+        assertThat(page.getItems().get(0).getId(), is("auth0|1"));
+        assertThat(page.getItems().get(1).getId(), is("auth0|2"));
+    }
+
+    @Test
+    public void shouldDeserializeWithNullTotals() throws Exception {
+        String json = "{\"start\":null,\"length\":null,\"total\":null,\"limit\":null,\"users\":[]}";
+        UsersPage page = fromJSON(json, UsersPage.class);
+
+        assertThat(page, is(notNullValue()));
+        assertThat(page.getStart(), is(nullValue()));
+        assertThat(page.getLength(), is(nullValue()));
+        assertThat(page.getTotal(), is(nullValue()));
+        assertThat(page.getLimit(), is(nullValue()));
+        assertThat(page.getItems(), is(empty()));
+    }
+
+    @Test
+    public void shouldDeserializeNestedPagesInSinglePass() throws Exception {
+        String json = "[{\"start\":0,\"users\":[{\"user_id\":\"auth0|1\"}]},[{\"user_id\":\"auth0|2\"}]]";
+        List<UsersPage> pages = new JsonTest<List<UsersPage>>().fromJSON(json, new TypeReference<List<UsersPage>>() {
+        });
+
+        assertThat(pages, hasSize(2));
+        assertThat(pages.get(0).getStart(), is(0));
+        assertThat(pages.get(0).getItems().get(0).getId(), is("auth0|1"));
+        assertThat(pages.get(1).getStart(), is(nullValue()));
+        assertThat(pages.get(1).getItems().get(0).getId(), is("auth0|2"));
+    }
+}
@@ -9,7 +9,16 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -238,9 +247,587 @@ public class BaseRequestTest {
         assertThat(result, is("Success"));
     }
 
+    @Test
+    public void shouldRetryRateLimitedRequest() throws Exception {
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRetryPolicy(RetryPolicy.newBuilder().withBaseDelay(0, TimeUnit.MILLISECONDS).build())
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        Object result = new MockBaseRequest<String>(client, context) {
+            @Override
+            protected String parseResponse(Response response) throws Auth0Exception {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new RateLimitException(-1, -1, -1);
+                }
+                return "Success";
+            }
+        }.execute();
+
+        assertThat(result, is("Success"));
+        verify(client, times(3)).newCall(any());
+        verify(response, times(3)).close();
+    }
+
+    @Test
+    public void shouldThrowRateLimitExceptionAfterMaxAttempts() {
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRetryPolicy(RetryPolicy.newBuilder().withMaxAttempts(2).withBaseDelay(0, TimeUnit.MILLISECONDS).build())
+                .build();
+        Exception exception = null;
+        try {
+            new MockBaseRequest<String>(client, context) {
+                @Override
+                protected String parseResponse(Response response) throws Auth0Exception {
+                    throw new RateLimitException(-1, -1, -1);
+                }
+            }.execute();
+        } catch (Exception e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(instanceOf(RateLimitException.class)));
+        verify(client, times(2)).newCall(any());
+    }
+
+    @Test
+    public void shouldNotRetryRateLimitedRequestWithoutRetryPolicy() {
+        Exception exception = null;
+        try {
+            new MockBaseRequest<String>(client) {
+                @Override
+                protected String parseResponse(Response response) throws Auth0Exception {
+                    throw new RateLimitException(-1, -1, -1);
+                }
+            }.execute();
+        } catch (Exception e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(instanceOf(RateLimitException.class)));
+        verify(client, times(1)).newCall(any());
+    }
+
+    @Test
+    public void asyncRetriesRateLimitedRequest() throws Exception {
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRetryPolicy(RetryPolicy.newBuilder().withBaseDelay(10, TimeUnit.MILLISECONDS).build())
+                .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<?> request = new MockBaseRequest<String>(client, context) {
+            @Override
+            protected String parseResponse(Response response) throws Auth0Exception {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new RateLimitException(-1, -1, -1);
+                }
+                return "Success";
+            }
+        }.executeAsync();
+
+        Object result = request.get(5, TimeUnit.SECONDS);
+        assertThat(result, is("Success"));
+        verify(call, times(3)).enqueue(any());
+        verify(response, times(3)).close();
+        context.close();
+    }
+
+    @Test
+    public void asyncCompletesWithRateLimitExceptionAfterMaxAttempts() throws Exception {
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRetryPolicy(RetryPolicy.newBuilder().withMaxAttempts(2).withBaseDelay(0, TimeUnit.MILLISECONDS).build())
+                .build();
+
+        CompletableFuture<?> request = new MockBaseRequest<String>(client, context) {
+            @Override
+            protected String parseResponse(Response response) throws Auth0Exception {
+                throw new RateLimitException(-1, -1, -1);
+            }
+        }.executeAsync();
+
+        Exception exception = null;
+        try {
+            request.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause(), is(instanceOf(RateLimitException.class)));
+        verify(call, times(2)).enqueue(any());
+        context.close();
+    }
+
+    @Test
+    public void shouldUpdateThrottleWithResponseHeaders() throws Exception {
+        when(response.header("X-RateLimit-Limit", "-1")).thenReturn("10");
+        when(response.header("X-RateLimit-Remaining", "-1")).thenReturn("9");
+        when(response.header("X-RateLimit-Reset", "-1")).thenReturn("-1");
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withThrottle(throttle)
+                .build();
+
+        new MockBaseRequest<String>(client, context) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "";
+            }
+        }.execute();
+
+        assertThat(throttle.getLimit(), is(10L));
+        assertThat(throttle.getAvailable(), is(9L));
+    }
+
+    @Test
+    public void asyncUpdatesThrottleWithResponseHeaders() throws Exception {
+        when(response.header("X-RateLimit-Limit", "-1")).thenReturn("10");
+        when(response.header("X-RateLimit-Remaining", "-1")).thenReturn("9");
+        when(response.header("X-RateLimit-Reset", "-1")).thenReturn("-1");
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withThrottle(throttle)
+                .build();
+
+        new MockBaseRequest<String>(client, context) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "";
+            }
+        }.executeAsync().get(5, TimeUnit.SECONDS);
+
+        assertThat(throttle.getLimit(), is(10L));
+        assertThat(throttle.getAvailable(), is(9L));
+    }
+
+    @Test
+    public void asyncCoalescesIdenticalGetRequests() throws Exception {
+        List<Callback> callbacks = new ArrayList<>();
+        doAnswer(invocation -> callbacks.add(invocation.getArgument(0))).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRequestCoalescing(true)
+                .build();
+
+        CompletableFuture<String> first = new CoalescingRequest(client, context, "GET").executeAsync();
+        CompletableFuture<String> second = new CoalescingRequest(client, context, "GET").executeAsync();
+
+        verify(client, times(1)).newCall(any());
+        assertThat(first.isDone(), is(false));
+        assertThat(second.isDone(), is(false));
+
+        callbacks.get(0).onResponse(call, response);
+        assertThat(first.get(5, TimeUnit.SECONDS), is("Success"));
+        assertThat(second.get(5, TimeUnit.SECONDS), is("Success"));
+
+        new CoalescingRequest(client, context, "GET").executeAsync();
+        verify(client, times(2)).newCall(any());
+    }
+
+    @Test
+    public void asyncCoalescedRequestsShareFailure() throws Exception {
+        List<Callback> callbacks = new ArrayList<>();
+        doAnswer(invocation -> callbacks.add(invocation.getArgument(0))).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRequestCoalescing(true)
+                .build();
+
+        CompletableFuture<String> first = new CoalescingRequest(client, context, "GET").executeAsync();
+        CompletableFuture<String> second = new CoalescingRequest(client, context, "GET").executeAsync();
+        callbacks.get(0).onFailure(call, new IOException("Error!"));
+
+        assertThat(first.isCompletedExceptionally(), is(true));
+        assertThat(second.isCompletedExceptionally(), is(true));
+        verify(client, times(1)).newCall(any());
+    }
+
+    @Test
+    public void shouldNotCoalesceMutatingRequests() {
+        doAnswer(invocation -> null).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRequestCoalescing(true)
+                .build();
+
+        new CoalescingRequest(client, context, "DELETE").executeAsync();
+        new CoalescingRequest(client, context, "DELETE").executeAsync();
+
+        verify(client, times(2)).newCall(any());
+    }
+
+    @Test
+    public void shouldNotCoalesceRequestsByDefault() {
+        doAnswer(invocation -> null).when(call).enqueue(any());
+
+        new CoalescingRequest(client, ClientContext.getDefault(), "GET").executeAsync();
+        new CoalescingRequest(client, ClientContext.getDefault(), "GET").executeAsync();
+
+        verify(client, times(2)).newCall(any());
+    }
+
+    @Test
+    public void shouldShareInFlightRequestWithSyncCaller() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(call.execute()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRequestCoalescing(true)
+                .build();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = executor.submit(() -> new CoalescingRequest(client, context, "GET").execute());
+            assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+
+            CompletableFuture<String> second = new CoalescingRequest(client, context, "GET").executeAsync();
+            assertThat(second.isDone(), is(false));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS), is("Success"));
+            assertThat(second.get(5, TimeUnit.SECONDS), is("Success"));
+            verify(client, times(1)).newCall(any());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRecordResponseMetrics() throws Exception {
+        when(response.code()).thenReturn(200);
+        MetricsRecorder metrics = mock(MetricsRecorder.class);
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withMetricsRecorder(metrics)
+                .build();
+
+        new CoalescingRequest(client, context, "GET").execute();
+
+        verify(metrics).recordResponse(eq("users.get"), eq(200), longThat(nanos -> nanos >= 0), longThat(nanos -> nanos >= 0), eq(0L), eq(-1L));
+        verifyNoMoreInteractions(metrics);
+    }
+
+    @Test
+    public void shouldRecordFailureMetrics() throws Exception {
+        when(call.execute()).thenThrow(IOException.class);
+        MetricsRecorder metrics = mock(MetricsRecorder.class);
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withMetricsRecorder(metrics)
+                .build();
+
+        try {
+            new CoalescingRequest(client, context, "GET").execute();
+        } catch (Auth0Exception ignored) {
+        }
+
+        verify(metrics).recordFailure(eq("users.get"), longThat(nanos -> nanos >= 0), eq(0L));
+        verifyNoMoreInteractions(metrics);
+    }
+
+    @Test
+    public void shouldRecordRetryMetrics() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        when(response.code()).thenAnswer(invocation -> attempts.get() == 1 ? 429 : 200);
+        MetricsRecorder metrics = mock(MetricsRecorder.class);
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withMetricsRecorder(metrics)
+                .withRetryPolicy(RetryPolicy.newBuilder().withBaseDelay(0, TimeUnit.MILLISECONDS).build())
+                .build();
+
+        new CoalescingRequest(client, context, "GET") {
+            @Override
+            protected String parseResponse(Response response) throws Auth0Exception {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new RateLimitException(-1, -1, -1);
+                }
+                return "Success";
+            }
+        }.execute();
+
+        verify(metrics).recordResponse(eq("users.get"), eq(429), anyLong(), anyLong(), anyLong(), anyLong());
+        verify(metrics).recordRetry("users.get");
+        verify(metrics).recordResponse(eq("users.get"), eq(200), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void asyncRecordsResponseAndRetryMetrics() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        when(response.code()).thenAnswer(invocation -> attempts.get() == 1 ? 429 : 200);
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+        HistogramMetricsRecorder metrics = new HistogramMetricsRecorder();
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withMetricsRecorder(metrics)
+                .withRetryPolicy(RetryPolicy.newBuilder().withBaseDelay(0, TimeUnit.MILLISECONDS).build())
+                .build();
+
+        new CoalescingRequest(client, context, "GET") {
+            @Override
+            protected String parseResponse(Response response) throws Auth0Exception {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new RateLimitException(-1, -1, -1);
+                }
+                return "Success";
+            }
+        }.executeAsync().get(5, TimeUnit.SECONDS);
+
+        EndpointMetrics endpoint = metrics.getEndpointMetrics("users.get");
+        assertThat(endpoint.getRequestCount(), is(2L));
+        assertThat(endpoint.getRateLimitedCount(), is(1L));
+        assertThat(endpoint.getRetryCount(), is(1L));
+        assertThat(endpoint.getStatusClassCount(2), is(1L));
+        context.close();
+    }
+
+    @Test
+    public void asyncRecordsFailureMetrics() throws Exception {
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onFailure(call, new IOException());
+            return null;
+        }).when(call).enqueue(any());
+        HistogramMetricsRecorder metrics = new HistogramMetricsRecorder();
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withMetricsRecorder(metrics)
+                .build();
+
+        CompletableFuture<String> future = new CoalescingRequest(client, context, "GET").executeAsync();
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException ignored) {
+        }
+
+        EndpointMetrics endpoint = metrics.getEndpointMetrics("users.get");
+        assertThat(endpoint.getFailureCount(), is(1L));
+        assertThat(endpoint.getRequestCount(), is(1L));
+        assertThat(endpoint.getNetworkTime().getCount(), is(1L));
+        assertThat(endpoint.getParseTime().getCount(), is(0L));
+    }
+
+    @Test
+    public void asyncParsesAndCompletesOnGivenExecutor() throws Exception {
+        List<Callback> callbacks = new ArrayList<>();
+        doAnswer(invocation -> callbacks.add(invocation.getArgument(0))).when(call).enqueue(any());
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "completion"));
+        try {
+            List<java.lang.String> threads = new ArrayList<>();
+            CompletableFuture<?> request = new MockBaseRequest<String>(client) {
+                @Override
+                protected String parseResponse(Response response) {
+                    threads.add(Thread.currentThread().getName());
+                    return null;
+                }
+            }.executeAsync(executor).thenApply(result -> threads.add(Thread.currentThread().getName()));
+            callbacks.get(0).onResponse(call, response);
+
+            request.get(5, TimeUnit.SECONDS);
+            assertThat(threads, contains("completion", "completion"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncCompletesOnClientExecutor() throws Exception {
+        List<Callback> callbacks = new ArrayList<>();
+        doAnswer(invocation -> callbacks.add(invocation.getArgument(0))).when(call).enqueue(any());
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "completion"));
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withCompletionExecutor(executor)
+                .build();
+        try {
+            CompletableFuture<java.lang.String> thread = new MockBaseRequest<String>(client, context) {
+                @Override
+                protected String parseResponse(Response response) {
+                    return null;
+                }
+            }.executeAsync().handle((result, e) -> Thread.currentThread().getName());
+            callbacks.get(0).onFailure(call, new IOException());
+
+            assertThat(thread.get(5, TimeUnit.SECONDS), is("completion"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncCompletesOnDispatcherWhenExecutorRejects() throws Exception {
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        CompletableFuture<?> request = new MockBaseRequest<String>(client) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "Success";
+            }
+        }.executeAsync(executor);
+
+        Object result = request.get(5, TimeUnit.SECONDS);
+        assertThat(result, is("Success"));
+        verify(response).close();
+    }
+
+    @Test
+    public void asyncCancelsCallWhenFutureIsCancelled() {
+        doAnswer(invocation -> null).when(call).enqueue(any());
+
+        CompletableFuture<?> request = new MockBaseRequest<String>(client) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "Success";
+            }
+        }.executeAsync();
+
+        verify(call, never()).cancel();
+        request.cancel(true);
+        verify(call).cancel();
+    }
+
+    @Test
+    public void asyncDoesNotCancelCompletedCall() throws Exception {
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+
+        CompletableFuture<?> request = new MockBaseRequest<String>(client) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "Success";
+            }
+        }.executeAsync();
+
+        request.get(5, TimeUnit.SECONDS);
+        request.cancel(true);
+        verify(call, never()).cancel();
+    }
+
+    @Test
+    public void asyncKeepsCoalescedCallWhileAnyFutureWaits() throws Exception {
+        List<Callback> callbacks = new ArrayList<>();
+        doAnswer(invocation -> callbacks.add(invocation.getArgument(0))).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRequestCoalescing(true)
+                .build();
+
+        CompletableFuture<String> first = new CoalescingRequest(client, context, "GET").executeAsync();
+        CompletableFuture<String> second = new CoalescingRequest(client, context, "GET").executeAsync();
+        first.cancel(true);
+
+        verify(call, never()).cancel();
+        callbacks.get(0).onResponse(call, response);
+        assertThat(second.get(5, TimeUnit.SECONDS), is("Success"));
+    }
+
+    @Test
+    public void asyncCancelsCoalescedCallWhenEveryFutureIsCancelled() {
+        doAnswer(invocation -> null).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRequestCoalescing(true)
+                .build();
+
+        CompletableFuture<String> first = new CoalescingRequest(client, context, "GET").executeAsync();
+        CompletableFuture<String> second = new CoalescingRequest(client, context, "GET").executeAsync();
+        second.cancel(true);
+        verify(call, never()).cancel();
+        first.cancel(true);
+        verify(call).cancel();
+
+        new CoalescingRequest(client, context, "GET").executeAsync();
+        verify(client, times(2)).newCall(any());
+    }
+
+    @Test
+    public void asyncCompletesWithExceptionWhenParsingThrowsRuntimeException() throws Exception {
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+
+        CompletableFuture<?> request = new MockBaseRequest<String>(client) {
+            @Override
+            protected String parseResponse(Response response) {
+                throw new IllegalStateException("unexpected");
+            }
+        }.executeAsync();
+
+        Exception exception = null;
+        try {
+            request.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause(), is(instanceOf(IllegalStateException.class)));
+        verify(response).close();
+    }
+
+    @Test
+    public void shouldStopWaitingForIdenticalRequestAtDeadline() throws Exception {
+        doAnswer(invocation -> null).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRequestCoalescing(true)
+                .build();
+        new CoalescingRequest(client, context, "GET").executeAsync();
+
+        Exception exception = null;
+        try {
+            new CoalescingRequest(client, context, "GET").setTimeout(50, TimeUnit.MILLISECONDS).execute();
+        } catch (Auth0Exception e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getMessage(), is("The request deadline was exceeded"));
+        verify(client, times(1)).newCall(any());
+    }
+
+    @Test
+    public void asyncStopsWaitingForIdenticalRequestAtDeadline() throws Exception {
+        doAnswer(invocation -> null).when(call).enqueue(any());
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRequestCoalescing(true)
+                .build();
+        new CoalescingRequest(client, context, "GET").executeAsync();
+
+        CompletableFuture<?> follower = new CoalescingRequest(client, context, "GET")
+                .setTimeout(50, TimeUnit.MILLISECONDS)
+                .executeAsync();
+
+        Exception exception = null;
+        try {
+            follower.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause().getMessage(), is("The request deadline was exceeded"));
+        context.close();
+    }
+
     private abstract static class MockBaseRequest<String> extends BaseRequest {
         MockBaseRequest(OkHttpClient client) {
-            super(client);
+            this(client, ClientContext.getDefault());
+        }
+
+        MockBaseRequest(OkHttpClient client, ClientContext context) {
+            super(client, context);
         }
 
         @Override
@@ -249,4 +836,27 @@ public class BaseRequestTest {
         }
     }
 
+    private static class CoalescingRequest extends BaseRequest<String> {
+        private final String method;
+
+        CoalescingRequest(OkHttpClient client, ClientContext context, String method) {
+            super(client, context);
+            this.method = method;
+        }
+
+        @Override
+        protected Request createRequest() {
+            return new Request.Builder()
+                    .url("https://domain.auth0.com/api/v2/users/1")
+                    .method(method, null)
+                    .addHeader("Authorization", "Bearer apiToken")
+                    .build();
+        }
+
+        @Override
+        protected String parseResponse(Response response) throws Auth0Exception {
+            return "Success";
+        }
+    }
+
 }
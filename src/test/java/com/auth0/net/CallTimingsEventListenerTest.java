@@ -0,0 +1,149 @@
+package com.auth0.net;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.RateLimitException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CallTimingsEventListenerTest {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    private MockWebServer server;
+    private OkHttpClient client;
+    private ClientContext context;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = new OkHttpClient.Builder()
+                .eventListenerFactory(CallTimingsEventListener.FACTORY)
+                .build();
+        context = ClientContext.newBuilder(new JsonCodec())
+                .withCallTracing(true)
+                .withRetryPolicy(RetryPolicy.newBuilder().withBaseDelay(0, TimeUnit.MILLISECONDS).build())
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        context.close();
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldTracePhasesOfCall() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"id\":\"1\"}"));
+        CustomRequest<Map<String, Object>> request = newRequest("POST");
+        request.addParameter("name", "value");
+        request.execute();
+
+        List<CallTimings> timings = request.getCallTimings();
+        assertThat(timings, hasSize(1));
+        CallTimings call = timings.get(0);
+        assertThat(call.isFailed(), is(false));
+        assertThat(call.isConnectionReused(), is(false));
+        assertThat(call.getConnectNanos(), is(greaterThanOrEqualTo(0L)));
+        assertThat(call.getTlsNanos(), is(-1L));
+        assertThat(call.getRequestWriteNanos(), is(greaterThanOrEqualTo(0L)));
+        assertThat(call.getTimeToFirstByteNanos(), is(greaterThanOrEqualTo(0L)));
+        assertThat(call.getBodyReadNanos(), is(greaterThanOrEqualTo(0L)));
+        assertThat(call.getTotalNanos(), is(greaterThanOrEqualTo(call.getConnectNanos())));
+    }
+
+    @Test
+    public void shouldTraceReusedConnection() throws Exception {
+        server.enqueue(new MockResponse().setBody("{}"));
+        server.enqueue(new MockResponse().setBody("{}"));
+        newRequest("GET").execute();
+
+        CustomRequest<Map<String, Object>> request = newRequest("GET");
+        request.execute();
+
+        CallTimings call = request.getCallTimings().get(0);
+        assertThat(call.isConnectionReused(), is(true));
+        assertThat(call.getDnsNanos(), is(-1L));
+        assertThat(call.getConnectNanos(), is(-1L));
+    }
+
+    @Test
+    public void shouldTraceEveryAttempt() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setBody("{}"));
+        CustomRequest<Map<String, Object>> request = newRequest("GET");
+        request.execute();
+
+        assertThat(request.getCallTimings(), hasSize(2));
+    }
+
+    @Test
+    public void shouldTraceOnlyLastExecution() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setBody("{}"));
+        CustomRequest<Map<String, Object>> request = newRequest("GET");
+        try {
+            request.execute();
+        } catch (RateLimitException ignored) {
+        }
+        assertThat(request.getCallTimings(), hasSize(3));
+
+        request.execute();
+        assertThat(request.getCallTimings(), hasSize(1));
+    }
+
+    @Test
+    public void asyncTracesCallBeforeCompleting() throws Exception {
+        server.enqueue(new MockResponse().setBody("{}"));
+        CustomRequest<Map<String, Object>> request = newRequest("GET");
+        request.executeAsync().get(5, TimeUnit.SECONDS);
+
+        List<CallTimings> timings = request.getCallTimings();
+        assertThat(timings, hasSize(1));
+        assertThat(timings.get(0).getBodyReadNanos(), is(greaterThanOrEqualTo(0L)));
+    }
+
+    @Test
+    public void shouldTraceFailedCall() throws Exception {
+        String url = server.url("/api/v2/users").toString();
+        server.shutdown();
+        CustomRequest<Map<String, Object>> request = new CustomRequest<>(client, url, "GET", context, MAP_TYPE);
+        try {
+            request.execute();
+        } catch (Auth0Exception ignored) {
+        }
+
+        List<CallTimings> timings = request.getCallTimings();
+        assertThat(timings, hasSize(1));
+        assertThat(timings.get(0).isFailed(), is(true));
+        assertThat(timings.get(0).getTimeToFirstByteNanos(), is(-1L));
+    }
+
+    @Test
+    public void shouldNotTraceByDefault() throws Exception {
+        server.enqueue(new MockResponse().setBody("{}"));
+        CustomRequest<Map<String, Object>> request = new CustomRequest<>(client, server.url("/api/v2/users").toString(), "GET", MAP_TYPE);
+        request.execute();
+
+        assertThat(request.getCallTimings(), is(empty()));
+    }
+
+    private CustomRequest<Map<String, Object>> newRequest(String method) {
+        return new CustomRequest<>(client, server.url("/api/v2/users").toString(), method, context, MAP_TYPE);
+    }
+}
@@ -9,23 +9,29 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Call;
 import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.hamcrest.Matchers;
 import org.junit.*;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.auth0.client.MockServer.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class CustomRequestTest {
@@ -68,6 +74,122 @@ public class CustomRequestTest {
         assertThat(execute, is(notNullValue()));
     }
 
+    @Test
+    public void shouldRecordMetricsIfConfigured() throws Exception {
+        HistogramMetricsRecorder metrics = new HistogramMetricsRecorder();
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withMetricsRecorder(metrics)
+                .build();
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl() + "oauth/token", "POST", context, tokenHolderType);
+        request.addParameter("grant_type", "client_credentials");
+
+        server.jsonResponse(AUTH_TOKENS, 200);
+        request.execute();
+        server.jsonResponse(AUTH_ERROR_WITH_DESCRIPTION, 400);
+        try {
+            request.execute();
+        } catch (APIException ignored) {
+        }
+
+        EndpointMetrics endpoint = metrics.getEndpointMetrics("oauth.token.create");
+        assertThat(endpoint, is(notNullValue()));
+        assertThat(endpoint.getRequestCount(), is(2L));
+        assertThat(endpoint.getStatusClassCount(2), is(1L));
+        assertThat(endpoint.getStatusClassCount(4), is(1L));
+        assertThat(endpoint.getBytesSent(), is(2L * "{\"grant_type\":\"client_credentials\"}".length()));
+        assertThat(endpoint.getBytesReceived(), is(greaterThan(0L)));
+        assertThat(endpoint.getNetworkTime().getCount(), is(2L));
+        assertThat(endpoint.getParseTime().getCount(), is(2L));
+    }
+
+    @Test
+    public void shouldFailWhenTimeoutIsExceeded() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
+        request.setTimeout(200, TimeUnit.MILLISECONDS);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 1, TimeUnit.SECONDS);
+
+        long startedAt = System.nanoTime();
+        Exception exception = null;
+        try {
+            request.execute();
+        } catch (Auth0Exception e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getMessage(), is("The request deadline was exceeded"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), is(lessThan(800L)));
+    }
+
+    @Test
+    public void asyncFailsWhenTimeoutIsExceeded() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
+        request.setTimeout(200, TimeUnit.MILLISECONDS);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 1, TimeUnit.SECONDS);
+
+        Exception exception = null;
+        try {
+            request.executeAsync().get(2, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause().getMessage(), is("The request deadline was exceeded"));
+    }
+
+    @Test
+    public void shouldApplyTimeoutToEachExecution() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
+        request.setTimeout(300, TimeUnit.MILLISECONDS);
+        server.jsonResponse(AUTH_TOKENS, 200);
+        server.jsonResponse(AUTH_TOKENS, 200);
+
+        assertThat(request.execute(), is(notNullValue()));
+        Thread.sleep(400);
+        assertThat(request.execute(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldNotSendWhenDeadlineIsExpired() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
+        request.setDeadline(Deadline.after(0, TimeUnit.MILLISECONDS));
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("The request deadline was exceeded");
+        try {
+            request.execute();
+        } finally {
+            assertThat(server.getRequestCount(), is(0));
+        }
+    }
+
+    @Test
+    public void shouldNotRetryPastDeadline() throws Exception {
+        ClientContext context = ClientContext.newBuilder(new JsonCodec())
+                .withRetryPolicy(RetryPolicy.newBuilder().withDeadline(1, TimeUnit.MINUTES).build())
+                .build();
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", context, tokenHolderType);
+        request.setDeadline(Deadline.after(2, TimeUnit.SECONDS));
+        server.rateLimitReachedResponse(10, 0, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 10);
+
+        long startedAt = System.nanoTime();
+        exception.expect(RateLimitException.class);
+        try {
+            request.execute();
+        } finally {
+            assertThat(server.getRequestCount(), is(1));
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), is(lessThan(1_000L)));
+        }
+    }
+
+    @Test
+    public void shouldThrowWhenTimeoutIsNegative() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'timeout' cannot be negative!");
+        new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType).setTimeout(-1, TimeUnit.SECONDS);
+    }
+
     @Test
     public void shouldCreatePOSTRequest() throws Exception {
         CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "POST", tokenHolderType);
@@ -140,10 +262,10 @@ public class CustomRequestTest {
 
     @Test
     public void shouldThrowOnBodyCreationFailure() throws Exception {
-        ObjectMapper mapper = mock(ObjectMapper.class);
-        when(mapper.writeValueAsBytes(any(Object.class))).thenThrow(JsonProcessingException.class);
+        JsonCodec codec = mock(JsonCodec.class);
+        when(codec.writeValueAsBytes(any(Object.class))).thenThrow(JsonProcessingException.class);
 
-        CustomRequest request = new CustomRequest<>(client, server.getBaseUrl(), "POST", mapper, voidType);
+        CustomRequest request = new CustomRequest<>(client, server.getBaseUrl(), "POST", ClientContext.newBuilder(codec).build(), voidType);
         request.addParameter("name", "value");
         exception.expect(Auth0Exception.class);
         exception.expectCause(Matchers.<Throwable>instanceOf(JsonProcessingException.class));
@@ -151,6 +273,19 @@ public class CustomRequestTest {
         request.execute();
     }
 
+    @Test
+    public void shouldReadResponseBodyFromStream() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
+        ResponseBody body = mock(ResponseBody.class);
+        when(body.byteStream()).thenReturn(new ByteArrayInputStream("{\"access_token\":\"at\"}".getBytes(StandardCharsets.UTF_8)));
+
+        TokenHolder response = request.readResponseBody(body);
+
+        assertThat(response.getAccessToken(), is("at"));
+        verify(body, never()).string();
+        verify(body, never()).bytes();
+    }
+
     @Test
     public void shouldParseSuccessfulResponse() throws Exception {
         CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
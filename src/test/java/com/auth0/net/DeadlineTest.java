@@ -0,0 +1,66 @@
+package com.auth0.net;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class DeadlineTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldReportRemainingTime() {
+        Deadline deadline = Deadline.after(1, TimeUnit.MINUTES);
+        assertThat(deadline.isExpired(), is(false));
+        assertThat(deadline.timeRemaining(TimeUnit.SECONDS), is(both(greaterThan(50L)).and(lessThanOrEqualTo(60L))));
+    }
+
+    @Test
+    public void shouldExpire() throws Exception {
+        Deadline deadline = Deadline.after(10, TimeUnit.MILLISECONDS);
+        Thread.sleep(20);
+        assertThat(deadline.isExpired(), is(true));
+        assertThat(deadline.timeRemaining(TimeUnit.NANOSECONDS), is(0L));
+    }
+
+    @Test
+    public void shouldBeExpiredRightAwayWithZeroDuration() {
+        assertThat(Deadline.after(0, TimeUnit.SECONDS).isExpired(), is(true));
+    }
+
+    @Test
+    public void shouldNotOverflowWithLongDurations() {
+        Deadline deadline = Deadline.after(Long.MAX_VALUE, TimeUnit.DAYS);
+        assertThat(deadline.isExpired(), is(false));
+        assertThat(deadline.timeRemaining(TimeUnit.DAYS), is(greaterThan(1000L)));
+    }
+
+    @Test
+    public void shouldPickEarliestDeadline() {
+        Deadline first = Deadline.after(1, TimeUnit.SECONDS);
+        Deadline second = Deadline.after(1, TimeUnit.MINUTES);
+        assertThat(first.minimum(second), is(sameInstance(first)));
+        assertThat(second.minimum(first), is(sameInstance(first)));
+    }
+
+    @Test
+    public void shouldThrowWhenDurationIsNegative() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'duration' cannot be negative!");
+        Deadline.after(-1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldThrowWhenUnitIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'unit' cannot be null!");
+        Deadline.after(1, null);
+    }
+}
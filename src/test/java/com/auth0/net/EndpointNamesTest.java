@@ -0,0 +1,67 @@
+package com.auth0.net;
+
+import okhttp3.HttpUrl;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class EndpointNamesTest {
+
+    @Test
+    public void shouldNameManagementEndpoints() {
+        assertThat(name("GET", "/api/v2/users?page=1"), is("users.list"));
+        assertThat(name("GET", "/api/v2/users/auth0%7C123"), is("users.get"));
+        assertThat(name("PATCH", "/api/v2/users/auth0%7C123"), is("users.update"));
+        assertThat(name("DELETE", "/api/v2/users/auth0%7C123"), is("users.delete"));
+        assertThat(name("POST", "/api/v2/users/auth0%7C123/roles"), is("users.roles.create"));
+        assertThat(name("GET", "/api/v2/jobs/job_0Z1y2X3w"), is("jobs.get"));
+        assertThat(name("POST", "/api/v2/jobs/users-imports"), is("jobs.users-imports.create"));
+        assertThat(name("GET", "/api/v2/tenants/settings"), is("tenants.settings.list"));
+        assertThat(name("PUT", "/api/v2/guardian/factors/sms/providers/twilio"), is("guardian.factors.sms.providers.twilio.update"));
+    }
+
+    @Test
+    public void shouldLeaveOutUserChosenKeys() {
+        assertThat(name("GET", "/api/v2/organizations/name/my-organization"), is("organizations.name.get"));
+        assertThat(name("PUT", "/api/v2/rules-configs/my_key"), is("rules-configs.update"));
+    }
+
+    @Test
+    public void shouldLeaveOutIdentifiersThatLookLikeWords() {
+        assertThat(name("GET", "/api/v2/users/someone"), is("users.get"));
+        assertThat(name("GET", "/api/v2/roles/admin/permissions"), is("roles.permissions.list"));
+        assertThat(name("PATCH", "/api/v2/email-templates/verify_email"), is("email-templates.update"));
+        assertThat(name("PUT", "/api/v2/guardian/factors/sms"), is("guardian.factors.update"));
+        assertThat(name("DELETE", "/api/v2/users/someone/multifactor/duo"), is("users.multifactor.delete"));
+        assertThat(name("DELETE", "/api/v2/users/someone/identities/github/octocat"), is("users.identities.delete"));
+        assertThat(name("GET", "/api/v2/organizations/name/members"), is("organizations.name.get"));
+        assertThat(name("GET", "/api/v2/organizations/acme/members"), is("organizations.members.list"));
+        assertThat(name("DELETE", "/api/v2/organizations/acme/members/someone/roles"), is("organizations.members.roles.delete"));
+    }
+
+    @Test
+    public void shouldNeverNameSegmentFollowingKnownCollectionOfUnknownEndpoint() {
+        assertThat(name("GET", "/api/v2/users/someone/sessions"), is("users.sessions.list"));
+        assertThat(name("POST", "/api/v2/clients/myclient/credentials"), is("clients.credentials.create"));
+        assertThat(name("GET", "/api/v2/actions/triggers"), is("actions.triggers.list"));
+        assertThat(name("GET", "/api/v2/actions/act_123"), is("actions.get"));
+    }
+
+    @Test
+    public void shouldNameAuthenticationEndpoints() {
+        assertThat(name("POST", "/oauth/token"), is("oauth.token.create"));
+        assertThat(name("GET", "/userinfo"), is("userinfo.list"));
+        assertThat(name("POST", "/dbconnections/change_password"), is("dbconnections.change_password.create"));
+    }
+
+    @Test
+    public void shouldUseMethodForUnknownOperations() {
+        assertThat(name("HEAD", "/api/v2/users"), is("users.head"));
+        assertThat(name("GET", "/"), is("list"));
+    }
+
+    private static String name(String method, String path) {
+        return EndpointNames.getName(method, HttpUrl.get("https://domain.auth0.com" + path));
+    }
+}
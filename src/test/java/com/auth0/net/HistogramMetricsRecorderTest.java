@@ -0,0 +1,67 @@
+package com.auth0.net;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HistogramMetricsRecorderTest {
+
+    private static final long ONE_MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldNotHaveMetricsForUnknownEndpoint() {
+        HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+        assertThat(recorder.getEndpointMetrics("users.list"), is(nullValue()));
+        assertThat(recorder.getAllEndpointMetrics().isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldRecordPerEndpoint() {
+        HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+        recorder.recordResponse("users.list", 200, 10 * ONE_MILLISECOND, 2 * ONE_MILLISECOND, 0, 300);
+        recorder.recordResponse("users.list", 429, 5 * ONE_MILLISECOND, 0, 0, 20);
+        recorder.recordRetry("users.list");
+        recorder.recordFailure("users.list", 30 * ONE_MILLISECOND, 0);
+        recorder.recordResponse("users.create", 201, ONE_MILLISECOND, ONE_MILLISECOND, 150, -1);
+
+        EndpointMetrics list = recorder.getEndpointMetrics("users.list");
+        assertThat(list.getEndpoint(), is("users.list"));
+        assertThat(list.getRequestCount(), is(3L));
+        assertThat(list.getStatusClassCount(2), is(1L));
+        assertThat(list.getStatusClassCount(4), is(1L));
+        assertThat(list.getStatusClassCount(5), is(0L));
+        assertThat(list.getFailureCount(), is(1L));
+        assertThat(list.getRetryCount(), is(1L));
+        assertThat(list.getRateLimitedCount(), is(1L));
+        assertThat(list.getBytesSent(), is(0L));
+        assertThat(list.getBytesReceived(), is(320L));
+        assertThat(list.getNetworkTime().getCount(), is(3L));
+        assertThat(list.getNetworkTime().getMax(TimeUnit.MILLISECONDS), is(30L));
+        assertThat(list.getParseTime().getCount(), is(2L));
+
+        EndpointMetrics create = recorder.getEndpointMetrics("users.create");
+        assertThat(create.getRequestCount(), is(1L));
+        assertThat(create.getBytesSent(), is(150L));
+        assertThat(create.getBytesReceived(), is(0L));
+        assertThat(recorder.getAllEndpointMetrics().keySet(), containsInAnyOrder("users.list", "users.create"));
+
+        recorder.reset();
+        assertThat(recorder.getAllEndpointMetrics().isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidStatusClass() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'statusClass' must be between 1 and 5!");
+        new EndpointMetrics("users.list").getStatusClassCount(6);
+    }
+}
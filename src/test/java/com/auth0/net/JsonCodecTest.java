@@ -0,0 +1,94 @@
+package com.auth0.net;
+
+import com.auth0.json.auth.TokenHolder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JsonCodecTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldThrowWhenMapperIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'mapper' cannot be null!");
+        new JsonCodec(null);
+    }
+
+    @Test
+    public void shouldShareDefaultInstance() {
+        assertThat(JsonCodec.getDefault(), is(notNullValue()));
+        assertThat(JsonCodec.getDefault(), is(sameInstance(JsonCodec.getDefault())));
+    }
+
+    @Test
+    public void shouldExposeGivenMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonCodec codec = new JsonCodec(mapper);
+        assertThat(codec.getMapper(), is(sameInstance(mapper)));
+    }
+
+    @Test
+    public void shouldCacheReaderPerType() {
+        JsonCodec codec = new JsonCodec();
+        ObjectReader first = codec.readerFor(new TypeReference<List<String>>() {
+        });
+        ObjectReader second = codec.readerFor(new TypeReference<List<String>>() {
+        });
+        ObjectReader other = codec.readerFor(new TypeReference<List<Integer>>() {
+        });
+
+        assertThat(first, is(sameInstance(second)));
+        assertThat(first, is(not(sameInstance(other))));
+    }
+
+    @Test
+    public void shouldReuseWriter() {
+        JsonCodec codec = new JsonCodec();
+        assertThat(codec.writer(), is(sameInstance(codec.writer())));
+    }
+
+    @Test
+    public void shouldWriteValue() throws Exception {
+        JsonCodec codec = new JsonCodec();
+        byte[] json = codec.writeValueAsBytes(Collections.singletonMap("key", "value"));
+        assertThat(new String(json, StandardCharsets.UTF_8), is("{\"key\":\"value\"}"));
+    }
+
+    @Test
+    public void shouldReadValue() throws Exception {
+        JsonCodec codec = new JsonCodec();
+        Map<String, Object> values = codec.readValue("{\"key\":\"value\"}", new TypeReference<Map<String, Object>>() {
+        });
+        assertThat(values, hasEntry("key", (Object) "value"));
+
+        TokenHolder holder = codec.readValue("{\"access_token\":\"at\"}", new TypeReference<TokenHolder>() {
+        });
+        assertThat(holder.getAccessToken(), is("at"));
+    }
+
+    @Test
+    public void shouldReadValueFromStream() throws Exception {
+        JsonCodec codec = new JsonCodec();
+        InputStream payload = new ByteArrayInputStream("[\"one\",\"two\"]".getBytes(StandardCharsets.UTF_8));
+        List<String> values = codec.readValue(payload, new TypeReference<List<String>>() {
+        });
+        assertThat(values, contains("one", "two"));
+    }
+}
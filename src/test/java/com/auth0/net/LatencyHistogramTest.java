@@ -0,0 +1,77 @@
+package com.auth0.net;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LatencyHistogramTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldMapSmallValuesToTheirOwnBucket() {
+        for (long value = 0; value < 32; value++) {
+            assertThat(LatencyHistogram.getBucketIndex(value), is((int) value));
+            assertThat(LatencyHistogram.getBucketUpperBound((int) value), is(value));
+        }
+    }
+
+    @Test
+    public void shouldKeepRelativeErrorBelowBucketPrecision() {
+        for (long value = 1; value < (1L << 32); value = value * 3 + 1) {
+            long upperBound = LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucketIndex(value));
+            assertThat(upperBound, is(greaterThanOrEqualTo(value)));
+            assertThat((double) (upperBound - value) / value, is(lessThan(1 / 16d)));
+        }
+    }
+
+    @Test
+    public void shouldBeEmptyByDefault() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMean(TimeUnit.MILLISECONDS), is(0d));
+        assertThat(histogram.getMax(TimeUnit.MILLISECONDS), is(0L));
+        assertThat(histogram.getValueAtPercentile(99, TimeUnit.MILLISECONDS), is(0L));
+    }
+
+    @Test
+    public void shouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertThat(histogram.getCount(), is(100L));
+        assertThat(histogram.getMean(TimeUnit.MICROSECONDS), is(50_500d));
+        assertThat(histogram.getMax(TimeUnit.MILLISECONDS), is(100L));
+        assertThat(histogram.getValueAtPercentile(50, TimeUnit.MICROSECONDS), is(both(greaterThanOrEqualTo(50_000L)).and(lessThan(53_125L))));
+        assertThat(histogram.getValueAtPercentile(99, TimeUnit.MICROSECONDS), is(both(greaterThanOrEqualTo(99_000L)).and(lessThanOrEqualTo(100_000L))));
+        assertThat(histogram.getValueAtPercentile(100, TimeUnit.MICROSECONDS), is(100_000L));
+        assertThat(histogram.getValueAtPercentile(0, TimeUnit.MICROSECONDS), is(both(greaterThanOrEqualTo(1_000L)).and(lessThan(1_063L))));
+    }
+
+    @Test
+    public void shouldClampOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.getCount(), is(2L));
+        assertThat(histogram.getValueAtPercentile(50, TimeUnit.NANOSECONDS), is(0L));
+        assertThat(histogram.getMax(TimeUnit.MICROSECONDS), is((1L << 32) - 1));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidPercentile() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'percentile' must be between 0 and 100!");
+        new LatencyHistogram().getValueAtPercentile(101, TimeUnit.MILLISECONDS);
+    }
+}
@@ -11,18 +11,23 @@ import com.auth0.net.multipart.RecordedMultipartRequest;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Call;
 import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.hamcrest.Matchers;
 import org.junit.*;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,6 +36,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MultipartRequestTest {
@@ -85,7 +92,7 @@ public class MultipartRequestTest {
     public void shouldAddMultipleParts() throws Exception {
         String boundary = UUID.randomUUID().toString();
         MultipartBody.Builder bodyBuilder = new MultipartBody.Builder(boundary);
-        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", new ObjectMapper(), tokenHolderType, bodyBuilder);
+        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", ClientContext.newBuilder(new JsonCodec()).build(), tokenHolderType, bodyBuilder);
 
         File fileValue = new File(MULTIPART_SAMPLE);
         request.addPart("keyName", "keyValue");
@@ -110,10 +117,64 @@ public class MultipartRequestTest {
         assertThat(jsonFile.getValue(), is(utf8Contents));
     }
 
+    @Test
+    public void shouldAddStreamedParts() throws Exception {
+        String boundary = UUID.randomUUID().toString();
+        MultipartBody.Builder bodyBuilder = new MultipartBody.Builder(boundary);
+        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", ClientContext.newBuilder(new JsonCodec()).build(), tokenHolderType, bodyBuilder);
+
+        Path pathValue = new File(MULTIPART_SAMPLE).toPath();
+        request.addPart("pathFile", pathValue, "text/json");
+        request.addPart("streamFile", "stream.txt", new ByteArrayInputStream("streamed".getBytes(StandardCharsets.UTF_8)), "text/plain");
+        request.addPart("writtenFile", "written.txt", "text/plain", output -> {
+            output.write("written".getBytes(StandardCharsets.UTF_8));
+            output.close();
+        });
+
+        server.jsonResponse(AUTH_TOKENS, 200);
+        request.execute();
+        RecordedMultipartRequest recordedMultipartRequest = new RecordedMultipartRequest(server.takeRequest());
+        assertThat(recordedMultipartRequest.getPartsCount(), is(3));
+
+        FilePart pathFile = recordedMultipartRequest.getFilePart("pathFile");
+        assertThat(pathFile.getFilename(), is("multipart_sample.json"));
+        assertThat(pathFile.getValue(), is(new String(Files.readAllBytes(pathValue))));
+
+        FilePart streamFile = recordedMultipartRequest.getFilePart("streamFile");
+        assertThat(streamFile.getFilename(), is("stream.txt"));
+        assertThat(streamFile.getContentType(), is("text/plain"));
+        assertThat(streamFile.getValue(), is("streamed"));
+
+        FilePart writtenFile = recordedMultipartRequest.getFilePart("writtenFile");
+        assertThat(writtenFile.getFilename(), is("written.txt"));
+        assertThat(writtenFile.getValue(), is("written"));
+    }
+
+    @Test
+    public void shouldThrowWhenWrittenPartIsSentAgain() throws Exception {
+        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", tokenHolderType);
+        request.addPart("writtenFile", "written.txt", "text/plain", output -> output.write(1));
+        RequestBody body = request.createRequestBody();
+        body.writeTo(new Buffer());
+
+        exception.expect(IOException.class);
+        exception.expectMessage("The streamed part can only be sent once.");
+        body.writeTo(new Buffer());
+    }
+
+    @Test
+    public void shouldThrowOnMissingPathPart() {
+        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", tokenHolderType);
+
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Failed to add part because the file specified cannot be found.");
+        request.addPart("pathFile", new File("missing.json").toPath(), "text/json");
+    }
+
     @Test
     public void shouldNotOverrideContentTypeHeader() throws Exception {
         MultipartBody.Builder bodyBuilder = new MultipartBody.Builder("5c49fdf2");
-        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", new ObjectMapper(), tokenHolderType, bodyBuilder);
+        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", ClientContext.newBuilder(new JsonCodec()).build(), tokenHolderType, bodyBuilder);
         request.addPart("non_empty", "body");
         request.addHeader("Content-Type", "plaintext");
 
@@ -170,6 +231,19 @@ public class MultipartRequestTest {
         assertThat(exception.getCause().getMessage(), is("Cannot create multipart/form-data request body with zero parts."));
     }
 
+    @Test
+    public void shouldReadResponseBodyFromStream() throws Exception {
+        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", tokenHolderType);
+        ResponseBody body = mock(ResponseBody.class);
+        when(body.byteStream()).thenReturn(new ByteArrayInputStream("{\"access_token\":\"at\"}".getBytes(StandardCharsets.UTF_8)));
+
+        TokenHolder response = request.readResponseBody(body);
+
+        assertThat(response.getAccessToken(), is("at"));
+        verify(body, never()).string();
+        verify(body, never()).bytes();
+    }
+
     @Test
     public void shouldParseSuccessfulResponse() throws Exception {
         MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", tokenHolderType);
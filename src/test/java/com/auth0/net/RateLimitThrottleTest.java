@@ -0,0 +1,136 @@
+package com.auth0.net;
+
+import okhttp3.Response;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RateLimitThrottleTest {
+
+    private static final long NOW_MILLIS = 1_600_000_000_000L;
+    private static final long NOW_SECONDS = TimeUnit.MILLISECONDS.toSeconds(NOW_MILLIS);
+    private static final long NOW_NANOS = 1_000_000_000L;
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void shouldNotPaceUntilRateLimitIsKnown() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        assertThat(throttle.getLimit(), is(-1L));
+        assertThat(throttle.getAvailable(), is(-1L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+    }
+
+    @Test
+    public void shouldPaceOnceTokensAreTaken() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        // 8 tokens are refilled over the next 8 seconds: one per second
+        throttle.update(10, 2, NOW_SECONDS + 8, NOW_MILLIS, NOW_NANOS);
+
+        assertThat(throttle.getLimit(), is(10L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(1000L));
+        assertThat(throttle.acquire(NOW_NANOS), is(2000L));
+    }
+
+    @Test
+    public void shouldRefillTokensOverTime() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        throttle.update(10, 0, NOW_SECONDS + 10, NOW_MILLIS, NOW_NANOS);
+
+        assertThat(throttle.acquire(NOW_NANOS), is(1000L));
+        assertThat(throttle.acquire(NOW_NANOS + ONE_SECOND), is(1000L));
+        assertThat(throttle.acquire(NOW_NANOS + 3 * ONE_SECOND), is(0L));
+    }
+
+    @Test
+    public void shouldKeepWaitingRequestsWhenUpdated() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        throttle.update(10, 0, NOW_SECONDS + 10, NOW_MILLIS, NOW_NANOS);
+        throttle.acquire(NOW_NANOS);
+        throttle.acquire(NOW_NANOS);
+
+        // 2 requests are still waiting, so only 3 out of the 5 remaining tokens are available
+        throttle.update(10, 5, NOW_SECONDS + 5, NOW_MILLIS, NOW_NANOS);
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(1000L));
+    }
+
+    @Test
+    public void shouldIgnoreResponsesReceivedOutOfOrder() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        throttle.update(10, 2, NOW_SECONDS + 8, NOW_MILLIS - 10, NOW_MILLIS, NOW_NANOS);
+
+        // The response to a request sent earlier arrives last
+        throttle.update(10, 9, NOW_SECONDS + 1, NOW_MILLIS - 20, NOW_MILLIS, NOW_NANOS);
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(1000L));
+    }
+
+    @Test
+    public void shouldKeepMinimumRemainingWithinResetWindow() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        throttle.update(10, 2, NOW_SECONDS + 8, NOW_MILLIS, NOW_NANOS);
+
+        // Sent at the same time, but processed earlier by the server
+        throttle.update(10, 6, NOW_SECONDS + 8, NOW_MILLIS, NOW_NANOS);
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(1000L));
+    }
+
+    @Test
+    public void shouldNotPaceWhenRefillRateIsUnknown() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        throttle.update(10, 0, -1, NOW_MILLIS, NOW_NANOS);
+
+        assertThat(throttle.getLimit(), is(10L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+        assertThat(throttle.acquire(NOW_NANOS), is(0L));
+    }
+
+    @Test
+    public void shouldIgnoreResponsesWithoutRateLimitHeaders() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        Response response = mock(Response.class);
+        when(response.header("X-RateLimit-Limit", "-1")).thenReturn("-1");
+        when(response.header("X-RateLimit-Remaining", "-1")).thenReturn("-1");
+        when(response.header("X-RateLimit-Reset", "-1")).thenReturn("-1");
+        throttle.update(response);
+
+        assertThat(throttle.getLimit(), is(-1L));
+    }
+
+    @Test
+    public void shouldIgnoreMalformedRateLimitHeaders() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        Response response = mock(Response.class);
+        when(response.header("X-RateLimit-Limit", "-1")).thenReturn("ten");
+        when(response.header("X-RateLimit-Remaining", "-1")).thenReturn("1");
+        when(response.header("X-RateLimit-Reset", "-1")).thenReturn("1");
+        throttle.update(response);
+
+        assertThat(throttle.getLimit(), is(-1L));
+    }
+
+    @Test
+    public void shouldLearnFromResponseHeaders() {
+        RateLimitThrottle throttle = new RateLimitThrottle();
+        Response response = mock(Response.class);
+        when(response.header("X-RateLimit-Limit", "-1")).thenReturn("50");
+        when(response.header("X-RateLimit-Remaining", "-1")).thenReturn("20");
+        when(response.header("X-RateLimit-Reset", "-1")).thenReturn(String.valueOf(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 60));
+        throttle.update(response);
+
+        assertThat(throttle.getLimit(), is(50L));
+        assertThat(throttle.getAvailable(), is(both(greaterThanOrEqualTo(20L)).and(lessThan(50L))));
+    }
+}
@@ -0,0 +1,382 @@
+package com.auth0.net;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ResponseCacheTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldThrowWhenTtlIsNotPositive() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'ttl' must be greater than zero!");
+        ResponseCache.newBuilder().withTtl("/api/v2/clients", 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldThrowWhenPathIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'path' cannot be null!");
+        ResponseCache.newBuilder().withTtl(null, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldThrowWhenMaxSizeIsNotPositive() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'maxSize' must be greater than zero!");
+        ResponseCache.newBuilder().withMaxSize(0);
+    }
+
+    @Test
+    public void shouldServeCachedResponseWithinTtl() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setBody("[\"one\"]"));
+
+        assertThat(get(client, "/api/v2/clients?page=1"), is("[\"one\"]"));
+        assertThat(get(client, "/api/v2/clients?page=1"), is("[\"one\"]"));
+
+        assertThat(server.getRequestCount(), is(1));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getEntryCount(), is(1));
+        assertThat(cache.getSize(), is(7L));
+    }
+
+    @Test
+    public void shouldCacheEachUrlAndAuthorizationSeparately() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setBody("first"));
+        server.enqueue(new MockResponse().setBody("second"));
+        server.enqueue(new MockResponse().setBody("third"));
+
+        assertThat(get(client, "/api/v2/clients?page=1", "Bearer a"), is("first"));
+        assertThat(get(client, "/api/v2/clients?page=2", "Bearer a"), is("second"));
+        assertThat(get(client, "/api/v2/clients?page=1", "Bearer b"), is("third"));
+        assertThat(get(client, "/api/v2/clients?page=1", "Bearer a"), is("first"));
+
+        assertThat(server.getRequestCount(), is(3));
+        assertThat(cache.getEntryCount(), is(3));
+    }
+
+    @Test
+    public void shouldNotCachePathsWithoutTtl() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setBody("first"));
+        server.enqueue(new MockResponse().setBody("second"));
+
+        assertThat(get(client, "/api/v2/clients-extra"), is("first"));
+        assertThat(get(client, "/api/v2/clients-extra"), is("second"));
+
+        assertThat(cache.getHitCount(), is(0L));
+        assertThat(cache.getMissCount(), is(0L));
+        assertThat(cache.getEntryCount(), is(0));
+    }
+
+    @Test
+    public void shouldNotCacheUnsuccessfulResponses() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("error"));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        assertThat(get(client, "/api/v2/clients"), is("error"));
+        assertThat(get(client, "/api/v2/clients"), is("ok"));
+
+        assertThat(cache.getMissCount(), is(2L));
+        assertThat(cache.getEntryCount(), is(1));
+    }
+
+    @Test
+    public void shouldUseLongestMatchingTtl() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2", 1, TimeUnit.NANOSECONDS)
+                .withTtl("/api/v2/tenants/settings", 1, TimeUnit.MINUTES)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setBody("settings"));
+        server.enqueue(new MockResponse().setBody("first"));
+        server.enqueue(new MockResponse().setBody("second"));
+
+        assertThat(get(client, "/api/v2/tenants/settings"), is("settings"));
+        assertThat(get(client, "/api/v2/tenants/settings"), is("settings"));
+        assertThat(get(client, "/api/v2/rules"), is("first"));
+        assertThat(get(client, "/api/v2/rules"), is("second"));
+    }
+
+    @Test
+    public void shouldRevalidateExpiredResponsesWithETag() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/tenants/settings", 1, TimeUnit.NANOSECONDS)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setBody("settings").setHeader("ETag", "\"v1\""));
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""));
+        server.enqueue(new MockResponse().setBody("updated").setHeader("ETag", "\"v2\""));
+
+        assertThat(get(client, "/api/v2/tenants/settings"), is("settings"));
+        assertThat(get(client, "/api/v2/tenants/settings"), is("settings"));
+        assertThat(get(client, "/api/v2/tenants/settings"), is("updated"));
+
+        RecordedRequest first = server.takeRequest();
+        assertThat(first.getHeader("If-None-Match"), is(nullValue()));
+        RecordedRequest second = server.takeRequest();
+        assertThat(second.getHeader("If-None-Match"), is("\"v1\""));
+        RecordedRequest third = server.takeRequest();
+        assertThat(third.getHeader("If-None-Match"), is("\"v1\""));
+
+        assertThat(cache.getRevalidationCount(), is(1L));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(2L));
+    }
+
+    @Test
+    public void shouldRequestExpiredResponsesWithoutETag() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/tenants/settings", 1, TimeUnit.NANOSECONDS)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setBody("settings"));
+        server.enqueue(new MockResponse().setBody("settings"));
+
+        get(client, "/api/v2/tenants/settings");
+        get(client, "/api/v2/tenants/settings");
+
+        server.takeRequest();
+        assertThat(server.takeRequest().getHeader("If-None-Match"), is(nullValue()));
+        assertThat(cache.getMissCount(), is(2L));
+    }
+
+    @Test
+    public void shouldInvalidateRelatedResponsesOnChange() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .withTtl("/api/v2/connections", 1, TimeUnit.MINUTES)
+                .build();
+        OkHttpClient client = newClient(cache);
+        for (int i = 0; i < 7; i++) {
+            server.enqueue(new MockResponse().setBody("response" + i));
+        }
+
+        get(client, "/api/v2/clients?page=1");
+        get(client, "/api/v2/clients/abc");
+        get(client, "/api/v2/clients/abc/credentials");
+        get(client, "/api/v2/clients/abcd");
+        get(client, "/api/v2/connections");
+        assertThat(cache.getEntryCount(), is(5));
+
+        Response response = client.newCall(new Request.Builder()
+                .url(server.url("/api/v2/clients/abc"))
+                .patch(RequestBody.create(new byte[0]))
+                .build()).execute();
+        response.close();
+
+        assertThat(cache.getEntryCount(), is(2));
+        assertThat(get(client, "/api/v2/clients/abcd"), is("response3"));
+        assertThat(get(client, "/api/v2/connections"), is("response4"));
+        assertThat(get(client, "/api/v2/clients/abc"), is("response6"));
+    }
+
+    @Test
+    public void shouldNotCacheReadThatWasInFlightDuringChange() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .build();
+        OkHttpClient writer = newClient(cache);
+        AtomicBoolean changeDuringRead = new AtomicBoolean(true);
+        // The response of the read arrives after the change completed, so it predates it
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(cache)
+                .addInterceptor(chain -> {
+                    Response response = chain.proceed(chain.request());
+                    if (changeDuringRead.getAndSet(false)) {
+                        writer.newCall(new Request.Builder()
+                                .url(server.url("/api/v2/clients/abc"))
+                                .patch(RequestBody.create(new byte[0]))
+                                .build()).execute().close();
+                    }
+                    return response;
+                })
+                .build();
+        server.enqueue(new MockResponse().setBody("before"));
+        server.enqueue(new MockResponse().setBody("patched"));
+        server.enqueue(new MockResponse().setBody("after"));
+
+        assertThat(get(client, "/api/v2/clients/abc"), is("before"));
+        assertThat(cache.getEntryCount(), is(0));
+        assertThat(get(client, "/api/v2/clients/abc"), is("after"));
+        assertThat(get(client, "/api/v2/clients/abc"), is("after"));
+        assertThat(server.getRequestCount(), is(3));
+    }
+
+    @Test
+    public void shouldOnlyInvalidateResponsesOfSameHost() throws Exception {
+        MockWebServer otherTenant = new MockWebServer();
+        otherTenant.start();
+        try {
+            ResponseCache cache = ResponseCache.newBuilder()
+                    .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                    .build();
+            OkHttpClient client = newClient(cache);
+            server.enqueue(new MockResponse().setBody("clients"));
+            otherTenant.enqueue(new MockResponse().setBody("other clients"));
+            otherTenant.enqueue(new MockResponse());
+
+            get(client, "/api/v2/clients");
+            try (Response response = client.newCall(new Request.Builder()
+                    .url(otherTenant.url("/api/v2/clients"))
+                    .header("Authorization", "Bearer token")
+                    .build()).execute()) {
+                assertThat(response.body().string(), is("other clients"));
+            }
+            client.newCall(new Request.Builder()
+                    .url(otherTenant.url("/api/v2/clients"))
+                    .post(RequestBody.create(new byte[0]))
+                    .build()).execute().close();
+
+            assertThat(cache.getEntryCount(), is(1));
+            assertThat(get(client, "/api/v2/clients"), is("clients"));
+            assertThat(server.getRequestCount(), is(1));
+        } finally {
+            otherTenant.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotCacheChunkedResponsesOverMaxSize() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .withMaxSize(10)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setChunkedBody("this one is too large", 4));
+        server.enqueue(new MockResponse().setChunkedBody("small", 2));
+
+        assertThat(get(client, "/api/v2/clients/large"), is("this one is too large"));
+        assertThat(cache.getEntryCount(), is(0));
+        assertThat(get(client, "/api/v2/clients/small"), is("small"));
+        assertThat(get(client, "/api/v2/clients/small"), is("small"));
+        assertThat(cache.getSize(), is(5L));
+        assertThat(server.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedResponses() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .withMaxSize(10)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse().setBody("aaaa"));
+        server.enqueue(new MockResponse().setBody("bbbb"));
+        server.enqueue(new MockResponse().setBody("cccc"));
+        server.enqueue(new MockResponse().setBody("BBBB"));
+        server.enqueue(new MockResponse().setBody("this one is too large"));
+
+        get(client, "/api/v2/clients/a");
+        get(client, "/api/v2/clients/b");
+        get(client, "/api/v2/clients/a");
+        get(client, "/api/v2/clients/c");
+        assertThat(cache.getEntryCount(), is(2));
+        assertThat(cache.getSize(), is(8L));
+        assertThat(get(client, "/api/v2/clients/a"), is("aaaa"));
+        assertThat(get(client, "/api/v2/clients/b"), is("BBBB"));
+
+        assertThat(get(client, "/api/v2/clients/large"), is("this one is too large"));
+        assertThat(cache.getSize(), is(8L));
+
+        cache.evictAll();
+        assertThat(cache.getEntryCount(), is(0));
+        assertThat(cache.getSize(), is(0L));
+    }
+
+    @Test
+    public void shouldRemoveRateLimitHeadersFromCachedResponses() throws Exception {
+        ResponseCache cache = ResponseCache.newBuilder()
+                .withTtl("/api/v2/clients", 1, TimeUnit.MINUTES)
+                .build();
+        OkHttpClient client = newClient(cache);
+        server.enqueue(new MockResponse()
+                .setBody("clients")
+                .setHeader("X-RateLimit-Limit", "10")
+                .setHeader("X-RateLimit-Remaining", "9")
+                .setHeader("X-RateLimit-Reset", "1600000000")
+                .setHeader("Content-Type", "application/json"));
+
+        get(client, "/api/v2/clients");
+        Request request = new Request.Builder()
+                .url(server.url("/api/v2/clients"))
+                .header("Authorization", "Bearer token")
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            assertThat(response.header("X-RateLimit-Limit"), is(nullValue()));
+            assertThat(response.header("X-RateLimit-Remaining"), is(nullValue()));
+            assertThat(response.header("X-RateLimit-Reset"), is(nullValue()));
+            assertThat(response.header("Content-Type"), is("application/json"));
+            assertThat(response.body().contentType().toString(), is("application/json"));
+        }
+    }
+
+    private OkHttpClient newClient(ResponseCache cache) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(cache)
+                .build();
+    }
+
+    private String get(OkHttpClient client, String path) throws IOException {
+        return get(client, path, "Bearer token");
+    }
+
+    private String get(OkHttpClient client, String path, String authorization) throws IOException {
+        Request request = new Request.Builder()
+                .url(server.url(path))
+                .header("Authorization", authorization)
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+}
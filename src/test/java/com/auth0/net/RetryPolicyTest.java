@@ -0,0 +1,118 @@
+package com.auth0.net;
+
+import com.auth0.exception.RateLimitException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RetryPolicyTest {
+
+    private static final long NOW = 1_600_000_000_000L;
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldUseDefaultValues() {
+        RetryPolicy policy = RetryPolicy.newBuilder().build();
+        assertThat(policy.getMaxAttempts(), is(3));
+        assertThat(policy.getBaseDelayMillis(), is(500L));
+        assertThat(policy.getMaxDelayMillis(), is(10_000L));
+        assertThat(policy.getDeadlineMillis(), is(30_000L));
+    }
+
+    @Test
+    public void shouldSetValues() {
+        RetryPolicy policy = RetryPolicy.newBuilder()
+                .withMaxAttempts(5)
+                .withBaseDelay(1, TimeUnit.SECONDS)
+                .withMaxDelay(1, TimeUnit.MINUTES)
+                .withDeadline(2, TimeUnit.MINUTES)
+                .build();
+        assertThat(policy.getMaxAttempts(), is(5));
+        assertThat(policy.getBaseDelayMillis(), is(1_000L));
+        assertThat(policy.getMaxDelayMillis(), is(60_000L));
+        assertThat(policy.getDeadlineMillis(), is(120_000L));
+    }
+
+    @Test
+    public void shouldThrowWhenMaxAttemptsIsLowerThanOne() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'maxAttempts' must be greater than zero!");
+        RetryPolicy.newBuilder().withMaxAttempts(0);
+    }
+
+    @Test
+    public void shouldThrowWhenDelayIsNegative() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'delay' cannot be negative!");
+        RetryPolicy.newBuilder().withBaseDelay(-1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void shouldThrowWhenDeadlineUnitIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'unit' cannot be null!");
+        RetryPolicy.newBuilder().withDeadline(1, null);
+    }
+
+    @Test
+    public void shouldBackOffExponentiallyWithFullJitter() {
+        RetryPolicy policy = RetryPolicy.newBuilder()
+                .withMaxAttempts(10)
+                .withBaseDelay(100, TimeUnit.MILLISECONDS)
+                .withMaxDelay(1, TimeUnit.SECONDS)
+                .withDeadline(1, TimeUnit.MINUTES)
+                .build();
+        RateLimitException e = new RateLimitException(-1, -1, -1);
+
+        assertThat(policy.getRetryDelay(1, e, 0, NOW, 0.999), is(99L));
+        assertThat(policy.getRetryDelay(2, e, 0, NOW, 0.999), is(199L));
+        assertThat(policy.getRetryDelay(3, e, 0, NOW, 0.999), is(399L));
+        assertThat(policy.getRetryDelay(5, e, 0, NOW, 0.999), is(999L));
+        assertThat(policy.getRetryDelay(9, e, 0, NOW, 0.999), is(999L));
+        assertThat(policy.getRetryDelay(3, e, 0, NOW, 0.5), is(200L));
+        assertThat(policy.getRetryDelay(3, e, 0, NOW, 0), is(0L));
+    }
+
+    @Test
+    public void shouldWaitForRateLimitReset() {
+        RetryPolicy policy = RetryPolicy.newBuilder()
+                .withBaseDelay(100, TimeUnit.MILLISECONDS)
+                .build();
+        long reset = TimeUnit.MILLISECONDS.toSeconds(NOW) + 2;
+
+        assertThat(policy.getRetryDelay(1, new RateLimitException(10, 0, reset), 0, NOW, 0.5), is(2_050L));
+        assertThat(policy.getRetryDelay(1, new RateLimitException(10, 0, reset - 10), 0, NOW, 0.5), is(50L));
+    }
+
+    @Test
+    public void shouldNotRetryAfterMaxAttempts() {
+        RetryPolicy policy = RetryPolicy.newBuilder()
+                .withMaxAttempts(2)
+                .build();
+        RateLimitException e = new RateLimitException(-1, -1, -1);
+
+        assertThat(policy.getRetryDelay(1, e, 0, NOW, 0.5), is(greaterThanOrEqualTo(0L)));
+        assertThat(policy.getRetryDelay(2, e, 0, NOW, 0.5), is(-1L));
+    }
+
+    @Test
+    public void shouldNotRetryPastDeadline() {
+        RetryPolicy policy = RetryPolicy.newBuilder()
+                .withMaxAttempts(10)
+                .withDeadline(5, TimeUnit.SECONDS)
+                .build();
+        long reset = TimeUnit.MILLISECONDS.toSeconds(NOW) + 60;
+
+        assertThat(policy.getRetryDelay(1, new RateLimitException(10, 0, reset), 0, NOW, 0), is(-1L));
+        assertThat(policy.getRetryDelay(1, new RateLimitException(-1, -1, -1), 4_900, NOW, 0.5), is(-1L));
+        assertThat(policy.getRetryDelay(1, new RateLimitException(-1, -1, -1), 4_000, NOW, 0.5), is(250L));
+    }
+}
@@ -54,7 +54,7 @@ public class RecordedMultipartRequest {
             String keyValue = null;
             String keyFilename = null;
             String keyContentType = null;
-            int keyContentLength = 0;
+            int keyContentLength = -1;
             for (String section : sections) {
                 String[] secParts = section.split("=");
                 if ("name".equals(secParts[0])) {
@@ -77,7 +77,21 @@ public class RecordedMultipartRequest {
                 strLine = br.readLine();
             }
             //Try to find value
-            if (strLine.isEmpty()) {
+            boolean lastPart = false;
+            if (strLine.isEmpty() && keyContentLength < 0) {
+                //Streamed parts have no length, so read the keyValue until the next separator
+                String delimiter = "\r\n" + separator;
+                StringBuilder valueBuilder = new StringBuilder();
+                int c;
+                while ((c = br.read()) != -1) {
+                    valueBuilder.append((char) c);
+                    if (valueBuilder.length() >= delimiter.length() && valueBuilder.lastIndexOf(delimiter) == valueBuilder.length() - delimiter.length()) {
+                        break;
+                    }
+                }
+                keyValue = valueBuilder.substring(0, valueBuilder.length() - delimiter.length());
+                lastPart = "--".equals(br.readLine());
+            } else if (strLine.isEmpty()) {
                 //Start reading the keyValue
                 char[] valueBuffer = new char[keyContentLength];
                 br.read(valueBuffer, 0, keyContentLength);
@@ -96,6 +110,9 @@ public class RecordedMultipartRequest {
                 part = new KeyValuePart(keyName, keyValue);
             }
             parts.put(keyName, part);
+            if (lastPart) {
+                break;
+            }
         }
     }
 }